@@ -0,0 +1,130 @@
+package gdrc.sports.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import gdrc.sports.bench.carga.FormatadorArquivoExercicio;
+import gdrc.sports.bench.carga.GeradorCargaSintetica;
+import gdrc.sports.io.arquivo.EscanerDeArquivo;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.exception.IdentificadorInvalidoException;
+
+/**
+ * Benchmarks da leitura dos arquivos de exercícios por {@link EscanerDeArquivo}:
+ *
+ * <ul>
+ * 	<li><b>importacao.corpus</b>: lê todos os arquivos válidos de <i>arquivos_teste</i>;</li>
+ * 	<li><b>importacao.sintetico.N</b>: lê N arquivos de um cliente gerados por
+ * 		{@link GeradorCargaSintetica}, detalhados ou não.</li>
+ * </ul>
+ *
+ * O escaner lê os arquivos com a codificação padrão da JVM e os arquivos de teste estão
+ * em ISO-8859-1, portanto eles são copiados para um diretório temporário na codificação
+ * padrão antes de serem lidos.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class BenchmarkImportacao {
+	private static final long SEMENTE = 48;
+	private static final int[] ARQUIVOS_SINTETICOS = {100, 1_000};
+
+	private BenchmarkImportacao() {}
+
+	/**
+	 * Adiciona os benchmarks de importação ao executor.
+	 *
+	 * @param executor			O executor dos benchmarks.
+	 * @param diretorioCorpus	O diretório com os arquivos de teste.
+	 */
+	public static void registrar(ExecutorBenchmark executor, File diretorioCorpus) {
+		executor.adicionar("importacao.corpus", () -> {
+			verificarCodificacao();
+			List<File> arquivos = prepararCorpus(diretorioCorpus);
+			return () -> escanearTodos(arquivos);
+		});
+
+		for(int quantidade : ARQUIVOS_SINTETICOS)
+			executor.adicionar("importacao.sintetico." + quantidade, () -> {
+				verificarCodificacao();
+				List<File> arquivos = gerarArquivos(quantidade);
+				return () -> escanearTodos(arquivos);
+			});
+	}
+
+	private static List<Exercicio> escanearTodos(List<File> arquivos) throws IOException,
+																	  IdentificadorInvalidoException {
+		List<Exercicio> exercicios = new ArrayList<>(arquivos.size());
+		for(File arquivo : arquivos)
+			exercicios.add(new EscanerDeArquivo().escanearArquivo(arquivo));
+		return exercicios;
+	}
+
+	/**
+	 * Verifica se a codificação padrão da JVM representa os identificadores acentuados
+	 * dos arquivos, como <i>Exercício</i>. Caso contrário nenhum arquivo seria lido.
+	 */
+	private static void verificarCodificacao() throws IOException {
+		if(!Charset.defaultCharset().newEncoder().canEncode("Exercício"))
+			throw new IOException(String.format("A codificação padrão %s não representa os arquivos de "
+					+ "exercícios. Execute com -Dfile.encoding=ISO-8859-1.", Charset.defaultCharset()));
+	}
+
+	/**
+	 * Copia os arquivos de teste na codificação padrão e mantém apenas os que podem ser lidos,
+	 * descartando os que possuem erros propositais.
+	 */
+	private static List<File> prepararCorpus(File diretorioCorpus) throws IOException {
+		File[] originais = diretorioCorpus.listFiles((File arquivo) -> arquivo.getName().endsWith(".txt"));
+		if(originais == null || originais.length == 0)
+			throw new IOException("Nenhum arquivo de teste encontrado em " + diretorioCorpus.getAbsolutePath());
+
+		Path diretorio = criarDiretorioTemporario();
+		List<File> validos = new ArrayList<>();
+		for(File original : originais) {
+			String conteudo = new String(Files.readAllBytes(original.toPath()), StandardCharsets.ISO_8859_1);
+			File copia = diretorio.resolve(original.getName()).toFile();
+			Files.write(copia.toPath(), conteudo.getBytes(Charset.defaultCharset()));
+			copia.deleteOnExit();
+
+			try { new EscanerDeArquivo().escanearArquivo(copia);
+				  validos.add(copia);
+			} catch (IdentificadorInvalidoException e) { /* Arquivo com erro proposital. */ }
+		}
+		if(validos.isEmpty())
+			throw new IOException("Nenhum arquivo de teste pôde ser lido em " + diretorioCorpus.getAbsolutePath());
+		return validos;
+	}
+
+	/**
+	 * Escreve na codificação padrão a quantidade de exercícios sintéticos passada por
+	 * parâmetro, um por arquivo.
+	 */
+	private static List<File> gerarArquivos(int quantidade) throws IOException {
+		GeradorCargaSintetica gerador = new GeradorCargaSintetica(SEMENTE);
+		Cliente cliente = gerador.gerarCliente(0);
+		FormatadorArquivoExercicio formatador = new FormatadorArquivoExercicio(Charset.defaultCharset());
+
+		Path diretorio = criarDiretorioTemporario();
+		List<File> arquivos = new ArrayList<>(quantidade);
+		for(Exercicio exercicio : gerador.gerarExercicios(cliente, 0, quantidade)) {
+			File arquivo = diretorio.resolve(String.format("sintetico_%05d.txt", arquivos.size() + 1)).toFile();
+			formatador.escrever(exercicio, arquivo);
+			arquivo.deleteOnExit();
+			arquivos.add(arquivo);
+		}
+		return arquivos;
+	}
+
+	private static Path criarDiretorioTemporario() throws IOException {
+		Path diretorio = Files.createTempDirectory("sports-bench");
+		diretorio.toFile().deleteOnExit();
+		return diretorio;
+	}
+}
@@ -0,0 +1,152 @@
+package gdrc.sports.bench;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import gdrc.sports.bench.carga.GeradorCargaSintetica;
+import gdrc.sports.io.bd.dao.ClienteDAO;
+import gdrc.sports.io.bd.dao.DataBaseDAO;
+import gdrc.sports.io.bd.dao.ExercicioDAO;
+import gdrc.sports.io.bd.dao.MapeamentoDAO;
+import gdrc.sports.io.bd.dao.RitmoDetalhadoDAO;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioDetalhado;
+import gdrc.sports.tipo.Ritmo.RitmoDetalhado;
+import gdrc.sports.tipo.Tempo;
+
+/**
+ * Benchmarks da conversão das linhas das tabelas em objetos pelos DAOs. Cada operação
+ * converte {@value #LINHAS} linhas de um {@link ResultSet} em memória, com as mesmas
+ * colunas e tipos das tabelas e valores gerados por {@link GeradorCargaSintetica},
+ * portanto o banco de dados não é necessário:
+ *
+ * <ul>
+ * 	<li><b>mapeamento.cliente</b>: {@link ClienteDAO};</li>
+ * 	<li><b>mapeamento.exercicio</b>: {@link ExercicioDAO};</li>
+ * 	<li><b>mapeamento.ritmo-detalhado</b>: {@link RitmoDetalhadoDAO}, a maior tabela.</li>
+ * </ul>
+ *
+ * O {@link ResultSet} é um {@link CachedRowSet}, que localiza as colunas pelo nome como
+ * os drivers JDBC.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class BenchmarkMapeamento {
+	/** Quantidade de linhas convertidas em cada operação. */
+	public static final int LINHAS = 10_000;
+	private static final long SEMENTE = 49;
+
+	private BenchmarkMapeamento() {}
+
+	/**
+	 * Adiciona os benchmarks de mapeamento ao executor.
+	 *
+	 * @param executor O executor dos benchmarks.
+	 */
+	public static void registrar(ExecutorBenchmark executor) {
+		executor.adicionar("mapeamento.cliente", () -> {
+			GeradorCargaSintetica gerador = new GeradorCargaSintetica(SEMENTE);
+			ResultSet linhas = criarResultSet(new String[] {"email", "nome", "sexo", "peso", "altura", "data_de_nascimento"},
+					new int[] {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE, Types.BIGINT},
+					(int linha) -> {
+						Cliente cliente = gerador.gerarCliente(linha);
+						return new Object[] {cliente.getEmail(), cliente.getNome(), cliente.getSexo(),
+								(double)cliente.getPeso(), (double)cliente.getAltura(),
+								cliente.getDataNascimento().getData().toEpochDay()};
+					});
+			return operacao(new ClienteDAO(), linhas);
+		});
+
+		executor.adicionar("mapeamento.exercicio", () -> {
+			List<Exercicio> exercicios = gerarExercicios();
+			ResultSet linhas = criarResultSet(new String[] {"codigo", "email", "data", "tempo_inicio", "tempo_fim",
+					"duracao", "calorias", "distancia", "exercicio", "passos"},
+					new int[] {Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT,
+							   Types.DOUBLE, Types.DOUBLE, Types.VARCHAR, Types.BIGINT},
+					(int linha) -> {
+						Exercicio exercicio = exercicios.get(linha);
+						Tempo tempo = exercicio.getTempo();
+						return new Object[] {(long)linha, exercicio.getCliente().getEmail(),
+								exercicio.getData().getData().toEpochDay(), tempo.getHoraInicio().getHora().toNanoOfDay(),
+								tempo.getHoraFim().getHora().toNanoOfDay(), tempo.getDuracao().getHora().toNanoOfDay(),
+								(double)exercicio.getCaloriasPerdidas(), (double)exercicio.getDistancia(),
+								exercicio.getExercicio(), (long)exercicio.getPassos()};
+					});
+			return operacao(new ExercicioDAO(), linhas);
+		});
+
+		executor.adicionar("mapeamento.ritmo-detalhado", () -> {
+			List<RitmoDetalhado> divisoes = new ArrayList<>(LINHAS);
+			for(Exercicio exercicio : gerarExercicios())
+				if(exercicio instanceof ExercicioDetalhado)
+					divisoes.addAll(((ExercicioDetalhado)exercicio).getRitmo().getDivisoes());
+			ResultSet linhas = criarResultSet(new String[] {"codigo", "quilometro", "ritmo"},
+					new int[] {Types.BIGINT, Types.DOUBLE, Types.BIGINT},
+					(int linha) -> {
+						RitmoDetalhado divisao = divisoes.get(linha % divisoes.size());
+						return new Object[] {(long)linha, (double)divisao.getQuilometro(),
+								divisao.getRitmo().getHora().toNanoOfDay()};
+					});
+			return operacao(new RitmoDetalhadoDAO(), linhas);
+		});
+	}
+
+	/**
+	 * Gera {@value #LINHAS} exercícios, de tantos clientes quantos forem necessários.
+	 */
+	private static List<Exercicio> gerarExercicios() {
+		GeradorCargaSintetica gerador = new GeradorCargaSintetica(SEMENTE);
+		List<Exercicio> exercicios = new ArrayList<>(LINHAS);
+		for(long indice = 0; exercicios.size() < LINHAS; indice++)
+			exercicios.addAll(gerador.gerarExercicios(gerador.gerarCliente(indice), indice));
+		return exercicios.subList(0, LINHAS);
+	}
+
+	private static <T> ExecutorBenchmark.Operacao operacao(DataBaseDAO<T> dao, ResultSet linhas) {
+		return () -> MapeamentoDAO.mapearTodos(dao, linhas);
+	}
+
+	/**
+	 * Cria um {@link ResultSet} em memória com {@value #LINHAS} linhas, cujos valores são
+	 * obtidos do gerador passado por parâmetro na ordem das colunas.
+	 */
+	private static ResultSet criarResultSet(String[] colunas, int[] tipos, GeradorLinha gerador) throws SQLException {
+		RowSetMetaDataImpl metaDados = new RowSetMetaDataImpl();
+		metaDados.setColumnCount(colunas.length);
+		for(int coluna = 0; coluna < colunas.length; coluna++) {
+			metaDados.setColumnName(coluna+1, colunas[coluna]);
+			metaDados.setColumnLabel(coluna+1, colunas[coluna]);
+			metaDados.setColumnType(coluna+1, tipos[coluna]);
+		}
+
+		CachedRowSet linhas = RowSetProvider.newFactory().createCachedRowSet();
+		linhas.setMetaData(metaDados);
+		for(int linha = 0; linha < LINHAS; linha++) {
+			Object[] valores = gerador.gerarLinha(linha);
+			linhas.moveToInsertRow();
+			for(int coluna = 0; coluna < valores.length; coluna++)
+				linhas.updateObject(coluna+1, valores[coluna]);
+			linhas.insertRow();
+			linhas.moveToCurrentRow();
+		}
+		return linhas;
+	}
+
+	/**
+	 * Gera os valores de uma linha do {@link ResultSet}.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	@FunctionalInterface
+	private static interface GeradorLinha {
+		public Object[] gerarLinha(int linha);
+	}
+}
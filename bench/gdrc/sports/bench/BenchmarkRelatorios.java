@@ -0,0 +1,158 @@
+package gdrc.sports.bench;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.OutputStream;
+import java.util.List;
+
+import gdrc.sports.bench.ExecutorBenchmark.TamanhoSaida;
+import gdrc.sports.bench.carga.GeradorCargaSintetica;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.grafico.GraficoCategory;
+import gdrc.sports.tipo.time.Data;
+import gdrc.sports.util.relatorio.CuboExercicios;
+import gdrc.sports.util.relatorio.RelatorioCliente;
+import gdrc.sports.util.relatorio.RelatorioGrafico;
+import gdrc.sports.util.relatorio.RelatorioGrafico.Granularidade;
+import gdrc.sports.util.relatorio.RelatorioGrafico.TipoGrafico;
+import gdrc.sports.util.relatorio.RelatorioPDF;
+
+/**
+ * Benchmarks da agregação dos exercícios e da renderização dos gráficos e relatórios.
+ * Os exercícios de um cliente são gerados por {@link GeradorCargaSintetica} e
+ * distribuídos em {@value #DIAS} dias:
+ *
+ * <ul>
+ * 	<li><b>agregacao.cubo.N</b>: agrega N exercícios em um {@link CuboExercicios};</li>
+ * 	<li><b>agregacao.graficos.N</b>: cria o {@link RelatorioGrafico} de N exercícios e os
+ * 		conjuntos de dados de todos os gráficos;</li>
+ * 	<li><b>renderizacao.grafico-coluna</b> e <b>renderizacao.grafico-linha</b>: desenha
+ * 		um gráfico já gerado em uma imagem;</li>
+ * 	<li><b>renderizacao.pdf.N</b>: escreve em memória o relatório PDF completo de um
+ * 		cliente com N exercícios, com todos os gráficos vetoriais;</li>
+ * 	<li><b>renderizacao.pdf-jpeg.N</b>: escreve o mesmo relatório com os gráficos como
+ * 		imagens JPEG, veja {@link RelatorioPDF#setGraficosVetoriais(boolean)}.</li>
+ * </ul>
+ *
+ * Os benchmarks dos relatórios PDF informam o tamanho do documento gerado, para comparar
+ * o tempo e o tamanho dos gráficos vetoriais e JPEG.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class BenchmarkRelatorios {
+	/** Quantidade de dias em que os exercícios são distribuídos. */
+	public static final int DIAS = 730;
+	private static final long SEMENTE = 50;
+	private static final int[] EXERCICIOS_AGREGACAO = {1_000, 10_000, 100_000};
+	private static final int[] EXERCICIOS_PDF = {1_000, 10_000};
+	private static final int EXERCICIOS_GRAFICO = 10_000;
+	private static final int LARGURA_GRAFICO = 800, ALTURA_GRAFICO = 500;
+
+	private BenchmarkRelatorios() {}
+
+	/**
+	 * Adiciona os benchmarks de agregação e renderização ao executor.
+	 *
+	 * @param executor O executor dos benchmarks.
+	 */
+	public static void registrar(ExecutorBenchmark executor) {
+		Data dataInicial = new Data(GeradorCargaSintetica.DATA_INICIAL_PADRAO);
+		Data dataFinal = new Data(GeradorCargaSintetica.DATA_INICIAL_PADRAO.plusDays(DIAS - 1));
+		Granularidade granularidade = Granularidade.obterGranularidade(dataInicial, dataFinal);
+
+		for(int quantidade : EXERCICIOS_AGREGACAO)
+			executor.adicionar("agregacao.cubo." + quantidade, () -> {
+				List<Exercicio> exercicios = gerarExercicios(quantidade);
+				return () -> new CuboExercicios(exercicios, granularidade);
+			});
+
+		for(int quantidade : EXERCICIOS_AGREGACAO)
+			executor.adicionar("agregacao.graficos." + quantidade, () -> {
+				List<Exercicio> exercicios = gerarExercicios(quantidade);
+				return () -> gerarGraficos(new RelatorioGrafico(exercicios, dataInicial, dataFinal));
+			});
+
+		for(TipoGrafico tipo : TipoGrafico.values())
+			executor.adicionar("renderizacao.grafico-" + tipo.name().toLowerCase(), () -> {
+				RelatorioGrafico relatorio = new RelatorioGrafico(gerarExercicios(EXERCICIOS_GRAFICO),
+																  dataInicial, dataFinal);
+				relatorio.setTipoGrafico(tipo);
+				relatorio.setSepararExercicios(true);
+				GraficoCategory grafico = relatorio.graficoDistanciaPorDia();
+				BufferedImage imagem = new BufferedImage(LARGURA_GRAFICO, ALTURA_GRAFICO, BufferedImage.TYPE_INT_RGB);
+				return () -> {
+					Graphics2D g2 = imagem.createGraphics();
+					try { grafico.desenharGrafico(g2, LARGURA_GRAFICO, ALTURA_GRAFICO);
+					} finally { g2.dispose(); }
+					return imagem;
+				};
+			});
+
+		for(int quantidade : EXERCICIOS_PDF) {
+			adicionarRelatorioPDF(executor, "renderizacao.pdf." + quantidade, quantidade, true, dataInicial, dataFinal);
+			adicionarRelatorioPDF(executor, "renderizacao.pdf-jpeg." + quantidade, quantidade, false, dataInicial,
+								  dataFinal);
+		}
+	}
+
+	/**
+	 * Adiciona o benchmark que escreve o relatório PDF completo de um cliente com a
+	 * quantidade de exercícios passada por parâmetro, com os gráficos vetoriais ou JPEG.
+	 */
+	private static void adicionarRelatorioPDF(ExecutorBenchmark executor, String nome, int quantidade,
+											  boolean graficosVetoriais, Data dataInicial, Data dataFinal) {
+		executor.adicionar(nome, () -> {
+			List<Exercicio> exercicios = gerarExercicios(quantidade);
+			Cliente cliente = exercicios.get(0).getCliente();
+			return () -> {
+				ContadorBytes saida = new ContadorBytes();
+				RelatorioPDF relatorioPDF = new RelatorioPDF(saida, "benchmark.pdf");
+				relatorioPDF.setGraficosVetoriais(graficosVetoriais);
+				relatorioPDF.escreverCabecalho(cliente, "01/01/2019 - 08:00");
+				relatorioPDF.escreverInformacaoCliente(cliente);
+				relatorioPDF.escreverRelatorioCliente(new RelatorioCliente(exercicios));
+				RelatorioGrafico relatorio = new RelatorioGrafico(exercicios, dataInicial, dataFinal);
+				relatorioPDF.escreverResumoPeriodo(relatorio);
+				relatorioPDF.escreverRelatoriosGraficos(relatorio, true, true, true);
+				relatorioPDF.fechar();
+				return new TamanhoSaida(saida.bytes);
+			};
+		});
+	}
+
+	private static List<Exercicio> gerarExercicios(int quantidade) {
+		GeradorCargaSintetica gerador = new GeradorCargaSintetica(SEMENTE);
+		gerador.setPeriodo(GeradorCargaSintetica.DATA_INICIAL_PADRAO, DIAS);
+		List<Exercicio> exercicios = gerador.gerarExercicios(gerador.gerarCliente(0), 0, quantidade);
+		for(int i = 0; i < exercicios.size(); i++)
+			exercicios.get(i).setCodigo(i + 1);
+		return exercicios;
+	}
+
+	private static GraficoCategory[] gerarGraficos(RelatorioGrafico relatorio) {
+		return new GraficoCategory[] {relatorio.graficoDuracaoPorDia(), relatorio.graficoDistanciaPorDia(),
+									  relatorio.graficoCaloriaPorDia(), relatorio.graficoMediaDistanciaPorDia(),
+									  relatorio.graficoMediaCaloriaPorDia(), relatorio.graficoPassosPorDia(),
+									  relatorio.graficoRitmoMedioPorDia(), relatorio.graficoVelocidadeMediaPorDia()};
+	}
+
+	/**
+	 * Descarta o documento escrito, contando apenas a quantidade de bytes.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private static class ContadorBytes extends OutputStream {
+		private long bytes;
+
+		@Override
+		public void write(int b) {
+			bytes++;
+		}
+
+		@Override
+		public void write(byte[] b, int inicio, int quantidade) {
+			bytes += quantidade;
+		}
+	}
+}
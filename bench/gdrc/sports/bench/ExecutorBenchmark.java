@@ -0,0 +1,333 @@
+package gdrc.sports.bench;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executa os benchmarks da aplicação e mede a vazão, a latência e a taxa de
+ * alocação de memória de cada um.<br><br>
+ *
+ * Cada benchmark é executado em iterações de aquecimento, que não são medidas, e
+ * em seguida nas iterações de medição. Em cada iteração a operação é executada
+ * repetidamente até completar o tempo da iteração e a duração de cada execução é
+ * registrada. Ao final são informados:
+ *
+ * <ul>
+ * 	<li>a vazão, em operações por segundo;</li>
+ * 	<li>a latência média e os percentis 50, 99 e máximo;</li>
+ * 	<li>a taxa de alocação, em MB/s, e os bytes alocados por operação, somando
+ * 		as threads da aplicação, como nas operações que renderizam os gráficos em
+ * 		paralelo;</li>
+ * 	<li>a quantidade e o tempo das coletas de lixo durante as medições;</li>
+ * 	<li>o tamanho médio da saída, em bytes, das operações que retornam um
+ * 		{@link TamanhoSaida}, como as que escrevem os relatórios PDF.</li>
+ * </ul>
+ *
+ * Os valores são obtidos de {@link ManagementFactory}, portanto os benchmarks não
+ * dependem de bibliotecas externas. A quantidade de iterações e o tempo de cada
+ * iteração são configurados pelas propriedades de sistema
+ * {@value #PROPRIEDADE_AQUECIMENTO}, {@value #PROPRIEDADE_ITERACOES} e
+ * {@value #PROPRIEDADE_TEMPO} (em milissegundos).
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class ExecutorBenchmark {
+	/** Propriedade com a quantidade de iterações de aquecimento. */
+	public static final String PROPRIEDADE_AQUECIMENTO = "sports.bench.aquecimento";
+	/** Propriedade com a quantidade de iterações medidas. */
+	public static final String PROPRIEDADE_ITERACOES = "sports.bench.iteracoes";
+	/** Propriedade com o tempo de cada iteração, em milissegundos. */
+	public static final String PROPRIEDADE_TEMPO = "sports.bench.tempo";
+
+	private static final double NANOS_POR_MILI = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final double BYTES_POR_MB = 1024 * 1024;
+
+	private final Map<String, Callable<Operacao>> benchmarks = new LinkedHashMap<>();
+	private final int iteracoesAquecimento, iteracoesMedicao;
+	private final long tempoIteracaoNanos;
+
+	/** Recebe o resultado das operações para que não sejam descartadas pelo compilador. */
+	private volatile int sumidouro;
+
+	/**
+	 * Cria o executor com a quantidade de iterações e o tempo de cada iteração
+	 * definidos nas propriedades de sistema, ou os valores padrão: 3 iterações de
+	 * aquecimento e 5 de medição, de 1 segundo cada.
+	 */
+	public ExecutorBenchmark() {
+		this(Integer.getInteger(PROPRIEDADE_AQUECIMENTO, 3), Integer.getInteger(PROPRIEDADE_ITERACOES, 5),
+			 Long.getLong(PROPRIEDADE_TEMPO, 1000));
+	}
+
+	/**
+	 * Cria o executor com a quantidade de iterações e o tempo de cada iteração
+	 * passados por parâmetro.
+	 *
+	 * @param iteracoesAquecimento	A quantidade de iterações de aquecimento.
+	 * @param iteracoesMedicao		A quantidade de iterações medidas.
+	 * @param tempoIteracaoMs		O tempo de cada iteração, em milissegundos.
+	 */
+	public ExecutorBenchmark(int iteracoesAquecimento, int iteracoesMedicao, long tempoIteracaoMs) {
+		this.iteracoesAquecimento = iteracoesAquecimento;
+		this.iteracoesMedicao = Math.max(1, iteracoesMedicao);
+		this.tempoIteracaoNanos = TimeUnit.MILLISECONDS.toNanos(tempoIteracaoMs);
+	}
+
+	/**
+	 * Adiciona um benchmark. A preparação é chamada apenas se o benchmark for
+	 * executado, portanto pode criar grandes volumes de dados sem afetar os
+	 * benchmarks que não foram selecionados.
+	 *
+	 * @param nome			O nome do benchmark, no formato <i>grupo.operacao.parametro</i>.
+	 * @param preparacao	Prepara os dados do benchmark e retorna a operação medida.
+	 */
+	public void adicionar(String nome, Callable<Operacao> preparacao) {
+		benchmarks.put(nome, preparacao);
+	}
+
+	/**
+	 * Executa os benchmarks cujo nome contém o filtro passado por parâmetro,
+	 * escrevendo o resultado de cada um à medida que termina.
+	 *
+	 * @param filtro	O trecho do nome dos benchmarks a executar, ou <code>null</code>
+	 * para executar todos.
+	 * @param saida		Onde os resultados são escritos.
+	 *
+	 * @return Retorna os resultados dos benchmarks executados.
+	 *
+	 * @throws Exception Dispara a exceção caso a preparação ou a operação de um
+	 * benchmark falhe.
+	 */
+	public List<Resultado> executar(String filtro, PrintStream saida) throws Exception {
+		List<Resultado> resultados = new ArrayList<>();
+		saida.printf("# Aquecimento: %d iterações, medição: %d iterações de %d ms%n", iteracoesAquecimento,
+					 iteracoesMedicao, TimeUnit.NANOSECONDS.toMillis(tempoIteracaoNanos));
+		saida.println(Resultado.CABECALHO);
+
+		for(Map.Entry<String, Callable<Operacao>> benchmark : benchmarks.entrySet()) {
+			if(filtro != null && !benchmark.getKey().contains(filtro)) continue;
+
+			Resultado resultado = executar(benchmark.getKey(), benchmark.getValue().call());
+			resultados.add(resultado);
+			saida.println(resultado);
+		}
+		return resultados;
+	}
+
+	private Resultado executar(String nome, Operacao operacao) throws Exception {
+		for(int i = 0; i < iteracoesAquecimento; i++)
+			executarIteracao(operacao, new Amostras());
+
+		Amostras amostras = new Amostras();
+		long alocadosAntes = bytesAlocados(), coletasAntes = coletasDeLixo(), tempoColetasAntes = tempoColetasDeLixo();
+		long inicio = System.nanoTime();
+		double[] vazoes = new double[iteracoesMedicao];
+		for(int i = 0; i < iteracoesMedicao; i++)
+			vazoes[i] = executarIteracao(operacao, amostras);
+		long duracao = System.nanoTime() - inicio;
+
+		return new Resultado(nome, vazoes, amostras, bytesAlocados() - alocadosAntes, duracao,
+							 coletasDeLixo() - coletasAntes, tempoColetasDeLixo() - tempoColetasAntes);
+	}
+
+	/**
+	 * Executa a operação repetidamente até completar o tempo da iteração.
+	 *
+	 * @return Retorna a vazão da iteração, em operações por segundo.
+	 */
+	private double executarIteracao(Operacao operacao, Amostras amostras) throws Exception {
+		long inicioIteracao = System.nanoTime(), fimIteracao = inicioIteracao + tempoIteracaoNanos;
+		long agora = inicioIteracao;
+		int operacoes = 0;
+		do {
+			long inicio = agora;
+			Object resultado = operacao.executar();
+			agora = System.nanoTime();
+			consumir(resultado);
+			amostras.adicionar(agora - inicio);
+			if(resultado instanceof TamanhoSaida) amostras.adicionarSaida(((TamanhoSaida)resultado).getBytes());
+			operacoes++;
+		} while(agora < fimIteracao);
+
+		return operacoes / ((agora - inicioIteracao) / 1e9);
+	}
+
+	private void consumir(Object resultado) {
+		sumidouro += System.identityHashCode(resultado);
+	}
+
+	/** Soma os bytes alocados pelas threads em execução, quando a JVM fornece esta informação. */
+	private static long bytesAlocados() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if(!(threads instanceof com.sun.management.ThreadMXBean)) return -1;
+
+		long total = 0;
+		for(long alocados : ((com.sun.management.ThreadMXBean)threads).getThreadAllocatedBytes(threads.getAllThreadIds()))
+			if(alocados > 0) total += alocados;
+		return total;
+	}
+
+	private static long coletasDeLixo() {
+		long total = 0;
+		for(GarbageCollectorMXBean coletor : ManagementFactory.getGarbageCollectorMXBeans())
+			total += Math.max(0, coletor.getCollectionCount());
+		return total;
+	}
+
+	private static long tempoColetasDeLixo() {
+		long total = 0;
+		for(GarbageCollectorMXBean coletor : ManagementFactory.getGarbageCollectorMXBeans())
+			total += Math.max(0, coletor.getCollectionTime());
+		return total;
+	}
+
+	/**
+	 * Operação medida por um benchmark. O resultado retornado é consumido pelo
+	 * executor, para que o trabalho da operação não seja descartado pelo compilador.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	@FunctionalInterface
+	public static interface Operacao {
+		/**
+		 * Executa a operação uma vez.
+		 *
+		 * @return Retorna o resultado da operação.
+		 * @throws Exception Dispara a exceção caso a operação falhe.
+		 */
+		public Object executar() throws Exception;
+	}
+
+	/**
+	 * Tamanho, em bytes, da saída escrita por uma operação. Quando retornado pela
+	 * operação, o tamanho médio é informado no resultado do benchmark, permitindo
+	 * comparar o tamanho dos documentos gerados por variantes de uma mesma operação.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static final class TamanhoSaida {
+		private final long bytes;
+
+		/**
+		 * Cria o tamanho da saída.
+		 *
+		 * @param bytes A quantidade de bytes escritos pela operação.
+		 */
+		public TamanhoSaida(long bytes) {
+			this.bytes = bytes;
+		}
+
+		/** @return Retorna a quantidade de bytes escritos pela operação. */
+		public long getBytes() { return bytes; }
+	}
+
+	/**
+	 * Guarda a duração, em nanossegundos, de cada execução das iterações medidas.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private static class Amostras {
+		private long[] duracoes = new long[1024];
+		private int quantidade;
+		private long bytesSaida, saidas;
+
+		private void adicionar(long duracao) {
+			if(quantidade == duracoes.length) duracoes = Arrays.copyOf(duracoes, quantidade * 2);
+			duracoes[quantidade++] = duracao;
+		}
+
+		private void adicionarSaida(long bytes) {
+			bytesSaida += bytes;
+			saidas++;
+		}
+	}
+
+	/**
+	 * Resultado da medição de um benchmark.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static class Resultado {
+		private static final String CABECALHO = String.format("%-40s %12s %10s %10s %10s %10s %10s %10s %14s %6s %8s %12s",
+				"Benchmark", "ops/s", "±", "média ms", "p50 ms", "p99 ms", "máx ms", "aloc MB/s", "B/op",
+				"GC", "GC ms", "saída B");
+
+		private final String nome;
+		private final double vazao, desvioVazao;
+		private final long operacoes;
+		private final double latenciaMedia, latenciaP50, latenciaP99, latenciaMaxima;
+		private final double alocacaoMBPorSegundo, bytesPorOperacao;
+		private final long coletas, tempoColetasMs;
+		private final double bytesSaidaPorOperacao;
+
+		private Resultado(String nome, double[] vazoes, Amostras amostras, long bytesAlocados, long duracaoNanos,
+						  long coletas, long tempoColetasMs) {
+			this.nome = nome;
+			this.vazao = Arrays.stream(vazoes).average().orElse(0);
+			this.desvioVazao = Math.sqrt(Arrays.stream(vazoes).map((double v) -> (v - vazao) * (v - vazao))
+											   .sum() / vazoes.length);
+
+			long[] duracoes = Arrays.copyOf(amostras.duracoes, amostras.quantidade);
+			Arrays.sort(duracoes);
+			this.operacoes = duracoes.length;
+			this.latenciaMedia = Arrays.stream(duracoes).average().orElse(0) / NANOS_POR_MILI;
+			this.latenciaP50 = percentil(duracoes, 0.50) / NANOS_POR_MILI;
+			this.latenciaP99 = percentil(duracoes, 0.99) / NANOS_POR_MILI;
+			this.latenciaMaxima = duracoes[duracoes.length-1] / NANOS_POR_MILI;
+
+			this.alocacaoMBPorSegundo = (bytesAlocados < 0)? Double.NaN
+										: bytesAlocados / BYTES_POR_MB / (duracaoNanos / 1e9);
+			this.bytesPorOperacao = (bytesAlocados < 0)? Double.NaN : (double)bytesAlocados / operacoes;
+			this.coletas = coletas;
+			this.tempoColetasMs = tempoColetasMs;
+			this.bytesSaidaPorOperacao = (amostras.saidas == 0)? Double.NaN
+										 : (double)amostras.bytesSaida / amostras.saidas;
+		}
+
+		private static long percentil(long[] ordenados, double percentil) {
+			int posicao = (int)Math.ceil(percentil * ordenados.length) - 1;
+			return ordenados[Math.max(0, Math.min(ordenados.length-1, posicao))];
+		}
+
+		/** @return Retorna o nome do benchmark. */
+		public String getNome() { return nome; }
+
+		/** @return Retorna a vazão média das iterações, em operações por segundo. */
+		public double getVazao() { return vazao; }
+
+		/** @return Retorna a quantidade de operações executadas nas iterações medidas. */
+		public long getOperacoes() { return operacoes; }
+
+		/** @return Retorna a latência média, em milissegundos. */
+		public double getLatenciaMedia() { return latenciaMedia; }
+
+		/** @return Retorna o percentil 99 da latência, em milissegundos. */
+		public double getLatenciaP99() { return latenciaP99; }
+
+		/** @return Retorna a taxa de alocação, em MB/s, ou <code>NaN</code> se a JVM não a fornece. */
+		public double getAlocacaoMBPorSegundo() { return alocacaoMBPorSegundo; }
+
+		/** @return Retorna os bytes alocados por operação, ou <code>NaN</code> se a JVM não os fornece. */
+		public double getBytesPorOperacao() { return bytesPorOperacao; }
+
+		/** @return Retorna o tamanho médio da saída, em bytes, ou <code>NaN</code> se a operação não o informa. */
+		public double getBytesSaidaPorOperacao() { return bytesSaidaPorOperacao; }
+
+		@Override
+		public String toString() {
+			String saida = Double.isNaN(bytesSaidaPorOperacao)? "-" : String.format("%,.0f", bytesSaidaPorOperacao);
+			return String.format("%-40s %12.3f %10.3f %10.3f %10.3f %10.3f %10.3f %10.1f %14.0f %6d %8d %12s", nome,
+								 vazao, desvioVazao, latenciaMedia, latenciaP50, latenciaP99, latenciaMaxima,
+								 alocacaoMBPorSegundo, bytesPorOperacao, coletas, tempoColetasMs, saida);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package gdrc.sports.bench;
+
+import java.io.File;
+
+/**
+ * Executa os benchmarks da aplicação <i>Sports Viewer</i>. Os argumentos são:
+ *
+ * <br><br><center><b>[filtro] [diretório dos arquivos de teste]</b></center><br><br>
+ *
+ * Apenas os benchmarks cujo nome contém o filtro são executados, por exemplo
+ * <b>importacao</b> ou <b>renderizacao.pdf</b>. Sem o filtro, ou com o filtro
+ * <b>*</b>, todos são executados. O diretório padrão dos arquivos de teste é
+ * {@value #DIRETORIO_CORPUS}.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class SportsBenchmarks {
+	/** Diretório padrão dos arquivos de teste, relativo à raiz do projeto. */
+	public static final String DIRETORIO_CORPUS = "arquivos_teste";
+
+	/**
+	 * Executa os benchmarks selecionados e escreve os resultados na saída padrão.
+	 *
+	 * @param args Os argumentos de linha de comando.
+	 *
+	 * @throws Exception Dispara a exceção caso um benchmark falhe.
+	 */
+	public static void main(String[] args) throws Exception {
+		String filtro = (args.length > 0 && !args[0].equals("*"))? args[0] : null;
+		File diretorioCorpus = new File((args.length > 1)? args[1] : DIRETORIO_CORPUS);
+
+		ExecutorBenchmark executor = new ExecutorBenchmark();
+		BenchmarkImportacao.registrar(executor, diretorioCorpus);
+		BenchmarkMapeamento.registrar(executor);
+		BenchmarkRelatorios.registrar(executor);
+
+		if(executor.executar(filtro, System.out).isEmpty())
+			System.err.println("Nenhum benchmark corresponde ao filtro: " + filtro);
+	}
+}
@@ -0,0 +1,136 @@
+package gdrc.sports.bench.carga;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+import gdrc.sports.io.bd.dao.CargaEmMassaDAO;
+import gdrc.sports.io.bd.dao.DataBaseDAO;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioDetalhado;
+
+/**
+ * Gera a carga sintética de {@link GeradorCargaSintetica} em arquivos de exercícios ou
+ * diretamente no banco de dados <i>AvaliacaoFisica</i>. Os argumentos são:
+ *
+ * <br><br><center><b>arquivos &lt;diretório&gt; &lt;clientes&gt; &lt;exercícios por cliente&gt; [semente] [primeiro cliente]</b></center>
+ * <center><b>banco &lt;clientes&gt; &lt;exercícios por cliente&gt; [semente] [primeiro cliente]</b></center><br><br>
+ *
+ * No modo <b>arquivos</b> cada cliente possui um subdiretório com um arquivo por
+ * exercício, que pode ser importado pela aplicação. No modo <b>banco</b> as linhas são
+ * inseridas por {@link CargaEmMassaDAO} em transações de {@value #EXERCICIOS_POR_GRAVACAO}
+ * exercícios. Como os dados de cada cliente dependem apenas da semente e do índice do
+ * cliente, uma carga interrompida pode ser continuada informando o primeiro cliente
+ * ainda não gravado. A semente padrão é {@value #SEMENTE_PADRAO}.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class CargaSintetica {
+	/** Semente utilizada quando não informada. */
+	public static final long SEMENTE_PADRAO = 2018;
+	/** Quantidade aproximada de exercícios gravados em cada transação do modo banco. */
+	public static final int EXERCICIOS_POR_GRAVACAO = 50_000;
+	private static final long INTERVALO_PROGRESSO_MS = 5_000;
+
+	private long clientes, exercicios, detalhados, divisoes;
+	private final long inicio = System.currentTimeMillis();
+	private long ultimoProgresso = inicio;
+
+	private CargaSintetica() {}
+
+	/**
+	 * Gera a carga sintética de acordo com os argumentos.
+	 *
+	 * @param args Os argumentos de linha de comando.
+	 *
+	 * @throws Exception Dispara a exceção caso ocorra um erro ao gravar a carga.
+	 */
+	public static void main(String[] args) throws Exception {
+		boolean arquivos = args.length >= 4 && args[0].equals("arquivos");
+		boolean banco = args.length >= 3 && args[0].equals("banco");
+		if(!arquivos && !banco) {
+			System.err.println("Uso: arquivos <diretório> <clientes> <exercícios por cliente> [semente] [primeiro cliente]");
+			System.err.println("     banco <clientes> <exercícios por cliente> [semente] [primeiro cliente]");
+			System.exit(2);
+		}
+
+		int argumento = arquivos? 2 : 1;
+		long quantidadeClientes = Long.parseLong(args[argumento++]);
+		int exerciciosPorCliente = Integer.parseInt(args[argumento++]);
+		long semente = (args.length > argumento)? Long.parseLong(args[argumento++]) : SEMENTE_PADRAO;
+		long primeiroCliente = (args.length > argumento)? Long.parseLong(args[argumento]) : 0;
+
+		GeradorCargaSintetica gerador = new GeradorCargaSintetica(semente);
+		gerador.setExerciciosPorCliente(exerciciosPorCliente);
+
+		CargaSintetica carga = new CargaSintetica();
+		if(arquivos)
+			carga.gerarArquivos(gerador, new File(args[1]), primeiroCliente, primeiroCliente + quantidadeClientes);
+		else
+			carga.gerarNoBanco(gerador, primeiroCliente, primeiroCliente + quantidadeClientes);
+		carga.escreverTotais();
+	}
+
+	private void gerarArquivos(GeradorCargaSintetica gerador, File diretorio, long primeiro, long fim) throws IOException {
+		FormatadorArquivoExercicio formatador = new FormatadorArquivoExercicio();
+		for(long indice = primeiro; indice < fim; indice++) {
+			Cliente cliente = gerador.gerarCliente(indice);
+			List<Exercicio> exerciciosCliente = gerador.gerarExercicios(cliente, indice);
+
+			File diretorioCliente = new File(diretorio, String.format("cliente_%08d", indice));
+			if(!diretorioCliente.isDirectory() && !diretorioCliente.mkdirs())
+				throw new IOException("Não foi possível criar o diretório " + diretorioCliente.getAbsolutePath());
+
+			int numero = 0;
+			for(Exercicio exercicio : exerciciosCliente)
+				formatador.escrever(exercicio, new File(diretorioCliente, String.format("exercicio_%05d.txt", ++numero)));
+			contar(exerciciosCliente);
+		}
+	}
+
+	private void gerarNoBanco(GeradorCargaSintetica gerador, long primeiro, long fim) throws SQLException, IOException {
+		DataBaseDAO.abrirConexao();
+		try {
+			CargaEmMassaDAO dao = new CargaEmMassaDAO();
+			for(long indice = primeiro; indice < fim; indice++) {
+				Cliente cliente = gerador.gerarCliente(indice);
+				List<Exercicio> exerciciosCliente = gerador.gerarExercicios(cliente, indice);
+
+				dao.adicionar(cliente);
+				for(Exercicio exercicio : exerciciosCliente)
+					dao.adicionar(exercicio);
+				if(dao.getExerciciosPendentes() >= EXERCICIOS_POR_GRAVACAO) dao.gravar();
+				contar(exerciciosCliente);
+			}
+			dao.gravar();
+		} finally {
+			DataBaseDAO.fecharConexao();
+		}
+	}
+
+	private void contar(List<Exercicio> exerciciosCliente) {
+		clientes++;
+		exercicios += exerciciosCliente.size();
+		for(Exercicio exercicio : exerciciosCliente)
+			if(exercicio instanceof ExercicioDetalhado) {
+				detalhados++;
+				divisoes += ((ExercicioDetalhado)exercicio).getRitmo().getDivisoes().size();
+			}
+
+		long agora = System.currentTimeMillis();
+		if(agora - ultimoProgresso >= INTERVALO_PROGRESSO_MS) {
+			ultimoProgresso = agora;
+			System.err.printf("[carga] %,d clientes, %,d exercícios (%,.0f exercícios/s)%n", clientes, exercicios,
+							  exercicios * 1000.0 / (agora - inicio));
+		}
+	}
+
+	private void escreverTotais() {
+		long duracao = Math.max(1, System.currentTimeMillis() - inicio);
+		System.out.printf("Clientes: %,d%nExercícios: %,d (%,d detalhados)%nDivisões do ritmo: %,d%n"
+						  + "Tempo: %,.1f s (%,.0f exercícios/s)%n", clientes, exercicios, detalhados, divisoes,
+						  duracao / 1000.0, exercicios * 1000.0 / duracao);
+	}
+}
@@ -0,0 +1,126 @@
+package gdrc.sports.bench.carga;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioDetalhado;
+import gdrc.sports.tipo.Ritmo;
+import gdrc.sports.tipo.Ritmo.RitmoDetalhado;
+import gdrc.sports.tipo.Tempo;
+
+/**
+ * Escreve exercícios no formato dos arquivos exportados pelos aplicativos de exercícios,
+ * o mesmo lido por {@link gdrc.sports.io.arquivo.EscanerDeArquivo}: linhas terminadas
+ * por CRLF, números com vírgula decimal e ponto separando os milhares e, por padrão,
+ * codificação ISO-8859-1, como os arquivos de <i>arquivos_teste</i>.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class FormatadorArquivoExercicio {
+	private static final Locale LOCALE = new Locale("pt", "BR");
+	private static final String FIM_LINHA = "\r\n";
+
+	private final Charset codificacao;
+
+	/**
+	 * Cria o formatador que escreve os arquivos em ISO-8859-1.
+	 */
+	public FormatadorArquivoExercicio() {
+		this(StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Cria o formatador que escreve os arquivos na codificação passada por parâmetro.
+	 *
+	 * @param codificacao A codificação dos arquivos.
+	 */
+	public FormatadorArquivoExercicio(Charset codificacao) {
+		this.codificacao = codificacao;
+	}
+
+	/**
+	 * Escreve o exercício no arquivo passado por parâmetro, substituindo o seu conteúdo.
+	 *
+	 * @param exercicio	O exercício a ser escrito.
+	 * @param arquivo	O arquivo de destino.
+	 *
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever o arquivo.
+	 */
+	public void escrever(Exercicio exercicio, File arquivo) throws IOException {
+		try(Writer saida = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(arquivo.toPath()),
+																	 codificacao))) {
+			escrever(exercicio, saida);
+		}
+	}
+
+	/**
+	 * Escreve o exercício na saída passada por parâmetro.
+	 *
+	 * @param exercicio	O exercício a ser escrito.
+	 * @param saida		A saída em que o conteúdo é escrito.
+	 *
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever.
+	 */
+	public void escrever(Exercicio exercicio, Appendable saida) throws IOException {
+		Cliente cliente = exercicio.getCliente();
+		Tempo tempo = exercicio.getTempo();
+
+		linha(saida, "Exercício: %s", capitalizar(exercicio.getExercicio()));
+		linha(saida, "");
+		linha(saida, "------ Usuário ------");
+		linha(saida, "Nome: %s", cliente.getNome());
+		linha(saida, "Sexo: %s", cliente.getSexo());
+		linha(saida, "Altura: %.2f m", cliente.getAltura());
+		linha(saida, "Peso: %.1f Kg", cliente.getPeso());
+		linha(saida, "Data de nascimento: %s", cliente.getDataNascimento());
+		linha(saida, "E-mail: %s", cliente.getEmail());
+		linha(saida, "");
+		linha(saida, "------ Detalhes do exercício ------");
+		linha(saida, "Data: %s", exercicio.getData());
+		linha(saida, "Tempo: %tR - %tR", tempo.getHoraInicio().getHora(), tempo.getHoraFim().getHora());
+		linha(saida, "Duração: %s", tempo.getDuracao());
+		linha(saida, "Distância: %.2f Km", exercicio.getDistancia());
+		linha(saida, "Calorias perdidas: %,.0f Kcal", exercicio.getCaloriasPerdidas());
+		linha(saida, "Passos: %,d", exercicio.getPassos());
+
+		if(exercicio instanceof ExercicioDetalhado) {
+			ExercicioDetalhado detalhado = (ExercicioDetalhado)exercicio;
+			Ritmo ritmo = detalhado.getRitmo();
+			linha(saida, "Velocidade média: %.1f Km/h", detalhado.getVelocidade().getVelocidadeMedia());
+			linha(saida, "Velocidade máxima: %.1f Km/h", detalhado.getVelocidade().getVelocidadeMaxima());
+			linha(saida, "Ritmo médio: %s /Km", Ritmo.obterRitmoComoString(ritmo.getRitmoMedio()));
+			linha(saida, "Ritmo máximo: %s /Km", Ritmo.obterRitmoComoString(ritmo.getRitmoMaximo()));
+			linha(saida, "Menor elevação: %,d m", detalhado.getElevacao().getMenorElevacao());
+			linha(saida, "Maior elevação: %,d m", detalhado.getElevacao().getMaiorElevacao());
+			linha(saida, "");
+			linha(saida, "------ Ritmo ------");
+			for(RitmoDetalhado divisao : ritmo.getDivisoes())
+				linha(saida, "%s Km: %s", formatarQuilometro(divisao.getQuilometro()),
+					  Ritmo.obterRitmoComoString(divisao.getRitmo()));
+		}
+	}
+
+	/** Os quilômetros completos são escritos sem casas decimais, como em "6 Km", e o último parcial com duas. */
+	private static String formatarQuilometro(float quilometro) {
+		if(quilometro == Math.rint(quilometro)) return String.valueOf((int)quilometro);
+		return String.format(LOCALE, "%.2f", quilometro);
+	}
+
+	private static String capitalizar(String nome) {
+		if(nome == null || nome.isEmpty()) return nome;
+		return nome.substring(0, 1).toUpperCase(LOCALE) + nome.substring(1).toLowerCase(LOCALE);
+	}
+
+	private static void linha(Appendable saida, String formato, Object... argumentos) throws IOException {
+		saida.append(String.format(LOCALE, formato, argumentos)).append(FIM_LINHA);
+	}
+}
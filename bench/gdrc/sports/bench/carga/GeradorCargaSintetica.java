@@ -0,0 +1,378 @@
+package gdrc.sports.bench.carga;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Elevacao;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioDetalhado;
+import gdrc.sports.tipo.Ritmo;
+import gdrc.sports.tipo.Ritmo.RitmoDetalhado;
+import gdrc.sports.tipo.Tempo;
+import gdrc.sports.tipo.Velocidade;
+import gdrc.sports.tipo.time.Data;
+import gdrc.sports.tipo.time.Hora;
+import gdrc.sports.util.controle.IndiceClientes;
+
+/**
+ * Gera clientes e exercícios sintéticos para benchmarks e testes de carga.<br><br>
+ *
+ * Os dados de cada cliente dependem apenas da semente do gerador e do índice do
+ * cliente, portanto são os mesmos em todas as execuções e podem ser gerados em
+ * qualquer ordem ou em partes, por exemplo os clientes de 0 a 9999 e depois os de
+ * 10000 em diante. Os emails contêm o índice do cliente, assim clientes de índices
+ * diferentes nunca se repetem.<br><br>
+ *
+ * Cada cliente possui um condicionamento físico, a altitude em que se exercita e as
+ * suas atividades preferidas. A distância, o ritmo de cada quilômetro, a duração, as
+ * velocidades, as calorias e os passos de cada exercício são calculados a partir
+ * deles, com a mesma precisão dos arquivos importados, portanto um exercício escrito
+ * por {@link FormatadorArquivoExercicio} e lido novamente possui os mesmos valores.
+ * Os exercícios de um cliente são distribuídos pelo período do gerador e no máximo
+ * {@value #TURNOS_POR_DIA} exercícios do mesmo dia não têm os horários sobrepostos.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class GeradorCargaSintetica {
+	/** Data inicial padrão dos exercícios gerados. */
+	public static final LocalDate DATA_INICIAL_PADRAO = LocalDate.of(2016, 1, 1);
+	/** Quantidade padrão de dias em que os exercícios de um cliente são distribuídos. */
+	public static final int DIAS_PADRAO = 3 * 365;
+	/** Quantidade média padrão de exercícios de cada cliente. */
+	public static final int EXERCICIOS_POR_CLIENTE_PADRAO = 100;
+
+	/** Quantidade de exercícios do mesmo dia com horários distintos: às 6h, 10h, 14h e 18h. */
+	private static final int TURNOS_POR_DIA = 4;
+	private static final int HORA_PRIMEIRO_TURNO = 6, HORAS_POR_TURNO = 4;
+	/** Minutos antes do primeiro turno em que começam os exercícios excedentes do dia. */
+	private static final int MINUTOS_EXCEDENTES = HORA_PRIMEIRO_TURNO * 60;
+	private static final int SEGUNDOS_POR_HORA = 3600;
+	/** Maior ritmo que pode ser escrito no formato mm'ss". */
+	private static final int RITMO_MAXIMO_SEGUNDOS = 59 * 60 + 59;
+	/** Diferencia a sequência aleatória dos exercícios da sequência do cliente de mesmo índice. */
+	private static final long SEMENTE_EXERCICIOS = 0x5EED_E0E7_C1C1_0L;
+
+	private static final String[] NOMES_FEMININOS = {"Ana", "Beatriz", "Camila", "Cecília", "Fernanda", "Gabriela",
+			"Júlia", "Larissa", "Letícia", "Luíza", "Mariana", "Natália", "Patrícia", "Rafaela", "Sofia", "Vitória"};
+	private static final String[] NOMES_MASCULINOS = {"André", "Bruno", "Caio", "Daniel", "Eduardo", "Felipe",
+			"Gustavo", "João", "Lucas", "Marcos", "Matheus", "Otávio", "Pedro", "Rafael", "Sérgio", "Vinícius"};
+	private static final String[] SOBRENOMES = {"Almeida", "Araújo", "Barbosa", "Cardoso", "Carvalho", "Conceição",
+			"Costa", "Fernandes", "Gomes", "Gonçalves", "Lima", "Martins", "Oliveira", "Pereira", "Ribeiro",
+			"Rodrigues", "Santos", "Silva", "Sousa", "Magalhães"};
+	private static final String[] DOMINIOS = {"gmail.com", "hotmail.com", "outlook.com", "yahoo.com.br", "uol.com.br"};
+
+	private final long semente;
+	private LocalDate dataInicial;
+	private int dias;
+	private int exerciciosPorCliente;
+
+	/**
+	 * Cria o gerador com a semente passada por parâmetro, o período e a quantidade
+	 * de exercícios padrão.
+	 *
+	 * @param semente A semente dos dados gerados.
+	 */
+	public GeradorCargaSintetica(long semente) {
+		this.semente = semente;
+		this.dataInicial = DATA_INICIAL_PADRAO;
+		this.dias = DIAS_PADRAO;
+		this.exerciciosPorCliente = EXERCICIOS_POR_CLIENTE_PADRAO;
+	}
+
+	/**
+	 * Gera o cliente do índice passado por parâmetro.
+	 *
+	 * @param indice O índice do cliente.
+	 *
+	 * @return Retorna o cliente gerado.
+	 */
+	public Cliente gerarCliente(long indice) {
+		Random aleatorio = new Random(misturar(semente, indice));
+		boolean feminino = aleatorio.nextBoolean();
+
+		String primeiroNome = sortear(aleatorio, feminino? NOMES_FEMININOS : NOMES_MASCULINOS);
+		String sobrenome = sortear(aleatorio, SOBRENOMES);
+		String nome = primeiroNome + " " + (aleatorio.nextBoolean()? sortear(aleatorio, SOBRENOMES) + " " : "") + sobrenome;
+		String email = IndiceClientes.normalizar(primeiroNome + sobrenome) + indice + "@" + sortear(aleatorio, DOMINIOS);
+
+		double altura = limitar((feminino? 1.62 : 1.76) + 0.07 * aleatorio.nextGaussian(), 1.45, 2.05);
+		double imc = limitar(24 + 3.5 * aleatorio.nextGaussian(), 17, 40);
+		LocalDate nascimento = dataInicial.minusYears(16 + aleatorio.nextInt(60)).minusDays(aleatorio.nextInt(365));
+
+		return new Cliente(nome, email, feminino? "Feminino" : "Masculino", (float)arredondar(imc * altura * altura, 1),
+						   (float)arredondar(altura, 2), new Data(nascimento));
+	}
+
+	/**
+	 * Gera os exercícios do cliente do índice passado por parâmetro. A quantidade varia
+	 * de metade a uma vez e meia a quantidade média de exercícios por cliente.
+	 *
+	 * @param cliente	O cliente gerado por {@link #gerarCliente(long)} com o mesmo índice.
+	 * @param indice	O índice do cliente.
+	 *
+	 * @return Retorna os exercícios do cliente, em ordem de data e hora.
+	 */
+	public List<Exercicio> gerarExercicios(Cliente cliente, long indice) {
+		Random aleatorio = new Random(misturar(semente ^ SEMENTE_EXERCICIOS, indice));
+		int quantidade = (int)Math.max(1, Math.round(exerciciosPorCliente * (0.5 + aleatorio.nextDouble())));
+		return gerarExercicios(cliente, aleatorio, quantidade);
+	}
+
+	/**
+	 * Gera a quantidade de exercícios passada por parâmetro para o cliente do índice
+	 * informado, distribuídos pelo período do gerador.
+	 *
+	 * @param cliente		O cliente gerado por {@link #gerarCliente(long)} com o mesmo índice.
+	 * @param indice		O índice do cliente.
+	 * @param quantidade	A quantidade de exercícios.
+	 *
+	 * @return Retorna os exercícios do cliente, em ordem de data e hora.
+	 */
+	public List<Exercicio> gerarExercicios(Cliente cliente, long indice, int quantidade) {
+		return gerarExercicios(cliente, new Random(misturar(semente ^ SEMENTE_EXERCICIOS, indice)), quantidade);
+	}
+
+	private List<Exercicio> gerarExercicios(Cliente cliente, Random aleatorio, int quantidade) {
+		Perfil perfil = new Perfil(aleatorio);
+		List<Exercicio> exercicios = new ArrayList<>(quantidade);
+
+		// Cada exercício ocupa um intervalo do período, sorteando o dia dentro do intervalo.
+		double intervalo = (double)dias / quantidade;
+		int diaAnterior = -1, turno = 0;
+		for(int i = 0; i < quantidade; i++) {
+			int dia = (int)((i + ((intervalo >= 1)? aleatorio.nextDouble() : 0)) * intervalo);
+			turno = (dia == diaAnterior)? turno + 1 : 0;
+			diaAnterior = dia;
+			exercicios.add(gerarExercicio(cliente, perfil, aleatorio, dataInicial.plusDays(dia), turno));
+		}
+		return exercicios;
+	}
+
+	private Exercicio gerarExercicio(Cliente cliente, Perfil perfil, Random aleatorio, LocalDate data, int turno) {
+		Atividade atividade = perfil.sortearAtividade(aleatorio);
+		double velocidade = Math.max(atividade.velocidade * 0.4,
+									 atividade.velocidade * perfil.condicionamento * (1 + 0.08 * aleatorio.nextGaussian()));
+		int duracaoPrevista = (atividade.duracaoMinima + aleatorio.nextInt(atividade.duracaoMaxima
+																		   - atividade.duracaoMinima + 1)) * 60;
+		double distancia = Math.max(0.1, arredondar(velocidade * duracaoPrevista / SEGUNDOS_POR_HORA, 2));
+
+		Exercicio exercicio;
+		int duracao;
+		if(aleatorio.nextDouble() < atividade.proporcaoDetalhados) {
+			ExercicioDetalhado detalhado = new ExercicioDetalhado();
+			duracao = preencherDetalhes(detalhado, perfil, aleatorio, atividade, velocidade, distancia);
+			exercicio = detalhado;
+		} else {
+			exercicio = new Exercicio();
+			duracao = (int)Math.round(distancia / velocidade * SEGUNDOS_POR_HORA);
+		}
+
+		exercicio.setCliente(cliente);
+		exercicio.setExercicio(atividade.nome.toUpperCase());
+		exercicio.setData(new Data(data));
+		exercicio.setDistancia((float)distancia);
+
+		// Os turnos têm 4 horas e nenhum exercício dura mais de 3 horas, portanto não se sobrepõem. Os
+		// exercícios excedentes começam em minutos consecutivos a partir da meia-noite, apenas para que
+		// a chave primária da tabela exercicio, que inclui os horários, não se repita.
+		LocalTime inicio = (turno < TURNOS_POR_DIA)?
+				LocalTime.of(HORA_PRIMEIRO_TURNO + turno * HORAS_POR_TURNO, aleatorio.nextInt(60)) :
+				LocalTime.ofSecondOfDay(((turno - TURNOS_POR_DIA) % MINUTOS_EXCEDENTES) * 60);
+		LocalTime fim = inicio.plusMinutes((duracao + 59) / 60);
+		exercicio.setTempo(new Tempo(new Hora(inicio), new Hora(fim), new Hora(LocalTime.ofSecondOfDay(duracao))));
+
+		double horas = (double)duracao / SEGUNDOS_POR_HORA;
+		exercicio.setCaloriasPerdidas(Math.round(atividade.met * cliente.getPeso() * horas * (0.9 + 0.2 * aleatorio.nextDouble())));
+		if(atividade.passada > 0) {
+			double passada = atividade.passada * cliente.getAltura() / 1.70 * (0.95 + 0.1 * aleatorio.nextDouble());
+			exercicio.setPassos((int)Math.round(distancia * 1000 / passada));
+		}
+		return exercicio;
+	}
+
+	/**
+	 * Gera o ritmo de cada quilômetro, com o cansaço aumentando o ritmo ao longo do
+	 * exercício, e calcula a partir deles a duração, os ritmos, as velocidades e a
+	 * elevação do exercício.
+	 *
+	 * @return Retorna a duração do exercício, em segundos.
+	 */
+	private int preencherDetalhes(ExercicioDetalhado exercicio, Perfil perfil, Random aleatorio,
+								  Atividade atividade, double velocidade, double distancia) {
+		double ritmoBase = SEGUNDOS_POR_HORA / velocidade;
+		double cansaco = 0.02 + 0.08 * aleatorio.nextDouble();
+		int quilometros = (int)Math.floor(distancia);
+		double parcial = arredondar(distancia - quilometros, 2);
+
+		List<RitmoDetalhado> divisoes = new ArrayList<>(quilometros + 1);
+		double duracao = 0;
+		int menorRitmo = RITMO_MAXIMO_SEGUNDOS;
+		for(int km = 1; km <= quilometros + ((parcial > 0)? 1 : 0); km++) {
+			double percorrido = Math.min(km, distancia);
+			int ritmo = (int)limitar(Math.round(ritmoBase * (1 + cansaco * percorrido / distancia
+															 + atividade.variacaoRitmo * aleatorio.nextGaussian())),
+									 60, RITMO_MAXIMO_SEGUNDOS);
+			divisoes.add(new RitmoDetalhado((float)percorrido, new Hora(LocalTime.ofSecondOfDay(ritmo))));
+			duracao += ritmo * ((km <= quilometros)? 1 : parcial);
+			if(km <= quilometros || quilometros == 0) menorRitmo = Math.min(menorRitmo, ritmo);
+		}
+
+		int duracaoTotal = (int)Math.round(duracao);
+		int ritmoMedio = (int)limitar(Math.round(duracaoTotal / distancia), 60, RITMO_MAXIMO_SEGUNDOS);
+		Ritmo ritmo = exercicio.getRitmo();
+		ritmo.setDivisoes(divisoes);
+		ritmo.setRitmoMedio(new Hora(LocalTime.ofSecondOfDay(ritmoMedio)));
+		ritmo.setRitmoMaximo(new Hora(LocalTime.ofSecondOfDay(Math.min(menorRitmo, ritmoMedio))));
+
+		Velocidade velocidadeExercicio = exercicio.getVelocidade();
+		velocidadeExercicio.setVelocidadeMedia((float)arredondar(distancia * SEGUNDOS_POR_HORA / duracaoTotal, 1));
+		velocidadeExercicio.setVelocidadeMaxima((float)arredondar((double)SEGUNDOS_POR_HORA / Math.min(menorRitmo, ritmoMedio)
+																  * (1.03 + 0.1 * aleatorio.nextDouble()), 1));
+
+		Elevacao elevacao = exercicio.getElevacao();
+		elevacao.setMenorElevacao(perfil.altitude + aleatorio.nextInt(40));
+		elevacao.setMaiorElevacao(elevacao.getMenorElevacao() + 5
+								  + (int)Math.round(distancia * perfil.relevo * aleatorio.nextDouble()));
+		return duracaoTotal;
+	}
+
+	/**
+	 * Combina a semente e o índice em uma nova semente, de forma que índices vizinhos
+	 * produzam sequências aleatórias independentes (função de mistura do SplitMix64).
+	 */
+	private static long misturar(long semente, long indice) {
+		long z = semente + (indice + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private static String sortear(Random aleatorio, String[] opcoes) {
+		return opcoes[aleatorio.nextInt(opcoes.length)];
+	}
+
+	private static double limitar(double valor, double minimo, double maximo) {
+		return Math.max(minimo, Math.min(maximo, valor));
+	}
+
+	private static double arredondar(double valor, int casasDecimais) {
+		double escala = Math.pow(10, casasDecimais);
+		return Math.round(valor * escala) / escala;
+	}
+
+	/**
+	 * Define a data inicial e a quantidade de dias em que os exercícios de cada
+	 * cliente são distribuídos.
+	 *
+	 * @param dataInicial	A data do primeiro dia do período.
+	 * @param dias			A quantidade de dias do período.
+	 */
+	public void setPeriodo(LocalDate dataInicial, int dias) {
+		if(dias < 1) throw new IllegalArgumentException("O período deve ter pelo menos um dia.");
+		this.dataInicial = dataInicial;
+		this.dias = dias;
+	}
+
+	/**
+	 * Obtém a data do primeiro dia do período dos exercícios.
+	 *
+	 * @return Retorna a data inicial.
+	 */
+	public LocalDate getDataInicial() {
+		return dataInicial;
+	}
+
+	/**
+	 * Obtém a quantidade de dias do período dos exercícios.
+	 *
+	 * @return Retorna a quantidade de dias.
+	 */
+	public int getDias() {
+		return dias;
+	}
+
+	/**
+	 * Define a quantidade média de exercícios gerados para cada cliente por
+	 * {@link #gerarExercicios(Cliente, long)}.
+	 *
+	 * @param exerciciosPorCliente A quantidade média de exercícios.
+	 */
+	public void setExerciciosPorCliente(int exerciciosPorCliente) {
+		if(exerciciosPorCliente < 1) throw new IllegalArgumentException("Cada cliente deve ter pelo menos um exercício.");
+		this.exerciciosPorCliente = exerciciosPorCliente;
+	}
+
+	/**
+	 * Obtém a quantidade média de exercícios gerados para cada cliente.
+	 *
+	 * @return Retorna a quantidade média de exercícios.
+	 */
+	public int getExerciciosPorCliente() {
+		return exerciciosPorCliente;
+	}
+
+	/**
+	 * Atividades físicas geradas, com o gasto de energia (MET), a velocidade típica em
+	 * km/h, a duração em minutos e o tamanho do passo em metros. As atividades sem
+	 * passada, como o ciclismo, não contam passos.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private enum Atividade {
+		CAMINHADA("Caminhada", 3.5, 5.5, 20, 90, 0.70, 0.04, 0.85),
+		CORRIDA("Corrida", 9.8, 10.0, 20, 80, 1.10, 0.04, 0.90),
+		CICLISMO("Ciclismo", 7.5, 20.0, 30, 180, 0, 0.08, 0.80),
+		BASQUETE("Basquete", 6.5, 6.0, 40, 90, 0.75, 0.15, 0.20),
+		FUTEBOL("Futebol", 7.0, 6.5, 45, 100, 0.80, 0.15, 0.20),
+		HANDBALL("Handball", 8.0, 6.0, 40, 70, 0.75, 0.15, 0.15),
+		VOLEI("Vôlei", 4.0, 3.0, 40, 90, 0.70, 0.20, 0.10);
+
+		private final String nome;
+		private final double met, velocidade, passada, variacaoRitmo, proporcaoDetalhados;
+		private final int duracaoMinima, duracaoMaxima;
+
+		private Atividade(String nome, double met, double velocidade, int duracaoMinima, int duracaoMaxima,
+						  double passada, double variacaoRitmo, double proporcaoDetalhados) {
+			this.nome = nome;
+			this.met = met;
+			this.velocidade = velocidade;
+			this.duracaoMinima = duracaoMinima;
+			this.duracaoMaxima = duracaoMaxima;
+			this.passada = passada;
+			this.variacaoRitmo = variacaoRitmo;
+			this.proporcaoDetalhados = proporcaoDetalhados;
+		}
+	}
+
+	/**
+	 * Características de um cliente que determinam os seus exercícios.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private static class Perfil {
+		private final double condicionamento;
+		private final int altitude, relevo;
+		private final Atividade principal, secundaria;
+
+		private Perfil(Random aleatorio) {
+			condicionamento = limitar(1 + 0.15 * aleatorio.nextGaussian(), 0.6, 1.5);
+			altitude = aleatorio.nextInt(1100);
+			relevo = 5 + aleatorio.nextInt(40);
+			Atividade[] atividades = Atividade.values();
+			principal = atividades[aleatorio.nextInt(atividades.length)];
+			secundaria = atividades[aleatorio.nextInt(atividades.length)];
+		}
+
+		/** Sorteia a atividade de um exercício: a principal em 60% deles, a secundária em 25%. */
+		private Atividade sortearAtividade(Random aleatorio) {
+			double sorteio = aleatorio.nextDouble();
+			if(sorteio < 0.60) return principal;
+			if(sorteio < 0.85) return secundaria;
+			return Atividade.values()[aleatorio.nextInt(Atividade.values().length)];
+		}
+	}
+}
@@ -0,0 +1,17 @@
+/**
+ * Mantém o gerador de carga sintética, que produz clientes e exercícios determinísticos
+ * com o volume de produção, e as classes que os escrevem em arquivos de exercícios ou
+ * os inserem em massa no banco de dados.<br><br>
+ *
+ * Para gerar, a partir da raiz do projeto e após compilar os benchmarks em <i>bench-bin</i>,
+ * os arquivos de 1.000 clientes ou carregar 20.000 clientes, cerca de 2 milhões de
+ * exercícios e 13 milhões de divisões do ritmo, no banco de dados:
+ *
+ * <pre>
+ * java -cp "bench-bin:bin:jar/*" gdrc.sports.bench.carga.CargaSintetica arquivos carga 1000 100
+ * java -cp "bench-bin:bin:jar/*" gdrc.sports.bench.carga.CargaSintetica banco 20000 100
+ * </pre>
+ *
+ * Veja {@link gdrc.sports.bench.carga.CargaSintetica} para os demais argumentos.
+ */
+package gdrc.sports.bench.carga;
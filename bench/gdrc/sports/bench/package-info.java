@@ -0,0 +1,15 @@
+/**
+ * Mantém os benchmarks que medem a importação dos arquivos, a conversão das linhas do
+ * banco de dados em objetos, a agregação dos exercícios e a renderização dos gráficos
+ * e relatórios PDF. Não fazem parte da aplicação e não precisam do banco de dados.<br><br>
+ *
+ * Para compilar e executar a partir da raiz do projeto, após compilar a aplicação em <i>bin</i>:
+ *
+ * <pre>
+ * javac -encoding ISO-8859-1 -cp "bin:jar/*" -d bench-bin $(find bench -name "*.java")
+ * java -Djava.awt.headless=true -Dfile.encoding=ISO-8859-1 -Xms1g -Xmx1g -cp "bench-bin:bin:jar/*" gdrc.sports.bench.SportsBenchmarks [filtro]
+ * </pre>
+ *
+ * Veja {@link gdrc.sports.bench.ExecutorBenchmark} para configurar as iterações.
+ */
+package gdrc.sports.bench;
@@ -0,0 +1,243 @@
+package gdrc.sports.io.bd.dao;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioDetalhado;
+import gdrc.sports.tipo.Ritmo;
+import gdrc.sports.tipo.Ritmo.RitmoDetalhado;
+
+/**
+ * Insere grandes quantidades de clientes e exercícios no banco de dados com o comando
+ * <i>COPY</i> do PostgreSQL, que é muito mais rápido do que os <i>INSERT</i> feitos
+ * pelos DAOs da aplicação. Utilizado para carregar dados sintéticos com o volume de
+ * produção.<br><br>
+ *
+ * Os objetos adicionados são mantidos em memória até {@link #gravar()}, que reserva
+ * os códigos nas sequências das tabelas, atribui os códigos aos objetos e copia todas
+ * as linhas em uma única transação, na ordem das chaves estrangeiras. As linhas são
+ * gravadas nas mesmas unidades utilizadas pelos DAOs: datas em dias desde 01/01/1970 e
+ * horas, durações e ritmos em nanossegundos do dia.<br><br>
+ *
+ * A reserva dos códigos não é atômica entre conexões, portanto apenas uma carga deve ser
+ * executada de cada vez. Utiliza a conexão aberta por {@link DataBaseDAO#abrirConexao()}.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class CargaEmMassaDAO {
+	private static final String COPY_CLIENTE = "COPY cliente (email, nome, sexo, peso, altura, data_de_nascimento) FROM STDIN",
+			COPY_EXERCICIO = "COPY exercicio (codigo, email, tempo_inicio, tempo_fim, duracao, data, distancia, "
+							 + "calorias, passos, exercicio) FROM STDIN",
+			COPY_VELOCIDADE = "COPY velocidade (codigo, velocidade_maxima, velocidade_media) FROM STDIN",
+			COPY_RITMO = "COPY ritmo (codigo, ritmo_maximo, ritmo_medio) FROM STDIN",
+			COPY_ELEVACAO = "COPY elevacao (codigo, maior_elevacao, menor_elevacao) FROM STDIN",
+			COPY_EXERCICIO_DETALHADO = "COPY exercicio_detalhado (codigo, codigo_velocidade, codigo_ritmo, "
+									   + "codigo_elevacao) FROM STDIN",
+			COPY_RITMO_DETALHADO = "COPY ritmo_detalhado (codigo, quilometro, ritmo) FROM STDIN",
+			COPY_RITMO_RITMO_DETALHADO = "COPY ritmo_ritmo_detalhado (codigo_ritmo, codigo_ritmo_detalhado) FROM STDIN";
+
+	private final List<Cliente> clientes;
+	private final List<Exercicio> exercicios;
+	private int exerciciosDetalhados, divisoes;
+
+	/**
+	 * Cria a carga vazia.
+	 */
+	public CargaEmMassaDAO() {
+		clientes = new ArrayList<>();
+		exercicios = new ArrayList<>();
+	}
+
+	/**
+	 * Adiciona o cliente à próxima gravação. O cliente não pode estar cadastrado.
+	 *
+	 * @param cliente O cliente a ser inserido.
+	 */
+	public void adicionar(Cliente cliente) {
+		clientes.add(cliente);
+	}
+
+	/**
+	 * Adiciona o exercício à próxima gravação. O cliente do exercício deve estar
+	 * cadastrado ou ter sido adicionado à carga.
+	 *
+	 * @param exercicio O exercício a ser inserido.
+	 */
+	public void adicionar(Exercicio exercicio) {
+		exercicios.add(exercicio);
+		if(exercicio instanceof ExercicioDetalhado) {
+			exerciciosDetalhados++;
+			divisoes += ((ExercicioDetalhado)exercicio).getRitmo().getDivisoes().size();
+		}
+	}
+
+	/**
+	 * Obtém a quantidade de exercícios adicionados desde a última gravação.
+	 *
+	 * @return Retorna a quantidade de exercícios pendentes.
+	 */
+	public int getExerciciosPendentes() {
+		return exercicios.size();
+	}
+
+	/**
+	 * Grava no banco de dados todos os clientes e exercícios adicionados desde a última
+	 * gravação, em uma única transação. Caso ocorra um erro nenhum deles é gravado e a
+	 * carga é mantida.
+	 *
+	 * @return Retorna a quantidade de linhas inseridas em todas as tabelas.
+	 *
+	 * @throws SQLException Dispara a exceção caso ocorra um erro no banco de dados.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao enviar as linhas.
+	 */
+	public long gravar() throws SQLException, IOException {
+		if(clientes.isEmpty() && exercicios.isEmpty()) return 0;
+
+		CopyManager copia = DataBaseDAO.connection.unwrap(PGConnection.class).getCopyAPI();
+		boolean autoCommit = DataBaseDAO.connection.getAutoCommit();
+		DataBaseDAO.connection.setAutoCommit(false);
+		try {
+			atribuirCodigos();
+			long linhas = copia.copyIn(COPY_CLIENTE, new StringReader(linhasClientes()));
+			linhas += copia.copyIn(COPY_EXERCICIO, new StringReader(linhasExercicios()));
+
+			StringBuilder velocidades = new StringBuilder(), ritmos = new StringBuilder(),
+						  elevacoes = new StringBuilder(), detalhados = new StringBuilder(),
+						  ritmosDetalhados = new StringBuilder(), associacoes = new StringBuilder();
+			for(Exercicio exercicio : exercicios) {
+				if(!(exercicio instanceof ExercicioDetalhado)) continue;
+				ExercicioDetalhado detalhado = (ExercicioDetalhado)exercicio;
+				Ritmo ritmo = detalhado.getRitmo();
+
+				linha(velocidades, detalhado.getVelocidade().getCodigo(), detalhado.getVelocidade().getVelocidadeMaxima(),
+					  detalhado.getVelocidade().getVelocidadeMedia());
+				linha(ritmos, ritmo.getCodigo(), ritmo.getRitmoMaximo().getHora().toNanoOfDay(),
+					  ritmo.getRitmoMedio().getHora().toNanoOfDay());
+				linha(elevacoes, detalhado.getElevacao().getCodigo(), detalhado.getElevacao().getMaiorElevacao(),
+					  detalhado.getElevacao().getMenorElevacao());
+				linha(detalhados, detalhado.getCodigo(), detalhado.getVelocidade().getCodigo(), ritmo.getCodigo(),
+					  detalhado.getElevacao().getCodigo());
+				for(RitmoDetalhado divisao : ritmo.getDivisoes()) {
+					linha(ritmosDetalhados, divisao.getCodigo(), divisao.getQuilometro(),
+						  divisao.getRitmo().getHora().toNanoOfDay());
+					linha(associacoes, ritmo.getCodigo(), divisao.getCodigo());
+				}
+			}
+			linhas += copia.copyIn(COPY_VELOCIDADE, new StringReader(velocidades.toString()));
+			linhas += copia.copyIn(COPY_RITMO, new StringReader(ritmos.toString()));
+			linhas += copia.copyIn(COPY_ELEVACAO, new StringReader(elevacoes.toString()));
+			linhas += copia.copyIn(COPY_EXERCICIO_DETALHADO, new StringReader(detalhados.toString()));
+			linhas += copia.copyIn(COPY_RITMO_DETALHADO, new StringReader(ritmosDetalhados.toString()));
+			linhas += copia.copyIn(COPY_RITMO_RITMO_DETALHADO, new StringReader(associacoes.toString()));
+
+			DataBaseDAO.connection.commit();
+			clientes.clear();
+			exercicios.clear();
+			exerciciosDetalhados = divisoes = 0;
+			return linhas;
+		} catch (SQLException | IOException e) {
+			DataBaseDAO.connection.rollback();
+			throw e;
+		} finally {
+			DataBaseDAO.connection.setAutoCommit(autoCommit);
+		}
+	}
+
+	/**
+	 * Reserva nas sequências os códigos de todos os objetos da carga e os atribui aos
+	 * objetos, na ordem em que foram adicionados.
+	 */
+	private void atribuirCodigos() throws SQLException {
+		long exercicio = reservarCodigos(new ExercicioDAO().nomeSequence(), exercicios.size());
+		long velocidade = reservarCodigos(new VelocidadeDAO().nomeSequence(), exerciciosDetalhados);
+		long ritmo = reservarCodigos(new RitmoDAO().nomeSequence(), exerciciosDetalhados);
+		long elevacao = reservarCodigos(new ElevacaoDAO().nomeSequence(), exerciciosDetalhados);
+		long divisao = reservarCodigos(new RitmoDetalhadoDAO().nomeSequence(), divisoes);
+
+		for(Exercicio ex : exercicios) {
+			ex.setCodigo(exercicio++);
+			if(!(ex instanceof ExercicioDetalhado)) continue;
+
+			ExercicioDetalhado detalhado = (ExercicioDetalhado)ex;
+			detalhado.getVelocidade().setCodigo(velocidade++);
+			detalhado.getRitmo().setCodigo(ritmo++);
+			detalhado.getElevacao().setCodigo(elevacao++);
+			for(RitmoDetalhado ritmoDetalhado : detalhado.getRitmo().getDivisoes())
+				ritmoDetalhado.setCodigo(divisao++);
+		}
+	}
+
+	/**
+	 * Avança a sequência passada por parâmetro em uma única instrução, reservando a
+	 * quantidade de códigos informada.
+	 *
+	 * @return Retorna o primeiro código reservado.
+	 */
+	private static long reservarCodigos(String sequencia, int quantidade) throws SQLException {
+		if(quantidade == 0) return 0;
+
+		try(PreparedStatement stm = DataBaseDAO.connection.prepareStatement(
+				String.format("SELECT setval('\"%s\"', nextval('\"%1$s\"') + ? - 1)", sequencia))) {
+			stm.setLong(1, quantidade);
+			try(ResultSet rs = stm.executeQuery()) {
+				rs.next();
+				return rs.getLong(1) - quantidade + 1;
+			}
+		}
+	}
+
+	private String linhasClientes() {
+		StringBuilder linhas = new StringBuilder(clientes.size() * 96);
+		for(Cliente cliente : clientes)
+			linha(linhas, cliente.getEmail(), cliente.getNome(), cliente.getSexo(), cliente.getPeso(),
+				  cliente.getAltura(), cliente.getDataNascimento().getData().toEpochDay());
+		return linhas.toString();
+	}
+
+	private String linhasExercicios() {
+		StringBuilder linhas = new StringBuilder(exercicios.size() * 128);
+		for(Exercicio exercicio : exercicios)
+			linha(linhas, exercicio.getCodigo(), exercicio.getCliente().getEmail(),
+				  exercicio.getTempo().getHoraInicio().getHora().toNanoOfDay(),
+				  exercicio.getTempo().getHoraFim().getHora().toNanoOfDay(),
+				  exercicio.getTempo().getDuracao().getHora().toNanoOfDay(),
+				  exercicio.getData().getData().toEpochDay(), exercicio.getDistancia(),
+				  exercicio.getCaloriasPerdidas(), exercicio.getPassos(), exercicio.getExercicio());
+		return linhas.toString();
+	}
+
+	/**
+	 * Escreve uma linha no formato texto do <i>COPY</i>: valores separados por tabulação,
+	 * com as barras invertidas, tabulações e quebras de linha escapadas.
+	 */
+	private static void linha(StringBuilder linhas, Object... valores) {
+		for(int i = 0; i < valores.length; i++) {
+			if(i > 0) linhas.append('\t');
+			Object valor = valores[i];
+			if(valor == null) { linhas.append("\\N"); continue; }
+
+			String texto = valor.toString();
+			for(int c = 0; c < texto.length(); c++) {
+				char caractere = texto.charAt(c);
+				switch(caractere) {
+				case '\\': linhas.append("\\\\"); break;
+				case '\t': linhas.append("\\t"); break;
+				case '\n': linhas.append("\\n"); break;
+				case '\r': linhas.append("\\r"); break;
+				default: linhas.append(caractere);
+				}
+			}
+		}
+		linhas.append('\n');
+	}
+}
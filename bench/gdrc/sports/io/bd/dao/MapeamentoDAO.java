@@ -0,0 +1,39 @@
+package gdrc.sports.io.bd.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Permite que os benchmarks meçam a conversão das linhas de um {@link ResultSet}
+ * em objetos, feita por {@link DataBaseDAO#capturarObjetoDoResultSet(ResultSet)},
+ * sem acessar o banco de dados. Está no mesmo pacote dos DAOs para ter acesso ao
+ * método protegido.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public final class MapeamentoDAO {
+
+	private MapeamentoDAO() {}
+
+	/**
+	 * Converte todas as linhas do {@link ResultSet} a partir da primeira, da mesma
+	 * forma que os métodos de listagem dos DAOs.
+	 *
+	 * @param dao		O DAO que converte as linhas.
+	 * @param resultSet	As linhas a serem convertidas. O cursor é posicionado antes
+	 * da primeira linha.
+	 *
+	 * @return Retorna os objetos convertidos.
+	 *
+	 * @throws SQLException Dispara a exceção caso ocorra um erro ao ler as linhas.
+	 */
+	public static <T> List<T> mapearTodos(DataBaseDAO<T> dao, ResultSet resultSet) throws SQLException {
+		List<T> objetos = new ArrayList<>();
+		resultSet.beforeFirst();
+		while(resultSet.next())
+			objetos.add(dao.capturarObjetoDoResultSet(resultSet));
+		return objetos;
+	}
+}
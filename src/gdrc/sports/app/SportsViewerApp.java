@@ -1,111 +1,315 @@
-package gdrc.sports.app;
-
-import gdrc.sports.gui.es.MensagemUsuario;
-import gdrc.sports.gui.janela.IgSportViewer;
-import gdrc.sports.io.bd.dao.DataBaseDAO;
-
-import java.awt.event.WindowAdapter;
-import java.awt.event.WindowEvent;
-import java.sql.SQLException;
-
-import javax.swing.JFrame;
-import javax.swing.UIManager;
-import javax.swing.UnsupportedLookAndFeelException;
-
-import com.sun.java.swing.plaf.windows.WindowsLookAndFeel;
-
-/**
- * Classe que mantm os mtodos necessrios para a inicializao da
- * aplicao <i>Sports Viewer</i>. <br><br>
- * 
- * A estrutura da aplicao pode ser compreendida a partir dos diagramas 
- * documentados em {@link gdrc.sports.tipo} que apresenta a estrutura das 
- * classes base utilizadas e {@link gdrc.sports.io.bd.dao} que apresenta a estrutura 
- * das tabelas utilizadas para fazer a persistnca dos dados manipulados 
- * pela aplicao.
- * 
- * @author Guilherme Domith Ribeiro Coelho
- *
- */
-public class SportsViewerApp {
-	
-	/** 
-	 * Inicia o programa abrindo a conexo com as dependncias 
-	 * da aplicao.
-	 *   
-	 * @param args Os argumentos de linha de comando no so 
-	 * utilizados por esta aplicao. 
-	 */
-	public static void main(String[] args) {
-		alterarLookAndFeel();
-		
-		if(abrirConexaoBD()) {
-			JFrame janelaPrincipal = new IgSportViewer();
-			janelaPrincipal.addWindowListener(new TratarEventoJanela());
-		}
-	}
-	
-	/**
-	 * Abre a conexo com o banco de dados da aplicao.
-	 * @return Retorna <code>true</code> se foi aberto a conexo, 
-	 * se no retorna <code>false</code>.
-	 */
-	public static boolean abrirConexaoBD() {
-		try{ DataBaseDAO.abrirConexao();
-		} catch (SQLException e) {
-			MensagemUsuario.msgErro("Ocorreu um erro ao conectar com o "
-					+ "Banco de Dados.\nContate o suporte tcnico.");
-			return false;
-		}
-		return true;
-	}
-	
-	/**
-	 * Fecha a conexo com o banco de dados da aplicao.
-	 * @return Retorna <code>true</code> se foi fechado a conexo, 
-	 * se no retorna <code>false</code>.
-	 */
-	public static boolean fecharConexaoBD() {
-		try { DataBaseDAO.fecharConexao();
-		} catch (SQLException e) {
-			MensagemUsuario.msgErro("Ocorreu um erro ao fechar a conexo "
-					+ "com o Banco de Dados.\nContate o suporte tcnico.");
-			return false;
-		}
-		return true;
-	}
-	
-	/**
-	 * Altera o look and feel da aplicao.
-	 * @return Retorna <code>true</code> se for alterado com sucesso,
-	 * se no retorna false. 
-	 */
-	public static boolean alterarLookAndFeel() {
-		try { UIManager.setLookAndFeel(new WindowsLookAndFeel());
-		} catch (UnsupportedLookAndFeelException e) {
-			return false;
-		}
-		return true;
-	}
-	
-	/**
-	 * Trata o evento de fechar a janela principal da aplicao. 
-	 * Ao fechar a janela ser feito o encerramento das conexes 
-	 * feitas pela aplicao. <br><br>
-	 * 
-	 * Todas as dependncias que precisam ser encerradas 
-	 * ao trmino da aplicao devem ser implementadas 
-	 * neste mtodo. 
-	 *  
-	 * @author Guilherme Domith Ribeiro Coelho
-	 */
-	private static class TratarEventoJanela extends WindowAdapter{
-
-		@Override
-		public void windowClosing(WindowEvent e) {
-			fecharConexaoBD();
-			System.exit(0);
-		}
-	}
-
-}
+package gdrc.sports.app;
+
+import gdrc.sports.gui.es.MensagemUsuario;
+import gdrc.sports.gui.janela.IgSportViewer;
+import gdrc.sports.io.bd.dao.DataBaseDAO;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.time.Data;
+import gdrc.sports.util.controle.IndiceClientes;
+import gdrc.sports.util.monitor.MonitorEDT;
+import gdrc.sports.util.propriedades.CacheIcones;
+import gdrc.sports.util.relatorio.ExportacaoPDFEmLote;
+import gdrc.sports.util.relatorio.ExportacaoPDFEmLote.ProgressoExportacao;
+import gdrc.sports.util.relatorio.ExportacaoPDFEmLote.Resultado;
+
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+
+import com.sun.java.swing.plaf.windows.WindowsLookAndFeel;
+
+/**
+ * Classe que mantém os métodos necessários para a inicialização da
+ * aplicação <i>Sports Viewer</i>. <br><br>
+ * 
+ * A estrutura da aplicação pode ser compreendida a partir dos diagramas 
+ * documentados em {@link gdrc.sports.tipo} que apresenta a estrutura das 
+ * classes base utilizadas e {@link gdrc.sports.io.bd.dao} que apresenta a estrutura 
+ * das tabelas utilizadas para fazer a persistênca dos dados manipulados 
+ * pela aplicação.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ *
+ */
+public class SportsViewerApp {
+	
+	/** Argumento de linha de comando que inicia a exportação em lote dos relatórios. */
+	public static final String ARG_EXPORTAR_PDF = "--exportar-pdf";
+	
+	/** Threads que executam as fases da inicialização feitas em segundo plano. São 
+	 * threads daemon, portanto não impedem que a aplicação seja encerrada. */
+	private static final ExecutorService INICIALIZACAO = Executors.newFixedThreadPool(2, (Runnable tarefa) -> {
+		Thread thread = new Thread(tarefa, "inicializacao");
+		thread.setDaemon(true);
+		return thread;
+	});
+	
+	/** Instante, em nanossegundos, em que a aplicação foi iniciada. */
+	private static long inicioAplicacao;
+	
+	/** 
+	 * Inicia o programa abrindo a conexão com as dependências 
+	 * da aplicação.<br><br>
+	 * 
+	 * A janela principal é exibida assim que o look and feel é alterado. A conexão 
+	 * com o banco de dados e o carregamento dos ícones são feitos em paralelo, em 
+	 * segundo plano, e o índice de clientes é carregado logo após a conexão ser aberta. 
+	 * As funções da janela principal são habilitadas quando a conexão estiver pronta. 
+	 * A duração de cada fase da inicialização é escrita na saída de erro.<br><br>
+	 * 
+	 * Se o primeiro argumento for {@value #ARG_EXPORTAR_PDF} a interface gráfica não 
+	 * é aberta e os relatórios em PDF dos clientes são exportados em lote, veja 
+	 * {@link #exportarPDFEmLote(String[])}.
+	 *   
+	 * @param args Os argumentos de linha de comando. 
+	 */
+	public static void main(String[] args) {
+		if(args.length > 0 && args[0].equals(ARG_EXPORTAR_PDF)) {
+			System.exit(exportarPDFEmLote(args));
+		}
+		
+		inicioAplicacao = System.nanoTime();
+		CompletableFuture<Boolean> conexao = CompletableFuture.supplyAsync(SportsViewerApp::prepararBancoDeDados, 
+																			INICIALIZACAO);
+		INICIALIZACAO.execute(() -> {
+			long inicio = System.nanoTime();
+			CacheIcones.carregarTodos();
+			registrarFase("Cache de ícones", inicio);
+		});
+		INICIALIZACAO.shutdown();
+		
+		long inicio = System.nanoTime();
+		alterarLookAndFeel();
+		MonitorEDT.iniciarConformePropriedades();
+		registrarFase("Look and feel", inicio);
+		
+		SwingUtilities.invokeLater(() -> {
+			long inicioJanela = System.nanoTime();
+			IgSportViewer janelaPrincipal = new IgSportViewer();
+			janelaPrincipal.addWindowListener(new TratarEventoJanela());
+			registrarFase("Janela principal", inicioJanela);
+			
+			conexao.thenAccept((Boolean conectado) -> SwingUtilities.invokeLater(() -> {
+				if(conectado) {
+					janelaPrincipal.setFuncoesHabilitadas(true);
+					registrarFase("Aplicação pronta", inicioAplicacao);
+				} else {
+					MensagemUsuario.msgErro("Ocorreu um erro ao conectar com o "
+							+ "Banco de Dados.\nContate o suporte técnico.");
+					System.exit(1);
+				}
+			}));
+		});
+	}
+	
+	/**
+	 * Abre a conexão com o banco de dados e inicia o carregamento do índice de 
+	 * clientes utilizado pelas pesquisas. É executado em segundo plano durante 
+	 * a inicialização da aplicação e retorna logo após abrir a conexão, sem 
+	 * aguardar o índice: enquanto ele não for carregado as pesquisas são feitas 
+	 * no banco de dados.
+	 * 
+	 * @return Retorna <code>true</code> se foi aberto a conexão, 
+	 * se não retorna <code>false</code>.
+	 */
+	private static boolean prepararBancoDeDados() {
+		long inicio = System.nanoTime();
+		try{ DataBaseDAO.abrirConexao();
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return false;
+		}
+		registrarFase("Conexão com o banco de dados", inicio);
+		
+		registrarCarregamentoIndice(System.nanoTime(), IndiceClientes.getInstancia().carregar());
+		return true;
+	}
+	
+	/**
+	 * Registra a duração do carregamento do índice de clientes quando ele terminar. 
+	 * A espera é feita por uma thread daemon própria, da qual nenhuma outra fase 
+	 * da inicialização depende.
+	 * 
+	 * @param inicio		O instante, em nanossegundos, em que o carregamento começou.
+	 * @param carregamento	O carregamento do índice, ou <code>null</code> se ele já 
+	 * 						foi carregado.
+	 */
+	private static void registrarCarregamentoIndice(long inicio, Future<?> carregamento) {
+		if(carregamento == null) return;
+		
+		Thread thread = new Thread(() -> {
+			try {
+				carregamento.get();
+				registrarFase("Índice de clientes", inicio);
+			} catch (InterruptedException | ExecutionException e) {
+				e.printStackTrace();
+			}
+		}, "tempo-indice-clientes");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	/**
+	 * Escreve na saída de erro a duração de uma fase da inicialização e o 
+	 * tempo decorrido desde o início da aplicação.
+	 * 
+	 * @param fase		O nome da fase.
+	 * @param inicio	O instante, em nanossegundos, em que a fase começou.
+	 */
+	private static void registrarFase(String fase, long inicio) {
+		long agora = System.nanoTime();
+		System.err.printf("[inicialização] %-30s %6d ms (%d ms desde o início)%n", fase, 
+						  TimeUnit.NANOSECONDS.toMillis(agora - inicio), 
+						  TimeUnit.NANOSECONDS.toMillis(agora - inicioAplicacao));
+	}
+	
+	/**
+	 * Exporta os relatórios em PDF dos clientes sem abrir a interface gráfica. Os 
+	 * argumentos devem estar no formato:
+	 * 
+	 * <br><br><center><b>{@value #ARG_EXPORTAR_PDF} diretório dataInicial dataFinal [nome]</b></center><br><br>
+	 * 
+	 * As datas definem o período dos relatórios gráficos, no formato <b>DD/MM/AAAA</b>. 
+	 * Se o nome for informado, exporta apenas os clientes que contêm o trecho no nome. 
+	 * O progresso é escrito na saída padrão e os erros na saída de erro.
+	 * 
+	 * @param args Os argumentos de linha de comando.
+	 * 
+	 * @return Retorna o código de saída da aplicação: 0 se todos os relatórios foram 
+	 * exportados, 1 se algum relatório falhou e 2 se a exportação não pôde ser feita.
+	 */
+	public static int exportarPDFEmLote(String[] args) {
+		if(args.length < 4) {
+			System.err.println("Uso: "+ARG_EXPORTAR_PDF+" diretório dataInicial dataFinal [nome]");
+			return 2;
+		}
+		
+		Data dataInicial, dataFinal;
+		try {
+			dataInicial = Data.converterParaData(args[2]);
+			dataFinal = Data.converterParaData(args[3]);
+		} catch (DateTimeParseException e) {
+			System.err.println("Data inválida: "+e.getParsedString());
+			return 2;
+		}
+		
+		try{ DataBaseDAO.abrirConexao();
+		} catch (SQLException e) {
+			System.err.println("Ocorreu um erro ao conectar com o Banco de Dados: "+e.getMessage());
+			return 2;
+		}
+		
+		ExportacaoPDFEmLote exportacao = new ExportacaoPDFEmLote(new File(args[1]), dataInicial, dataFinal);
+		exportacao.setProgresso(new ProgressoExportacao() {
+			@Override
+			public void relatorioExportado(Cliente cliente, File arquivo, int concluidos, int total) {
+				System.out.printf("[%d/%d] %s%n", concluidos, total, arquivo.getName());
+			}
+			
+			@Override
+			public void falhaAoExportar(Cliente cliente, Exception erro, int concluidos, int total) {
+				System.err.printf("[%d/%d] Falha ao exportar %s: %s%n", concluidos, total, 
+								  cliente.getEmail(), erro.getMessage());
+			}
+		});
+		
+		String nome = (args.length > 4)? args[4].toLowerCase() : null;
+		Resultado resultado;
+		try {
+			resultado = exportacao.exportarTodos((nome == null)? null 
+									: cliente -> cliente.getNome().toLowerCase().contains(nome));
+		} catch (IOException e) {
+			System.err.println(e.getMessage());
+			return 2;
+		} finally {
+			try { DataBaseDAO.fecharConexao(); 
+			} catch (SQLException e) { e.printStackTrace(); }
+		}
+		
+		System.out.println(resultado);
+		resultado.getFalhas().forEach((email, erro) -> System.err.println(email+": "+erro));
+		return resultado.getFalhas().isEmpty()? 0 : 1;
+	}
+	
+	/**
+	 * Abre a conexão com o banco de dados da aplicação.
+	 * @return Retorna <code>true</code> se foi aberto a conexão, 
+	 * se não retorna <code>false</code>.
+	 */
+	public static boolean abrirConexaoBD() {
+		try{ DataBaseDAO.abrirConexao();
+		} catch (SQLException e) {
+			MensagemUsuario.msgErro("Ocorreu um erro ao conectar com o "
+					+ "Banco de Dados.\nContate o suporte técnico.");
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Fecha a conexão com o banco de dados da aplicação.
+	 * @return Retorna <code>true</code> se foi fechado a conexão, 
+	 * se não retorna <code>false</code>.
+	 */
+	public static boolean fecharConexaoBD() {
+		try { DataBaseDAO.fecharConexao();
+		} catch (SQLException e) {
+			MensagemUsuario.msgErro("Ocorreu um erro ao fechar a conexão "
+					+ "com o Banco de Dados.\nContate o suporte técnico.");
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Altera o look and feel da aplicação.
+	 * @return Retorna <code>true</code> se for alterado com sucesso,
+	 * se não retorna false. 
+	 */
+	public static boolean alterarLookAndFeel() {
+		try { UIManager.setLookAndFeel(new WindowsLookAndFeel());
+		} catch (UnsupportedLookAndFeelException e) {
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Trata o evento de fechar a janela principal da aplicação. 
+	 * Ao fechar a janela será feito o encerramento das conexões 
+	 * feitas pela aplicação. <br><br>
+	 * 
+	 * Todas as dependências que precisam ser encerradas 
+	 * ao término da aplicação devem ser implementadas 
+	 * neste método. Se o {@link MonitorEDT} estiver em execução,
+	 * escreve o seu relatório na saída de erro.
+	 *  
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private static class TratarEventoJanela extends WindowAdapter{
+		/** Latência mínima, em milissegundos, das ações listadas no relatório do monitor. */
+		private static final long LATENCIA_RELATORIO_MS = 50;
+
+		@Override
+		public void windowClosing(WindowEvent e) {
+			if(MonitorEDT.getInstancia().isIniciado())
+				System.err.print(MonitorEDT.getInstancia().gerarRelatorio(LATENCIA_RELATORIO_MS));
+			fecharConexaoBD();
+			System.exit(0);
+		}
+	}
+
+}
@@ -1,4 +1,4 @@
-/**
- * Mantm a classe principal para execuo da aplicao <i>Avaliao Fsica</i>. 
- */
+/**
+ * Mantém a classe principal para execução da aplicação <i>Avaliação Física</i>. 
+ */
 package gdrc.sports.app;
\ No newline at end of file
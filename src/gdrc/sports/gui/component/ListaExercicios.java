@@ -0,0 +1,237 @@
+package gdrc.sports.gui.component;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+import javax.swing.BorderFactory;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
+
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.time.Data;
+
+/**
+ * Um componente {@link JList} que exibe os exercícios de um cliente agrupados
+ * por data, com a data exibida antes dos exercícios realizados nela. <br><br>
+ *
+ * A lista não cria um componente para cada exercício. Todas as linhas são
+ * desenhadas pelo mesmo {@link Renderizador} e têm a mesma altura, portanto
+ * apenas as linhas visíveis são desenhadas, independente da quantidade de
+ * exercícios. Os exercícios podem ser inseridos aos poucos, à medida que são
+ * obtidos, através de {@link #adicionarExercicios(List)}.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class ListaExercicios extends JList<Object> {
+	private static final int ALTURA_LINHA = 40;
+
+	private Modelo modelo;
+	private int indiceSobMouse = -1;
+
+	/**
+	 * Cria a lista sem nenhum exercício.
+	 */
+	public ListaExercicios() {
+		modelo = new Modelo();
+		setModel(modelo);
+		setCellRenderer(new Renderizador());
+		setFixedCellHeight(ALTURA_LINHA);
+		/* As linhas ocupam toda a largura da lista. Fixar a largura evita que a
+		 * lista desenhe todas as linhas apenas para encontrar a mais larga. */
+		setFixedCellWidth(1);
+		setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+
+		// Destaca o exercício sob o mouse, indicando que ele é clicável.
+		MouseAdapter eventoMouse = new MouseAdapter() {
+			@Override
+			public void mouseMoved(MouseEvent e) {
+				alterarIndiceSobMouse(obterIndiceExercicio(e));
+			}
+
+			@Override
+			public void mouseExited(MouseEvent e) {
+				alterarIndiceSobMouse(-1);
+			}
+		};
+		addMouseListener(eventoMouse);
+		addMouseMotionListener(eventoMouse);
+	}
+
+	/**
+	 * Insere os exercícios passados por parâmetro na lista, mantendo a
+	 * lista ordenada por data e hora de início.
+	 *
+	 * @param exercicios Os exercícios a serem inseridos.
+	 */
+	public void adicionarExercicios(List<? extends Exercicio> exercicios) {
+		modelo.adicionarExercicios(exercicios);
+	}
+
+	/**
+	 * Obtém o exercício exibido na posição do evento de mouse passado por parâmetro.
+	 *
+	 * @param e O evento de mouse.
+	 *
+	 * @return Retorna o exercício ou <code>null</code> se não houver um exercício
+	 * na posição do evento.
+	 */
+	public Exercicio obterExercicio(MouseEvent e) {
+		int indice = obterIndiceExercicio(e);
+		return (indice == -1)? null : (Exercicio) modelo.getElementAt(indice);
+	}
+
+	/**
+	 * Obtém a quantidade de exercícios exibidos na lista, sem contar as datas.
+	 *
+	 * @return Retorna a quantidade de exercícios.
+	 */
+	public int getQuantidadeExercicios() {
+		return modelo.exercicios.size();
+	}
+
+	private int obterIndiceExercicio(MouseEvent e) {
+		int indice = locationToIndex(e.getPoint());
+		if(indice == -1 || !getCellBounds(indice, indice).contains(e.getPoint())) return -1;
+		return (modelo.getElementAt(indice) instanceof Exercicio)? indice : -1;
+	}
+
+	private void alterarIndiceSobMouse(int indice) {
+		if(indice == indiceSobMouse) return;
+
+		int indiceAnterior = indiceSobMouse;
+		indiceSobMouse = indice;
+		if(indiceAnterior != -1) repaint(getCellBounds(indiceAnterior, indiceAnterior));
+		if(indice != -1) repaint(getCellBounds(indice, indice));
+	}
+
+	/**
+	 * Modelo da lista, que mantém os exercícios ordenados e as linhas exibidas,
+	 * com uma linha para cada data seguida das linhas dos exercícios da data.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private static class Modelo extends AbstractListModel<Object> {
+		private List<Exercicio> exercicios = new ArrayList<>();
+		private List<Object> linhas = new ArrayList<>();
+
+		@Override
+		public int getSize() {
+			return linhas.size();
+		}
+
+		@Override
+		public Object getElementAt(int indice) {
+			return linhas.get(indice);
+		}
+
+		/**
+		 * Insere os exercícios ao final da lista, notificando apenas as novas linhas.
+		 * Se algum exercício for anterior ao último exercício da lista, todas as
+		 * linhas são montadas novamente para manter a ordem.
+		 */
+		private void adicionarExercicios(List<? extends Exercicio> novosExercicios) {
+			if(novosExercicios == null || novosExercicios.isEmpty()) return;
+
+			List<Exercicio> ordenados = new ArrayList<>(novosExercicios);
+			Collections.sort(ordenados);
+
+			if(!exercicios.isEmpty() && ordenados.get(0).compareTo(exercicios.get(exercicios.size()-1)) < 0) {
+				exercicios.addAll(ordenados);
+				Collections.sort(exercicios);
+
+				int tamanhoAnterior = linhas.size();
+				linhas.clear();
+				adicionarLinhas(exercicios, null);
+				if(tamanhoAnterior > 0) fireIntervalRemoved(this, 0, tamanhoAnterior-1);
+				fireIntervalAdded(this, 0, linhas.size()-1);
+				return;
+			}
+
+			Exercicio ultimo = exercicios.isEmpty()? null : exercicios.get(exercicios.size()-1);
+			exercicios.addAll(ordenados);
+
+			int inicio = linhas.size();
+			adicionarLinhas(ordenados, ultimo);
+			fireIntervalAdded(this, inicio, linhas.size()-1);
+		}
+
+		/**
+		 * Insere as linhas dos exercícios, inserindo a data antes do primeiro
+		 * exercício de cada data.
+		 */
+		private void adicionarLinhas(List<Exercicio> exerciciosOrdenados, Exercicio anterior) {
+			for(Exercicio exercicio : exerciciosOrdenados) {
+				if(anterior == null || !exercicio.getData().getData().equals(anterior.getData().getData()))
+					linhas.add(exercicio.getData());
+				linhas.add(exercicio);
+				anterior = exercicio;
+			}
+		}
+	}
+
+	/**
+	 * Desenha as linhas da lista. O mesmo painel é utilizado para desenhar
+	 * todas as linhas, alterando apenas o texto e as cores de cada linha.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private class Renderizador implements ListCellRenderer<Object> {
+		private final Font FONTE = new Font(Font.MONOSPACED, Font.BOLD, 15);
+
+		private JPanel painel;
+		private JLabel labelData, labelExercicio, labelHorario;
+		private JPanel painelExercicio;
+
+		private Renderizador() {
+			labelData = new JLabel();
+			labelData.setHorizontalAlignment(JLabel.CENTER);
+			labelData.setFont(FONTE);
+			labelData.setForeground(Color.BLUE);
+
+			labelExercicio = new JLabel();
+			labelExercicio.setFont(FONTE);
+			labelHorario = new JLabel();
+			labelHorario.setFont(FONTE);
+
+			painelExercicio = new JPanel(new BorderLayout());
+			painelExercicio.setOpaque(false);
+			painelExercicio.setBorder(BorderFactory.createEmptyBorder(2, 8, 2, 8));
+			painelExercicio.add(labelExercicio, BorderLayout.NORTH);
+			painelExercicio.add(labelHorario, BorderLayout.SOUTH);
+
+			painel = new JPanel(new BorderLayout());
+		}
+
+		@Override
+		public Component getListCellRendererComponent(JList<? extends Object> lista, Object valor, int indice,
+													  boolean selecionado, boolean focado) {
+			painel.removeAll();
+
+			if(valor instanceof Data) {
+				labelData.setText(valor.toString());
+				painel.setBackground(lista.getBackground());
+				painel.add(labelData, BorderLayout.CENTER);
+				return painel;
+			}
+
+			Exercicio exercicio = (Exercicio) valor;
+			labelExercicio.setText(exercicio.getExercicio());
+			labelHorario.setText(String.format("%s - %s", exercicio.getTempo().getHoraInicio(),
+											   exercicio.getTempo().getHoraFim()));
+			painel.setBackground((indice == indiceSobMouse)? Color.LIGHT_GRAY : Color.WHITE);
+			painel.add(painelExercicio, BorderLayout.CENTER);
+			return painel;
+		}
+	}
+}
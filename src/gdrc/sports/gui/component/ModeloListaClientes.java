@@ -0,0 +1,185 @@
+package gdrc.sports.gui.component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ListModel;
+import javax.swing.SwingUtilities;
+
+import gdrc.sports.tipo.Cliente;
+
+/**
+ * Um {@link ListModel} de clientes que pode ser utilizado diretamente por um
+ * componente {@link javax.swing.JList}, sem copiar os clientes para outro modelo.<br><br>
+ *
+ * Os clientes podem já estar em memória, como o resultado de uma pesquisa, ou ser
+ * obtidos por páginas através de uma {@link FonteClientes}. No segundo caso o modelo
+ * conhece apenas a quantidade de clientes e obtém em segundo plano a página de cada
+ * cliente solicitado pela lista, ou seja, apenas as páginas das linhas visíveis.
+ * Enquanto a página não é obtida o cliente é <code>null</code>, e ao obtê-la as
+ * linhas da página são atualizadas. O modelo mantém apenas as últimas páginas
+ * utilizadas, portanto a memória utilizada não depende da quantidade de clientes.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class ModeloListaClientes extends AbstractListModel<Cliente> {
+	private static final long serialVersionUID = 1L;
+
+	/** Quantidade de clientes obtidos em cada página. */
+	public static final int TAMANHO_PAGINA = 50;
+	/** Quantidade máxima de páginas mantidas pelo modelo. */
+	public static final int MAXIMO_PAGINAS = 10;
+
+	/** Thread que obtém as páginas de clientes. É uma thread daemon, portanto
+	 * não impede que a aplicação seja encerrada. */
+	private static final ExecutorService CARREGADOR_PAGINAS = Executors.newSingleThreadExecutor((Runnable tarefa) -> {
+		Thread thread = new Thread(tarefa, "carregador-clientes");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final int quantidade;
+	private final List<Cliente> clientes;
+	private final FonteClientes fonte;
+
+	private final Map<Integer, List<Cliente>> paginas;
+	private final Set<Integer> paginasSolicitadas = new HashSet<>();
+	private volatile int ultimaPaginaUtilizada;
+	private volatile boolean descartado;
+
+	/**
+	 * Construtor que instancia o modelo com os clientes em memória passados por parâmetro.
+	 *
+	 * @param clientes	Os clientes exibidos, na ordem da lista.
+	 */
+	public ModeloListaClientes(List<Cliente> clientes) {
+		this.clientes = clientes;
+		this.quantidade = clientes.size();
+		this.fonte = null;
+		this.paginas = null;
+	}
+
+	/**
+	 * Construtor que instancia o modelo com a quantidade de clientes passada por
+	 * parâmetro, que são obtidos por páginas através da fonte à medida que são exibidos.
+	 *
+	 * @param fonte			A fonte das páginas de clientes.
+	 * @param quantidade	A quantidade total de clientes.
+	 */
+	public ModeloListaClientes(FonteClientes fonte, int quantidade) {
+		this.clientes = null;
+		this.quantidade = quantidade;
+		this.fonte = fonte;
+		// O último parâmetro ordena as páginas pelo acesso, descartando a menos usada.
+		this.paginas = new LinkedHashMap<Integer, List<Cliente>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, List<Cliente>> maisAntiga) {
+				return size() > MAXIMO_PAGINAS;
+			}
+		};
+	}
+
+	@Override
+	public int getSize() {
+		return quantidade;
+	}
+
+	/**
+	 * Obtém o cliente da posição passada por parâmetro. Se o cliente ainda não foi
+	 * obtido, solicita a sua página e retorna <code>null</code>. Deve ser chamado
+	 * pela thread de eventos do Swing.
+	 */
+	@Override
+	public Cliente getElementAt(int indice) {
+		if(clientes != null) return clientes.get(indice);
+
+		int pagina = indice / TAMANHO_PAGINA;
+		ultimaPaginaUtilizada = pagina;
+
+		List<Cliente> clientesPagina = paginas.get(pagina);
+		if(clientesPagina == null) {
+			solicitarPagina(pagina);
+			return null;
+		}
+
+		int posicao = indice % TAMANHO_PAGINA;
+		return (posicao < clientesPagina.size())? clientesPagina.get(posicao) : null;
+	}
+
+	/**
+	 * Interrompe a obtenção das páginas que ainda não foram obtidas. Deve ser
+	 * chamado quando o modelo deixa de ser exibido.
+	 */
+	public void descartar() {
+		descartado = true;
+	}
+
+	/**
+	 * Obtém a quantidade de páginas de clientes mantidas pelo modelo.
+	 *
+	 * @return Retorna a quantidade de páginas ou zero se os clientes estão em memória.
+	 */
+	public int getQuantidadePaginas() {
+		return (paginas == null)? 0 : paginas.size();
+	}
+
+	/**
+	 * Obtém a página em segundo plano, caso ela ainda não tenha sido solicitada.
+	 * Uma página que deixou de ser exibida antes de ser obtida é ignorada, assim
+	 * rolar a lista rapidamente não acumula consultas das páginas intermediárias.
+	 */
+	private void solicitarPagina(int pagina) {
+		if(!paginasSolicitadas.add(pagina)) return;
+
+		CARREGADOR_PAGINAS.execute(() -> {
+			List<Cliente> clientesPagina = null;
+			if(!descartado && Math.abs(pagina - ultimaPaginaUtilizada) < MAXIMO_PAGINAS / 2)
+				clientesPagina = fonte.obterPagina(pagina * TAMANHO_PAGINA, TAMANHO_PAGINA);
+
+			List<Cliente> resultado = clientesPagina;
+			SwingUtilities.invokeLater(() -> receberPagina(pagina, resultado));
+		});
+	}
+
+	/**
+	 * Guarda a página obtida e atualiza as suas linhas. Se a página não foi obtida
+	 * ela pode ser solicitada novamente quando voltar a ser exibida.
+	 */
+	private void receberPagina(int pagina, List<Cliente> clientesPagina) {
+		paginasSolicitadas.remove(pagina);
+		if(clientesPagina == null || descartado) return;
+
+		paginas.put(pagina, clientesPagina);
+		int inicio = pagina * TAMANHO_PAGINA;
+		int fim = Math.min(inicio + TAMANHO_PAGINA, quantidade) - 1;
+		if(fim >= inicio) fireContentsChanged(this, inicio, fim);
+	}
+
+	/**
+	 * Interface que representa a origem das páginas de clientes do modelo.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	@FunctionalInterface
+	public static interface FonteClientes {
+
+		/**
+		 * Obtém os clientes de uma página. É chamado em segundo plano.
+		 *
+		 * @param inicio		A posição do primeiro cliente da página.
+		 * @param quantidade	A quantidade máxima de clientes da página.
+		 *
+		 * @return Retorna os clientes da página ou <code>null</code> caso ocorra
+		 * um erro ao obtê-los.
+		 */
+		public List<Cliente> obterPagina(int inicio, int quantidade);
+	}
+}
@@ -1,5 +1,5 @@
-/**
- * Mantm as classes que criam componentes padronizados que podem ser 
- * utilizados em qualquer janela da aplicao. 
- */
+/**
+ * Mantém as classes que criam componentes padronizados que podem ser 
+ * utilizados em qualquer janela da aplicação. 
+ */
 package gdrc.sports.gui.component;
\ No newline at end of file
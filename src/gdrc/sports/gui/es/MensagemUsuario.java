@@ -1,59 +1,76 @@
-package gdrc.sports.gui.es;
-
-import static gdrc.sports.util.propriedades.Propriedade.NOME_PROGRAMA;
-import static javax.swing.JOptionPane.*;
-
-/**
- * Contm mtodos para exibir janelas informativas para o usurio.
- * Pode ser utilizada para exibir ao usurio mensagens de 
- * ERRO, INFORMATIVA, ou de CONFIRMAO, em que usurio tem que 
- * confirmar ou no o que for exibido na mensagem.  
- * 
- * @author Guilherme Domith Ribeiro Coelho
- */
-public class MensagemUsuario {
-	
-	/**
-	 * Exibe uma caixa de dilogo com a mensagem passada parmetro 
-	 * informando um ERRO ao usurio. 
-	 * 
-	 * @param mensagem O objeto ou mensagem que ser exibido na 
-	 * caixa de dilogo.
-	 */
-	public static void msgErro(Object mensagem) {
-		showMessageDialog(null, mensagem, NOME_PROGRAMA, ERROR_MESSAGE);
-	}
-	
-	/**
-	 * Exibe uma caixa de dilogo com a mensagem passada parmetro 
-	 * apenas como um contedo INFORMATIVO para usurio. 
-	 * 
-	 * @param mensagem O objeto ou mensagem que ser exibido na 
-	 * caixa de dilogo.
-	 */
-	public static void msgInfo(Object mensagem) {
-		showMessageDialog(null, mensagem, NOME_PROGRAMA, INFORMATION_MESSAGE);
-	}
-	
-	/**
-	 * Exibe uma caixa de dilogo com a mensagem passada parmetro 
-	 * solicitando uma CONFIRMAO do que a mensagem prope.
-	 * A confirmao pelo usurio  feita selecionando SIM, NO ou
-	 * CANCELAR. 
-	 * 
-	 * @param mensagem O objeto ou mensagem que ser exibido na 
-	 * caixa de dilogo.
-	 * 
-	 * @return Retorna <code>true</code> se o usurio confirmar a 
-	 * mensagem com SIM. Retorna <code>false</code> se o usurio 
-	 * selecionou NO. E caso selecionou CANCELAR, retorna 
-	 * <code>null</code>.  
-	 */
-	public static Boolean msgConfirma(String mensagem) {
-		int opcao = showConfirmDialog(null, mensagem, NOME_PROGRAMA, YES_NO_OPTION);
-		if(opcao == YES_OPTION) return true;
-		else if(opcao == NO_OPTION) return false;
-		else return null;
-	}
-	
-}
+package gdrc.sports.gui.es;
+
+import static gdrc.sports.util.propriedades.Propriedade.NOME_PROGRAMA;
+import static javax.swing.JOptionPane.*;
+
+/**
+ * Contém métodos para exibir janelas informativas para o usuário.
+ * Pode ser utilizada para exibir ao usuário mensagens de 
+ * ERRO, INFORMATIVA, ou de CONFIRMAÇÃO, em que usuário tem que 
+ * confirmar ou não o que for exibido na mensagem.  
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class MensagemUsuario {
+	
+	/**
+	 * Exibe uma caixa de diálogo com a mensagem passada parâmetro 
+	 * informando um ERRO ao usuário. 
+	 * 
+	 * @param mensagem O objeto ou mensagem que será exibido na 
+	 * caixa de diálogo.
+	 */
+	public static void msgErro(Object mensagem) {
+		showMessageDialog(null, mensagem, NOME_PROGRAMA, ERROR_MESSAGE);
+	}
+	
+	/**
+	 * Exibe uma caixa de diálogo com a mensagem passada parâmetro 
+	 * apenas como um conteúdo INFORMATIVO para usuário. 
+	 * 
+	 * @param mensagem O objeto ou mensagem que será exibido na 
+	 * caixa de diálogo.
+	 */
+	public static void msgInfo(Object mensagem) {
+		showMessageDialog(null, mensagem, NOME_PROGRAMA, INFORMATION_MESSAGE);
+	}
+	
+	/**
+	 * Exibe uma caixa de diálogo com a mensagem passada parâmetro 
+	 * solicitando uma CONFIRMAÇÂO do que a mensagem propõe.
+	 * A confirmação pelo usuário é feita selecionando SIM, NÃO ou
+	 * CANCELAR. 
+	 * 
+	 * @param mensagem O objeto ou mensagem que será exibido na 
+	 * caixa de diálogo.
+	 * 
+	 * @return Retorna <code>true</code> se o usuário confirmar a 
+	 * mensagem com SIM. Retorna <code>false</code> se o usuário 
+	 * selecionou NÃO. E caso selecionou CANCELAR, retorna 
+	 * <code>null</code>.  
+	 */
+	public static Boolean msgConfirma(String mensagem) {
+		int opcao = showConfirmDialog(null, mensagem, NOME_PROGRAMA, YES_NO_OPTION);
+		if(opcao == YES_OPTION) return true;
+		else if(opcao == NO_OPTION) return false;
+		else return null;
+	}
+
+	/**
+	 * Exibe uma caixa de diálogo com a mensagem passada parâmetro
+	 * solicitando que o usuário escolha uma das opções fornecidas,
+	 * exibidas como botões na ordem em que foram passadas.
+	 *
+	 * @param mensagem O objeto ou mensagem que será exibido na
+	 * caixa de diálogo.
+	 * @param opcoes Os textos das opções.
+	 *
+	 * @return Retorna a posição da opção escolhida. Caso o usuário
+	 * feche a caixa de diálogo sem escolher, retorna -1.
+	 */
+	public static int msgOpcoes(String mensagem, String... opcoes) {
+		return showOptionDialog(null, mensagem, NOME_PROGRAMA, DEFAULT_OPTION,
+								QUESTION_MESSAGE, null, opcoes, opcoes[0]);
+	}
+
+}
@@ -1,6 +1,6 @@
-/**
- * Mantm as classe que so utilizadas para fazer uma entrada e sada 
- * do usurio como mensagens informativas ou mensagens que necessitam de 
- * uma entrada do usurio como uma confirmao ou um outro dado. 
- */
+/**
+ * Mantém as classe que são utilizadas para fazer uma entrada e saída 
+ * do usuário como mensagens informativas ou mensagens que necessitam de 
+ * uma entrada do usuário como uma confirmação ou um outro dado. 
+ */
 package gdrc.sports.gui.es;
\ No newline at end of file
@@ -1,4 +1,4 @@
-/**
- * Mantm as os cones utilizados pela aplicao. 
- */
+/**
+ * Mantém as os ícones utilizados pela aplicação. 
+ */
 package gdrc.sports.gui.img.icone;
\ No newline at end of file
@@ -1,407 +1,532 @@
-package gdrc.sports.gui.janela;
-
-import java.awt.BorderLayout;
-import java.awt.Color;
-import java.awt.Component;
-import java.awt.FlowLayout;
-import java.awt.event.ActionEvent;
-import java.io.File;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-
-import javax.swing.JButton;
-import javax.swing.JDialog;
-import javax.swing.JFileChooser;
-import javax.swing.JLabel;
-import javax.swing.JPanel;
-import javax.swing.JScrollPane;
-import javax.swing.JTable;
-import javax.swing.border.EmptyBorder;
-import javax.swing.border.TitledBorder;
-import javax.swing.filechooser.FileNameExtensionFilter;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableColumn;
-
-import gdrc.sports.gui.es.MensagemUsuario;
-import gdrc.sports.io.arquivo.EscanerDeArquivo;
-import gdrc.sports.tipo.Cliente;
-import gdrc.sports.tipo.Exercicio;
-import gdrc.sports.tipo.exception.IdentificadorInvalidoException;
-import gdrc.sports.util.controle.ControleDeClientes;
-import gdrc.sports.util.controle.ControleDeExercicios;
-import gdrc.sports.util.propriedades.Propriedade;
-
-/**
- * Cria e exibe a janela que permite que o usurio selecione os 
- * documentos que contm os exerccios a serem importados.<br><br>
- * 
- * Ao fim da importao de todos os documentos exibe uma janela
- * que informa o status de cada documento, se ele foi importado
- * com sucesso ou no, e por qual motivo caso ocorra alguma falha.
- * 
- * @author Guilherme Domith Ribeiro Coelho
- *
- */
-public class IgImportarDocumento extends JDialog {
-
-	private final JPanel contentPanel = new JPanel();
-	private ControleDeExercicios controleDeExercicios;
-	private ControleDeClientes controleDeClientes;
-	
-	private PainelDocumentos painelDocsNaoImportados, painelDocsImportados;
-	private Exercicio exercicioExcluirDoBD;
-	
-	/**
-	 * Construtor default que instancia o objeto da classe e 
-	 * exibe a janela que permite importar os documentos.
-	 * 
-	 * @param location O Componente utilizado para posicionar a janela.
-	 */
-	public IgImportarDocumento(Component location) {
-		controleDeClientes = new ControleDeClientes();
-		controleDeExercicios = new ControleDeExercicios();
-		
-		// Configuraes da janela.
-		setBounds(100, 100, 565, 580);
-		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
-		getContentPane().setLayout(new BorderLayout());
-		setLocationRelativeTo(location);
-		setTitle("Importar Exerccio Fsico");
-		setIconImage(Propriedade.ICONE_APLICACAO);
-		
-		// Configuraes do painel principal da janela.
-		contentPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
-		contentPanel.setLayout(null);
-		getContentPane().add(contentPanel, BorderLayout.CENTER);
-		
-		// Painel que exibe os documentos que foram importados com sucesso.
-		painelDocsImportados = new PainelDocumentos("DOCUMENTOS IMPORTADOS", new Color(0, 100, 0));
-		painelDocsImportados.setBounds(10, 11, 530, 240);
-		contentPanel.add(painelDocsImportados);
-		
-		// Painel que exibe os documentos que falharam ao serem importados.
-		painelDocsNaoImportados = new PainelDocumentos("DOCUMENTOS NO IMPORTADOS", new Color(255, 0, 0));
-		painelDocsNaoImportados.setBounds(10, 270, 530, 240);
-		contentPanel.add(painelDocsNaoImportados);
-		
-		//Painel de botes.
-		JPanel buttonPane = new JPanel();
-		buttonPane.setLayout(new FlowLayout(FlowLayout.RIGHT));
-		getContentPane().add(buttonPane, BorderLayout.SOUTH);
-
-		JButton fecharButton = new JButton(" Fechar ");
-		buttonPane.add(fecharButton);
-		fecharButton.addActionListener((ActionEvent e) ->{
-			this.dispose();
-		});
-		getRootPane().setDefaultButton(fecharButton);
-		
-		if(!importarDocumentos()){ 
-			dispose();
-			return;
-		}
-			
-		setModal(true);
-		setResizable(false);
-		setVisible(true);
-	}
-	
-	private boolean importarDocumentos() {
-		// Obtm os documentos a serem importados.
-		File[] documentos = selecionarArquivosImportar();
-		if(documentos == null) {
-			this.dispose();
-			return false;
-		}
-		
-		// Faz a leitura dos documentos e obtm o status de cada um ao importar.
-		Map<String, List<File>> documentosStatus = escanearDocumentos(documentos);
-		if(documentosStatus.size() == 0) {
-			this.dispose();
-			return false;
-		}
-	
-		exibirDocumentosStatus(documentosStatus);
-		return true;
-	}
-
-	/**
-	 * Exibe os documentos agrupados pelo status que so passados 
-	 * por parmetro. O documento junto do seu status de importao 
-	 * ser exibido nos paineis da janela, separando os que foram 
-	 * importados com sucesso e os que no foram.
-	 *  
-	 * @param documentosStatus O objeto que agrupa pelo status os documentos  
-	 * importados com sucesso ou no.
-	 */
-	private void exibirDocumentosStatus(Map<String, List<File>> documentosStatus) {
-		
-		JTable tabela = criarTabelaDocumentoStatus(documentosStatus, StatusImportacao.SALVO.getStatus());
-		if(tabela != null) painelDocsImportados.setTableDocumentos(tabela);
-		
-		documentosStatus.remove(StatusImportacao.SALVO.getStatus());
-		if(documentosStatus.size() == 0) return;
-		
-		tabela = criarTabelaDocumentoStatus(documentosStatus, null);
-		if(tabela != null) painelDocsNaoImportados.setTableDocumentos(tabela);
-		
-	}
-	
-	/**
-	 * Cria uma tabela com a uma coluna para o nome do arquivo e a outra para o 
-	 * status do arquivo ao ser importado. Se o parametro statusExibir for fornecido 
-	 * <code>null</code> ir adicionar na tabela todos os arquivos com todos os status, 
-	 * se no, ser adicionado apenas os arquivos com o status que foi fernecido no 
-	 * parametro.
-	 * 
-	 * @param documentosStatus O objeto {@link Map} que tem o conjunto de arquivos 
-	 * associado a cada status.
-	 * @param status O status que indica qual arquivo ser adicionado na tabela. 
-	 * Pode ser <code>null</code>
-	 * 
-	 * @return Retorna a tabela com o nome de cada arquivo associado ao seu status.
-	 */
-	private JTable criarTabelaDocumentoStatus(Map<String, List<File>> documentosStatus, String status) {
-		
-		if(status != null && !documentosStatus.containsKey(status)) 
-			return null;
-		
-		/* Obtm os status a serem adicionados na tabela, se no foi fornecido
-		 * nenhum status no parmetro obtm todos os status (chaves do map).
-		 */
-		Set<String> chavesStatus = (status == null)? documentosStatus.keySet() : 
-													 Collections.singleton(status);
-		
-		DefaultTableModel tableModel = new DefaultTableModel();
-		tableModel.addColumn("Arquivo");
-		tableModel.addColumn("Status");
-		for(String chave : chavesStatus)
-			for(File file : documentosStatus.get(chave))
-				tableModel.addRow(new Object[] {file.getName(), chave});
-		
-		
-		return new JTable(tableModel);
-	}
-
-	/**
-	 * Escaneia todos os documentos passados por parmetro para que seja
-	 * extrado o exerccio e o usurio. <br><br>
-	 * 
-	 * Cada documento primeiramente ser escaneado parcialmente para que 
-	 * a verificao das chaves primarias sejam buscadas no banco de dados,
-	 * a fim de verificar se o documento j foi importado anteriormente.
-	 * Caso j tenha sido gravado ir questionar ao usurio se deseja 
-	 * sobrescrev-lo. <br><br>
-	 * 
-	 * Ento aps feita a verificao a leitura total do documento ser 
-	 * feita e ir salvar os dados no banco. O usurio ser salvo apenas se 
-	 * no existir no Banco de dados. Na importao de cada documento ser 
-	 * gerada uma mensagem de status indicando o sucesso ou falha caso ocorra.    
-	 *  
-	 * @param documentos Os documentos  serem importados.
-	 * 
-	 * @return Retorna o conjunto de arquivos importados agrupados pelo
-	 * status, uma {@link String} que  a chave do {@link Map} retornado.
-	 */
-	private Map<String, List<File>> escanearDocumentos(File documentos[]) {
-		EscanerDeArquivo escaner = new EscanerDeArquivo();
-		Map<String, List<File>> documentosStatus = new HashMap<>();
-		String status;
-		
-		for(File file : documentos) {
-			try {
-				// Escaneia parcialmente para verificar se o exerccio j existe no BD.
-				Exercicio exercicio = escaner.escanearArquivoParcialmente(file);
-				
-				if(!confirmarSobreescreverExercicioSeExistir(exercicio, file.getName()))
-					status = StatusImportacao.JA_IMPORTADO.getStatus();
-				else {
-					// Faz a leitura completa do exerccio para enfim gravar no BD.
-					exercicio = escaner.escanearArquivo(file);
-					boolean clienteSalvo = salvarClienteNoBD(exercicio.getCliente());
-
-					if(clienteSalvo) {
-						boolean salvarExercicio = true;
-						// Verifica se tem exercicio a excluir antes de salvar.
-						if(exercicioExcluirDoBD != null) 
-							salvarExercicio = controleDeExercicios.deletarExercicio(exercicioExcluirDoBD);
-						
-						if(salvarExercicio && controleDeExercicios.salvarExercicio(exercicio)) 
-							 status = StatusImportacao.SALVO.getStatus();
-						else status = StatusImportacao.FALHA_BD_EXERCICIO.getStatus();
-					}else status = StatusImportacao.FALHA_BD_CLIENTE.getStatus();
-				}
-				
-			}catch (IdentificadorInvalidoException identificadorException) {
-				status = identificadorException.getMessage();
-			}catch (IOException exception) {
-				status = StatusImportacao.FALHA_ARQUIVO.getStatus();
-			}
-			
-			// Adiciona um List vazio se o status ainda nao existe no map. 
-			if(!documentosStatus.containsKey(status))
-				documentosStatus.put(status, new ArrayList<>());
-			
-			documentosStatus.get(status).add(file);
-			exercicioExcluirDoBD = null;
-		}
-		
-		return documentosStatus;
-	}
-
-	/**
-	 * Salva o cliente se ele ainda no existe na base de dados. 
-	 * 
-	 * @param cliente O cliente a ser salvo
-	 * @return Retorna <code>true</code> se o cliente j estava salvo ou foi salvo corretamente,
-	 * se no retorna <code>false</code>
-	 */
-	private boolean salvarClienteNoBD(Cliente cliente) {
-		// Verifica se o cliente j existe no BD.
-		Cliente clienteBusca = controleDeClientes.buscarClientePorEmail(cliente.getEmail());
-
-		if(clienteBusca != null) return true;
-		return controleDeClientes.salvarCliente(cliente);
-	}
-
-	/**
-	 * Confirma se o exerccio passado por parmetro pode ou no ser gravado 
-	 * no banco de dados. Para isso, primeiro verifica se j existe cadastrado.
-	 * Se sim, solicita ao usurio que confirme sobrescrev-lo. Se no, indica
-	 * que o exerccio pode ser gravado, neste caso retorna <code>true</code>.
-	 * 
-	 * @param exercicio O exerccio a ser confirmado sua possvel gravao no 
-	 * banco de dados.
-	 * @param fileName O nome do arquivo em que o exerccio foi extrado. 
-	 * 
-	 * @return Retorna <code>true</code> se o exerccio pode ser gravado, 
-	 * se no, retorna <code>false</code>.
-	 */
-	private boolean confirmarSobreescreverExercicioSeExistir(Exercicio exercicio, String fileName) {
-		List<Exercicio> exercicios = controleDeExercicios.listarExerciciosComChaves(
-												exercicio.getCliente().getEmail(),
-												exercicio.getData(), 
-												exercicio.getTempo().getHoraInicio(),
-												exercicio.getTempo().getHoraFim());
-
-		if(exercicios.size() == 0) return true;
-		
-		String msg = String.format("O exerccio do arquivo '%s' j foi \n"
-				+ "importado anteriormente, deseja sobrescreve-lo?", fileName);
-		Boolean confirmaSobrescrever = MensagemUsuario.msgConfirma(msg);
-		if(confirmaSobrescrever == null || !confirmaSobrescrever) return false;
-		
-		/* Como a busca foi feita com as 4 chaves primarias ter apenas 
-		 * um exerccio na lista de exerccios. */
-		exercicioExcluirDoBD = exercicios.get(0);
-		
-		return true;
-	}
-
-	/**
-	 * Exibe a janela que permite ao usurio escolher um ou vrios
-	 * arquivos a partir do sistema de arquivos do sistema operacional.
-	 * 
-	 * Os arquivos permitidos so apenas arquivos com a exteno 'txt'.
-	 * 
-	 * @return Retorna o conjunto de arquivos selecionados pelo usurio.
-	 */
-	public File[] selecionarArquivosImportar() {
-		JFileChooser fileChooser = new JFileChooser();
-		fileChooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
-		
-		fileChooser.setFileFilter(new FileNameExtensionFilter("*.txt", "txt"));
-		fileChooser.setMultiSelectionEnabled(true);
-		if(fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION)
-			return fileChooser.getSelectedFiles();
-		
-		return null;
-	}
-	
-	/**
-	 * Classe que cria o painel contendo uma tabela para que seja
-	 * exibido cada documento com o seu status gerado na importao.
-	 * 
-	 * @author Guilherme Domith Ribeiro Coelho
-	 */
-	private class PainelDocumentos extends JPanel{
-		private JTable tableDocumentos;
-		private JScrollPane scrollPane;
-		
-		/**
-		 * Construtor sobrecarregado que permite criar o painel 
-		 * com o ttulo na cor que passado por parmeto.
-		 * 
-		 * @param titulo O ttulo a ser exibido na parte de cima do painel.
-		 * @param corTitulo A cor que ser aplicada ao ttulo. 
-		 */
-		public PainelDocumentos(String titulo, Color corTitulo) {
-			TitledBorder titledBorder = new TitledBorder(titulo);
-			titledBorder.setTitleJustification(TitledBorder.CENTER);
-			titledBorder.setTitleColor(corTitulo);
-			setBorder(titledBorder);
-			setLayout(new BorderLayout());
-			
-			tableDocumentos = new JTable();
-			scrollPane = new JScrollPane(tableDocumentos);
-			add(scrollPane, BorderLayout.CENTER);
-			
-			JLabel documentosLabel = new JLabel("Nenhum Documento");
-			documentosLabel.setSize(200, 30);
-			documentosLabel.setHorizontalAlignment(JLabel.CENTER);
-			scrollPane.setViewportView(documentosLabel);
-		}
-
-		/**
-		 * Insere e configura a tabela de status dos documentos no painel.
-		 * 
-		 * @param tableDocumentos O componente contendo o documento 
-		 * associado a sua mensagem de status gerado na importao.
-		 */
-		public void setTableDocumentos(JTable tableDocumentos) {
-			this.tableDocumentos = tableDocumentos;
-			
-			TableColumn coluna = this.tableDocumentos.getColumnModel().getColumn(0);
-			if(coluna != null) coluna.setMinWidth(200);
-			
-			coluna = this.tableDocumentos.getColumnModel().getColumn(1);
-			if(coluna != null) coluna.setMinWidth(400);
-			
-			this.scrollPane.setViewportView(this.tableDocumentos);
-		}
-		
-	}
-	
-	/**
-	 * Rotula os principais erros que podem ocorrer ao importar 
-	 * um documento de exerccio fsico.
-	 * 
-	 * @author Guilherme Domith Ribeiro Coelho
-	 */
-	private enum StatusImportacao{
-		SALVO("Salvo com sucesso."),
-		JA_IMPORTADO("Documento j importado anteriormente."),
-		FALHA_BD_CLIENTE("Falha no banco de dados ao salvar Usurio."),
-		FALHA_ARQUIVO("Erro ao abrir o arquivo"),
-		FALHA_BD_EXERCICIO("Falha no banco de dados ao salvar Exerccio."), 
-		IDENTIFICADOR_INVALIDO("Identificador Invlido");
-		
-		private String status;
-
-		private StatusImportacao(String status) {
-			this.status = status;
-		}
-
-		public String getStatus() {
-			return status;
-		}
-
-	}
-	
-	
-}
+package gdrc.sports.gui.janela;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.event.ActionEvent;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.border.EmptyBorder;
+import javax.swing.border.TitledBorder;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableColumn;
+
+import gdrc.sports.gui.es.MensagemUsuario;
+import gdrc.sports.io.arquivo.EscanerDeArquivo;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.exception.IdentificadorInvalidoException;
+import gdrc.sports.util.controle.ControleDeClientes;
+import gdrc.sports.util.controle.ControleDeExercicios;
+import gdrc.sports.util.propriedades.CacheIcones;
+
+/**
+ * Cria e exibe a janela que permite que o usuário selecione os 
+ * documentos que contêm os exercícios a serem importados.<br><br>
+ * 
+ * Os documentos são importados em segundo plano por uma
+ * {@link ImportacaoDocumentos}, e a janela exibe o status de cada
+ * documento assim que ele é importado, se ele foi importado com
+ * sucesso ou não, e por qual motivo caso ocorra alguma falha. A janela
+ * também exibe o progresso da importação e permite cancelá-la.<br><br>
+ *
+ * Ao importar vários documentos, o usuário escolhe antes de iniciar a
+ * importação o que deve ser feito com os documentos que já foram
+ * importados anteriormente, através de uma {@link PoliticaDuplicados}.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ *
+ */
+public class IgImportarDocumento extends JDialog {
+
+	private final JPanel contentPanel = new JPanel();
+	private ControleDeExercicios controleDeExercicios;
+	private ControleDeClientes controleDeClientes;
+	
+	private PainelDocumentos painelDocsNaoImportados, painelDocsImportados;
+	private JProgressBar barraProgresso;
+	private JLabel labelProgresso;
+	private JButton cancelarButton;
+	private ImportacaoDocumentos importacao;
+	
+	/**
+	 * Construtor default que instancia o objeto da classe e 
+	 * exibe a janela que permite importar os documentos.
+	 * 
+	 * @param location O Componente utilizado para posicionar a janela.
+	 */
+	public IgImportarDocumento(Component location) {
+		controleDeClientes = new ControleDeClientes();
+		controleDeExercicios = new ControleDeExercicios();
+		
+		// Configurações da janela.
+		setBounds(100, 100, 565, 580);
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		getContentPane().setLayout(new BorderLayout());
+		setLocationRelativeTo(location);
+		setTitle("Importar Exercício Físico");
+		setIconImage(CacheIcones.obterIconeAplicacao());
+		
+		// Configurações do painel principal da janela.
+		contentPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
+		contentPanel.setLayout(null);
+		getContentPane().add(contentPanel, BorderLayout.CENTER);
+		
+		// Painel que exibe os documentos que foram importados com sucesso.
+		painelDocsImportados = new PainelDocumentos("DOCUMENTOS IMPORTADOS", new Color(0, 100, 0));
+		painelDocsImportados.setBounds(10, 11, 530, 240);
+		contentPanel.add(painelDocsImportados);
+		
+		// Painel que exibe os documentos que falharam ao serem importados.
+		painelDocsNaoImportados = new PainelDocumentos("DOCUMENTOS NÃO IMPORTADOS", new Color(255, 0, 0));
+		painelDocsNaoImportados.setBounds(10, 270, 530, 240);
+		contentPanel.add(painelDocsNaoImportados);
+		
+		//Painel de botões e do progresso da importação.
+		JPanel buttonPane = new JPanel();
+		buttonPane.setLayout(new FlowLayout(FlowLayout.RIGHT));
+		getContentPane().add(buttonPane, BorderLayout.SOUTH);
+		
+		labelProgresso = new JLabel();
+		labelProgresso.setPreferredSize(new Dimension(230, 20));
+		labelProgresso.setHorizontalAlignment(JLabel.RIGHT);
+		buttonPane.add(labelProgresso);
+		
+		barraProgresso = new JProgressBar();
+		barraProgresso.setStringPainted(true);
+		buttonPane.add(barraProgresso);
+		
+		cancelarButton = new JButton("Cancelar");
+		cancelarButton.addActionListener((ActionEvent e) ->{ cancelarImportacao(); });
+		buttonPane.add(cancelarButton);
+
+		JButton fecharButton = new JButton(" Fechar ");
+		buttonPane.add(fecharButton);
+		fecharButton.addActionListener((ActionEvent e) ->{
+			this.dispose();
+		});
+		getRootPane().setDefaultButton(fecharButton);
+		
+		if(!importarDocumentos()){ 
+			dispose();
+			return;
+		}
+			
+		setModal(true);
+		setResizable(false);
+		setVisible(true);
+	}
+	
+	/**
+	 * Obtém os documentos a serem importados e a política para os documentos
+	 * já importados, e inicia a importação em segundo plano.
+	 *
+	 * @return Retorna <code>false</code> se o usuário não selecionou nenhum
+	 * documento ou desistiu da importação.
+	 */
+	private boolean importarDocumentos() {
+		// Obtém os documentos a serem importados.
+		File[] documentos = selecionarArquivosImportar();
+		if(documentos == null || documentos.length == 0) return false;
+		
+		PoliticaDuplicados politica = PoliticaDuplicados.PERGUNTAR;
+		if(documentos.length > 1) {
+			politica = selecionarPoliticaDuplicados();
+			if(politica == null) return false;
+		}
+		
+		barraProgresso.setMaximum(documentos.length);
+		labelProgresso.setText(String.format("0 de %d documentos", documentos.length));
+	
+		importacao = new ImportacaoDocumentos(documentos, politica);
+		importacao.execute();
+		return true;
+	}
+
+	/**
+	 * Pergunta ao usuário o que deve ser feito com os documentos
+	 * que já foram importados anteriormente.
+	 *  
+	 * @return Retorna a política escolhida ou <code>null</code> se o
+	 * usuário fechou a mensagem sem escolher.
+	 */
+	private PoliticaDuplicados selecionarPoliticaDuplicados() {
+		PoliticaDuplicados[] politicas = PoliticaDuplicados.values();
+		String[] opcoes = new String[politicas.length];
+		for(int i = 0; i < politicas.length; i++) opcoes[i] = politicas[i].getDescricao();
+		
+		int opcao = MensagemUsuario.msgOpcoes("O que deve ser feito com os documentos que \n"
+				+ "já foram importados anteriormente?", opcoes);
+		return (opcao < 0)? null : politicas[opcao];
+	}
+	
+	/**
+	 * Cancela a importação. O documento que está sendo importado
+	 * termina de ser importado, e os demais não são importados.
+	 */
+	private void cancelarImportacao() {
+		if(importacao == null || importacao.isDone()) return;
+		importacao.cancel(false);
+		cancelarButton.setEnabled(false);
+		labelProgresso.setText("Cancelando...");
+	}
+
+	@Override
+	public void dispose() {
+		if(importacao != null) importacao.cancel(false);
+		super.dispose();
+	}
+
+	/**
+	 * Salva o cliente se ele ainda não existe na base de dados. 
+	 * 
+	 * @param cliente O cliente a ser salvo
+	 * @return Retorna <code>true</code> se o cliente já estava salvo ou foi salvo corretamente,
+	 * se não retorna <code>false</code>
+	 */
+	private boolean salvarClienteNoBD(Cliente cliente) {
+		// Verifica se o cliente já existe no BD.
+		Cliente clienteBusca = controleDeClientes.buscarClientePorEmail(cliente.getEmail());
+
+		if(clienteBusca != null) return true;
+		return controleDeClientes.salvarCliente(cliente);
+	}
+
+	/**
+	 * Busca no banco de dados o exercício com as mesmas chaves
+	 * primárias do exercício passado por parâmetro.
+	 * 
+	 * @param exercicio O exercício a ser buscado.
+	 * 
+	 * @return Retorna uma lista vazia se o exercício ainda não foi
+	 * gravado, ou uma lista com o exercício gravado. Caso ocorra um
+	 * erro ao buscar retorna <code>null</code>.
+	 */
+	private List<Exercicio> buscarExercicioGravado(Exercicio exercicio) {
+		return controleDeExercicios.listarExerciciosComChaves(exercicio.getCliente().getEmail(),
+															  exercicio.getData(),
+															  exercicio.getTempo().getHoraInicio(),
+															  exercicio.getTempo().getHoraFim());
+	}
+
+	/**
+	 * Exibe a janela que permite ao usuário escolher um ou vários
+	 * arquivos a partir do sistema de arquivos do sistema operacional.
+	 * 
+	 * Os arquivos permitidos são apenas arquivos com a extenção 'txt'.
+	 * 
+	 * @return Retorna o conjunto de arquivos selecionados pelo usuário.
+	 */
+	public File[] selecionarArquivosImportar() {
+		JFileChooser fileChooser = new JFileChooser();
+		fileChooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
+		
+		fileChooser.setFileFilter(new FileNameExtensionFilter("*.txt", "txt"));
+		fileChooser.setMultiSelectionEnabled(true);
+		if(fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION)
+			return fileChooser.getSelectedFiles();
+		
+		return null;
+	}
+	
+	/**
+	 * Importa os documentos em segundo plano, um por vez, publicando o
+	 * status de cada documento assim que ele é importado. <br><br>
+	 *
+	 * Cada documento primeiramente será escaneado parcialmente para que
+	 * a verificação das chaves primarias sejam buscadas no banco de dados,
+	 * a fim de verificar se o documento já foi importado anteriormente.
+	 * Caso já tenha sido gravado a {@link PoliticaDuplicados} indica se ele
+	 * deve ser sobrescrito, perguntando ao usuário se necessário. <br><br>
+	 *
+	 * Então após feita a verificação a leitura total do documento será
+	 * feita e irá salvar os dados no banco. O usuário será salvo apenas se
+	 * não existir no Banco de dados.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private class ImportacaoDocumentos extends SwingWorker<Void, DocumentoImportado> {
+		private final File[] documentos;
+		private PoliticaDuplicados politica;
+		private int processados, importados;
+		private boolean interrompida;
+		private long inicio;
+		
+		private ImportacaoDocumentos(File[] documentos, PoliticaDuplicados politica) {
+			this.documentos = documentos;
+			this.politica = politica;
+		}
+		
+		@Override
+		protected Void doInBackground() {
+			inicio = System.nanoTime();
+			EscanerDeArquivo escaner = new EscanerDeArquivo();
+			
+			for(File file : documentos) {
+				if(isCancelled()) break;
+				String status = importarDocumento(file, escaner);
+				publish(new DocumentoImportado(file.getName(), status,
+											   status.equals(StatusImportacao.SALVO.getStatus())));
+			}
+			return null;
+		}
+		
+		/**
+		 * Importa o documento passado por parâmetro.
+		 *
+		 * @return Retorna a mensagem de status da importação do documento.
+		 */
+		private String importarDocumento(File file, EscanerDeArquivo escaner) {
+			try {
+				// Escaneia parcialmente para verificar se o exercício já existe no BD.
+				Exercicio exercicio = escaner.escanearArquivoParcialmente(file);
+				List<Exercicio> exerciciosGravados = buscarExercicioGravado(exercicio);
+				if(exerciciosGravados == null) return StatusImportacao.FALHA_BD_EXERCICIO.getStatus();
+				
+				/* Como a busca foi feita com as 4 chaves primarias terá no máximo
+				 * um exercício na lista de exercícios. */
+				Exercicio exercicioExcluirDoBD = null;
+				if(exerciciosGravados.size() > 0) {
+					if(!confirmarSobrescrever(file.getName())) return StatusImportacao.JA_IMPORTADO.getStatus();
+					exercicioExcluirDoBD = exerciciosGravados.get(0);
+				}
+				
+				// Faz a leitura completa do exercício para enfim gravar no BD.
+				exercicio = escaner.escanearArquivo(file);
+				if(!salvarClienteNoBD(exercicio.getCliente())) return StatusImportacao.FALHA_BD_CLIENTE.getStatus();
+				
+				// Verifica se tem exercicio a excluir antes de salvar.
+				if(exercicioExcluirDoBD != null && !controleDeExercicios.deletarExercicio(exercicioExcluirDoBD))
+					return StatusImportacao.FALHA_BD_EXERCICIO.getStatus();
+				
+				if(controleDeExercicios.salvarExercicio(exercicio)) return StatusImportacao.SALVO.getStatus();
+				return StatusImportacao.FALHA_BD_EXERCICIO.getStatus();
+				
+			}catch (IdentificadorInvalidoException identificadorException) {
+				return identificadorException.getMessage();
+			}catch (IOException exception) {
+				return StatusImportacao.FALHA_ARQUIVO.getStatus();
+			}catch (RuntimeException exception) {
+				// Arquivo com conteúdo mal formatado, como um número inválido.
+				exception.printStackTrace();
+				return StatusImportacao.FALHA_CONTEUDO.getStatus();
+			}
+		}
+		
+		/**
+		 * Verifica, através da política da importação, se o documento já importado
+		 * deve ser sobrescrito. Se a política for perguntar, a pergunta é exibida
+		 * pela thread de eventos e a importação aguarda a resposta, que pode ser
+		 * aplicada aos demais documentos.
+		 */
+		private boolean confirmarSobrescrever(String fileName) {
+			if(politica == PoliticaDuplicados.SOBRESCREVER) return true;
+			if(politica == PoliticaDuplicados.MANTER || isCancelled()) return false;
+			
+			String msg = String.format("O exercício do arquivo '%s' já foi \n"
+					+ "importado anteriormente, deseja sobrescreve-lo?", fileName);
+			int[] opcao = {-1};
+			try {
+				SwingUtilities.invokeAndWait(() -> {
+					opcao[0] = MensagemUsuario.msgOpcoes(msg, "Sim", "Não", "Sim para todos", "Não para todos");
+				});
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			} catch (InvocationTargetException e) {
+				return false;
+			}
+			
+			if(opcao[0] == 2) politica = PoliticaDuplicados.SOBRESCREVER;
+			if(opcao[0] == 3) politica = PoliticaDuplicados.MANTER;
+			return opcao[0] == 0 || opcao[0] == 2;
+		}
+		
+		@Override
+		protected void process(List<DocumentoImportado> documentosImportados) {
+			for(DocumentoImportado documento : documentosImportados) {
+				PainelDocumentos painel = documento.salvo? painelDocsImportados : painelDocsNaoImportados;
+				painel.addDocumento(documento.nome, documento.status);
+				if(documento.salvo) importados++;
+			}
+			processados += documentosImportados.size();
+			
+			barraProgresso.setValue(processados);
+			if(isDone()) {
+				exibirResultado();
+				return;
+			}
+			double segundos = (System.nanoTime() - inicio) / 1e9;
+			labelProgresso.setText(String.format("%d de %d documentos - %.1f doc/s", processados,
+												 documentos.length, processados / Math.max(segundos, 0.001)));
+		}
+		
+		/**
+		 * Ao cancelar, é chamado antes de o documento que estava sendo importado
+		 * terminar. O resultado é exibido novamente quando ele for publicado.
+		 */
+		@Override
+		protected void done() {
+			cancelarButton.setEnabled(false);
+			if(!isCancelled()) {
+				try { get();
+				} catch (InterruptedException | ExecutionException e) {
+					interrompida = true;
+					exibirResultado();
+					MensagemUsuario.msgErro("Ocorreu um erro ao importar os documentos.\n"
+							+ "Os documentos restantes não foram importados.");
+					return;
+				}
+			}
+			exibirResultado();
+		}
+		
+		private void exibirResultado() {
+			String situacao = interrompida? "Interrompido por erro" : isCancelled()? "Cancelado" : "Concluído";
+			labelProgresso.setText(String.format("%s: %d de %d importados", situacao, importados, documentos.length));
+		}
+	}
+	
+	/**
+	 * Guarda o status da importação de um documento, publicado
+	 * pela importação para ser exibido na janela.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private static class DocumentoImportado {
+		private final String nome, status;
+		private final boolean salvo;
+		
+		private DocumentoImportado(String nome, String status, boolean salvo) {
+			this.nome = nome;
+			this.status = status;
+			this.salvo = salvo;
+		}
+	}
+	
+	/**
+	 * Classe que cria o painel contendo uma tabela para que seja
+	 * exibido cada documento com o seu status gerado na importação.
+	 * 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private class PainelDocumentos extends JPanel{
+		private JTable tableDocumentos;
+		private DefaultTableModel tableModel;
+		private JScrollPane scrollPane;
+		
+		/**
+		 * Construtor sobrecarregado que permite criar o painel 
+		 * com o título na cor que passado por parâmeto.
+		 * 
+		 * @param titulo O título a ser exibido na parte de cima do painel.
+		 * @param corTitulo A cor que será aplicada ao título. 
+		 */
+		public PainelDocumentos(String titulo, Color corTitulo) {
+			TitledBorder titledBorder = new TitledBorder(titulo);
+			titledBorder.setTitleJustification(TitledBorder.CENTER);
+			titledBorder.setTitleColor(corTitulo);
+			setBorder(titledBorder);
+			setLayout(new BorderLayout());
+			
+			tableModel = new DefaultTableModel();
+			tableModel.addColumn("Arquivo");
+			tableModel.addColumn("Status");
+			tableDocumentos = new JTable(tableModel);
+			
+			TableColumn coluna = tableDocumentos.getColumnModel().getColumn(0);
+			coluna.setMinWidth(200);
+			coluna = tableDocumentos.getColumnModel().getColumn(1);
+			coluna.setMinWidth(400);
+			
+			scrollPane = new JScrollPane(tableDocumentos);
+			add(scrollPane, BorderLayout.CENTER);
+			
+			JLabel documentosLabel = new JLabel("Nenhum Documento");
+			documentosLabel.setSize(200, 30);
+			documentosLabel.setHorizontalAlignment(JLabel.CENTER);
+			scrollPane.setViewportView(documentosLabel);
+		}
+
+		/**
+		 * Insere um documento com o seu status na tabela do painel. A tabela
+		 * é exibida ao inserir o primeiro documento.
+		 * 
+		 * @param nome O nome do arquivo do documento.
+		 * @param status A mensagem de status gerada na importação do documento.
+		 */
+		public void addDocumento(String nome, String status) {
+			tableModel.addRow(new Object[] {nome, status});
+			if(tableModel.getRowCount() == 1) scrollPane.setViewportView(tableDocumentos);
+		}
+		
+	}
+	
+	/**
+	 * Indica o que deve ser feito ao importar um documento
+	 * que já foi importado anteriormente.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private enum PoliticaDuplicados {
+		SOBRESCREVER("Sobrescrever todos"),
+		MANTER("Manter todos"),
+		PERGUNTAR("Perguntar para cada");
+		
+		private String descricao;
+		
+		private PoliticaDuplicados(String descricao) {
+			this.descricao = descricao;
+		}
+		
+		public String getDescricao() {
+			return descricao;
+		}
+	}
+	
+	/**
+	 * Rotula os principais erros que podem ocorrer ao importar 
+	 * um documento de exercício físico.
+	 * 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private enum StatusImportacao{
+		SALVO("Salvo com sucesso."),
+		JA_IMPORTADO("Documento já importado anteriormente."),
+		FALHA_BD_CLIENTE("Falha no banco de dados ao salvar Usuário."),
+		FALHA_ARQUIVO("Erro ao abrir o arquivo"),
+		FALHA_CONTEUDO("Conteúdo do arquivo inválido."),
+		FALHA_BD_EXERCICIO("Falha no banco de dados ao salvar Exercício."), 
+		IDENTIFICADOR_INVALIDO("Identificador Inválido");
+		
+		private String status;
+
+		private StatusImportacao(String status) {
+			this.status = status;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+	}
+	
+	
+}
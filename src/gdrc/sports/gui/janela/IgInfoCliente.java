@@ -1,229 +1,209 @@
-package gdrc.sports.gui.janela;
-
-import gdrc.sports.gui.component.PainelInfoCliente;
-import gdrc.sports.gui.component.PainelInfoExercicios;
-import gdrc.sports.tipo.Cliente;
-import gdrc.sports.tipo.Exercicio;
-import gdrc.sports.tipo.time.Data;
-import gdrc.sports.util.propriedades.Propriedade;
-
-import java.awt.BorderLayout;
-import java.awt.Color;
-import java.awt.Component;
-import java.awt.Dimension;
-import java.awt.FlowLayout;
-import java.awt.Font;
-import java.awt.event.ActionEvent;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
-import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
-
-import javax.swing.Box;
-import javax.swing.JButton;
-import javax.swing.JDialog;
-import javax.swing.JLabel;
-import javax.swing.JOptionPane;
-import javax.swing.JPanel;
-import javax.swing.JScrollPane;
-import javax.swing.border.EmptyBorder;
-import javax.swing.border.TitledBorder;
-
-/**
- * Cria uma janela que exibe todas as informaes
- * do cliente que  passado pelo contrutor da classe.
- * 
- * @author Guilherme Domith Ribeiro Coelho
- */
-public class IgInfoCliente extends JDialog {
-
-	private final JPanel contentPanel = new JPanel();
-	
-	private Box verticalBoxExercicios; 
-	private JScrollPane scrollPane;
-
-	/**
-	 * Construtor que permite instanciar o objeto e 
-	 * configurar a janela para exibir o objeto  {@link Cliente} 
-	 * passado por parmetro. <br><br>
-	 * O objeto passado deve conter todos os exerccios 
-	 * que precisam ser exibidos na janela.
-	 * 
-	 * @param location O Componente utilizado para posicionar a janela.
-	 * @param cliente O cliente a ser exibido pela janela.
-	 */
-	public IgInfoCliente(Component location, Cliente cliente) {
-
-		// Configuraes da janela
-		setBounds(100, 100, 442, 406);
-		getContentPane().setLayout(new BorderLayout());
-		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
-		setLocationRelativeTo(location);
-		setTitle("Informaes do Cliente");
-		setIconImage(Propriedade.ICONE_APLICACAO);
-		
-		// Configuraes do painel principal
-		contentPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
-		contentPanel.setLayout(null);
-		getContentPane().add(contentPanel, BorderLayout.CENTER);
-		
-		// Configuraes do painel que exibeas as informaes do cliente.
-		PainelInfoCliente painelCliente = new PainelInfoCliente(cliente);
-		painelCliente.setBounds(10, 11, painelCliente.getWidth(), painelCliente.getHeight());;
-		contentPanel.add(painelCliente);
-		
-		// Configuraes do painel e componentes que exibem os exerccios.
-		JPanel painelExercicios = new JPanel();
-		painelExercicios.setLayout(new BorderLayout());
-		painelExercicios.setBorder(new TitledBorder("Exerccios "));
-		painelExercicios.setBounds(10, 138, 414, 185);
-		contentPanel.add(painelExercicios);
-		
-		scrollPane = new JScrollPane();
-		scrollPane.getVerticalScrollBar().setUnitIncrement(10);
-		painelExercicios.add(scrollPane);
-		
-		verticalBoxExercicios = Box.createVerticalBox();
-		scrollPane.setViewportView(verticalBoxExercicios);
-		
-		// Configuraes do painel de botes.
-		JPanel painelDeBotoes = new JPanel();
-		painelDeBotoes.setLayout(new FlowLayout(FlowLayout.RIGHT));
-		getContentPane().add(painelDeBotoes, BorderLayout.SOUTH);
-
-		JButton buttonFechar = new JButton("Fechar");
-		buttonFechar.addActionListener( (ActionEvent e) -> { dispose(); });
-		painelDeBotoes.add(buttonFechar);
-		
-		exibirExercicios(cliente.getExercicios());
-		
-		setModal(true);
-		setResizable(false);
-		setVisible(true);
-	}
-	
-	/**
-	 * Exibe as informaes principais de todos os exercicios passados 
-	 * por parametro no painel Box exibido pela janela. <br><br>
-	 * 
-	 * @param exercicios Exerccios a serem exibidos no painel Box da janela.
-	 */
-	private void exibirExercicios(List<Exercicio> exercicios) {
-		if(exercicios == null || exercicios.size() == 0) return;
-		
-		Collections.sort(exercicios);
-		
-		LocalDate dataAnterior = null;
-		int alturaBox=0;
-		// Cria um painel Box vertical com vrios painis que exibem o Exercicio.
-		for(Exercicio ex : exercicios) {
-			// Adiciona a data ao painel, caso seja diferente a data do exerccio anterior.
-			if(dataAnterior == null || !ex.getData().getData().equals(dataAnterior)) {
-				JPanel painelData  = novoPainelData(ex.getData());
-				alturaBox += painelData.getHeight()+15;
-				verticalBoxExercicios.add(painelData); 
-			}
-			
-			// Adiciona o label que exibe o exercicio.
-			JPanel painelExercicio = novoPainelExercicio(ex);
-			alturaBox += painelExercicio.getHeight()+10;
-			verticalBoxExercicios.add(painelExercicio);
-			
-			dataAnterior = ex.getData().getData();
-		}
-		
-		Dimension dimension = new Dimension(scrollPane.getWidth(), alturaBox);
-		verticalBoxExercicios.setPreferredSize(dimension);
-	}
-	
-	/**
-	 * Cria um novo painel para exibir as informaes resumidas do 
-	 * exerccio passado por parmetro.
-	 * 
-	 * @param exercicio O exerccio com as informaes a serem 
-	 * adicionadas no painel.
-	 * 
-	 * @return Retorna o novo painel com as principais informaes
-	 * do exerccio.
-	 */
-	private JPanel novoPainelExercicio(Exercicio exercicio) {
-		JPanel painel = new JPanel(new BorderLayout());
-		painel.setSize(scrollPane.getWidth(),30);
-		painel.setBackground(Color.LIGHT_GRAY);
-		
-		JLabel labelExercicio = new JLabel();
-		labelExercicio.setText(String.format("<html><pre> %s\n %s - %s</pre><html>", 
-											exercicio.getExercicio(),exercicio.getTempo().getHoraInicio(),
-											exercicio.getTempo().getHoraFim()));
-		labelExercicio.setFont(new Font(Font.MONOSPACED, Font.BOLD, 15));
-		
-		painel.add(labelExercicio, BorderLayout.CENTER);
-		painel.addMouseListener(new EventoMousePainelExercicio(painel, exercicio));
-		return painel;
-	}
-
-	/**
-	 * Cria um painel j estilizado com a data passada por parmetro.
-	 * 
-	 * @param data A data a ser exibida no painel
-	 * @return Retorna o novo painel contendo a data.
-	 */
-	private JPanel novoPainelData(Data data) {
-		JPanel painel = new JPanel(new BorderLayout());
-		painel.setSize(scrollPane.getWidth(),30);
-		
-		JLabel dataLabel = new JLabel();
-		dataLabel.setText(data.toString());
-		dataLabel.setHorizontalAlignment(JLabel.CENTER);
-		dataLabel.setFont(new Font(Font.MONOSPACED, Font.BOLD, 15));
-		dataLabel.setForeground(Color.BLUE);
-		
-		painel.add(dataLabel, BorderLayout.CENTER);
-		return painel;
-	}
-	
-	/**
-	 * Classe utilizada para tratar um evento de mouse sobre o painel
-	 * que exibe uma informao resumida do exerccio. <br><br>
-	 *  
-	 * O primeiro evento tratado , ao passar o mouse sobre o painel de 
-	 * exerccio  feita uma alterao na cor de forma que simulando um JList, 
-	 * indicando que  clicvel. 
-	 * O outro evento , ao clicar no painel  exibido uma janela que d a 
-	 * informao completa do exerccio associado ao painel clicado.
-	 * 
-	 * @author Guilherme Domith Ribeiro Coelho
-	 *
-	 */
-	private class EventoMousePainelExercicio extends MouseAdapter{
-		private Exercicio exercicio;
-		private JPanel painel;
-		
-		public EventoMousePainelExercicio(JPanel painel, Exercicio exercicio) {
-			this.exercicio = exercicio;
-			this.painel = painel;
-			this.painel.setBackground(Color.WHITE);
-		}
-		
-		@Override
-		public void mousePressed(MouseEvent e) {
-			PainelInfoExercicios info = new PainelInfoExercicios(exercicio);
-			info.setPreferredSize(new Dimension(info.getWidth(), info.getHeight()));
-			JOptionPane.showMessageDialog(IgInfoCliente.this, info, 
-										  "Informaes Exerccio",
-										  JOptionPane.PLAIN_MESSAGE);
-		}
-		
-		@Override
-		public void mouseEntered(MouseEvent e) {
-			painel.setBackground(Color.LIGHT_GRAY);
-		}
-		
-		@Override
-		public void mouseExited(MouseEvent e) {
-			painel.setBackground(Color.WHITE);
-		}
-	}
-	
-}
+package gdrc.sports.gui.janela;
+
+import gdrc.sports.gui.component.ListaExercicios;
+import gdrc.sports.gui.component.PainelInfoCliente;
+import gdrc.sports.gui.component.PainelInfoExercicios;
+import gdrc.sports.gui.es.MensagemUsuario;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.util.controle.ControleDeExercicios;
+import gdrc.sports.util.propriedades.CacheIcones;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.awt.event.ActionEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.SwingWorker;
+import javax.swing.border.EmptyBorder;
+import javax.swing.border.TitledBorder;
+
+/**
+ * Cria uma janela que exibe todas as informações
+ * do cliente que é passado pelo contrutor da classe.
+ * <br><br>
+ * Se o cliente for passado sem os exercícios, eles são obtidos 
+ * do banco de dados em segundo plano e exibidos aos poucos, 
+ * enquanto a janela já está aberta.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class IgInfoCliente extends JDialog {
+
+	private final JPanel contentPanel = new JPanel();
+	
+	private static final int EXERCICIOS_POR_BLOCO = 200;
+	
+	private ListaExercicios listaExercicios;
+	private TitledBorder bordaExercicios;
+	private CarregadorExercicios carregadorExercicios;
+
+	/**
+	 * Construtor que permite instanciar o objeto e 
+	 * configurar a janela para exibir o objeto  {@link Cliente} 
+	 * passado por parâmetro. <br><br>
+	 * Se o objeto passado não possuir exercícios, os exercícios
+	 * do cliente são obtidos do banco de dados.
+	 * 
+	 * @param location O Componente utilizado para posicionar a janela.
+	 * @param cliente O cliente a ser exibido pela janela.
+	 */
+	public IgInfoCliente(Component location, Cliente cliente) {
+
+		// Configurações da janela
+		setBounds(100, 100, 442, 406);
+		getContentPane().setLayout(new BorderLayout());
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		setLocationRelativeTo(location);
+		setTitle("Informações do Cliente");
+		setIconImage(CacheIcones.obterIconeAplicacao());
+		
+		// Configurações do painel principal
+		contentPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
+		contentPanel.setLayout(null);
+		getContentPane().add(contentPanel, BorderLayout.CENTER);
+		
+		// Configurações do painel que exibeas as informações do cliente.
+		PainelInfoCliente painelCliente = new PainelInfoCliente(cliente);
+		painelCliente.setBounds(10, 11, painelCliente.getWidth(), painelCliente.getHeight());;
+		contentPanel.add(painelCliente);
+		
+		// Configurações do painel e componentes que exibem os exercícios.
+		JPanel painelExercicios = new JPanel();
+		painelExercicios.setLayout(new BorderLayout());
+		bordaExercicios = new TitledBorder("Exercícios ");
+		painelExercicios.setBorder(bordaExercicios);
+		painelExercicios.setBounds(10, 138, 414, 185);
+		contentPanel.add(painelExercicios);
+		
+		listaExercicios = new ListaExercicios();
+		listaExercicios.addMouseListener(new MouseAdapter() {
+			@Override
+			public void mousePressed(MouseEvent e) {
+				exibirExercicio(listaExercicios.obterExercicio(e));
+			}
+		});
+		
+		JScrollPane scrollPane = new JScrollPane(listaExercicios);
+		scrollPane.getVerticalScrollBar().setUnitIncrement(10);
+		painelExercicios.add(scrollPane);
+		
+		// Configurações do painel de botões.
+		JPanel painelDeBotoes = new JPanel();
+		painelDeBotoes.setLayout(new FlowLayout(FlowLayout.RIGHT));
+		getContentPane().add(painelDeBotoes, BorderLayout.SOUTH);
+
+		JButton buttonFechar = new JButton("Fechar");
+		buttonFechar.addActionListener( (ActionEvent e) -> { dispose(); });
+		painelDeBotoes.add(buttonFechar);
+		
+		if(cliente.getExercicios() == null || cliente.getExercicios().isEmpty()) {
+			carregadorExercicios = new CarregadorExercicios(cliente.getEmail());
+			carregadorExercicios.execute();
+		} else
+			listaExercicios.adicionarExercicios(cliente.getExercicios());
+		
+		setModal(true);
+		setResizable(false);
+		setVisible(true);
+	}
+	
+	@Override
+	public void dispose() {
+		if(carregadorExercicios != null) carregadorExercicios.cancel(false);
+		super.dispose();
+	}
+	
+	/**
+	 * Exibe a janela com as informações completas do exercício 
+	 * passado por parâmetro.
+	 * 
+	 * @param exercicio O exercício a ser exibido.
+	 */
+	private void exibirExercicio(Exercicio exercicio) {
+		if(exercicio == null) return;
+		
+		PainelInfoExercicios info = new PainelInfoExercicios(exercicio);
+		info.setPreferredSize(new Dimension(info.getWidth(), info.getHeight()));
+		JOptionPane.showMessageDialog(IgInfoCliente.this, info, 
+									  "Informações Exercício",
+									  JOptionPane.PLAIN_MESSAGE);
+	}
+	
+	/**
+	 * Obtém os exercícios do cliente do banco de dados em segundo plano, 
+	 * inserindo-os na lista da janela em blocos à medida que são lidos.
+	 * 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 *
+	 */
+	private class CarregadorExercicios extends SwingWorker<Boolean, List<Exercicio>> {
+		private final String email;
+		
+		private CarregadorExercicios(String email) {
+			this.email = email;
+			bordaExercicios.setTitle("Exercícios (carregando...) ");
+		}
+		
+		@Override
+		protected Boolean doInBackground() {
+			List<List<Exercicio>> bloco = new ArrayList<>(1);
+			bloco.add(new ArrayList<>(EXERCICIOS_POR_BLOCO));
+			
+			boolean lidos = new ControleDeExercicios().percorrerExercicios(email, (Exercicio exercicio) -> {
+				if(isCancelled()) throw new CancelamentoException();
+				
+				bloco.get(0).add(exercicio);
+				if(bloco.get(0).size() == EXERCICIOS_POR_BLOCO) {
+					publish(bloco.get(0));
+					bloco.set(0, new ArrayList<>(EXERCICIOS_POR_BLOCO));
+				}
+			});
+			if(!bloco.get(0).isEmpty()) publish(bloco.get(0));
+			return lidos;
+		}
+		
+		@Override
+		protected void process(List<List<Exercicio>> blocos) {
+			if(isCancelled()) return;
+			
+			for(List<Exercicio> exercicios : blocos) listaExercicios.adicionarExercicios(exercicios);
+			atualizarTitulo("Exercícios (%d, carregando...) ");
+		}
+		
+		@Override
+		protected void done() {
+			if(isCancelled()) return;
+			
+			boolean lidos;
+			try { lidos = get();
+			} catch (InterruptedException | ExecutionException e) { lidos = false; }
+			
+			atualizarTitulo("Exercícios (%d) ");
+			if(!lidos) MensagemUsuario.msgErro("Ocorreu um erro ao obter os exercícios do cliente.");
+		}
+		
+		private void atualizarTitulo(String titulo) {
+			bordaExercicios.setTitle(String.format(titulo, listaExercicios.getQuantidadeExercicios()));
+			contentPanel.repaint();
+		}
+	}
+	
+	/**
+	 * Interrompe a leitura dos exercícios quando a janela é fechada.
+	 */
+	private static class CancelamentoException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+	}
+}
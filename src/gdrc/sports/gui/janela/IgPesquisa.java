@@ -1,303 +1,503 @@
-package gdrc.sports.gui.janela;
-
-import gdrc.sports.tipo.Cliente;
-import gdrc.sports.util.controle.ControleDeClientes;
-import gdrc.sports.util.propriedades.Propriedade;
-
-import java.awt.BorderLayout;
-import java.awt.Component;
-import java.awt.Font;
-import java.awt.event.ActionEvent;
-import java.awt.event.KeyAdapter;
-import java.awt.event.KeyEvent;
-import java.util.Collections;
-import java.util.List;
-
-import javax.swing.DefaultListCellRenderer;
-import javax.swing.DefaultListModel;
-import javax.swing.ImageIcon;
-import javax.swing.JButton;
-import javax.swing.JDialog;
-import javax.swing.JLabel;
-import javax.swing.JList;
-import javax.swing.JPanel;
-import javax.swing.JScrollPane;
-import javax.swing.JTextField;
-import javax.swing.ListCellRenderer;
-import javax.swing.border.Border;
-import javax.swing.border.EmptyBorder;
-import javax.swing.border.TitledBorder;
-import java.awt.Label;
-
-/**
- * Classe que cria uma janela que permite o usurio da aplicao 
- * pesquisar por um cliente e executar uma ao sobre o cliente 
- * que for selecionado por ele.<br><br> 
- * 
- * As opes disponveis para executar sobre um cliente selecionado 
- * esto agrupadas no enum {@link Opcao}. As opes disponveis do
- * acesso as sequintes funes: <br><br>
- * 
- * {@link Opcao#EXIBIR_INFO} - Permite que o usurio da aplicao pesquise por 
- * um cliente e visualize as informaes do cliente selecionado. 
- * As informaes sero exibidas por uma janela {@link IgInfoCliente}.<br>
- * 
- * {@link Opcao#GERAR_GRAFICO} - Permite que o usurio da aplicao pesquise por 
- * um cliente e gere os grficos referente ao cliente que for selecionado. 
- * Relatrio grficos que ser exibido pela janela {@link IgRelatorioGrafico}.<br>
- * 
- * {@link Opcao#GERAR_RELATORIO} - Permite que o usurio da aplicao pesquise por 
- * um cliente e gere os relatrios referente ao cliente que for selecionado. 
- * O relatrio ser exibido em uma janela {@link IgRelatorioCliente}. <br>
- * 
- * {@link Opcao#EXPORTAR_PDF} - Permite que o usurio da aplicao pesquise por 
- * um cliente e exporte as informaes e relatrios referente ao cliente 
- * que for selecionado. Na configuraes para exportao do PDF sero exibidas 
- * em uma janela {@link IgExportarPDF}. <br>
- * 
- * @author Guilherme Domith Ribeiro Coelho
- *
- */
-public class IgPesquisa extends JDialog {
-	
-	private final JPanel contentPanel = new JPanel();
-	private JTextField textFieldPesquisa;
-	private JList<Cliente> listClientes;
-	
-	private ControleDeClientes controleDeClientes;
-	private JLabel labelStatusPesquisa;
-	private Opcao opcaoPesquisa;
-
-	/**
-	 * Cria a janela que permite pesquisar um {@link Cliente} 
-	 * no Banco de dados e permite executar uma ao sobre um 
-	 * cliente dependendo segundo parmetro passado.
-	 * 
-	 * @param location 	O Componente utilizado para posicionar a janela.
-	 * @param opcao 	A opao que indica qual ser a funco que 
-	 * o usurio ter acesso ao clicar sobre um cliente.
-	 */
-	public IgPesquisa(Component location, Opcao opcao) {
-		this.controleDeClientes = new ControleDeClientes();
-		this.opcaoPesquisa = opcao;
-		
-		// Configuraes da janela
-		setBounds(100, 100, 442, 480);
-		getContentPane().setLayout(new BorderLayout());
-		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
-		setTitle(opcao.getTituloParaJanela());
-		setIconImage(Propriedade.ICONE_APLICACAO);
-		setLocationRelativeTo(location);
-
-		// Configuraes do painel principal
-		contentPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
-		getContentPane().add(contentPanel, BorderLayout.CENTER);
-		contentPanel.setLayout(null);
-		
-		Label label = new Label(opcao.tituloPainel);
-		label.setAlignment(Label.CENTER);
-		label.setFont(new Font("Dialog", Font.PLAIN, 18));
-		label.setBounds(10, 10, 414, 45);
-		contentPanel.add(label);
-		
-		// Configuraes do painel de pesquisa e seus componentes.
-		JPanel painelPesquisa = new JPanel();
-		painelPesquisa.setBorder(new TitledBorder((Border)null));
-		painelPesquisa.setBounds(10, 61, 414, 76);
-		painelPesquisa.setLayout(null);
-		contentPanel.add(painelPesquisa);
-
-		JButton btnPesquisar = new JButton("Pesquisar");
-		btnPesquisar.setIcon(new ImageIcon(Propriedade.URL_ICONE_PESQUISA_MINI));
-		btnPesquisar.addActionListener((ActionEvent e) -> { pesquisarCliente();});
-		btnPesquisar.setBounds(294, 31, 110, 34);
-		painelPesquisa.add(btnPesquisar);
-		
-		textFieldPesquisa = new JTextField();
-		textFieldPesquisa.setFont(new Font("Tahoma", Font.PLAIN, 16));
-		textFieldPesquisa.setBounds(10, 31, 274, 34);
-		textFieldPesquisa.addActionListener((ActionEvent e) -> { btnPesquisar.doClick();});
-		// Limpa o textField de busca ao comear a escrever.
-		textFieldPesquisa.addKeyListener(new KeyAdapter() {
-			@Override
-			public void keyTyped(KeyEvent e) { labelStatusPesquisa.setText(""); }
-		});
-		painelPesquisa.add(textFieldPesquisa);
-		
-		JLabel lblNomeDoCliente = new JLabel("Nome do Cliente:");
-		lblNomeDoCliente.setBounds(13, 11, 92, 14);
-		painelPesquisa.add(lblNomeDoCliente);
-
-		// Configuraes dos componentes para exibir o resultado da pesquisa.
-		JScrollPane scrollPane = new JScrollPane();
-		scrollPane.setBounds(10, 177, 414, 231);
-		contentPanel.add(scrollPane);
-
-		listClientes = new JList<>();
-		listClientes.setFont(new Font("Tahoma", Font.PLAIN, 10));
-		listClientes.setCellRenderer(new ListRendererCliente());
-		scrollPane.setViewportView(listClientes);
-		
-		labelStatusPesquisa = new JLabel("");
-		labelStatusPesquisa.setHorizontalAlignment(JLabel.RIGHT);
-		labelStatusPesquisa.setBounds(208, 148, 216, 14);
-		contentPanel.add(labelStatusPesquisa);
-		
-		JButton btnListarTodos = new JButton("Listar Todos");
-		btnListarTodos.setBounds(8, 143, 104, 23);
-		btnListarTodos.addActionListener((ActionEvent e) -> {listarTodosClientes();});
-		contentPanel.add(btnListarTodos);
-		
-		// Configuraes do painel de botes.
-		JPanel painelDeBotoes = new JPanel();
-		getContentPane().add(painelDeBotoes, BorderLayout.SOUTH);
-
-		JButton btnOk = new JButton(opcao.getDescricaoDaOpcao());
-		btnOk.addActionListener((ActionEvent e) -> {executarAcaoSobreCliente();});
-		painelDeBotoes.add(btnOk);
-
-		JButton btnCancelar = new JButton("Cancelar");
-		btnCancelar.addActionListener((ActionEvent e) -> {dispose();});
-		painelDeBotoes.add(btnCancelar);
-		
-		setModal(true);
-		setResizable(false);
-		setVisible(true);
-	}
-
-	/**
-	 * Lista todos os clientes da aplicao no componente {@link JList}
-	 * exibido pela janela.
-	 */
-	private void listarTodosClientes() {
-		List<Cliente> clientes = controleDeClientes.listarTodosClientes();
-		
-		if(clientes.size() == 0) {
-			labelStatusPesquisa.setText("Nenhum cliente cadastrado.");
-			listClientes.removeAll();
-		}
-		
-		Collections.sort(clientes);
-		JList<Cliente> list = new  JList<>(clientes.toArray(new Cliente[0]));
-		listClientes.setModel(list.getModel());
-	}
-
-	/**
-	 * Executa a ao sobre o cliente selecionado no componente {@link JList}.
-	 * A ao a ser executada depender da constante {@link Opcao} 
-	 * escolhida ao criar a janela. 
-	 */
-	private void executarAcaoSobreCliente() {
-		Cliente cliente = listClientes.getSelectedValue();
-		if(cliente == null) return;
-		
-		cliente = controleDeClientes.buscarClienteComExercicios(cliente.getEmail());
-		
-		this.setVisible(false);
-		switch (opcaoPesquisa) {
-		case EXIBIR_INFO: new IgInfoCliente(this, cliente); break;
-		case GERAR_RELATORIO: new IgRelatorioCliente(this, cliente); break;
-		case GERAR_GRAFICO: new IgRelatorioGrafico(this, cliente); break;
-		case EXPORTAR_PDF: new IgExportarPDF(this, cliente); break;
-		}
-		this.setVisible(true);
-	}
-
-	/**
-	 * Pesquisa um cliente no banco de dados com o nome que foi 
-	 * fornecido pelo usurio no componente text field exibido 
-	 * na janela.
-	 */
-	private void pesquisarCliente() {
-		// Limpa a pesquisa com um ListModel vazio.
-		listClientes.setModel(new DefaultListModel<>());
-		
-		String nomeCliente = textFieldPesquisa.getText().trim();
-		if(nomeCliente.isEmpty()) return;
-		
-		List<Cliente> clientes = controleDeClientes.buscarClientePorNome(nomeCliente);
-		Collections.sort(clientes);
-		if(clientes.size() == 0) 
-			labelStatusPesquisa.setText("Nenhum cliente encontrado.");
-		else {
-			JList<Cliente> list = new JList<>(clientes.toArray(new Cliente[0]));
-			listClientes.setModel(list.getModel());
-		}
-	}
-	
-	/**
-	 * Cria um {@link ListCellRenderer} personalizado que permite 
-	 * inserir as informaes resumidas de um {@link Cliente} a fim 
-	 * de ser exibido como uma clula do componente {@link JList}.
-	 * 
-	 * @author Guilherme Domith Ribeiro Coelho
-	 */
-	public static class ListRendererCliente implements ListCellRenderer<Cliente>{
-
-		@Override
-		public Component getListCellRendererComponent(JList<? extends Cliente> list, Cliente value, int index,
-				boolean isSelected, boolean cellHasFocus) {
-
-			DefaultListCellRenderer renderer = new DefaultListCellRenderer();
-			JLabel label = (JLabel) renderer.getListCellRendererComponent(list, value, 
-													index, isSelected, cellHasFocus);
-			label.setText(String.format("<html>%s<br><b>%s</b></html>", value.getNome(), value.getEmail()));
-			label.setFont(new Font(label.getFont().getFontName(), Font.PLAIN, 18));
-			
-			return label;
-		}
-	} // class ListRendererCliente
-	
-	/**
-	 * Agrupa o conjunto de funes que podem ser abertas a partir da janela 
-	 * {@link IgPesquisa}. As opoes abaixo guardam as configuraes que 
-	 * sero utilizadas pela janela para cada funo disponvel.
-	 *  
-	 * @author Guilherme Domith Ribeiro Coelho
-	 */
-	public enum Opcao {
-		/** Guarda as configuraes da janela se for necessrio exibir as informaes de um cliente.*/
-		EXIBIR_INFO("Exibir Informaes", "Visualizar Informaes do Cliente", "Selecione um cliente para exibir suas informaes"),
-		/** Guarda as configuraes da janela se for necessrio gerar um relatrio para cliente.*/
-		GERAR_RELATORIO("Gerar Relatrio", "Gerar Relatrio do Cliente", "Selecione um cliente para gerar o seu relatrio"),
-		/** Guarda as configuraes da janela se for necessrio gerar um relatrio grfico para cliente.*/
-		GERAR_GRAFICO("Gerar Grfico", "Gerar Grfico do Cliente",  "Selecione um cliente para gerar o relatrio grfico"), 
-		/** Guarda as configuraes da janela se for necessrio exportar os dados do cliente para PDF.*/
-		EXPORTAR_PDF("Exportar Relatrio", "Exportar Relatrio do Cliente",  "Selecione um cliente para exportar seus dados");
-		
-		private String descricaoDaFuncao, tituloParaJanela, tituloPainel;
-
-		private Opcao(String opcao, String titulo, String tituloPainel) {
-			this.descricaoDaFuncao = opcao;
-			this.tituloParaJanela = titulo;
-			this.tituloPainel = tituloPainel;
-		}
-
-		/**
-		 * Obtm a descrio da opo referente a constante escolhida.
-		 *  
-		 * @return Retorna a descrio da opo.
-		 */
-		public String getDescricaoDaOpcao() {
-			return descricaoDaFuncao;
-		}
-
-		/**
-		 * Obtm o titulo para janela referente a constante escolhida.
-		 *  
-		 * @return Retorna o ttulo para janela.
-		 */
-		public String getTituloParaJanela() {
-			return tituloParaJanela;
-		}
-
-		/**
-		 * Obtm o titulo para o painel referente a constante escolhida.
-		 *  
-		 * @return Retorna o ttulo para o painel.
-		 */
-		public String getTituloPainel() {
-			return tituloPainel;
-		}
-	} // enum Opcao
-}
+package gdrc.sports.gui.janela;
+
+import gdrc.sports.gui.component.ModeloListaClientes;
+import gdrc.sports.gui.es.MensagemUsuario;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.util.controle.ControleDeClientes;
+import gdrc.sports.util.controle.IndiceClientes;
+import gdrc.sports.util.propriedades.CacheIcones;
+import gdrc.sports.util.propriedades.Propriedade;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Cursor;
+import java.awt.Font;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListModel;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.border.Border;
+import javax.swing.border.EmptyBorder;
+import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.Label;
+
+/**
+ * Classe que cria uma janela que permite o usuário da aplicação 
+ * pesquisar por um cliente e executar uma ação sobre o cliente 
+ * que for selecionado por ele.<br><br> 
+ * 
+ * As opções disponíveis para executar sobre um cliente selecionado 
+ * estão agrupadas no enum {@link Opcao}. As opções disponíveis dão
+ * acesso as sequintes funções: <br><br>
+ * 
+ * {@link Opcao#EXIBIR_INFO} - Permite que o usuário da aplicação pesquise por 
+ * um cliente e visualize as informações do cliente selecionado. 
+ * As informações serão exibidas por uma janela {@link IgInfoCliente}.<br>
+ * 
+ * {@link Opcao#GERAR_GRAFICO} - Permite que o usuário da aplicação pesquise por 
+ * um cliente e gere os gráficos referente ao cliente que for selecionado. 
+ * Relatório gráficos que será exibido pela janela {@link IgRelatorioGrafico}.<br>
+ * 
+ * {@link Opcao#GERAR_RELATORIO} - Permite que o usuário da aplicação pesquise por 
+ * um cliente e gere os relatórios referente ao cliente que for selecionado. 
+ * O relatório será exibido em uma janela {@link IgRelatorioCliente}. <br>
+ * 
+ * {@link Opcao#EXPORTAR_PDF} - Permite que o usuário da aplicação pesquise por 
+ * um cliente e exporte as informações e relatórios referente ao cliente 
+ * que for selecionado. Na configurações para exportação do PDF serão exibidas 
+ * em uma janela {@link IgExportarPDF}. <br>
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ *
+ */
+public class IgPesquisa extends JDialog {
+	
+	private final JPanel contentPanel = new JPanel();
+	private JTextField textFieldPesquisa;
+	private JList<Cliente> listClientes;
+	
+	private ControleDeClientes controleDeClientes;
+	private JLabel labelStatusPesquisa;
+	private Opcao opcaoPesquisa;
+	
+	private PesquisaClientes pesquisaClientes;
+	private CarregamentoCliente carregamentoCliente;
+	private Timer timerPesquisa;
+	
+	/** Tempo sem digitação, em milissegundos, para que a pesquisa seja feita. */
+	private static final int ESPERA_PESQUISA_MS = 150;
+
+	/**
+	 * Cria a janela que permite pesquisar um {@link Cliente} 
+	 * no Banco de dados e permite executar uma ação sobre um 
+	 * cliente dependendo segundo parâmetro passado.
+	 * 
+	 * @param location 	O Componente utilizado para posicionar a janela.
+	 * @param opcao 	A opçao que indica qual será a funcão que 
+	 * o usuário terá acesso ao clicar sobre um cliente.
+	 */
+	public IgPesquisa(Component location, Opcao opcao) {
+		this.controleDeClientes = new ControleDeClientes();
+		this.opcaoPesquisa = opcao;
+		IndiceClientes.getInstancia().carregar();
+		
+		// Configurações da janela
+		setBounds(100, 100, 442, 480);
+		getContentPane().setLayout(new BorderLayout());
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		setTitle(opcao.getTituloParaJanela());
+		setIconImage(CacheIcones.obterIconeAplicacao());
+		setLocationRelativeTo(location);
+
+		// Configurações do painel principal
+		contentPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
+		getContentPane().add(contentPanel, BorderLayout.CENTER);
+		contentPanel.setLayout(null);
+		
+		Label label = new Label(opcao.tituloPainel);
+		label.setAlignment(Label.CENTER);
+		label.setFont(new Font("Dialog", Font.PLAIN, 18));
+		label.setBounds(10, 10, 414, 45);
+		contentPanel.add(label);
+		
+		// Configurações do painel de pesquisa e seus componentes.
+		JPanel painelPesquisa = new JPanel();
+		painelPesquisa.setBorder(new TitledBorder((Border)null));
+		painelPesquisa.setBounds(10, 61, 414, 76);
+		painelPesquisa.setLayout(null);
+		contentPanel.add(painelPesquisa);
+
+		JButton btnPesquisar = new JButton("Pesquisar");
+		btnPesquisar.setIcon(CacheIcones.obterIcone(Propriedade.URL_ICONE_PESQUISA_MINI));
+		btnPesquisar.addActionListener((ActionEvent e) -> { pesquisarCliente();});
+		btnPesquisar.setBounds(294, 31, 110, 34);
+		painelPesquisa.add(btnPesquisar);
+		
+		textFieldPesquisa = new JTextField();
+		textFieldPesquisa.setFont(new Font("Tahoma", Font.PLAIN, 16));
+		textFieldPesquisa.setBounds(10, 31, 274, 34);
+		textFieldPesquisa.addActionListener((ActionEvent e) -> { btnPesquisar.doClick();});
+		// Limpa o textField de busca ao começar a escrever.
+		textFieldPesquisa.addKeyListener(new KeyAdapter() {
+			@Override
+			public void keyTyped(KeyEvent e) { labelStatusPesquisa.setText(""); }
+		});
+		// Pesquisa enquanto o usuário digita, após uma pausa na digitação.
+		timerPesquisa = new Timer(ESPERA_PESQUISA_MS, (ActionEvent e) -> { pesquisarCliente(); });
+		timerPesquisa.setRepeats(false);
+		textFieldPesquisa.getDocument().addDocumentListener(new DocumentListener() {
+			@Override
+			public void insertUpdate(DocumentEvent e) { timerPesquisa.restart(); }
+			@Override
+			public void removeUpdate(DocumentEvent e) { timerPesquisa.restart(); }
+			@Override
+			public void changedUpdate(DocumentEvent e) { }
+		});
+		painelPesquisa.add(textFieldPesquisa);
+		
+		JLabel lblNomeDoCliente = new JLabel("Nome do Cliente:");
+		lblNomeDoCliente.setBounds(13, 11, 92, 14);
+		painelPesquisa.add(lblNomeDoCliente);
+
+		// Configurações dos componentes para exibir o resultado da pesquisa.
+		JScrollPane scrollPane = new JScrollPane();
+		scrollPane.setBounds(10, 177, 414, 231);
+		contentPanel.add(scrollPane);
+
+		listClientes = new JList<>();
+		listClientes.setFont(new Font("Tahoma", Font.PLAIN, 10));
+		listClientes.setCellRenderer(new ListRendererCliente());
+		listClientes.setFixedCellHeight(ListRendererCliente.ALTURA_CELULA);
+		/* As células ocupam toda a largura da lista. Fixar a largura evita que a
+		 * lista obtenha todos os clientes apenas para encontrar a célula mais larga. */
+		listClientes.setFixedCellWidth(1);
+		scrollPane.setViewportView(listClientes);
+		
+		labelStatusPesquisa = new JLabel("");
+		labelStatusPesquisa.setHorizontalAlignment(JLabel.RIGHT);
+		labelStatusPesquisa.setBounds(208, 148, 216, 14);
+		contentPanel.add(labelStatusPesquisa);
+		
+		JButton btnListarTodos = new JButton("Listar Todos");
+		btnListarTodos.setBounds(8, 143, 104, 23);
+		btnListarTodos.addActionListener((ActionEvent e) -> {listarTodosClientes();});
+		contentPanel.add(btnListarTodos);
+		
+		// Configurações do painel de botões.
+		JPanel painelDeBotoes = new JPanel();
+		getContentPane().add(painelDeBotoes, BorderLayout.SOUTH);
+
+		JButton btnOk = new JButton(opcao.getDescricaoDaOpcao());
+		btnOk.addActionListener((ActionEvent e) -> {executarAcaoSobreCliente();});
+		painelDeBotoes.add(btnOk);
+
+		JButton btnCancelar = new JButton("Cancelar");
+		btnCancelar.addActionListener((ActionEvent e) -> {dispose();});
+		painelDeBotoes.add(btnCancelar);
+		
+		setModal(true);
+		setResizable(false);
+		setVisible(true);
+	}
+
+	/**
+	 * Lista todos os clientes da aplicação no componente {@link JList}
+	 * exibido pela janela. Em segundo plano é obtida apenas a quantidade de 
+	 * clientes, e os clientes são obtidos por páginas à medida que são exibidos 
+	 * através de um {@link ModeloListaClientes}.
+	 */
+	private void listarTodosClientes() {
+		iniciarPesquisa(new PesquisaClientes(() -> {
+			int quantidade = controleDeClientes.contarClientes();
+			if(quantidade < 0) return null;
+			return new ModeloListaClientes(controleDeClientes::listarPaginaClientes, quantidade);
+		}, "Nenhum cliente cadastrado."));
+	}
+
+	/**
+	 * Executa a ação sobre o cliente selecionado no componente {@link JList}.
+	 * A ação a ser executada dependerá da constante {@link Opcao} 
+	 * escolhida ao criar a janela. <br><br>
+	 * 
+	 * As informações do cliente são exibidas imediatamente e os exercícios 
+	 * são obtidos pela própria janela {@link IgInfoCliente}. Para as demais 
+	 * opções os exercícios do cliente são obtidos em segundo plano antes de
+	 * abrir a janela da opção.
+	 */
+	private void executarAcaoSobreCliente() {
+		Cliente cliente = listClientes.getSelectedValue();
+		if(cliente == null) return;
+		
+		if(opcaoPesquisa == Opcao.EXIBIR_INFO) {
+			abrirJanelaDaOpcao(cliente);
+			return;
+		}
+		
+		if(carregamentoCliente != null) carregamentoCliente.cancel(false);
+		carregamentoCliente = new CarregamentoCliente(cliente);
+		labelStatusPesquisa.setText("Carregando exercícios...");
+		setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+		carregamentoCliente.execute();
+	}
+
+	/**
+	 * Abre a janela da opção escolhida ao criar esta janela 
+	 * para o cliente passado por parâmetro.
+	 */
+	private void abrirJanelaDaOpcao(Cliente cliente) {
+		this.setVisible(false);
+		switch (opcaoPesquisa) {
+		case EXIBIR_INFO: new IgInfoCliente(this, cliente); break;
+		case GERAR_RELATORIO: new IgRelatorioCliente(this, cliente); break;
+		case GERAR_GRAFICO: new IgRelatorioGrafico(this, cliente); break;
+		case EXPORTAR_PDF: new IgExportarPDF(this, cliente); break;
+		}
+		this.setVisible(true);
+	}
+
+	/**
+	 * Pesquisa um cliente com o nome ou email que foi fornecido pelo 
+	 * usuário no componente text field exibido na janela. A pesquisa é 
+	 * feita no {@link IndiceClientes} e, enquanto ele não estiver carregado, 
+	 * no banco de dados em segundo plano.
+	 */
+	private void pesquisarCliente() {
+		timerPesquisa.stop();
+		if(pesquisaClientes != null) pesquisaClientes.cancel(false);
+		pesquisaClientes = null;
+		
+		String nomeCliente = textFieldPesquisa.getText().trim();
+		if(nomeCliente.isEmpty()) {
+			// Limpa a pesquisa com um ListModel vazio.
+			alterarModelo(new ModeloListaClientes(Collections.emptyList()));
+			labelStatusPesquisa.setText("");
+			return;
+		}
+		
+		List<Cliente> clientes = IndiceClientes.getInstancia().pesquisar(nomeCliente);
+		if(clientes == null) {
+			iniciarPesquisa(new PesquisaClientes(() -> {
+				List<Cliente> encontrados = controleDeClientes.buscarClientePorNome(nomeCliente);
+				if(encontrados == null) return null;
+				Collections.sort(encontrados);
+				return new ModeloListaClientes(encontrados);
+			}, "Nenhum cliente encontrado."));
+			return;
+		}
+		
+		labelStatusPesquisa.setText((clientes.size() == 0)? "Nenhum cliente encontrado." : "");
+		alterarModelo(new ModeloListaClientes(clientes));
+	}
+	
+	/**
+	 * Exibe o modelo passado por parâmetro na lista de clientes, descartando 
+	 * o modelo anterior para que ele deixe de obter clientes.
+	 */
+	private void alterarModelo(ModeloListaClientes modelo) {
+		ListModel<Cliente> modeloAnterior = listClientes.getModel();
+		if(modeloAnterior instanceof ModeloListaClientes) ((ModeloListaClientes) modeloAnterior).descartar();
+		listClientes.setModel(modelo);
+	}
+	
+	/**
+	 * Inicia a pesquisa passada por parâmetro, cancelando a pesquisa anterior 
+	 * caso ela ainda não tenha terminado.
+	 */
+	private void iniciarPesquisa(PesquisaClientes pesquisa) {
+		if(pesquisaClientes != null) pesquisaClientes.cancel(false);
+		pesquisaClientes = pesquisa;
+		
+		alterarModelo(new ModeloListaClientes(Collections.emptyList()));
+		labelStatusPesquisa.setText("Pesquisando...");
+		pesquisa.execute();
+	}
+	
+	@Override
+	public void dispose() {
+		timerPesquisa.stop();
+		if(pesquisaClientes != null) pesquisaClientes.cancel(false);
+		if(carregamentoCliente != null) carregamentoCliente.cancel(false);
+		alterarModelo(new ModeloListaClientes(Collections.emptyList()));
+		super.dispose();
+	}
+	
+	/**
+	 * Obtém em segundo plano o modelo com os clientes de uma pesquisa e o 
+	 * exibe na lista da janela. Uma pesquisa que foi substituída por outra 
+	 * não altera a lista ao terminar.
+	 * 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private class PesquisaClientes extends SwingWorker<ModeloListaClientes, Void> {
+		private final Supplier<ModeloListaClientes> consulta;
+		private final String mensagemNenhumCliente;
+		
+		private PesquisaClientes(Supplier<ModeloListaClientes> consulta, String mensagemNenhumCliente) {
+			this.consulta = consulta;
+			this.mensagemNenhumCliente = mensagemNenhumCliente;
+		}
+		
+		@Override
+		protected ModeloListaClientes doInBackground() {
+			return consulta.get();
+		}
+		
+		@Override
+		protected void done() {
+			if(isCancelled() || pesquisaClientes != this) return;
+			pesquisaClientes = null;
+			
+			ModeloListaClientes modelo;
+			try { modelo = get();
+			} catch (InterruptedException | ExecutionException e) { modelo = null; }
+			
+			if(modelo == null) {
+				labelStatusPesquisa.setText("Erro ao pesquisar os clientes.");
+				return;
+			}
+			
+			labelStatusPesquisa.setText((modelo.getSize() == 0)? mensagemNenhumCliente : "");
+			alterarModelo(modelo);
+		}
+	}
+	
+	/**
+	 * Obtém o cliente com todos os exercícios em segundo plano e, ao terminar,
+	 * abre a janela da opção escolhida para o cliente.
+	 * 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private class CarregamentoCliente extends SwingWorker<Cliente, Void> {
+		private final String email;
+		
+		private CarregamentoCliente(Cliente cliente) {
+			this.email = cliente.getEmail();
+		}
+		
+		@Override
+		protected Cliente doInBackground() {
+			return controleDeClientes.buscarClienteComExercicios(email);
+		}
+		
+		@Override
+		protected void done() {
+			if(isCancelled() || carregamentoCliente != this) return;
+			carregamentoCliente = null;
+			setCursor(Cursor.getDefaultCursor());
+			labelStatusPesquisa.setText("");
+			
+			Cliente cliente;
+			try { cliente = get();
+			} catch (InterruptedException | ExecutionException e) { cliente = null; }
+			
+			if(cliente == null) {
+				MensagemUsuario.msgErro("Ocorreu um erro ao obter os exercícios do cliente.");
+				return;
+			}
+			abrirJanelaDaOpcao(cliente);
+		}
+	}
+	
+	/**
+	 * Cria um {@link ListCellRenderer} personalizado que permite 
+	 * inserir as informações resumidas de um {@link Cliente} a fim 
+	 * de ser exibido como uma célula do componente {@link JList}.<br><br>
+	 * 
+	 * O mesmo painel é utilizado para desenhar todas as células, alterando 
+	 * apenas os textos e as cores. Um cliente <code>null</code>, que ainda 
+	 * está sendo obtido, é exibido como "Carregando...". As células devem 
+	 * ter a altura {@link #ALTURA_CELULA}.
+	 * 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static class ListRendererCliente implements ListCellRenderer<Cliente>{
+		/** Altura, em pixels, de cada célula desenhada pelo renderer. */
+		public static final int ALTURA_CELULA = 48;
+		
+		private JPanel painel;
+		private JLabel labelNome, labelEmail;
+		
+		/**
+		 * Construtor default que cria o painel utilizado por todas as células.
+		 */
+		public ListRendererCliente() {
+			labelNome = new JLabel();
+			labelNome.setFont(new Font("Tahoma", Font.PLAIN, 18));
+			labelEmail = new JLabel();
+			labelEmail.setFont(new Font("Tahoma", Font.BOLD, 18));
+			
+			painel = new JPanel(new BorderLayout());
+			painel.setBorder(BorderFactory.createEmptyBorder(1, 2, 1, 2));
+			painel.add(labelNome, BorderLayout.NORTH);
+			painel.add(labelEmail, BorderLayout.SOUTH);
+		}
+
+		@Override
+		public Component getListCellRendererComponent(JList<? extends Cliente> list, Cliente value, int index,
+				boolean isSelected, boolean cellHasFocus) {
+			
+			labelNome.setText((value == null)? "Carregando..." : value.getNome());
+			labelEmail.setText((value == null)? " " : value.getEmail());
+			
+			Color fundo = isSelected? list.getSelectionBackground() : list.getBackground();
+			Color texto = isSelected? list.getSelectionForeground() : list.getForeground();
+			painel.setBackground(fundo);
+			labelNome.setForeground((value == null)? Color.GRAY : texto);
+			labelEmail.setForeground(texto);
+			
+			return painel;
+		}
+	} // class ListRendererCliente
+	
+	/**
+	 * Agrupa o conjunto de funções que podem ser abertas a partir da janela 
+	 * {@link IgPesquisa}. As opçoes abaixo guardam as configurações que 
+	 * serão utilizadas pela janela para cada função disponível.
+	 *  
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public enum Opcao {
+		/** Guarda as configurações da janela se for necessário exibir as informações de um cliente.*/
+		EXIBIR_INFO("Exibir Informações", "Visualizar Informações do Cliente", "Selecione um cliente para exibir suas informações"),
+		/** Guarda as configurações da janela se for necessário gerar um relatório para cliente.*/
+		GERAR_RELATORIO("Gerar Relatório", "Gerar Relatório do Cliente", "Selecione um cliente para gerar o seu relatório"),
+		/** Guarda as configurações da janela se for necessário gerar um relatório gráfico para cliente.*/
+		GERAR_GRAFICO("Gerar Gráfico", "Gerar Gráfico do Cliente",  "Selecione um cliente para gerar o relatório gráfico"), 
+		/** Guarda as configurações da janela se for necessário exportar os dados do cliente para PDF.*/
+		EXPORTAR_PDF("Exportar Relatório", "Exportar Relatório do Cliente",  "Selecione um cliente para exportar seus dados");
+		
+		private String descricaoDaFuncao, tituloParaJanela, tituloPainel;
+
+		private Opcao(String opcao, String titulo, String tituloPainel) {
+			this.descricaoDaFuncao = opcao;
+			this.tituloParaJanela = titulo;
+			this.tituloPainel = tituloPainel;
+		}
+
+		/**
+		 * Obtém a descrição da opção referente a constante escolhida.
+		 *  
+		 * @return Retorna a descrição da opção.
+		 */
+		public String getDescricaoDaOpcao() {
+			return descricaoDaFuncao;
+		}
+
+		/**
+		 * Obtém o titulo para janela referente a constante escolhida.
+		 *  
+		 * @return Retorna o título para janela.
+		 */
+		public String getTituloParaJanela() {
+			return tituloParaJanela;
+		}
+
+		/**
+		 * Obtém o titulo para o painel referente a constante escolhida.
+		 *  
+		 * @return Retorna o título para o painel.
+		 */
+		public String getTituloPainel() {
+			return tituloPainel;
+		}
+	} // enum Opcao
+}
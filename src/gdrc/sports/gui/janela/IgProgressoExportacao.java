@@ -0,0 +1,219 @@
+package gdrc.sports.gui.janela;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.FlowLayout;
+import java.awt.event.ActionEvent;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.SwingWorker;
+import javax.swing.border.EmptyBorder;
+
+import gdrc.sports.gui.es.MensagemUsuario;
+import gdrc.sports.util.propriedades.CacheIcones;
+import gdrc.sports.util.relatorio.MontagemRelatorioPDF;
+
+/**
+ * Janela que exporta um relatório para PDF em segundo plano e exibe o
+ * andamento da exportação, com a quantidade de seções já escritas.<br><br>
+ *
+ * A janela não é modal e não é bloqueada pelas janelas modais da aplicação,
+ * portanto o usuário pode continuar utilizando a aplicação, inclusive
+ * exportando os relatórios de outros clientes, enquanto a exportação é feita.
+ * Ao cancelar a exportação, ou fechar a janela antes de ela terminar, o
+ * arquivo incompleto é excluído. Ao terminar, a janela informa o resultado
+ * e permite abrir o documento.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class IgProgressoExportacao extends JDialog {
+	private final JPanel contentPanel = new JPanel();
+
+	private JLabel labelSituacao;
+	private JProgressBar barraProgresso;
+	private JButton buttonAbrir, buttonCancelar;
+
+	private File arquivo;
+	private ExportacaoPDF exportacao;
+	private volatile MontagemRelatorioPDF montagem;
+
+	/**
+	 * Cria e exibe a janela, iniciando a exportação do relatório.
+	 *
+	 * @param location			O componente utilizado para posicionar a janela.
+	 * @param arquivo			O arquivo no qual o relatório será gravado.
+	 * @param preparacao		Cria a montagem com as seções do relatório. É
+	 * chamada em segundo plano, portanto pode consultar o banco de dados.
+	 * @param abrirAoConcluir	Se o documento deve ser aberto ao terminar a exportação.
+	 */
+	public IgProgressoExportacao(Component location, File arquivo, Callable<MontagemRelatorioPDF> preparacao,
+								 boolean abrirAoConcluir) {
+		this.arquivo = arquivo;
+
+		// Configurações da janela.
+		setBounds(100, 100, 420, 165);
+		getContentPane().setLayout(new BorderLayout());
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		setModalExclusionType(ModalExclusionType.APPLICATION_EXCLUDE);
+		setIconImage(CacheIcones.obterIconeAplicacao());
+		setTitle("Exportando para PDF");
+
+		// Configurações do painel principal.
+		contentPanel.setLayout(null);
+		contentPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
+		getContentPane().add(contentPanel, BorderLayout.CENTER);
+
+		JLabel labelArquivo = new JLabel(arquivo.getName());
+		labelArquivo.setToolTipText(arquivo.getAbsolutePath());
+		labelArquivo.setBounds(10, 11, 384, 14);
+		contentPanel.add(labelArquivo);
+
+		barraProgresso = new JProgressBar();
+		barraProgresso.setIndeterminate(true);
+		barraProgresso.setBounds(10, 33, 384, 20);
+		contentPanel.add(barraProgresso);
+
+		labelSituacao = new JLabel("Obtendo os dados do relatório...");
+		labelSituacao.setBounds(10, 61, 384, 14);
+		contentPanel.add(labelSituacao);
+
+		// Configurações do painel de botões.
+		JPanel buttonPane = new JPanel();
+		buttonPane.setLayout(new FlowLayout(FlowLayout.RIGHT));
+		getContentPane().add(buttonPane, BorderLayout.SOUTH);
+
+		buttonAbrir = new JButton("Abrir");
+		buttonAbrir.setEnabled(false);
+		buttonAbrir.addActionListener((ActionEvent e) -> { IgExportarPDF.abrirDocumentoExternamente(arquivo); });
+		buttonPane.add(buttonAbrir);
+
+		buttonCancelar = new JButton("Cancelar");
+		buttonCancelar.addActionListener((ActionEvent e) -> {
+			if(exportacao.isDone()) dispose();
+			else cancelarExportacao();
+		});
+		buttonPane.add(buttonCancelar);
+
+		exportacao = new ExportacaoPDF(preparacao, abrirAoConcluir);
+		exportacao.execute();
+
+		setModal(false);
+		setResizable(false);
+		setLocationRelativeTo(location);
+		setVisible(true);
+	}
+
+	/**
+	 * Cancela a exportação. As seções que estão sendo escritas terminam
+	 * em segundo plano, mas o arquivo do relatório é excluído.
+	 */
+	private void cancelarExportacao() {
+		if(exportacao.isDone()) return;
+		exportacao.cancel(false);
+		MontagemRelatorioPDF montagemAtual = montagem;
+		if(montagemAtual != null) montagemAtual.cancelar();
+	}
+
+	@Override
+	public void dispose() {
+		if(exportacao != null) cancelarExportacao();
+		super.dispose();
+	}
+
+	/**
+	 * Prepara e monta o relatório em segundo plano, publicando a
+	 * quantidade de seções escritas.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private class ExportacaoPDF extends SwingWorker<Boolean, Integer> {
+		private final Callable<MontagemRelatorioPDF> preparacao;
+		private final boolean abrirAoConcluir;
+		private volatile int totalSecoes;
+
+		private ExportacaoPDF(Callable<MontagemRelatorioPDF> preparacao, boolean abrirAoConcluir) {
+			this.preparacao = preparacao;
+			this.abrirAoConcluir = abrirAoConcluir;
+		}
+
+		@Override
+		protected Boolean doInBackground() throws Exception {
+			MontagemRelatorioPDF montagemPreparada = preparacao.call();
+			if(isCancelled()) return false;
+
+			totalSecoes = montagemPreparada.getQuantidadeSecoes();
+			montagemPreparada.setProgresso((int secoesEscritas, int total) -> publish(secoesEscritas));
+			montagem = montagemPreparada;
+			// A exportação pode ter sido cancelada antes de a montagem ser conhecida.
+			if(isCancelled()) montagemPreparada.cancelar();
+			publish(0);
+
+			boolean montado = montagemPreparada.montar(arquivo);
+			// O relatório pode ter sido concluído logo após o cancelamento.
+			if(montado && isCancelled()) {
+				arquivo.delete();
+				return false;
+			}
+			return montado;
+		}
+
+		@Override
+		protected void process(List<Integer> secoesEscritas) {
+			if(isDone()) return;
+
+			int escritas = secoesEscritas.get(secoesEscritas.size()-1);
+			barraProgresso.setIndeterminate(false);
+			barraProgresso.setMaximum(totalSecoes);
+			barraProgresso.setValue(Math.max(barraProgresso.getValue(), escritas));
+
+			if(barraProgresso.getValue() < totalSecoes)
+				labelSituacao.setText(String.format("Escrevendo as seções: %d de %d",
+													barraProgresso.getValue(), totalSecoes));
+			else labelSituacao.setText("Gravando o arquivo...");
+		}
+
+		@Override
+		protected void done() {
+			buttonCancelar.setText("Fechar");
+			barraProgresso.setIndeterminate(false);
+
+			boolean exportado;
+			try { exportado = !isCancelled() && get();
+			} catch (InterruptedException | ExecutionException e) {
+				setTitle("Erro ao exportar");
+				labelSituacao.setForeground(Color.RED);
+				labelSituacao.setText("Ocorreu um erro ao exportar o relatório.");
+				if(e.getCause() instanceof FileNotFoundException)
+					MensagemUsuario.msgErro(String.format("%s\nO arquivo não pôde ser encontrado "
+							+ "no caminho especificado ou está sendo \nutilizado por outro programa.",
+							arquivo.getAbsolutePath()));
+				else MensagemUsuario.msgErro("Ocorreu um erro ao exportar o relatório.");
+				return;
+			}
+
+			if(!exportado) {
+				setTitle("Exportação cancelada");
+				labelSituacao.setText("A exportação foi cancelada e o arquivo foi excluído.");
+				return;
+			}
+
+			setTitle("Exportação concluída");
+			barraProgresso.setMaximum(1);
+			barraProgresso.setValue(1);
+			labelSituacao.setText("O relatório foi exportado.");
+			buttonAbrir.setEnabled(true);
+			toFront();
+			if(abrirAoConcluir) IgExportarPDF.abrirDocumentoExternamente(arquivo);
+		}
+	}
+}
@@ -1,6 +1,6 @@
-/**
- * Mantm as classes que so utilizadas para criar a interface grfica. 
- * Ou seja, as Janelas que sero exibidas para o usurio da aplicao 
- * poder acessar os dados do programa. 
- */
+/**
+ * Mantém as classes que são utilizadas para criar a interface gráfica. 
+ * Ou seja, as Janelas que serão exibidas para o usuário da aplicação 
+ * poder acessar os dados do programa. 
+ */
 package gdrc.sports.gui.janela;
\ No newline at end of file
@@ -1,5 +1,5 @@
-/**
- * Contm as classes utilizadas para fazer a manipulao de arquivos que sero
- * utilizados pela aplicao para entrada e sada de dados. 
- */
+/**
+ * Contém as classes utilizadas para fazer a manipulação de arquivos que serão
+ * utilizados pela aplicação para entrada e saída de dados. 
+ */
 package gdrc.sports.io.arquivo;
\ No newline at end of file
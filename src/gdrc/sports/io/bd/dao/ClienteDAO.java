@@ -1,137 +1,189 @@
-package gdrc.sports.io.bd.dao;
-
-import gdrc.sports.tipo.Cliente;
-import gdrc.sports.tipo.time.Data;
-
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-
-/**
- * Contm os mtodos para a persistncia e recuperao 
- * no banco de dados na tabela que guarda os dados 
- * referente a um objeto do tipo {@link Cliente}.
- * 
- * @author Guilherme Domith Ribeiro Coelho
- */
-public class ClienteDAO extends DataBaseDAO<Cliente>{
-	
-	@Override
-	public boolean salvar(Cliente cliente) throws SQLException {
-		PreparedStatement stm = obterInstrucaoSQL(TipoInstrucaoSQL.SALVAR);
-		
-		stm.setString(1, cliente.getEmail());
-		stm.setString(2, cliente.getNome());
-		stm.setString(3, cliente.getSexo());
-		stm.setFloat(4, cliente.getPeso());
-		stm.setFloat(5, cliente.getAltura());
-		stm.setLong(6, cliente.getDataNascimento().getData().toEpochDay());
-		
-		stm.execute();
-		stm.close();
-		return true;
-	}
-	
-	@Override
-	public boolean excluir(Cliente cliente) throws SQLException {
-		String sql = "DELETE FROM cliente WHERE email=?";
-		
-		PreparedStatement stm = connection.prepareStatement(sql);
-		stm.setString(1, cliente.getEmail());
-		
-		stm.execute();
-		stm.close();
-		return true;
-	}
-
-	/**
-	 * Busca um cliente no banco de dados atravs do atributo <code>email</code> 
-	 * passado por parmetro.<br><br>  
-	 * O email fornecido ser utilizado para buscar apenas um cliente, 
-	 * visto que o email  utilizado com chave primria do cliente.
-	 *   
-	 * @param email O email utilizado para buscar o cliente no banco de dados.
-	 * 
-	 * @return Caso encontre um cliente com o email fornecido retorna um objeto 
-	 * {@link Cliente}. Se no, retorna <code>null</code>.
-	 * 
-	 * @throws SQLException Dispara a exceo caso ocorra um erro ao fazer a busca
-	 * no banco de dados.  
-	 */
-	public Cliente buscaClientePorEmail(String email) throws SQLException {
-		Cliente cliente = null;
-		String sql = "SELECT * FROM cliente WHERE email=?";
-		
-		PreparedStatement stm = connection.prepareStatement(sql);
-		stm.setString(1, email);
-		ResultSet rs = stm.executeQuery();
-		
-		if(rs.next())
-			cliente = capturarObjetoDoResultSet(rs);
-	
-		rs.close();
-		stm.close();
-		
-		return cliente;
-	}
-	
-	/**
-	 * Busca um cliente no banco de dados atravs do atributo <code>nome</code> 
-	 * passado por parmetro.<br><br>  
-	 * O nome fornecido ser utilizado para buscar vrios clientes, pois o 
-	 * critrio de pesquisa  que o cliente tenha pelo menos um trecho no 
-	 * seu nome igual ao que foi fornecido por parmetro. 
-	 *   
-	 * @param nome O nome utilizado para buscar os clientes no banco de dados.
-	 * 
-	 * @return Caso encontre clientes com o nome fornecido retorna uma lista
-	 * com todos os encontrados. Se no encontrar, retorna uma lista vazia.
-	 * 
-	 * @throws SQLException Dispara a exceo caso ocorra um erro ao fazer a busca
-	 * no banco de dados.  
-	 */
-	public List<Cliente> buscarClientePorNome(String nome) throws SQLException {
-		List<Cliente> clientes = new ArrayList<>();
-		String sql = "SELECT * FROM cliente WHERE nome ilike ?";
-		
-		PreparedStatement stm = connection.prepareStatement(sql);
-		stm.setString(1, "%"+nome+"%");
-		ResultSet rs = stm.executeQuery();
-		
-		while(rs.next())
-			clientes.add(capturarObjetoDoResultSet(rs));
-	
-		rs.close();
-		stm.close();
-		return clientes;
-	}
-
-	@Override
-	protected Cliente capturarObjetoDoResultSet(ResultSet rs) throws SQLException {
-		Cliente cliente = new Cliente();
-		
-		cliente.setEmail(rs.getString("email"));
-		cliente.setNome(rs.getString("nome"));
-		cliente.setSexo(rs.getString("sexo"));
-		cliente.setPeso(rs.getFloat("peso"));
-		cliente.setAltura(rs.getFloat("altura"));
-		Data dataNascimento = new Data(LocalDate.ofEpochDay(rs.getLong("data_de_nascimento")));
-		cliente.setDataNascimento(dataNascimento);
-		
-		return cliente;
-	}
-	
-	@Override
-	public String nomeTabela() {
-		return "cliente";
-	}
-
-	@Override
-	public String colunasTabela() {
-		return "email, nome, sexo, peso, altura, data_de_nascimento";
-	}
-
-}
+package gdrc.sports.io.bd.dao;
+
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.time.Data;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contém os métodos para a persistência e recuperação 
+ * no banco de dados na tabela que guarda os dados 
+ * referente a um objeto do tipo {@link Cliente}.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class ClienteDAO extends DataBaseDAO<Cliente>{
+	
+	@Override
+	public boolean salvar(Cliente cliente) throws SQLException {
+		PreparedStatement stm = obterInstrucaoSQL(TipoInstrucaoSQL.SALVAR);
+		
+		stm.setString(1, cliente.getEmail());
+		stm.setString(2, cliente.getNome());
+		stm.setString(3, cliente.getSexo());
+		stm.setFloat(4, cliente.getPeso());
+		stm.setFloat(5, cliente.getAltura());
+		stm.setLong(6, cliente.getDataNascimento().getData().toEpochDay());
+		
+		stm.execute();
+		stm.close();
+		return true;
+	}
+	
+	@Override
+	public boolean excluir(Cliente cliente) throws SQLException {
+		String sql = "DELETE FROM cliente WHERE email=?";
+		
+		PreparedStatement stm = connection.prepareStatement(sql);
+		stm.setString(1, cliente.getEmail());
+		
+		stm.execute();
+		stm.close();
+		return true;
+	}
+
+	/**
+	 * Busca um cliente no banco de dados através do atributo <code>email</code> 
+	 * passado por parâmetro.<br><br>  
+	 * O email fornecido será utilizado para buscar apenas um cliente, 
+	 * visto que o email é utilizado com chave primária do cliente.
+	 *   
+	 * @param email O email utilizado para buscar o cliente no banco de dados.
+	 * 
+	 * @return Caso encontre um cliente com o email fornecido retorna um objeto 
+	 * {@link Cliente}. Se não, retorna <code>null</code>.
+	 * 
+	 * @throws SQLException Dispara a exceção caso ocorra um erro ao fazer a busca
+	 * no banco de dados.  
+	 */
+	public Cliente buscaClientePorEmail(String email) throws SQLException {
+		Cliente cliente = null;
+		String sql = "SELECT * FROM cliente WHERE email=?";
+		
+		PreparedStatement stm = connection.prepareStatement(sql);
+		stm.setString(1, email);
+		ResultSet rs = stm.executeQuery();
+		
+		if(rs.next())
+			cliente = capturarObjetoDoResultSet(rs);
+	
+		rs.close();
+		stm.close();
+		
+		return cliente;
+	}
+	
+	/**
+	 * Busca um cliente no banco de dados através do atributo <code>nome</code> 
+	 * passado por parâmetro.<br><br>  
+	 * O nome fornecido será utilizado para buscar vários clientes, pois o 
+	 * critério de pesquisa é que o cliente tenha pelo menos um trecho no 
+	 * seu nome igual ao que foi fornecido por parâmetro. 
+	 *   
+	 * @param nome O nome utilizado para buscar os clientes no banco de dados.
+	 * 
+	 * @return Caso encontre clientes com o nome fornecido retorna uma lista
+	 * com todos os encontrados. Se não encontrar, retorna uma lista vazia.
+	 * 
+	 * @throws SQLException Dispara a exceção caso ocorra um erro ao fazer a busca
+	 * no banco de dados.  
+	 */
+	public List<Cliente> buscarClientePorNome(String nome) throws SQLException {
+		List<Cliente> clientes = new ArrayList<>();
+		String sql = "SELECT * FROM cliente WHERE nome ilike ?";
+		
+		PreparedStatement stm = connection.prepareStatement(sql);
+		stm.setString(1, "%"+nome+"%");
+		ResultSet rs = stm.executeQuery();
+		
+		while(rs.next())
+			clientes.add(capturarObjetoDoResultSet(rs));
+	
+		rs.close();
+		stm.close();
+		return clientes;
+	}
+
+	/**
+	 * Obtém a quantidade de clientes salvos no banco de dados.
+	 *
+	 * @return Retorna a quantidade de clientes.
+	 *
+	 * @throws SQLException Dispara a exceção caso ocorra um erro ao fazer a consulta
+	 * no banco de dados.
+	 */
+	public int contarClientes() throws SQLException {
+		String sql = "SELECT count(*) FROM cliente";
+
+		PreparedStatement stm = connection.prepareStatement(sql);
+		ResultSet rs = stm.executeQuery();
+		int quantidade = rs.next()? rs.getInt(1) : 0;
+
+		rs.close();
+		stm.close();
+		return quantidade;
+	}
+
+	/**
+	 * Obtém uma página dos clientes salvos no banco de dados, ordenados pelo
+	 * nome sem diferenciar letras maiúsculas e minúsculas e, para nomes iguais,
+	 * pelo email. A ordem é a mesma em todas as páginas, assim as páginas
+	 * consecutivas não possuem clientes repetidos.
+	 *
+	 * @param inicio		A posição do primeiro cliente da página, a partir de zero.
+	 * @param quantidade	A quantidade máxima de clientes da página.
+	 *
+	 * @return Retorna os clientes da página. Se a posição for maior que a
+	 * quantidade de clientes, retorna uma lista vazia.
+	 *
+	 * @throws SQLException Dispara a exceção caso ocorra um erro ao fazer a consulta
+	 * no banco de dados.
+	 */
+	public List<Cliente> listarPagina(int inicio, int quantidade) throws SQLException {
+		List<Cliente> clientes = new ArrayList<>(quantidade);
+		String sql = "SELECT * FROM cliente ORDER BY lower(nome), email LIMIT ? OFFSET ?";
+
+		PreparedStatement stm = connection.prepareStatement(sql);
+		stm.setInt(1, quantidade);
+		stm.setInt(2, inicio);
+		ResultSet rs = stm.executeQuery();
+
+		while(rs.next())
+			clientes.add(capturarObjetoDoResultSet(rs));
+
+		rs.close();
+		stm.close();
+		return clientes;
+	}
+
+	@Override
+	protected Cliente capturarObjetoDoResultSet(ResultSet rs) throws SQLException {
+		Cliente cliente = new Cliente();
+		
+		cliente.setEmail(rs.getString("email"));
+		cliente.setNome(rs.getString("nome"));
+		cliente.setSexo(rs.getString("sexo"));
+		cliente.setPeso(rs.getFloat("peso"));
+		cliente.setAltura(rs.getFloat("altura"));
+		Data dataNascimento = new Data(LocalDate.ofEpochDay(rs.getLong("data_de_nascimento")));
+		cliente.setDataNascimento(dataNascimento);
+		
+		return cliente;
+	}
+	
+	@Override
+	public String nomeTabela() {
+		return "cliente";
+	}
+
+	@Override
+	public String colunasTabela() {
+		return "email, nome, sexo, peso, altura, data_de_nascimento";
+	}
+
+}
@@ -1,200 +1,390 @@
-package gdrc.sports.io.bd.dao;
-
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
-
-import gdrc.sports.tipo.Exercicio;
-import gdrc.sports.tipo.ExercicioDetalhado;
-import gdrc.sports.tipo.Tempo;
-import gdrc.sports.tipo.time.Data;
-import gdrc.sports.tipo.time.Hora;
-
-/**
- * Contm os mtodos para a persistncia e recuperao 
- * no banco de dados na tabela que guarda os dados 
- * referente a um objeto do tipo {@link Exercicio}.
- * 
- * @author Guilherme Domith Ribeiro Coelho
- */
-public class ExercicioDAO extends DataBaseDAO<Exercicio>{
-	
-	@Override
-	public boolean salvar(Exercicio exercicio) throws SQLException {
-		PreparedStatement statement = obterInstrucaoSQL(TipoInstrucaoSQL.SALVAR);
-		
-		statement.setString(1, exercicio.getCliente().getEmail());
-		statement.setLong(2, exercicio.getTempo().getHoraInicio().getHora().toNanoOfDay());
-		statement.setLong(3, exercicio.getTempo().getHoraFim().getHora().toNanoOfDay());
-		statement.setLong(4, exercicio.getData().getData().toEpochDay());
-		statement.setFloat(5, exercicio.getDistancia());
-		statement.setFloat(6, exercicio.getCaloriasPerdidas());
-		statement.setInt(7, exercicio.getPassos());
-		statement.setLong(8, exercicio.getCodigo());
-		statement.setLong(9, exercicio.getTempo().getDuracao().getHora().toNanoOfDay());
-		statement.setString(10, exercicio.getExercicio());
-		
-		statement.execute();
-		statement.close();
-		return true;
-	}
-	
-	@Override
-	public boolean excluir(Exercicio exercicio) throws SQLException {
-		String sql = "DELETE FROM exercicio WHERE email=? and data=? and tempo_inicio=? and tempo_fim=?;";
-		
-		PreparedStatement stm = connection.prepareStatement(sql);
-		stm.setString(1, exercicio.getCliente().getEmail());
-		stm.setLong(2, exercicio.getData().getData().toEpochDay());
-		stm.setLong(3, exercicio.getTempo().getHoraInicio().getHora().toNanoOfDay());
-		stm.setLong(4, exercicio.getTempo().getHoraFim().getHora().toNanoOfDay());
-		
-		stm.execute();
-		stm.close();
-		
-		return true;
-	}
-	
-
-	/**
-	 * Pesquisa no banco de dados por exerccios que contenham as chaves que so
-	 * fornecidas por parmetro.<br><br>
-	 * 
-	 * As chaves a serem fornecidas podem ser <code>null</code>, de forma que seja 
-	 * fornecido apenas aquela ou aquelas que se pretende pesquisar. Portanto, se todas 
-	 * as chaves forem fornecidas  certo que a lista retornada ter apenas 1 
-	 * exerccio, se encontrado. Pois as chaves fornecidas so formam a chave 
-	 * primria da tabela que guarda os exerccios. 
-	 * 
-	 * @param email			O email do cliente para pesquisar exerccios com o mesmo.
-	 * @param data			A data dos exerccio para pesquisar exerccios com a mesma.
-	 * @param tempoInicio	A hora de inicio do exercicio para pesquisar exerccios com o mesmo.
-	 * @param tempoFim		A hora do fim do exercicio para pesquisar exerccios com o mesmo.
-	 * 
-	 * @return Retorna a lista com todos os exerccios que foram encontrados com as 
-	 * chaves fornecidas por parmetro. Caso no encontre nenhum retorna uma lista
-	 * vazia.
-	 * 
-	 * @throws SQLException Dispara a execeo caso ocorra um erro ao fazer a busca no 
-	 * banco de dados.
-	 */
-	public List<Exercicio> buscarExercicios(
-			String email, Data data, Hora tempoInicio, Hora tempoFim) throws SQLException {
-		
-		PreparedStatement stm = instrucaoSQLBuscarExercicio(email, data, tempoInicio, tempoFim);
-		ResultSet rs = stm.executeQuery();
-		
-		List<Exercicio> exercicios = new ArrayList<>();
-		while(rs.next()) 
-			exercicios.add(capturarObjetoDoResultSet(rs));
-	
-		rs.close();
-		stm.close();
-		return exercicios;
-	}
-	
-	/**
-	 * Obtm a instruo SQL que busca todos os exerccios com as chaves 
-	 * passadas por parmetro. A instruo busca todos os exerccios que esto 
-	 * na tabela exercicio, mas no possui atributos na tabela exercicio_detalhado.
-	 * Portanto, a instruo permite a busca apenas de objeto de instncia {@link Exercicio}.  
-	 */
-	private PreparedStatement instrucaoSQLBuscarExercicio(
-			String email, Data data, Hora tempoInicio, Hora tempoFim) throws SQLException {
-		
-		String sql = String.format("select * from exercicio as E where not exists "
-									+"(select codigo from exercicio_detalhado as ED "
-									+ "where E.codigo = ED.codigo)");
-
-		// Adiciona as condies de pesquisa que foram passadas por parmetro.
-		if(email != null) {
-			sql = String.format("%s and email='%s'", sql, email);
-		}if(data != null) {
-			sql = String.format("%s and data=%d", sql, data.getData().toEpochDay());
-		}if(tempoInicio != null) { 
-			sql = String.format("%s and tempo_inicio=%d", sql, tempoInicio.getHora().toNanoOfDay());
-		}if(tempoFim != null) {
-			sql = String.format("%s and tempo_fim=%d", sql, tempoFim.getHora().toNanoOfDay());
-		}
-		
-		return connection.prepareStatement(sql);
-	}
-
-	@Override
-	protected Exercicio capturarObjetoDoResultSet(ResultSet rs) throws SQLException {
-		Exercicio exercicio = new Exercicio();
-		
-		Tempo tempo = new Tempo();
-		tempo.setHoraInicio(new Hora(rs.getLong("tempo_inicio")));
-		tempo.setHoraFim(new Hora(rs.getLong("tempo_fim")));
-		tempo.setDuracao(new Hora(rs.getLong("duracao")));
-		
-		exercicio.setTempo(tempo);
-		exercicio.getCliente().setEmail(rs.getString("email"));
-		exercicio.setData(new Data(rs.getLong("data")));
-		
-		exercicio.setCaloriasPerdidas(rs.getFloat("calorias"));
-		exercicio.setDistancia(rs.getFloat("distancia"));
-		exercicio.setExercicio(rs.getString("exercicio"));
-		exercicio.setPassos(rs.getInt("passos"));
-		exercicio.setCodigo(rs.getLong("codigo"));
-				
-		return exercicio;
-	}
-
-	
-	/**
-	 * Fornece uma nova implementao do mtodo da subclasse para que seja inserida
-	 * uma nova instruo SQL para listar os exerccios. <br><br> 
-	 * 
-	 * Com esta implementao os dados buscados sero apenas dados da tabela 
-	 * exercicio, mas que no possui dados salvos na tabela 
-	 * exercicio_detalhado.
-	 * 
-	 * Portanto, os objetos listados por este mtodo contm os dados 
-	 * da tabela de {@link Exercicio} excluindo aqueles que possui dados 
-	 * adicionais na tabela de {@link ExercicioDetalhado}. 
-	 */
-	@Override
-	public List<Exercicio> listarTodos() throws SQLException {
-		List<Exercicio> exercicios = new ArrayList<>();
-		/*Instruo SQL para selecionar os dados da tabela exercicio, cujo cdigo
-		 * no est contido na tabela exercicio_detalhado. Ou seja, ir obter os dados
-		 * que so apenas instancia de Exerccio, ignorando os objeto ExerccioDetalhado.
-		 */
-		String sql = "select * from exercicio as E where not exists " 
-				  + "(select codigo from exercicio_detalhado as ED "
-				  + "where E.codigo = ED.codigo)";
-
-		PreparedStatement stm = connection.prepareStatement(sql);
-		ResultSet rs = stm.executeQuery();
-
-		while(rs.next()){
-			Exercicio exercicio = capturarObjetoDoResultSet(rs);
-			exercicios.add(exercicio);
-		}
-
-		rs.close();
-		stm.close();
-
-		return exercicios;
-	}
-	
-	@Override
-	public String nomeTabela() {
-		return "exercicio";
-	}
-
-	@Override
-	public String colunasTabela() {
-		return "email, tempo_inicio, tempo_fim, data, distancia, calorias, passos, codigo, duracao, exercicio";
-	}
-	
-	@Override
-	public String nomeSequence() {
-		return "exercicio-seq";
-	}
-
-}
+package gdrc.sports.io.bd.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import gdrc.sports.tipo.Elevacao;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioAgregado;
+import gdrc.sports.tipo.ExercicioAgregado.Agregacao;
+import gdrc.sports.tipo.ExercicioDetalhado;
+import gdrc.sports.tipo.Ritmo;
+import gdrc.sports.tipo.Ritmo.RitmoDetalhado;
+import gdrc.sports.tipo.Tempo;
+import gdrc.sports.tipo.Velocidade;
+import gdrc.sports.tipo.time.Data;
+import gdrc.sports.tipo.time.Hora;
+
+/**
+ * Contém os métodos para a persistência e recuperação 
+ * no banco de dados na tabela que guarda os dados 
+ * referente a um objeto do tipo {@link Exercicio}.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class ExercicioDAO extends DataBaseDAO<Exercicio>{
+	/** Quantidade de linhas lidas por vez pelo cursor de {@link #percorrerExercicios(String, Consumer)}. */
+	public static final int TAMANHO_BLOCO_CURSOR = 500;
+	
+	@Override
+	public boolean salvar(Exercicio exercicio) throws SQLException {
+		PreparedStatement statement = obterInstrucaoSQL(TipoInstrucaoSQL.SALVAR);
+		
+		statement.setString(1, exercicio.getCliente().getEmail());
+		statement.setLong(2, exercicio.getTempo().getHoraInicio().getHora().toNanoOfDay());
+		statement.setLong(3, exercicio.getTempo().getHoraFim().getHora().toNanoOfDay());
+		statement.setLong(4, exercicio.getData().getData().toEpochDay());
+		statement.setFloat(5, exercicio.getDistancia());
+		statement.setFloat(6, exercicio.getCaloriasPerdidas());
+		statement.setInt(7, exercicio.getPassos());
+		statement.setLong(8, exercicio.getCodigo());
+		statement.setLong(9, exercicio.getTempo().getDuracao().getHora().toNanoOfDay());
+		statement.setString(10, exercicio.getExercicio());
+		
+		statement.execute();
+		statement.close();
+		return true;
+	}
+	
+	@Override
+	public boolean excluir(Exercicio exercicio) throws SQLException {
+		String sql = "DELETE FROM exercicio WHERE email=? and data=? and tempo_inicio=? and tempo_fim=?;";
+		
+		PreparedStatement stm = connection.prepareStatement(sql);
+		stm.setString(1, exercicio.getCliente().getEmail());
+		stm.setLong(2, exercicio.getData().getData().toEpochDay());
+		stm.setLong(3, exercicio.getTempo().getHoraInicio().getHora().toNanoOfDay());
+		stm.setLong(4, exercicio.getTempo().getHoraFim().getHora().toNanoOfDay());
+		
+		stm.execute();
+		stm.close();
+		
+		return true;
+	}
+	
+
+	/**
+	 * Pesquisa no banco de dados por exercícios que contenham as chaves que são
+	 * fornecidas por parâmetro.<br><br>
+	 * 
+	 * As chaves a serem fornecidas podem ser <code>null</code>, de forma que seja 
+	 * fornecido apenas aquela ou aquelas que se pretende pesquisar. Portanto, se todas 
+	 * as chaves forem fornecidas é certo que a lista retornada terá apenas 1 
+	 * exercício, se encontrado. Pois as chaves fornecidas são formam a chave 
+	 * primária da tabela que guarda os exercícios. 
+	 * 
+	 * @param email			O email do cliente para pesquisar exercícios com o mesmo.
+	 * @param data			A data dos exercício para pesquisar exercícios com a mesma.
+	 * @param tempoInicio	A hora de inicio do exercicio para pesquisar exercícios com o mesmo.
+	 * @param tempoFim		A hora do fim do exercicio para pesquisar exercícios com o mesmo.
+	 * 
+	 * @return Retorna a lista com todos os exercícios que foram encontrados com as 
+	 * chaves fornecidas por parâmetro. Caso não encontre nenhum retorna uma lista
+	 * vazia.
+	 * 
+	 * @throws SQLException Dispara a execeção caso ocorra um erro ao fazer a busca no 
+	 * banco de dados.
+	 */
+	public List<Exercicio> buscarExercicios(
+			String email, Data data, Hora tempoInicio, Hora tempoFim) throws SQLException {
+		
+		PreparedStatement stm = instrucaoSQLBuscarExercicio(email, data, tempoInicio, tempoFim);
+		ResultSet rs = stm.executeQuery();
+		
+		List<Exercicio> exercicios = new ArrayList<>();
+		while(rs.next()) 
+			exercicios.add(capturarObjetoDoResultSet(rs));
+	
+		rs.close();
+		stm.close();
+		return exercicios;
+	}
+	
+	/**
+	 * Obtém a instrução SQL que busca todos os exercícios com as chaves 
+	 * passadas por parâmetro. A instrução busca todos os exercícios que estão 
+	 * na tabela exercicio, mas não possui atributos na tabela exercicio_detalhado.
+	 * Portanto, a instrução permite a busca apenas de objeto de instância {@link Exercicio}.  
+	 */
+	private PreparedStatement instrucaoSQLBuscarExercicio(
+			String email, Data data, Hora tempoInicio, Hora tempoFim) throws SQLException {
+		
+		String sql = String.format("select * from exercicio as E where not exists "
+									+"(select codigo from exercicio_detalhado as ED "
+									+ "where E.codigo = ED.codigo)");
+
+		// Adiciona as condições de pesquisa que foram passadas por parâmetro.
+		if(email != null) {
+			sql = String.format("%s and email='%s'", sql, email);
+		}if(data != null) {
+			sql = String.format("%s and data=%d", sql, data.getData().toEpochDay());
+		}if(tempoInicio != null) { 
+			sql = String.format("%s and tempo_inicio=%d", sql, tempoInicio.getHora().toNanoOfDay());
+		}if(tempoFim != null) {
+			sql = String.format("%s and tempo_fim=%d", sql, tempoFim.getHora().toNanoOfDay());
+		}
+		
+		return connection.prepareStatement(sql);
+	}
+
+	/**
+	 * Obtém os exercícios do cliente que foram realizados no período informado, 
+	 * agregados por data e por nome do exercício. A agregação é feita pelo 
+	 * banco de dados, portanto apenas uma linha por data e exercício é lida, 
+	 * independente da quantidade de exercícios que o cliente possui.<br><br>
+	 * 
+	 * São considerados tanto os objetos {@link Exercicio} quanto os objetos
+	 * {@link ExercicioDetalhado}. O ritmo e a velocidade são agregados 
+	 * apenas para os exercícios detalhados.
+	 * 
+	 * @param email			O email do cliente que realizou os exercícios.
+	 * @param dataInicial	A data inicial do período, inclusive.
+	 * @param dataFinal		A data final do período, inclusive.
+	 * 
+	 * @return Retorna a lista com os exercícios agregados ordenada por data e 
+	 * nome do exercício. Caso não encontre nenhum exercício retorna uma lista vazia.
+	 * 
+	 * @throws SQLException Dispara a execeção caso ocorra um erro ao fazer a busca no 
+	 * banco de dados.
+	 */
+	public List<ExercicioAgregado> agregarExerciciosPorDia(
+			String email, Data dataInicial, Data dataFinal) throws SQLException {
+		
+		/* A duração e o ritmo são salvos em nanossegundos e são agregados em 
+		 * minutos inteiros, da mesma forma que são exibidos nos gráficos. */
+		String sql = "select E.data, E.exercicio, "
+				   + colunasAgregadas("coalesce(E.duracao, 0) / 60000000000", "duracao") + ", "
+				   + colunasAgregadas("coalesce(E.distancia, 0)", "distancia") + ", "
+				   + colunasAgregadas("coalesce(E.calorias, 0)", "calorias") + ", "
+				   + colunasAgregadas("coalesce(E.passos, 0)", "passos") + ", "
+				   + colunasAgregadas("R.ritmo_medio / 60000000000", "ritmo") + ", "
+				   + colunasAgregadas("V.velocidade_media", "velocidade")
+				   + " from exercicio as E"
+				   + " left join exercicio_detalhado as ED on E.codigo = ED.codigo"
+				   + " left join ritmo as R on ED.codigo_ritmo = R.codigo"
+				   + " left join velocidade as V on ED.codigo_velocidade = V.codigo"
+				   + " where E.email=? and E.data between ? and ?"
+				   + " group by E.data, E.exercicio"
+				   + " order by E.data, E.exercicio";
+		
+		PreparedStatement stm = connection.prepareStatement(sql);
+		stm.setString(1, email);
+		stm.setLong(2, dataInicial.getData().toEpochDay());
+		stm.setLong(3, dataFinal.getData().toEpochDay());
+		ResultSet rs = stm.executeQuery();
+		
+		List<ExercicioAgregado> agregados = new ArrayList<>();
+		while(rs.next()) {
+			ExercicioAgregado agregado = new ExercicioAgregado();
+			agregado.setData(new Data(rs.getLong("data")));
+			agregado.setExercicio(rs.getString("exercicio"));
+			agregado.setDuracao(capturarAgregacao(rs, "duracao"));
+			agregado.setDistancia(capturarAgregacao(rs, "distancia"));
+			agregado.setCalorias(capturarAgregacao(rs, "calorias"));
+			agregado.setPassos(capturarAgregacao(rs, "passos"));
+			agregado.setRitmo(capturarAgregacao(rs, "ritmo"));
+			agregado.setVelocidade(capturarAgregacao(rs, "velocidade"));
+			agregados.add(agregado);
+		}
+		
+		rs.close();
+		stm.close();
+		return agregados;
+	}
+	
+	/**
+	 * Percorre todos os exercícios do cliente passado por parâmetro, em ordem de data e 
+	 * hora de início, entregando um exercício por vez ao consumidor. Os exercícios 
+	 * detalhados são entregues como {@link ExercicioDetalhado} com o ritmo, a velocidade, 
+	 * a elevação e as divisões do ritmo por quilômetro.<br><br>
+	 * 
+	 * Os registros são lidos através de um cursor do banco de dados em blocos de 
+	 * {@value #TAMANHO_BLOCO_CURSOR} linhas e apenas o exercício atual é mantido em memória, 
+	 * portanto a memória utilizada não depende da quantidade de exercícios do cliente. 
+	 * Para que o PostgreSQL utilize o cursor, a leitura é feita em uma transação de uma 
+	 * conexão exclusiva, obtida por {@link #obterConexaoCursor()}, e não na conexão 
+	 * compartilhada, portanto várias leituras podem ser feitas ao mesmo tempo e o 
+	 * consumidor pode acessar o banco de dados.
+	 * 
+	 * @param email			O email do cliente.
+	 * @param consumidor	O consumidor que recebe cada exercício lido.
+	 * 
+	 * @throws SQLException Dispara a execeção caso ocorra um erro ao fazer a busca no 
+	 * banco de dados.
+	 */
+	public void percorrerExercicios(String email, Consumer<Exercicio> consumidor) throws SQLException {
+		String sql = "select E.*, ED.codigo as codigo_detalhado, ED.codigo_ritmo, ED.codigo_velocidade, "
+				   + "ED.codigo_elevacao, R.ritmo_maximo, R.ritmo_medio, "
+				   + "V.velocidade_maxima, V.velocidade_media, EL.maior_elevacao, EL.menor_elevacao, "
+				   + "RD.quilometro, RD.ritmo as ritmo_divisao"
+				   + " from exercicio as E"
+				   + " left join exercicio_detalhado as ED on E.codigo = ED.codigo"
+				   + " left join ritmo as R on ED.codigo_ritmo = R.codigo"
+				   + " left join velocidade as V on ED.codigo_velocidade = V.codigo"
+				   + " left join elevacao as EL on ED.codigo_elevacao = EL.codigo"
+				   + " left join ritmo_ritmo_detalhado as RRD on R.codigo = RRD.codigo_ritmo"
+				   + " left join ritmo_detalhado as RD on RRD.codigo_ritmo_detalhado = RD.codigo"
+				   + " where E.email=?"
+				   + " order by E.data, E.tempo_inicio, E.codigo, RD.quilometro";
+		
+		Connection conexao = obterConexaoCursor();
+		PreparedStatement stm = null;
+		try {
+			stm = conexao.prepareStatement(sql);
+			stm.setFetchSize(TAMANHO_BLOCO_CURSOR);
+			stm.setString(1, email);
+			ResultSet rs = stm.executeQuery();
+			
+			// Cada divisão do ritmo é uma linha, por isso o exercício só é entregue quando o código muda.
+			Exercicio exercicio = null;
+			while(rs.next()) {
+				if(exercicio == null || exercicio.getCodigo() != rs.getLong("codigo")) {
+					if(exercicio != null) consumidor.accept(exercicio);
+					exercicio = capturarExercicioCompleto(rs);
+				}
+				
+				float quilometro = rs.getFloat("quilometro");
+				if(!rs.wasNull() && exercicio instanceof ExercicioDetalhado) {
+					RitmoDetalhado divisao = new RitmoDetalhado(quilometro, new Hora(rs.getLong("ritmo_divisao")));
+					((ExercicioDetalhado) exercicio).getRitmo().getDivisoes().add(divisao);
+				}
+			}
+			if(exercicio != null) consumidor.accept(exercicio);
+			
+			rs.close();
+		} finally {
+			// Fecha o cursor também se o consumidor interromper a leitura com uma exceção.
+			if(stm != null) stm.close();
+			devolverConexaoCursor(conexao);
+		}
+	}
+	
+	/**
+	 * Obtém o exercício da linha atual do resultado de {@link #percorrerExercicios(String, Consumer)}, 
+	 * criando um {@link ExercicioDetalhado} se o exercício possuir dados detalhados.
+	 */
+	private Exercicio capturarExercicioCompleto(ResultSet rs) throws SQLException {
+		Exercicio exercicio = capturarObjetoDoResultSet(rs);
+		rs.getLong("codigo_detalhado");
+		if(rs.wasNull()) return exercicio;
+		
+		Ritmo ritmo = new Ritmo();
+		ritmo.setCodigo(rs.getLong("codigo_ritmo"));
+		ritmo.setRitmoMaximo(new Hora(rs.getLong("ritmo_maximo")));
+		ritmo.setRitmoMedio(new Hora(rs.getLong("ritmo_medio")));
+		Velocidade velocidade = new Velocidade(rs.getFloat("velocidade_maxima"), rs.getFloat("velocidade_media"));
+		
+		Elevacao elevacao = new Elevacao(rs.getInt("maior_elevacao"), rs.getInt("menor_elevacao"));
+		
+		ExercicioDetalhado exercicioDet = new ExercicioDetalhado(ritmo, velocidade, elevacao);
+		exercicioDet.setCodigo(exercicio.getCodigo());
+		exercicioDet.setCliente(exercicio.getCliente());
+		exercicioDet.setCaloriasPerdidas(exercicio.getCaloriasPerdidas());
+		exercicioDet.setData(exercicio.getData());
+		exercicioDet.setDistancia(exercicio.getDistancia());
+		exercicioDet.setExercicio(exercicio.getExercicio());
+		exercicioDet.setPassos(exercicio.getPassos());
+		exercicioDet.setTempo(exercicio.getTempo());
+		return exercicioDet;
+	}
+	
+	/**
+	 * Obtém as colunas da instrução SQL que agregam a expressão passada 
+	 * por parâmetro. As colunas são nomeadas com o sufixo passado.
+	 */
+	private String colunasAgregadas(String expressao, String sufixo) {
+		return String.format("count(%1$s) as quantidade_%2$s, sum(%1$s) as soma_%2$s, "
+						   + "min(%1$s) as minimo_%2$s, max(%1$s) as maximo_%2$s", expressao, sufixo);
+	}
+	
+	/**
+	 * Obtém a agregação das colunas com o sufixo passado por parâmetro.
+	 */
+	private Agregacao capturarAgregacao(ResultSet rs, String sufixo) throws SQLException {
+		return new Agregacao(rs.getLong("quantidade_" + sufixo), 
+							 rs.getDouble("soma_" + sufixo),
+							 rs.getDouble("minimo_" + sufixo), 
+							 rs.getDouble("maximo_" + sufixo));
+	}
+
+	@Override
+	protected Exercicio capturarObjetoDoResultSet(ResultSet rs) throws SQLException {
+		Exercicio exercicio = new Exercicio();
+		
+		Tempo tempo = new Tempo();
+		tempo.setHoraInicio(new Hora(rs.getLong("tempo_inicio")));
+		tempo.setHoraFim(new Hora(rs.getLong("tempo_fim")));
+		tempo.setDuracao(new Hora(rs.getLong("duracao")));
+		
+		exercicio.setTempo(tempo);
+		exercicio.getCliente().setEmail(rs.getString("email"));
+		exercicio.setData(new Data(rs.getLong("data")));
+		
+		exercicio.setCaloriasPerdidas(rs.getFloat("calorias"));
+		exercicio.setDistancia(rs.getFloat("distancia"));
+		exercicio.setExercicio(rs.getString("exercicio"));
+		exercicio.setPassos(rs.getInt("passos"));
+		exercicio.setCodigo(rs.getLong("codigo"));
+				
+		return exercicio;
+	}
+
+	
+	/**
+	 * Fornece uma nova implementação do método da subclasse para que seja inserida
+	 * uma nova instrução SQL para listar os exercícios. <br><br> 
+	 * 
+	 * Com esta implementação os dados buscados serão apenas dados da tabela 
+	 * exercicio, mas que não possui dados salvos na tabela 
+	 * exercicio_detalhado.
+	 * 
+	 * Portanto, os objetos listados por este método contém os dados 
+	 * da tabela de {@link Exercicio} excluindo aqueles que possui dados 
+	 * adicionais na tabela de {@link ExercicioDetalhado}. 
+	 */
+	@Override
+	public List<Exercicio> listarTodos() throws SQLException {
+		List<Exercicio> exercicios = new ArrayList<>();
+		/*Instrução SQL para selecionar os dados da tabela exercicio, cujo código
+		 * não está contido na tabela exercicio_detalhado. Ou seja, irá obter os dados
+		 * que são apenas instancia de Exercício, ignorando os objeto ExercícioDetalhado.
+		 */
+		String sql = "select * from exercicio as E where not exists " 
+				  + "(select codigo from exercicio_detalhado as ED "
+				  + "where E.codigo = ED.codigo)";
+
+		PreparedStatement stm = connection.prepareStatement(sql);
+		ResultSet rs = stm.executeQuery();
+
+		while(rs.next()){
+			Exercicio exercicio = capturarObjetoDoResultSet(rs);
+			exercicios.add(exercicio);
+		}
+
+		rs.close();
+		stm.close();
+
+		return exercicios;
+	}
+	
+	@Override
+	public String nomeTabela() {
+		return "exercicio";
+	}
+
+	@Override
+	public String colunasTabela() {
+		return "email, tempo_inicio, tempo_fim, data, distancia, calorias, passos, codigo, duracao, exercicio";
+	}
+	
+	@Override
+	public String nomeSequence() {
+		return "exercicio-seq";
+	}
+
+}
@@ -1,5 +1,5 @@
-/**
- * Mantm as classes e interfaces que permitem padronizar o acesso e manipulao dos 
- * dados da aplicao. 
- */
+/**
+ * Mantém as classes e interfaces que permitem padronizar o acesso e manipulação dos 
+ * dados da aplicação. 
+ */
 package gdrc.sports.io.padrao;
\ No newline at end of file
@@ -1,319 +1,510 @@
-package gdrc.sports.io.pdf;
-
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.net.URL;
-
-import com.itextpdf.text.Anchor;
-import com.itextpdf.text.BaseColor;
-import com.itextpdf.text.Chunk;
-import com.itextpdf.text.Document;
-import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.Element;
-import com.itextpdf.text.Font;
-import com.itextpdf.text.Image;
-import com.itextpdf.text.Jpeg;
-import com.itextpdf.text.PageSize;
-import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Phrase;
-import com.itextpdf.text.pdf.PdfPCell;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
-import com.itextpdf.text.pdf.codec.PngImage;
-
-/**
- * Esta classe permite criar e escrever um documento do tipo PDF. <br>
- * O contedo do documento pode ser escrito utilizando os mtodos 
- * fornecidos pela classe que permitem adicionar varios tipo de 
- * elementos em sequncia. <br><br> 
- * 
- * Para que a escrita no documento possa ser feita deve-se 
- * primeiramente abrir o arquivo atraves do mtodo fornecido.
- * E fecha-lo ao trmino da escrita para liberar os recursos
- * do sistema. 
- *  
- * @author Guilherme Domith Ribeiro Coelho
- */
-public class PDF {
-	private File arquivo;
-	private OutputStream outputStream;
-	private Document documentoPDF;
-	
-	/**
-	 * Construtor que permite instanciar o objeto  
-	 * indicando o path name, caminho que indica onde documento PDF 
-	 * ser escrito.
-	 * 
-	 * @param pathName 		Caminho que indica onde o documento 
-	 * PDF ser escrito.
-	 */
-	public PDF(String pathName) {
-		this(new File(pathName));
-	}
-	
-	/**
-	 * Construtor que permite instanciar o objeto com 
-	 * a referencia do arquivo no qual o documento PDF ser escrito.
-	 * 
-	 * @param arquivo Arquivo que mantm o pathname do arquivo no qual 
-	 * o documento PDF ser escrito.  
-	 */
-	public PDF(File arquivo) {
-		this.arquivo = arquivo;
-		documentoPDF = new Document(PageSize.A4);
-	}
-	
-	/**
-	 * Abre o documento PDF para que possa fazer a escrita.
-	 *  
-	 * @return Retorna <code>true</code> se o documento foi aberto com sucesso.
-	 * 
-	 * @throws FileNotFoundException Dispara a execeo caso no seja
-	 * possvel localizar o arquivo passado no construtor da classe.
-	 * @throws DocumentException Dispara a exceo caso ocorra um erro ao
-	 * abrir o documento PDF.
-	 */
-	public boolean abrir() throws FileNotFoundException, DocumentException {
-		outputStream = new FileOutputStream(arquivo);
-		PdfWriter.getInstance(documentoPDF, outputStream);
-		documentoPDF.open();
-		return true;
-	}
-	
-	/**
-	 * Permite adicionar um pargrafo ao PDF.
-	 * 
-	 * @param paragrafo 	O texto a ser adicionado como pargrafo.
-	 * 
-	 * @return Retorna <code>true</code> se o pargrafo foi escrito com sucesso.
-	 * 
-	 * @throws DocumentException Dispara a exceo caso ocorra um erro ao
-	 * escrever o elemento no documento PDF.
-	 */
-	public boolean addParagrafo(String paragrafo) throws DocumentException{
-        Paragraph p = new Paragraph(paragrafo);
-		return documentoPDF.add(p);
-	}
-	
-	/**
-	 * Permite adicionar uma imagem do formato JPEG, atravs dos seus bytes, com o tamanho 
-	 * especificado por parmetro.
-	 *
-	 * @param bytesImagem 	Os bytes da imagem a ser inserida no documento.
-	 * @param largura		Largura que a imagem ir ocupar no PDF.
-	 * @param altura		Altura que a imagem ir ocupar no PDF.
-	 * 
-	 * @return Retorna <code>true</code> se a imagem foi adicionada 
-	 * com sucesso.
-	 * 
-	 * @throws IOException Dispara a execeo caso ocorra um erro ao escrever 
-	 * a imagem em arquivo. 
-	 * @throws DocumentException Dispara a exceo caso ocorra um erro ao 
-	 * adicionar a imagem. Verifique se o formato da imagem realmente 
-	 * JPEG.
-	 */
-	public boolean addImagemJpeg(byte[] bytesImagem, float largura, float altura) 
-									throws IOException, DocumentException{
-		Jpeg imagem = new Jpeg(bytesImagem, largura, altura);
-		imagem.scaleAbsoluteWidth(largura);
-		imagem.scaleAbsoluteHeight(altura);
-		imagem.setAlignment(Jpeg.ALIGN_CENTER);
-		return documentoPDF.add(imagem);
-	}
-	
-	/**
-	 * Permite adicionar uma imagem do formato JPEG com o tamanho especificado 
-	 * por parmetro.
-	 * 
-	 * @param urlImagem 	url que referencia a imagem no sistema de arquivos.
-	 * @param largura		Largura que a imagem ir ocupar no PDF.
-	 * @param altura		Altura que a imagem ir ocupar no PDF.
-	 * 
-	 * @return Retorna <code>true</code> se a imagem foi adicionada 
-	 * com sucesso.
-	 * 
-	 * @throws IOException Dispara a exceo caso ocorra um erro ao escrever 
-	 * a imagem em arquivo. 
-	 * @throws DocumentException Dispara a exceo caso ocorra um erro ao 
-	 * adicionar a imagem. Verifique se o formato da imagem realmente 
-	 * JPEG.
-	 */
-	public boolean addImagemJpeg(URL urlImagem, float largura, float altura) 
-									throws IOException, DocumentException{
-		Jpeg imagem = new Jpeg(urlImagem);
-		imagem.scaleAbsoluteWidth(largura);
-		imagem.scaleAbsoluteHeight(altura);
-		imagem.setAlignment(Jpeg.ALIGN_CENTER);
-		imagem.setBorder(1);
-		return documentoPDF.add(imagem);
-	}
-	
-	/**
-	 * Permite adicionar uma imagem do formato PNG com o tamanho especificado 
-	 * por parmetro.
-	 * 
-	 * @param urlImagem 	url que referencia a imagem no sistema de arquivos.
-	 * @param largura		Largura que a imagem ir ocupar no PDF.
-	 * @param altura		Altura que a imagem ir ocupar no PDF.
-	 * 
-	 * @return  Retorna <code>true</code> se a imagem foi adicionada 
-	 * com sucesso.
-	 * 
-	 * @throws IOException Dispara a execeo caso ocorra um erro ao escrever 
-	 * a imagem em arquivo. 
-	 * @throws DocumentException Dispara a exceo caso ocorra um erro ao 
-	 * adicionar a imagem. Verifique se o formato da imagem realmente 
-	 * PNG.
-	 */
-	public boolean addImagemPng(URL urlImagem, float largura, float altura)
-									throws IOException, DocumentException{
-		Image imagem = criarImagemPNG(urlImagem, largura, altura);
-		imagem.setAlignment(Element.ALIGN_CENTER);
-		
-		return documentoPDF.add(imagem);
-	}
-	
-	/**
-	 * Permite adicionar um ttulo j formatado ao PDF. O ttulo ser formatado 
-	 * em negrito para se destacar dos demais elementos. O tamanho, o alinhamento 
-	 * horizontal e um cone associado ao ttulo pode ser adicionado por meio dos 
-	 * parmetros.
-	 * 
-	 * @param titulo 		O texto a ser adicionado como ttulo.
-	 * @param fontSize		O tamanho da fonte do ttulo.
-	 * @param alinhamento 	A constante que indica qual ser o alinhamento 
-	 * horizontal do ttulo. Pode ser {@link Element#ALIGN_CENTER} por exemplo.
-	 * @param icone 		O cone associado ao ttulo caso necessrio. 
-	 * Pode ser <code>null</code>.
-	 * 
-	 * @return Retorna <code>true</code> se o ttulo foi escrito com sucesso.
-	 * 
-	 * @throws DocumentException Dispara a exceo caso ocorra um erro ao
-	 * adicionar o ttulo no documento PDF.
-	 */
-	public boolean addTitulo(String titulo, float fontSize, int alinhamento, Image icone) throws DocumentException{
-        PdfPTable table = new PdfPTable(2);
-        table.setWidthPercentage(80f);
-        table.setWidths(new int[] {1,4});
-        table.setHorizontalAlignment(alinhamento);
-        
-        // Se o alinhamento for para esquerda o cone ter um espao menor.
-    	if(alinhamento == Element.ALIGN_LEFT)
-    		table.setWidths(new int[] {1,9});
-        
-        PdfPCell iconeCell = new PdfPCell();
-        if(icone != null) { iconeCell.addElement(icone); }
-    	iconeCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-        iconeCell.setBorder(0);
-        table.addCell(iconeCell);
-        
-        Paragraph paragrafo = new Paragraph(titulo);
-        paragrafo.getFont().setSize(fontSize);
-        paragrafo.getFont().setStyle(Font.BOLD);
-        paragrafo.setAlignment(alinhamento);
-        
-        PdfPCell tituloCell = new PdfPCell(paragrafo);
-        tituloCell.setBorder(0);
-        tituloCell.setHorizontalAlignment(alinhamento);
-        table.addCell(tituloCell);
-        table.setSpacingAfter(5);
-        
-		return documentoPDF.add(table);
-	}
-	
-	/**
-	 * Cria uma imagem do tipo PNG que pode ser diretamente adicionada a um documento PDF.<br>  
-	 * A imagem criada  uma {@link Image} da API Itext, e tambm um {@link Element}, por 
-	 * isso o objeto pode ser diretamente inserido no PDF.
-	 * 
-	 * @param urlImagem 	url que referencia a imagem no sistema de arquivos.
-	 * @param largura		Largura que a imagem deve ocupar no PDF quando adicionada.
-	 * @param altura		Altura que a imagem deve ocupar no PDF quando adicionada.
-	 * 
-	 * @return Retorna o objeto {@link Image} do tipo PNG criado.
-	 * 
-	 * @throws IOException Dispara a exceo caso um erro ao criar a imagem.
-	 */
-	public static Image criarImagemPNG(URL urlImagem, float largura, float altura) throws IOException {
-		Image imagem = PngImage.getImage(urlImagem);
-		imagem.scaleAbsoluteWidth(largura);
-		imagem.scaleAbsoluteHeight(altura);
-		return imagem;
-	}
-	
-	/**
-	 * Permite adicionar ao PDF um link referenciado pelo texto 
-	 * que  passado por parmetro.
-	 * 
-	 * @param descricao 	A descrio que ser adicionado antes do link.
-	 * @param textoLink 	O texto a ser exibido, que ir referenciar o link.
-	 * @param link 			O link que est associado ao texto informado.
-	 * 
-	 * @return Retorna <code>true</code> se o link foi escrito com sucesso.
-	 * 
-	 * @throws DocumentException Dispara a exceo caso ocorra um erro ao
-	 * escrever o elemento no documento PDF.
-	 */
-	public boolean addLink(String descricao, String textoLink, String link) throws DocumentException {
-		documentoPDF.add(new Phrase(descricao));
-		
-		Anchor anchor = new Anchor(textoLink);
-		anchor.setReference(link);
-		anchor.getFont().setColor(BaseColor.BLUE);
-		anchor.getFont().setStyle(Font.UNDERLINE);
-		return documentoPDF.add(anchor);
-	}
-	
-	/**
-	 * Permite adicionar um espaamento horizontal ao PDF, adicionando 
-	 * novas linhas aps o ltimo elemento adicionado ao PDF.
-	 * 
-	 * @param numeroLinhas O nmero de linhas a ser inserido aps o ltimo
-	 * elemento adicionado.
-	 * 
-	 * @return Retorna <code>true</code> se as linhas foram inseridas 
-	 * com sucesso.
-	 * 
-	 * @throws DocumentException Dispara a exceo caso ocorra um erro ao
-	 * escrever as linhas no documento PDF.
-	 */
-	public boolean addNovasLinhas(float numeroLinhas) throws DocumentException{
-		for(int i=0; i < numeroLinhas; i++)
-			documentoPDF.add(Chunk.NEWLINE);
-		return true;
-	}
-	
-	/**
-	 * Fecha o documento PDF e todas as suas dependncias 
-	 * utilizadas para fazer a escrita.
-	 * 
-	 * @return  Retorna <code>true</code> se o documento foi
-	 * fechado corretamente.
-	 * 
-	 * @throws IOException Dispara a exceo caso o documento 
-	 * no seja fechado corretamente.
-	 */
-	public boolean fechar() throws IOException {
-		if(documentoPDF != null) documentoPDF.close();
-		if(outputStream != null) outputStream.close();
-		return true;
-	}
-
-	/**
-	 * Cria uma nova pgina aps o ltimo elemento adicionado 
-	 * no documento PDF.
-	 * 
-	 * @return Retorna <code>true</code> se a nova pgina foi 
-	 * criada.
-	 * 
-	 * @throws DocumentException Dispara a exceo caso ocorra 
-	 * um erro ao criar a nova pgina. 
-	 */
-	public boolean criarNovaPagina() throws DocumentException {
-		return documentoPDF.add(Chunk.NEXTPAGE);
-	}
-
-}
+package gdrc.sports.io.pdf;
+
+import java.awt.Graphics2D;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.itextpdf.awt.PdfGraphics2D;
+import com.itextpdf.text.Anchor;
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Chunk;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Image;
+import com.itextpdf.text.ImgTemplate;
+import com.itextpdf.text.Jpeg;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfTemplate;
+import com.itextpdf.text.pdf.PdfWriter;
+import com.itextpdf.text.pdf.codec.PngImage;
+
+/**
+ * Esta classe permite criar e escrever um documento do tipo PDF. <br>
+ * O conteúdo do documento pode ser escrito utilizando os métodos 
+ * fornecidos pela classe que permitem adicionar varios tipo de 
+ * elementos em sequência. <br><br> 
+ * 
+ * Para que a escrita no documento possa ser feita deve-se 
+ * primeiramente abrir o arquivo atraves do método fornecido.
+ * E fecha-lo ao término da escrita para liberar os recursos
+ * do sistema. 
+ *  
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class PDF {
+	/** Imagens PNG já decodificadas, mantidas pela url de cada imagem. */
+	private static final Map<String, Image> IMAGENS_PNG = new ConcurrentHashMap<>();
+	
+	/** Quantidade de linhas de uma tabela que são escritas no documento de uma só vez. */
+	public static final int LINHAS_POR_BLOCO_TABELA = 50;
+	private static final Font FONTE_TABELA = new Font(Font.FontFamily.HELVETICA, 8),
+							  FONTE_CABECALHO_TABELA = new Font(Font.FontFamily.HELVETICA, 8, Font.BOLD);
+	
+	private File arquivo;
+	private OutputStream outputStream;
+	private Document documentoPDF;
+	private PdfWriter writer;
+	private PdfPTable tabela;
+	private int linhasPendentesTabela;
+	
+	/**
+	 * Construtor que permite instanciar o objeto  
+	 * indicando o path name, caminho que indica onde documento PDF 
+	 * será escrito.
+	 * 
+	 * @param pathName 		Caminho que indica onde o documento 
+	 * PDF será escrito.
+	 */
+	public PDF(String pathName) {
+		this(new File(pathName));
+	}
+	
+	/**
+	 * Construtor que permite instanciar o objeto com 
+	 * a referencia do arquivo no qual o documento PDF será escrito.
+	 * 
+	 * @param arquivo Arquivo que mantém o pathname do arquivo no qual 
+	 * o documento PDF será escrito.  
+	 */
+	public PDF(File arquivo) {
+		this.arquivo = arquivo;
+		documentoPDF = new Document(PageSize.A4);
+	}
+	
+	/**
+	 * Construtor que permite instanciar o objeto com o {@link OutputStream} 
+	 * no qual o documento PDF será escrito, por exemplo para criar o documento 
+	 * em memória. O stream é fechado junto com o documento.
+	 * 
+	 * @param outputStream 	O stream no qual o documento PDF será escrito.
+	 */
+	public PDF(OutputStream outputStream) {
+		this.outputStream = outputStream;
+		documentoPDF = new Document(PageSize.A4);
+	}
+	
+	/**
+	 * Abre o documento PDF para que possa fazer a escrita.
+	 *  
+	 * @return Retorna <code>true</code> se o documento foi aberto com sucesso.
+	 * 
+	 * @throws FileNotFoundException Dispara a execeção caso não seja
+	 * possível localizar o arquivo passado no construtor da classe.
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao
+	 * abrir o documento PDF.
+	 */
+	public boolean abrir() throws FileNotFoundException, DocumentException {
+		if(outputStream == null) outputStream = new FileOutputStream(arquivo);
+		writer = PdfWriter.getInstance(documentoPDF, outputStream);
+		documentoPDF.open();
+		return true;
+	}
+	
+	/**
+	 * Permite adicionar um parágrafo ao PDF.
+	 * 
+	 * @param paragrafo 	O texto a ser adicionado como parágrafo.
+	 * 
+	 * @return Retorna <code>true</code> se o parágrafo foi escrito com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao
+	 * escrever o elemento no documento PDF.
+	 */
+	public boolean addParagrafo(String paragrafo) throws DocumentException{
+        Paragraph p = new Paragraph(paragrafo);
+		return documentoPDF.add(p);
+	}
+	
+	/**
+	 * Permite adicionar uma imagem do formato JPEG, através dos seus bytes, com o tamanho 
+	 * especificado por parâmetro.
+	 *
+	 * @param bytesImagem 	Os bytes da imagem a ser inserida no documento.
+	 * @param largura		Largura que a imagem irá ocupar no PDF.
+	 * @param altura		Altura que a imagem irá ocupar no PDF.
+	 * 
+	 * @return Retorna <code>true</code> se a imagem foi adicionada 
+	 * com sucesso.
+	 * 
+	 * @throws IOException Dispara a execeção caso ocorra um erro ao escrever 
+	 * a imagem em arquivo. 
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao 
+	 * adicionar a imagem. Verifique se o formato da imagem realmente é
+	 * JPEG.
+	 */
+	public boolean addImagemJpeg(byte[] bytesImagem, float largura, float altura) 
+									throws IOException, DocumentException{
+		Jpeg imagem = new Jpeg(bytesImagem, largura, altura);
+		imagem.scaleAbsoluteWidth(largura);
+		imagem.scaleAbsoluteHeight(altura);
+		imagem.setAlignment(Jpeg.ALIGN_CENTER);
+		return documentoPDF.add(imagem);
+	}
+	
+	/**
+	 * Permite adicionar uma imagem do formato JPEG com o tamanho especificado 
+	 * por parâmetro.
+	 * 
+	 * @param urlImagem 	url que referencia a imagem no sistema de arquivos.
+	 * @param largura		Largura que a imagem irá ocupar no PDF.
+	 * @param altura		Altura que a imagem irá ocupar no PDF.
+	 * 
+	 * @return Retorna <code>true</code> se a imagem foi adicionada 
+	 * com sucesso.
+	 * 
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever 
+	 * a imagem em arquivo. 
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao 
+	 * adicionar a imagem. Verifique se o formato da imagem realmente é
+	 * JPEG.
+	 */
+	public boolean addImagemJpeg(URL urlImagem, float largura, float altura) 
+									throws IOException, DocumentException{
+		Jpeg imagem = new Jpeg(urlImagem);
+		imagem.scaleAbsoluteWidth(largura);
+		imagem.scaleAbsoluteHeight(altura);
+		imagem.setAlignment(Jpeg.ALIGN_CENTER);
+		imagem.setBorder(1);
+		return documentoPDF.add(imagem);
+	}
+	
+	/**
+	 * Permite adicionar uma imagem vetorial, com o tamanho especificado por parâmetro, 
+	 * desenhada através de um {@link Graphics2D}. O desenho é gravado no PDF como 
+	 * um template de linhas, formas e textos, portanto não perde a qualidade ao ser 
+	 * ampliado e normalmente ocupa menos espaço que uma imagem JPEG equivalente.<br><br>
+	 * 
+	 * As fontes utilizadas no desenho são substituídas pelas fontes padrão do PDF 
+	 * mais próximas, que não precisam ser incorporadas ao documento.
+	 * 
+	 * @param desenho 		Desenha a imagem no {@link Graphics2D} recebido, ocupando a 
+	 * área a partir da origem com a largura e altura passadas por parâmetro.
+	 * @param largura		Largura que a imagem irá ocupar no PDF.
+	 * @param altura		Altura que a imagem irá ocupar no PDF.
+	 * 
+	 * @return Retorna <code>true</code> se a imagem foi adicionada 
+	 * com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao 
+	 * adicionar a imagem ou caso o documento não esteja aberto.
+	 */
+	public boolean addImagemVetorial(Consumer<Graphics2D> desenho, float largura, float altura) 
+									throws DocumentException{
+		if(writer == null) throw new DocumentException("O documento PDF não está aberto.");
+		
+		PdfTemplate template = writer.getDirectContent().createTemplate(largura, altura);
+		Graphics2D g2 = new PdfGraphics2D(template, largura, altura);
+		try { desenho.accept(g2); 
+		} finally { g2.dispose(); }
+		
+		Image imagem = new ImgTemplate(template);
+		imagem.setAlignment(Element.ALIGN_CENTER);
+		return documentoPDF.add(imagem);
+	}
+	
+	/**
+	 * Permite adicionar uma imagem do formato PNG com o tamanho especificado 
+	 * por parâmetro.
+	 * 
+	 * @param urlImagem 	url que referencia a imagem no sistema de arquivos.
+	 * @param largura		Largura que a imagem irá ocupar no PDF.
+	 * @param altura		Altura que a imagem irá ocupar no PDF.
+	 * 
+	 * @return  Retorna <code>true</code> se a imagem foi adicionada 
+	 * com sucesso.
+	 * 
+	 * @throws IOException Dispara a execeção caso ocorra um erro ao escrever 
+	 * a imagem em arquivo. 
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao 
+	 * adicionar a imagem. Verifique se o formato da imagem realmente é
+	 * PNG.
+	 */
+	public boolean addImagemPng(URL urlImagem, float largura, float altura)
+									throws IOException, DocumentException{
+		Image imagem = criarImagemPNG(urlImagem, largura, altura);
+		imagem.setAlignment(Element.ALIGN_CENTER);
+		
+		return documentoPDF.add(imagem);
+	}
+	
+	/**
+	 * Permite adicionar um título já formatado ao PDF. O título será formatado 
+	 * em negrito para se destacar dos demais elementos. O tamanho, o alinhamento 
+	 * horizontal e um ícone associado ao título pode ser adicionado por meio dos 
+	 * parâmetros.
+	 * 
+	 * @param titulo 		O texto a ser adicionado como título.
+	 * @param fontSize		O tamanho da fonte do título.
+	 * @param alinhamento 	A constante que indica qual será o alinhamento 
+	 * horizontal do título. Pode ser {@link Element#ALIGN_CENTER} por exemplo.
+	 * @param icone 		O ícone associado ao título caso necessário. 
+	 * Pode ser <code>null</code>.
+	 * 
+	 * @return Retorna <code>true</code> se o título foi escrito com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao
+	 * adicionar o título no documento PDF.
+	 */
+	public boolean addTitulo(String titulo, float fontSize, int alinhamento, Image icone) throws DocumentException{
+        PdfPTable table = new PdfPTable(2);
+        table.setWidthPercentage(80f);
+        table.setWidths(new int[] {1,4});
+        table.setHorizontalAlignment(alinhamento);
+        
+        // Se o alinhamento for para esquerda o ícone terá um espaço menor.
+    	if(alinhamento == Element.ALIGN_LEFT)
+    		table.setWidths(new int[] {1,9});
+        
+        PdfPCell iconeCell = new PdfPCell();
+        if(icone != null) { iconeCell.addElement(icone); }
+    	iconeCell.setHorizontalAlignment(Element.ALIGN_CENTER);
+        iconeCell.setBorder(0);
+        table.addCell(iconeCell);
+        
+        Paragraph paragrafo = new Paragraph(titulo);
+        paragrafo.getFont().setSize(fontSize);
+        paragrafo.getFont().setStyle(Font.BOLD);
+        paragrafo.setAlignment(alinhamento);
+        
+        PdfPCell tituloCell = new PdfPCell(paragrafo);
+        tituloCell.setBorder(0);
+        tituloCell.setHorizontalAlignment(alinhamento);
+        table.addCell(tituloCell);
+        table.setSpacingAfter(5);
+        
+		return documentoPDF.add(table);
+	}
+	
+	/**
+	 * Cria uma imagem do tipo PNG que pode ser diretamente adicionada a um documento PDF.<br>  
+	 * A imagem criada é uma {@link Image} da API Itext, e também um {@link Element}, por 
+	 * isso o objeto pode ser diretamente inserido no PDF.<br><br>
+	 * 
+	 * A imagem referenciada pela url é decodificada apenas uma vez e mantida em memória 
+	 * enquanto a aplicação estiver em execução. Cada chamada retorna uma cópia com o tamanho 
+	 * especificado que compartilha os dados da imagem decodificada, por isso a mesma imagem 
+	 * adicionada várias vezes em um documento é gravada apenas uma vez no arquivo.
+	 * 
+	 * @param urlImagem 	url que referencia a imagem no sistema de arquivos.
+	 * @param largura		Largura que a imagem deve ocupar no PDF quando adicionada.
+	 * @param altura		Altura que a imagem deve ocupar no PDF quando adicionada.
+	 * 
+	 * @return Retorna o objeto {@link Image} do tipo PNG criado.
+	 * 
+	 * @throws IOException Dispara a exceção caso um erro ao criar a imagem.
+	 */
+	public static Image criarImagemPNG(URL urlImagem, float largura, float altura) throws IOException {
+		Image imagem = Image.getInstance(obterImagemPNG(urlImagem));
+		imagem.scaleAbsoluteWidth(largura);
+		imagem.scaleAbsoluteHeight(altura);
+		return imagem;
+	}
+	
+	/**
+	 * Obtém a imagem PNG decodificada do cache, decodificando-a caso seja a primeira vez 
+	 * que é utilizada. A url é convertida em <code>String</code> para ser utilizada como 
+	 * chave, pois o {@link URL#equals(Object)} pode resolver o nome do host.
+	 */
+	private static Image obterImagemPNG(URL urlImagem) throws IOException {
+		String chave = urlImagem.toExternalForm();
+		Image imagem = IMAGENS_PNG.get(chave);
+		if(imagem == null) {
+			imagem = PngImage.getImage(urlImagem);
+			Image existente = IMAGENS_PNG.putIfAbsent(chave, imagem);
+			if(existente != null) imagem = existente;
+		}
+		return imagem;
+	}
+	
+	/**
+	 * Inicia uma tabela no PDF com o cabeçalho e as larguras das colunas passados 
+	 * por parâmetro. As linhas são inseridas através de {@link #addLinhaTabela(String...)} 
+	 * e a tabela deve ser terminada com {@link #finalizarTabela()}.<br><br>
+	 * 
+	 * A tabela é escrita no documento em blocos de {@value #LINHAS_POR_BLOCO_TABELA} linhas 
+	 * à medida que as linhas são inseridas. As linhas já escritas são descartadas da memória, 
+	 * por isso a memória utilizada não depende da quantidade de linhas da tabela. O 
+	 * cabeçalho é repetido no início de cada página.
+	 * 
+	 * @param cabecalho		Os títulos das colunas da tabela.
+	 * @param larguras		As larguras relativas das colunas.
+	 * 
+	 * @return Retorna <code>true</code> se a tabela foi iniciada com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso outra tabela já tenha sido 
+	 * iniciada e não finalizada, ou caso o número de larguras seja diferente do 
+	 * número de colunas.
+	 */
+	public boolean iniciarTabela(String[] cabecalho, float[] larguras) throws DocumentException {
+		if(tabela != null) throw new DocumentException("A tabela anterior não foi finalizada.");
+		if(cabecalho.length != larguras.length) 
+			throw new DocumentException("O número de larguras é diferente do número de colunas.");
+		
+		tabela = new PdfPTable(larguras);
+		tabela.setWidthPercentage(100f);
+		tabela.setComplete(false);
+		
+		for(String titulo : cabecalho) {
+			PdfPCell celula = new PdfPCell(new Phrase(titulo, FONTE_CABECALHO_TABELA));
+			celula.setBackgroundColor(BaseColor.LIGHT_GRAY);
+			celula.setHorizontalAlignment(Element.ALIGN_CENTER);
+			tabela.addCell(celula);
+		}
+		tabela.setHeaderRows(1);
+		linhasPendentesTabela = 0;
+		return true;
+	}
+	
+	/**
+	 * Insere uma linha na tabela iniciada por {@link #iniciarTabela(String[], float[])}. 
+	 * Se a quantidade de células for menor que o número de colunas, as colunas restantes 
+	 * ficam vazias.
+	 * 
+	 * @param celulas	O texto de cada célula da linha.
+	 * 
+	 * @return Retorna <code>true</code> se a linha foi inserida com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso nenhuma tabela tenha sido iniciada 
+	 * ou caso ocorra um erro ao escrever as linhas no documento.
+	 */
+	public boolean addLinhaTabela(String... celulas) throws DocumentException {
+		if(tabela == null) throw new DocumentException("Nenhuma tabela foi iniciada.");
+		
+		for(int coluna = 0; coluna < tabela.getNumberOfColumns(); coluna++)
+			tabela.addCell(new Phrase(coluna < celulas.length? celulas[coluna] : "", FONTE_TABELA));
+		return escreverBlocoTabela();
+	}
+	
+	/**
+	 * Insere uma linha na tabela iniciada por {@link #iniciarTabela(String[], float[])} 
+	 * com uma única célula que ocupa todas as colunas.
+	 * 
+	 * @param texto		O texto da linha.
+	 * 
+	 * @return Retorna <code>true</code> se a linha foi inserida com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso nenhuma tabela tenha sido iniciada 
+	 * ou caso ocorra um erro ao escrever as linhas no documento.
+	 */
+	public boolean addLinhaMescladaTabela(String texto) throws DocumentException {
+		if(tabela == null) throw new DocumentException("Nenhuma tabela foi iniciada.");
+		
+		PdfPCell celula = new PdfPCell(new Phrase(texto, FONTE_TABELA));
+		celula.setColspan(tabela.getNumberOfColumns());
+		tabela.addCell(celula);
+		return escreverBlocoTabela();
+	}
+	
+	/**
+	 * Escreve as linhas pendentes da tabela no documento quando completam um bloco.
+	 */
+	private boolean escreverBlocoTabela() throws DocumentException {
+		if(++linhasPendentesTabela < LINHAS_POR_BLOCO_TABELA) return true;
+		
+		linhasPendentesTabela = 0;
+		return documentoPDF.add(tabela);
+	}
+	
+	/**
+	 * Finaliza a tabela iniciada por {@link #iniciarTabela(String[], float[])}, escrevendo 
+	 * no documento as linhas que ainda não foram escritas.
+	 * 
+	 * @return Retorna <code>true</code> se a tabela foi finalizada com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso nenhuma tabela tenha sido iniciada 
+	 * ou caso ocorra um erro ao escrever as linhas no documento.
+	 */
+	public boolean finalizarTabela() throws DocumentException {
+		if(tabela == null) throw new DocumentException("Nenhuma tabela foi iniciada.");
+		
+		tabela.setComplete(true);
+		try { return documentoPDF.add(tabela);
+		} finally { tabela = null; }
+	}
+	
+	/**
+	 * Permite adicionar ao PDF um link referenciado pelo texto 
+	 * que é passado por parâmetro.
+	 * 
+	 * @param descricao 	A descrião que será adicionado antes do link.
+	 * @param textoLink 	O texto a será exibido, que irá referenciar o link.
+	 * @param link 			O link que está associado ao texto informado.
+	 * 
+	 * @return Retorna <code>true</code> se o link foi escrito com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao
+	 * escrever o elemento no documento PDF.
+	 */
+	public boolean addLink(String descricao, String textoLink, String link) throws DocumentException {
+		documentoPDF.add(new Phrase(descricao));
+		
+		Anchor anchor = new Anchor(textoLink);
+		anchor.setReference(link);
+		anchor.getFont().setColor(BaseColor.BLUE);
+		anchor.getFont().setStyle(Font.UNDERLINE);
+		return documentoPDF.add(anchor);
+	}
+	
+	/**
+	 * Permite adicionar um espaçamento horizontal ao PDF, adicionando 
+	 * novas linhas após o último elemento adicionado ao PDF.
+	 * 
+	 * @param numeroLinhas O número de linhas a ser inserido após o último
+	 * elemento adicionado.
+	 * 
+	 * @return Retorna <code>true</code> se as linhas foram inseridas 
+	 * com sucesso.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso ocorra um erro ao
+	 * escrever as linhas no documento PDF.
+	 */
+	public boolean addNovasLinhas(float numeroLinhas) throws DocumentException{
+		for(int i=0; i < numeroLinhas; i++)
+			documentoPDF.add(Chunk.NEWLINE);
+		return true;
+	}
+	
+	/**
+	 * Fecha o documento PDF e todas as suas dependências 
+	 * utilizadas para fazer a escrita.
+	 * 
+	 * @return  Retorna <code>true</code> se o documento foi
+	 * fechado corretamente.
+	 * 
+	 * @throws IOException Dispara a exceção caso o documento 
+	 * não seja fechado corretamente.
+	 */
+	public boolean fechar() throws IOException {
+		if(documentoPDF != null) documentoPDF.close();
+		if(outputStream != null) outputStream.close();
+		return true;
+	}
+
+	/**
+	 * Cria uma nova página após o último elemento adicionado 
+	 * no documento PDF.
+	 * 
+	 * @return Retorna <code>true</code> se a nova página foi 
+	 * criada.
+	 * 
+	 * @throws DocumentException Dispara a exceção caso ocorra 
+	 * um erro ao criar a nova página. 
+	 */
+	public boolean criarNovaPagina() throws DocumentException {
+		return documentoPDF.add(Chunk.NEXTPAGE);
+	}
+
+}
@@ -1,5 +1,5 @@
-/**
- * Mantm as classes que so utilizadas para criar e manipular diretamente 
- * um arquivo do tipo PDF.
- */
+/**
+ * Mantém as classes que são utilizadas para criar e manipular diretamente 
+ * um arquivo do tipo PDF.
+ */
 package gdrc.sports.io.pdf;
\ No newline at end of file
@@ -0,0 +1,247 @@
+package gdrc.sports.tipo;
+
+import gdrc.sports.tipo.time.Data;
+
+/**
+ * Contém os dados agregados de todos os exercícios de mesmo nome que
+ * foram realizados por um cliente em uma mesma data.<br><br>
+ *
+ * Para cada dado dos exercícios é mantido um objeto {@link Agregacao}
+ * com a quantidade de exercícios que possuem o dado, a soma, o menor e
+ * o maior valor. A duração e o ritmo médio são mantidos em minutos,
+ * a distância em Km, as calorias em Kcal e a velocidade média em Km/h.
+ * O ritmo e a velocidade são agregados apenas para os exercícios que
+ * são {@link ExercicioDetalhado}.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class ExercicioAgregado {
+	private Data data;
+	private String exercicio;
+	private Agregacao duracao, distancia, calorias, passos, ritmo, velocidade;
+
+	/**
+	 * Construtor default para instanciar o objeto sem nenhum exercício agregado.
+	 */
+	public ExercicioAgregado() {
+		duracao = distancia = calorias = passos = ritmo = velocidade = new Agregacao();
+	}
+
+	/**
+	 * Obtém a data em que os exercícios foram realizados.
+	 *
+	 * @return Retorna a data dos exercícios.
+	 */
+	public Data getData() {
+		return data;
+	}
+
+	/**
+	 * Insere a data em que os exercícios foram realizados.
+	 *
+	 * @param data A data dos exercícios.
+	 */
+	public void setData(Data data) {
+		this.data = data;
+	}
+
+	/**
+	 * Obtém o nome dos exercícios agregados.
+	 *
+	 * @return Retorna o nome do exercício.
+	 */
+	public String getExercicio() {
+		return exercicio;
+	}
+
+	/**
+	 * Insere o nome dos exercícios agregados.
+	 *
+	 * @param exercicio O nome do exercício.
+	 */
+	public void setExercicio(String exercicio) {
+		this.exercicio = exercicio;
+	}
+
+	/**
+	 * Obtém a agregação da duração dos exercícios, em minutos.
+	 *
+	 * @return Retorna a agregação da duração.
+	 */
+	public Agregacao getDuracao() {
+		return duracao;
+	}
+
+	/**
+	 * Insere a agregação da duração dos exercícios, em minutos.
+	 *
+	 * @param duracao A agregação da duração.
+	 */
+	public void setDuracao(Agregacao duracao) {
+		this.duracao = duracao;
+	}
+
+	/**
+	 * Obtém a agregação da distância percorrida nos exercícios.
+	 *
+	 * @return Retorna a agregação da distância.
+	 */
+	public Agregacao getDistancia() {
+		return distancia;
+	}
+
+	/**
+	 * Insere a agregação da distância percorrida nos exercícios.
+	 *
+	 * @param distancia A agregação da distância.
+	 */
+	public void setDistancia(Agregacao distancia) {
+		this.distancia = distancia;
+	}
+
+	/**
+	 * Obtém a agregação das calorias perdidas nos exercícios.
+	 *
+	 * @return Retorna a agregação das calorias.
+	 */
+	public Agregacao getCalorias() {
+		return calorias;
+	}
+
+	/**
+	 * Insere a agregação das calorias perdidas nos exercícios.
+	 *
+	 * @param calorias A agregação das calorias.
+	 */
+	public void setCalorias(Agregacao calorias) {
+		this.calorias = calorias;
+	}
+
+	/**
+	 * Obtém a agregação dos passos dados nos exercícios.
+	 *
+	 * @return Retorna a agregação dos passos.
+	 */
+	public Agregacao getPassos() {
+		return passos;
+	}
+
+	/**
+	 * Insere a agregação dos passos dados nos exercícios.
+	 *
+	 * @param passos A agregação dos passos.
+	 */
+	public void setPassos(Agregacao passos) {
+		this.passos = passos;
+	}
+
+	/**
+	 * Obtém a agregação do ritmo médio dos exercícios, em minutos.
+	 *
+	 * @return Retorna a agregação do ritmo.
+	 */
+	public Agregacao getRitmo() {
+		return ritmo;
+	}
+
+	/**
+	 * Insere a agregação do ritmo médio dos exercícios, em minutos.
+	 *
+	 * @param ritmo A agregação do ritmo.
+	 */
+	public void setRitmo(Agregacao ritmo) {
+		this.ritmo = ritmo;
+	}
+
+	/**
+	 * Obtém a agregação da velocidade média dos exercícios.
+	 *
+	 * @return Retorna a agregação da velocidade.
+	 */
+	public Agregacao getVelocidade() {
+		return velocidade;
+	}
+
+	/**
+	 * Insere a agregação da velocidade média dos exercícios.
+	 *
+	 * @param velocidade A agregação da velocidade.
+	 */
+	public void setVelocidade(Agregacao velocidade) {
+		this.velocidade = velocidade;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s - %s - Quantidade: %d", data, exercicio, duracao.getQuantidade());
+	}
+
+	/**
+	 * Mantém a quantidade, a soma, o menor e o maior valor
+	 * de um dado dos exercícios agregados.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static class Agregacao {
+		private long quantidade;
+		private double soma, minimo, maximo;
+
+		/**
+		 * Construtor default que instancia a agregação sem nenhum valor.
+		 */
+		public Agregacao() { }
+
+		/**
+		 * Construtor que instancia a agregação com os valores
+		 * passados por parâmetro.
+		 *
+		 * @param quantidade 	A quantidade de valores agregados.
+		 * @param soma			A soma dos valores.
+		 * @param minimo		O menor valor.
+		 * @param maximo		O maior valor.
+		 */
+		public Agregacao(long quantidade, double soma, double minimo, double maximo) {
+			this.quantidade = quantidade;
+			this.soma = soma;
+			this.minimo = minimo;
+			this.maximo = maximo;
+		}
+
+		/**
+		 * Obtém a quantidade de valores agregados.
+		 *
+		 * @return Retorna a quantidade.
+		 */
+		public long getQuantidade() {
+			return quantidade;
+		}
+
+		/**
+		 * Obtém a soma dos valores agregados.
+		 *
+		 * @return Retorna a soma.
+		 */
+		public double getSoma() {
+			return soma;
+		}
+
+		/**
+		 * Obtém o menor valor agregado.
+		 *
+		 * @return Retorna o menor valor.
+		 */
+		public double getMinimo() {
+			return minimo;
+		}
+
+		/**
+		 * Obtém o maior valor agregado.
+		 *
+		 * @return Retorna o maior valor.
+		 */
+		public double getMaximo() {
+			return maximo;
+		}
+	}
+
+}
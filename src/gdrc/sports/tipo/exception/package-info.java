@@ -1,5 +1,5 @@
-/**
- * Mantm as classes criadas para sinalizar um execeo especfica 
- * ocorrida na aplicao.
- */
+/**
+ * Mantém as classes criadas para sinalizar um execeção específica 
+ * ocorrida na aplicação.
+ */
 package gdrc.sports.tipo.exception;
\ No newline at end of file
@@ -0,0 +1,232 @@
+package gdrc.sports.tipo.grafico;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.AbstractDataset;
+
+/**
+ * Implementação de um {@link CategoryDataset} que mantém os valores em uma
+ * matriz de tipos primitivos, indexada pela linha e coluna. As chaves das
+ * linhas e colunas são associadas aos índices da matriz através de um
+ * {@link HashMap}.<br><br>
+ *
+ * Diferente do {@link DefaultCategoryDataset}, que mantém objetos {@link Number}
+ * em listas de chaves e valores, este dataset não cria um objeto para cada valor
+ * inserido e obtém um valor pelo índice em tempo constante. <br><br>
+ *
+ * As células que não receberam valor são mantidas como {@link Double#NaN}.
+ * Por padrão elas são retornadas com o valor 0, que é o necessário para os
+ * gráficos de coluna. Se {@link #setPreencherVaziosComZero(boolean)} for
+ * <code>false</code> elas são retornadas como <code>null</code>, permitindo,
+ * por exemplo, que um gráfico de linha não ligue os pontos sem valor.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class DataSetCategory extends AbstractDataset implements CategoryDataset {
+	private static final long serialVersionUID = 1L;
+	private static final int CAPACIDADE_INICIAL = 8;
+
+	private List<Comparable<?>> chavesLinhas, chavesColunas;
+	private Map<Comparable<?>, Integer> indiceLinhas, indiceColunas;
+	private double[][] valores;
+	private int capacidadeColunas;
+	private boolean preencherVaziosComZero;
+
+	/**
+	 * Instancia o dataset vazio que retorna 0 para as
+	 * linhas e colunas que não receberam valor.
+	 */
+	public DataSetCategory() {
+		chavesLinhas = new ArrayList<>();
+		chavesColunas = new ArrayList<>();
+		indiceLinhas = new HashMap<>();
+		indiceColunas = new HashMap<>();
+		capacidadeColunas = CAPACIDADE_INICIAL;
+		valores = new double[CAPACIDADE_INICIAL][];
+		preencherVaziosComZero = true;
+	}
+
+	/**
+	 * Insere o valor na linha e coluna passadas por parâmetro, substituindo
+	 * o valor existente. Se a linha ou a coluna ainda não existirem no
+	 * dataset elas são criadas.
+	 *
+	 * @param valor			O valor a ser inserido.
+	 * @param chaveLinha	A chave da linha.
+	 * @param chaveColuna	A chave da coluna.
+	 */
+	public void addValue(double valor, Comparable<?> chaveLinha, Comparable<?> chaveColuna) {
+		int linha = obterOuCriarLinha(chaveLinha);
+		int coluna = obterOuCriarColuna(chaveColuna);
+		valores[linha][coluna] = valor;
+		fireDatasetChanged();
+	}
+
+	/**
+	 * Soma o valor ao valor existente na linha e coluna passadas por parâmetro.
+	 * Se a linha e coluna ainda não possuírem valor, o valor é apenas inserido.
+	 *
+	 * @param valor			O valor a ser somado.
+	 * @param chaveLinha	A chave da linha.
+	 * @param chaveColuna	A chave da coluna.
+	 */
+	public void incrementValue(double valor, Comparable<?> chaveLinha, Comparable<?> chaveColuna) {
+		int linha = obterOuCriarLinha(chaveLinha);
+		int coluna = obterOuCriarColuna(chaveColuna);
+		double atual = valores[linha][coluna];
+		valores[linha][coluna] = Double.isNaN(atual)? valor : atual + valor;
+		fireDatasetChanged();
+	}
+
+	private int obterOuCriarLinha(Comparable<?> chaveLinha) {
+		if(chaveLinha == null) throw new IllegalArgumentException("Chave da linha nula.");
+
+		Integer linha = indiceLinhas.get(chaveLinha);
+		if(linha != null) return linha;
+
+		linha = chavesLinhas.size();
+		if(linha == valores.length) valores = Arrays.copyOf(valores, valores.length * 2);
+		valores[linha] = new double[capacidadeColunas];
+		Arrays.fill(valores[linha], Double.NaN);
+
+		chavesLinhas.add(chaveLinha);
+		indiceLinhas.put(chaveLinha, linha);
+		return linha;
+	}
+
+	private int obterOuCriarColuna(Comparable<?> chaveColuna) {
+		if(chaveColuna == null) throw new IllegalArgumentException("Chave da coluna nula.");
+
+		Integer coluna = indiceColunas.get(chaveColuna);
+		if(coluna != null) return coluna;
+
+		coluna = chavesColunas.size();
+		if(coluna == capacidadeColunas) {
+			// Aumenta todas as linhas de uma vez para manter a matriz densa.
+			int novaCapacidade = capacidadeColunas * 2;
+			for(int linha = 0; linha < chavesLinhas.size(); linha++) {
+				valores[linha] = Arrays.copyOf(valores[linha], novaCapacidade);
+				Arrays.fill(valores[linha], capacidadeColunas, novaCapacidade, Double.NaN);
+			}
+			capacidadeColunas = novaCapacidade;
+		}
+
+		chavesColunas.add(chaveColuna);
+		indiceColunas.put(chaveColuna, coluna);
+		return coluna;
+	}
+
+	/**
+	 * Verifica se as linhas e colunas sem valor são retornadas como 0.
+	 *
+	 * @return Retorna <code>true</code> se retornadas como 0, <code>false</code>
+	 * se retornadas como <code>null</code>.
+	 */
+	public boolean isPreencherVaziosComZero() {
+		return preencherVaziosComZero;
+	}
+
+	/**
+	 * Indica se as linhas e colunas sem valor devem ser retornadas
+	 * como 0 ou como <code>null</code>.
+	 *
+	 * @param preencherVaziosComZero <code>true</code> para retornar 0,
+	 * <code>false</code> para retornar <code>null</code>.
+	 */
+	public void setPreencherVaziosComZero(boolean preencherVaziosComZero) {
+		if(this.preencherVaziosComZero == preencherVaziosComZero) return;
+		this.preencherVaziosComZero = preencherVaziosComZero;
+		fireDatasetChanged();
+	}
+
+	@Override
+	public Number getValue(int linha, int coluna) {
+		if(linha >= chavesLinhas.size() || coluna >= chavesColunas.size())
+			throw new IndexOutOfBoundsException("Linha ou coluna inexistente: " + linha + ", " + coluna);
+
+		double valor = valores[linha][coluna];
+		if(Double.isNaN(valor)) return (preencherVaziosComZero)? 0.0 : null;
+		return valor;
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Number getValue(Comparable chaveLinha, Comparable chaveColuna) {
+		Integer linha = indiceLinhas.get(chaveLinha);
+		if(linha == null) throw new UnknownKeyException("Linha não encontrada: " + chaveLinha);
+		Integer coluna = indiceColunas.get(chaveColuna);
+		if(coluna == null) throw new UnknownKeyException("Coluna não encontrada: " + chaveColuna);
+
+		return getValue(linha.intValue(), coluna.intValue());
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Comparable getRowKey(int linha) {
+		return chavesLinhas.get(linha);
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public int getRowIndex(Comparable chaveLinha) {
+		Integer linha = indiceLinhas.get(chaveLinha);
+		return (linha == null)? -1 : linha;
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public List getRowKeys() {
+		return Collections.unmodifiableList(chavesLinhas);
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Comparable getColumnKey(int coluna) {
+		return chavesColunas.get(coluna);
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public int getColumnIndex(Comparable chaveColuna) {
+		Integer coluna = indiceColunas.get(chaveColuna);
+		return (coluna == null)? -1 : coluna;
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	public List getColumnKeys() {
+		return Collections.unmodifiableList(chavesColunas);
+	}
+
+	@Override
+	public int getRowCount() {
+		return chavesLinhas.size();
+	}
+
+	@Override
+	public int getColumnCount() {
+		return chavesColunas.size();
+	}
+
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		DataSetCategory clone = (DataSetCategory) super.clone();
+		clone.chavesLinhas = new ArrayList<>(chavesLinhas);
+		clone.chavesColunas = new ArrayList<>(chavesColunas);
+		clone.indiceLinhas = new HashMap<>(indiceLinhas);
+		clone.indiceColunas = new HashMap<>(indiceColunas);
+		clone.valores = new double[valores.length][];
+		for(int linha = 0; linha < chavesLinhas.size(); linha++)
+			clone.valores[linha] = valores[linha].clone();
+		return clone;
+	}
+
+}
@@ -1,5 +1,5 @@
-/**
- * Mantm as classes base para a criao de grficos. Classes que permitem apresentar os
- * dados da aplicao a partir de vrios modelos de grficos.
- */
+/**
+ * Mantém as classes base para a criação de gráficos. Classes que permitem apresentar os
+ * dados da aplicação a partir de vários modelos de gráficos.
+ */
 package gdrc.sports.tipo.grafico;
\ No newline at end of file
@@ -1,13 +1,13 @@
-/**
- * As classes agrupadas neste pacote so as classes base para o funcionamento
- * do programa. So as classes tipo, ou seja, as classes que mantm os
- * dados principais manipulados pelo programa.<br><br>
- * 
- * O relacionamento dessas classes base, utilizadas pela aplicao, pode ser 
- * compreendido melhor visualizando o diagrama de classes abaixo:<br><br>
- * 
- * <img alt="Diagrama de classes das classes base para a aplicao"	
- *  src="../../../../uml/diagrama_classes_base.jpg" height="auto" 
- *  width="550">
- */
+/**
+ * As classes agrupadas neste pacote são as classes base para o funcionamento
+ * do programa. São as classes tipo, ou seja, as classes que mantêm os
+ * dados principais manipulados pelo programa.<br><br>
+ * 
+ * O relacionamento dessas classes base, utilizadas pela aplicação, pode ser 
+ * compreendido melhor visualizando o diagrama de classes abaixo:<br><br>
+ * 
+ * <img alt="Diagrama de classes das classes base para a aplicação"	
+ *  src="../../../../uml/diagrama_classes_base.jpg" height="auto" 
+ *  width="550">
+ */
 package gdrc.sports.tipo;
\ No newline at end of file
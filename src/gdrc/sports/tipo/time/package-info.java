@@ -1,5 +1,5 @@
-/**
- * Mantm as classes base utilizadas pela aplicao para armazenar e manipular 
- * objetos que referem a data e hora. 
- */
+/**
+ * Mantém as classes base utilizadas pela aplicação para armazenar e manipular 
+ * objetos que referem a data e hora. 
+ */
 package gdrc.sports.tipo.time;
\ No newline at end of file
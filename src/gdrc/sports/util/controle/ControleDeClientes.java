@@ -1,118 +1,179 @@
-package gdrc.sports.util.controle;
-
-import gdrc.sports.io.bd.dao.ClienteDAO;
-import gdrc.sports.tipo.Cliente;
-import gdrc.sports.tipo.Exercicio;
-
-import java.sql.SQLException;
-import java.util.List;
-
-/**
- * Classe que permite manipular os dados dos objetos 
- * {@link Cliente} da aplicao.
- * 
- * @author Guilherme Domith Ribeiro Coelho
- *
- */
-public class ControleDeClientes {
-	private ControleDeExercicios controleDeExercicios;
-	private ClienteDAO clienteDAO;
-	
-	/**
-	 * Construtor que instancia o objeto com as conexes 
-	 * necessrias para manipular os dados da aplicao. 
-	 */
-	public ControleDeClientes() {
-		clienteDAO = new ClienteDAO();
-		controleDeExercicios = new ControleDeExercicios();
-	}
-	
-	/**
-	 * Salva um cliente na base de dados da aplicao.
-	 * 
-	 * @param cliente 	O objeto {@link Cliente} a ser salvo.
-	 * @return Retorna <code>true</code> se foi salvo com 
-	 * sucesso, se no, retorna <code>false</code>.
-	 */
-	public boolean salvarCliente(Cliente cliente) {
-		try { clienteDAO.salvar(cliente);
-		} catch (SQLException e) {
-			e.printStackTrace();
-			return false;
-		}
-		
-		return true;
-	}
-	
-	/**
-	 * Busca um cliente com o email passado por parmetro. 
-	 * No busca os exerccios feitos pelo cliente, apenas 
-	 * as suas informaes pessoais.
-	 * 
-	 * @param email O email a ser pesquisado.
-	 * @return Retorna o cliente encontrado.
-	 */
-	public Cliente buscarClientePorEmail(String email) {
-		Cliente cliente;
-		try { cliente = clienteDAO.buscaClientePorEmail(email);
-		} catch (SQLException e) {
-			e.printStackTrace();
-			return null;
-		}
-		
-		return cliente;
-	}
-	
-	/**
-	 * Busca todos os clientes que tenham o nome igual ou tenha
-	 * um trecho no nome igual ao que  passado por parmetro.
-	 * 
-	 * @param nome 	O nome a ser pesquisado. 
-	 * @return Retorna a lista com todos os clientes encontrados.
-	 */
-	public List<Cliente> buscarClientePorNome(String nome) {
-		List<Cliente> clientes;
-		try { clientes = clienteDAO.buscarClientePorNome(nome);
-		} catch (SQLException e) {
-			e.printStackTrace();
-			return null;
-		}
-		
-		return clientes;
-	}
-	
-	/**
-	 * Busca um cliente da aplicao com o mesmo email fornecido 
-	 * por parmetro. Caso encontre obtm todos os exerccios do
-	 * mesmo. 
-	 * 
-	 * @param email 	O email a ser pesquisado.
-	 * @return Retorna o cliente com todos os exerccios 
-	 * fsicos. 
-	 */
-	public Cliente buscarClienteComExercicios(String email) {
-		Cliente cliente = buscarClientePorEmail(email);
-		if(cliente == null) return null;
-		
-		List<Exercicio> exercicios = controleDeExercicios.listarExerciciosComChaves(email, null, null, null);
-		cliente.setExercicios(exercicios);
-		return cliente;
-	}
-	
-	/**
-	 * obtm uma lista com todos os clientes da aplicao.
-	 * 
-	 * @return Retorna a lista com todos os clientes salvos, caso 
-	 * no tenha nenhum retorna uma lista vazia. 
-	 */
-	public List<Cliente> listarTodosClientes(){
-		try { return clienteDAO.listarTodos();
-		} catch (SQLException e) {
-			e.printStackTrace();
-			return null;
-		}
-	}
-	
-	
-
-}
+package gdrc.sports.util.controle;
+
+import gdrc.sports.io.bd.dao.ClienteDAO;
+import gdrc.sports.io.bd.dao.ExercicioDAO;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe que permite manipular os dados dos objetos 
+ * {@link Cliente} da aplicação.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ *
+ */
+public class ControleDeClientes {
+	private ExercicioDAO exercicioDAO;
+	private ClienteDAO clienteDAO;
+	
+	/**
+	 * Construtor que instancia o objeto com as conexões 
+	 * necessárias para manipular os dados da aplicação. 
+	 */
+	public ControleDeClientes() {
+		clienteDAO = new ClienteDAO();
+		exercicioDAO = new ExercicioDAO();
+	}
+	
+	/**
+	 * Salva um cliente na base de dados da aplicação e 
+	 * o insere no {@link IndiceClientes}.
+	 * 
+	 * @param cliente 	O objeto {@link Cliente} a ser salvo.
+	 * @return Retorna <code>true</code> se foi salvo com 
+	 * sucesso, se não, retorna <code>false</code>.
+	 */
+	public boolean salvarCliente(Cliente cliente) {
+		try { clienteDAO.salvar(cliente);
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return false;
+		}
+		
+		IndiceClientes.getInstancia().atualizarCliente(cliente);
+		return true;
+	}
+	
+	/**
+	 * Busca um cliente com o email passado por parâmetro. 
+	 * Não busca os exercícios feitos pelo cliente, apenas 
+	 * as suas informações pessoais.
+	 * 
+	 * @param email O email a ser pesquisado.
+	 * @return Retorna o cliente encontrado.
+	 */
+	public Cliente buscarClientePorEmail(String email) {
+		Cliente cliente;
+		try { cliente = clienteDAO.buscaClientePorEmail(email);
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return null;
+		}
+		
+		return cliente;
+	}
+	
+	/**
+	 * Busca todos os clientes que tenham o nome igual ou tenha
+	 * um trecho no nome igual ao que é passado por parâmetro.
+	 * 
+	 * @param nome 	O nome a ser pesquisado. 
+	 * @return Retorna a lista com todos os clientes encontrados.
+	 */
+	public List<Cliente> buscarClientePorNome(String nome) {
+		List<Cliente> clientes;
+		try { clientes = clienteDAO.buscarClientePorNome(nome);
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return null;
+		}
+		
+		return clientes;
+	}
+	
+	/**
+	 * Busca um cliente da aplicação com o mesmo email fornecido 
+	 * por parâmetro. Caso encontre obtém todos os exercícios do
+	 * mesmo, em ordem de data e hora de início, através de uma 
+	 * única consulta ao banco de dados.
+	 * 
+	 * @param email 	O email a ser pesquisado.
+	 * @return Retorna o cliente com todos os exercícios 
+	 * físicos. 
+	 */
+	public Cliente buscarClienteComExercicios(String email) {
+		try { return carregarCliente(email, true);
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+	
+	/**
+	 * Busca o cliente com o email passado por parâmetro e, se solicitado, todos 
+	 * os seus exercícios. Diferente de {@link #buscarClientePorEmail(String)} e 
+	 * {@link #buscarClienteComExercicios(String)}, o erro do banco de dados é 
+	 * repassado, para que um cliente inexistente não seja confundido com uma 
+	 * falha na consulta.
+	 * 
+	 * @param email				O email a ser pesquisado.
+	 * @param incluirExercicios	<code>true</code> para obter também os exercícios 
+	 * do cliente, em ordem de data e hora de início.
+	 * @return Retorna o cliente encontrado ou <code>null</code> se não existir 
+	 * cliente com o email.
+	 * 
+	 * @throws SQLException Dispara a exceção caso ocorra um erro ao buscar o 
+	 * cliente ou os seus exercícios.
+	 */
+	public Cliente carregarCliente(String email, boolean incluirExercicios) throws SQLException {
+		Cliente cliente = clienteDAO.buscaClientePorEmail(email);
+		if(cliente == null || !incluirExercicios) return cliente;
+		
+		List<Exercicio> exercicios = new ArrayList<>();
+		exercicioDAO.percorrerExercicios(email, exercicios::add);
+		cliente.setExercicios(exercicios);
+		return cliente;
+	}
+	
+	/**
+	 * obtém uma lista com todos os clientes da aplicação.
+	 * 
+	 * @return Retorna a lista com todos os clientes salvos, caso 
+	 * não tenha nenhum retorna uma lista vazia. 
+	 */
+	public List<Cliente> listarTodosClientes(){
+		try { return clienteDAO.listarTodos();
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Obtém a quantidade de clientes da aplicação.
+	 *
+	 * @return Retorna a quantidade de clientes ou -1 caso ocorra
+	 * um erro ao consultar o banco de dados.
+	 */
+	public int contarClientes() {
+		try { return clienteDAO.contarClientes();
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return -1;
+		}
+	}
+
+	/**
+	 * Obtém uma página dos clientes da aplicação, ordenados pelo nome.
+	 *
+	 * @param inicio		A posição do primeiro cliente da página, a partir de zero.
+	 * @param quantidade	A quantidade máxima de clientes da página.
+	 *
+	 * @return Retorna os clientes da página ou <code>null</code> caso
+	 * ocorra um erro ao consultar o banco de dados.
+	 */
+	public List<Cliente> listarPaginaClientes(int inicio, int quantidade) {
+		try { return clienteDAO.listarPagina(inicio, quantidade);
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+	
+	
+
+}
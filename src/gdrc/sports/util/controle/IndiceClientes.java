@@ -0,0 +1,297 @@
+package gdrc.sports.util.controle;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import gdrc.sports.tipo.Cliente;
+
+/**
+ * Índice em memória dos clientes da aplicação, que permite pesquisar um cliente
+ * por qualquer trecho do nome ou do email sem consultar o banco de dados.<br><br>
+ *
+ * O nome e o email de cada cliente são normalizados, sem acentos e em letras
+ * minúsculas, e divididos em trigramas (trechos de três caracteres). Para cada
+ * trigrama o índice mantém os clientes que o possuem, assim uma pesquisa obtém
+ * apenas os clientes que possuem todos os trigramas do texto pesquisado e confirma
+ * se o texto aparece inteiro no nome ou email. Textos com menos de três caracteres
+ * são comparados com todos os clientes. O resultado é sempre ordenado pelo nome.<br><br>
+ *
+ * O índice é carregado em segundo plano através de {@link #carregar()}. Enquanto
+ * não for carregado, {@link #pesquisar(String)} retorna <code>null</code> e a
+ * pesquisa deve ser feita no banco de dados. Os clientes salvos depois do
+ * carregamento são informados em {@link #atualizarCliente(Cliente)} e passam a ser
+ * encontrados imediatamente, sendo incorporados ao índice em segundo plano.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class IndiceClientes {
+	private static final int TAMANHO_TRIGRAMA = 3;
+	private static final Pattern ACENTOS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+	private static final IndiceClientes INSTANCIA = new IndiceClientes();
+
+	/** Thread que carrega e reconstrói o índice. É uma thread daemon, portanto
+	 * não impede que a aplicação seja encerrada. */
+	private static final ExecutorService INDEXADOR = Executors.newSingleThreadExecutor((Runnable tarefa) -> {
+		Thread thread = new Thread(tarefa, "indexador-clientes");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile Estado estado;
+	private final Map<String, Cliente> pendentes = new LinkedHashMap<>();
+	private boolean carregando, incorporacaoAgendada;
+
+	/**
+	 * Obtém o índice utilizado pelas pesquisas da aplicação.
+	 *
+	 * @return Retorna o índice compartilhado.
+	 */
+	public static IndiceClientes getInstancia() {
+		return INSTANCIA;
+	}
+
+	/**
+	 * Inicia o carregamento do índice em segundo plano com todos os clientes do
+	 * banco de dados. Não faz nada se o índice já foi carregado ou está sendo carregado.
+	 *
+	 * @return Retorna a tarefa que carrega o índice, que pode ser utilizada para aguardar
+	 * o carregamento, ou <code>null</code> se o índice já foi carregado ou está sendo carregado.
+	 */
+	public synchronized Future<?> carregar() {
+		if(estado != null || carregando) return null;
+		carregando = true;
+
+		return INDEXADOR.submit(() -> {
+			List<Cliente> clientes = new ControleDeClientes().listarTodosClientes();
+			if(clientes != null) indexar(clientes);
+			synchronized (this) { carregando = false; }
+		});
+	}
+
+	/**
+	 * Substitui o conteúdo do índice pelos clientes passados por parâmetro. Os
+	 * clientes informados em {@link #atualizarCliente(Cliente)} que ainda não foram
+	 * incorporados também são indexados.
+	 *
+	 * @param clientes Os clientes a serem indexados.
+	 */
+	public void indexar(Collection<Cliente> clientes) {
+		List<Cliente> clientesPendentes;
+		synchronized (this) { clientesPendentes = new ArrayList<>(pendentes.values()); }
+
+		estado = new Estado(clientes, clientesPendentes);
+
+		synchronized (this) { pendentes.values().removeAll(clientesPendentes); }
+	}
+
+	/**
+	 * Insere ou atualiza no índice o cliente passado por parâmetro, identificado
+	 * pelo email. O cliente é encontrado pelas pesquisas a partir desta chamada.
+	 *
+	 * @param cliente O cliente que foi salvo.
+	 */
+	public synchronized void atualizarCliente(Cliente cliente) {
+		if(cliente == null || cliente.getEmail() == null) return;
+
+		Cliente resumo = new Cliente(cliente.getNome(), cliente.getEmail(), cliente.getSexo(),
+									 cliente.getPeso(), cliente.getAltura(), cliente.getDataNascimento());
+		pendentes.put(cliente.getEmail().toLowerCase(Locale.ROOT), resumo);
+
+		if(estado != null && !incorporacaoAgendada) {
+			incorporacaoAgendada = true;
+			INDEXADOR.execute(() -> {
+				synchronized (this) { incorporacaoAgendada = false; }
+				indexar(Arrays.asList(estado.clientes));
+			});
+		}
+	}
+
+	/**
+	 * Verifica se o índice já foi carregado.
+	 *
+	 * @return Retorna <code>true</code> se o índice pode ser utilizado nas pesquisas.
+	 */
+	public boolean isCarregado() {
+		return estado != null;
+	}
+
+	/**
+	 * Pesquisa os clientes que possuem o texto passado por parâmetro no nome ou no
+	 * email, sem diferenciar letras maiúsculas, minúsculas e acentuadas.
+	 *
+	 * @param texto O texto a ser pesquisado.
+	 *
+	 * @return Retorna os clientes encontrados, ordenados pelo nome. Retorna
+	 * <code>null</code> se o índice ainda não foi carregado.
+	 */
+	public List<Cliente> pesquisar(String texto) {
+		Estado estadoAtual = estado;
+		if(estadoAtual == null) return null;
+
+		String consulta = normalizar(texto.trim());
+		if(consulta.isEmpty()) return new ArrayList<>();
+
+		List<Cliente> clientes = estadoAtual.pesquisar(consulta);
+
+		List<Cliente> clientesPendentes;
+		synchronized (this) {
+			if(pendentes.isEmpty()) return clientes;
+			clientesPendentes = new ArrayList<>(pendentes.values());
+		}
+
+		// Os clientes pendentes substituem os clientes do índice com o mesmo email.
+		Set<String> emailsPendentes = new LinkedHashSet<>();
+		for(Cliente cliente : clientesPendentes) emailsPendentes.add(cliente.getEmail().toLowerCase(Locale.ROOT));
+		clientes.removeIf((Cliente cliente) -> emailsPendentes.contains(cliente.getEmail().toLowerCase(Locale.ROOT)));
+
+		for(Cliente cliente : clientesPendentes)
+			if(textoIndexado(cliente).contains(consulta)) clientes.add(cliente);
+		Collections.sort(clientes);
+		return clientes;
+	}
+
+	/**
+	 * Obtém a quantidade de clientes indexados.
+	 *
+	 * @return Retorna a quantidade de clientes ou zero se o índice não foi carregado.
+	 */
+	public int getQuantidadeClientes() {
+		Estado estadoAtual = estado;
+		return (estadoAtual == null)? 0 : estadoAtual.clientes.length;
+	}
+
+	/**
+	 * Remove os acentos e converte o texto passado por parâmetro para letras minúsculas.
+	 *
+	 * @param texto O texto a ser normalizado.
+	 *
+	 * @return Retorna o texto normalizado.
+	 */
+	public static String normalizar(String texto) {
+		if(texto == null) return "";
+		return ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+	}
+
+	private static String textoIndexado(Cliente cliente) {
+		return normalizar(cliente.getNome()) + '\n' + normalizar(cliente.getEmail());
+	}
+
+	/**
+	 * Conteúdo do índice em um momento. Não é alterado depois de criado, assim as
+	 * pesquisas podem ser feitas enquanto um novo estado é construído.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private static class Estado {
+		private final Cliente[] clientes;
+		private final String[] textos;
+		private final Map<String, int[]> trigramas;
+
+		/**
+		 * Indexa os clientes passados por parâmetro. Os clientes atualizados
+		 * substituem os clientes com o mesmo email.
+		 */
+		private Estado(Collection<Cliente> clientesIndexados, Collection<Cliente> clientesAtualizados) {
+			Map<String, Cliente> porEmail = new LinkedHashMap<>();
+			for(Cliente cliente : clientesIndexados) porEmail.put(cliente.getEmail().toLowerCase(Locale.ROOT), cliente);
+			for(Cliente cliente : clientesAtualizados) porEmail.put(cliente.getEmail().toLowerCase(Locale.ROOT), cliente);
+
+			// Os clientes são indexados em ordem, assim os resultados já saem ordenados pelo nome.
+			List<Cliente> ordenados = new ArrayList<>(porEmail.values());
+			Collections.sort(ordenados);
+			clientes = ordenados.toArray(new Cliente[0]);
+			textos = new String[clientes.length];
+
+			Map<String, ListaInteiros> listas = new HashMap<>();
+			for(int indice = 0; indice < clientes.length; indice++) {
+				String texto = textoIndexado(clientes[indice]);
+				textos[indice] = texto;
+
+				for(int inicio = 0; inicio + TAMANHO_TRIGRAMA <= texto.length(); inicio++) {
+					String trigrama = texto.substring(inicio, inicio + TAMANHO_TRIGRAMA);
+					ListaInteiros lista = listas.get(trigrama);
+					if(lista == null) listas.put(trigrama, lista = new ListaInteiros());
+					lista.adicionar(indice);
+				}
+			}
+
+			trigramas = new HashMap<>(listas.size() * 2);
+			for(Map.Entry<String, ListaInteiros> entrada : listas.entrySet())
+				trigramas.put(entrada.getKey(), entrada.getValue().obterValores());
+		}
+
+		private List<Cliente> pesquisar(String consulta) {
+			List<Cliente> encontrados = new ArrayList<>();
+
+			if(consulta.length() < TAMANHO_TRIGRAMA) {
+				for(int indice = 0; indice < textos.length; indice++)
+					if(textos[indice].contains(consulta)) encontrados.add(clientes[indice]);
+				return encontrados;
+			}
+
+			// Obtém os clientes de cada trigrama da consulta, começando pelo trigrama com menos clientes.
+			List<int[]> listas = new ArrayList<>();
+			for(int inicio = 0; inicio + TAMANHO_TRIGRAMA <= consulta.length(); inicio++) {
+				int[] lista = trigramas.get(consulta.substring(inicio, inicio + TAMANHO_TRIGRAMA));
+				if(lista == null) return encontrados;
+				listas.add(lista);
+			}
+			listas.sort((int[] lista1, int[] lista2) -> Integer.compare(lista1.length, lista2.length));
+
+			int[] candidatos = listas.get(0);
+			for(int lista = 1; lista < listas.size() && candidatos.length > 0; lista++)
+				candidatos = intersecao(candidatos, listas.get(lista));
+
+			// Os trigramas podem estar fora de ordem no texto, por isso o texto inteiro é conferido.
+			for(int indice : candidatos)
+				if(textos[indice].contains(consulta)) encontrados.add(clientes[indice]);
+			return encontrados;
+		}
+
+		private static int[] intersecao(int[] lista1, int[] lista2) {
+			int[] intersecao = new int[Math.min(lista1.length, lista2.length)];
+			int tamanho = 0;
+			for(int i = 0, j = 0; i < lista1.length && j < lista2.length; ) {
+				if(lista1[i] < lista2[j]) i++;
+				else if(lista1[i] > lista2[j]) j++;
+				else { intersecao[tamanho++] = lista1[i]; i++; j++; }
+			}
+			return Arrays.copyOf(intersecao, tamanho);
+		}
+	}
+
+	/**
+	 * Lista crescente de índices de clientes, sem repetições consecutivas.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private static class ListaInteiros {
+		private int[] valores = new int[4];
+		private int tamanho;
+
+		private void adicionar(int valor) {
+			if(tamanho > 0 && valores[tamanho-1] == valor) return;
+			if(tamanho == valores.length) valores = Arrays.copyOf(valores, tamanho * 2);
+			valores[tamanho++] = valor;
+		}
+
+		private int[] obterValores() {
+			return Arrays.copyOf(valores, tamanho);
+		}
+	}
+}
@@ -1,5 +1,5 @@
-/**
- * Mantm as classes para fazerem controle e fornecer acesso nico  base de dados 
- * da aplicao.
- */
+/**
+ * Mantém as classes para fazerem controle e fornecer acesso único à base de dados 
+ * da aplicação.
+ */
 package gdrc.sports.util.controle;
\ No newline at end of file
@@ -0,0 +1,597 @@
+package gdrc.sports.util.monitor;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Dialog;
+import java.awt.EventQueue;
+import java.awt.Frame;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.InvocationEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.swing.AbstractButton;
+import javax.swing.SwingUtilities;
+
+/**
+ * Monitora a thread de eventos do Swing (EDT), detectando os momentos em que ela
+ * fica bloqueada e medindo quanto tempo cada ação do usuário leva para ser tratada.<br><br>
+ *
+ * Ao ser iniciado, o monitor insere uma {@link FilaEventosMonitorada} na fila de eventos
+ * do AWT, que registra o evento em tratamento e o tempo de tratamento de cada evento em
+ * um {@link HistogramaLatencia} da ação correspondente. Uma ação é descrita pela janela
+ * e pelo componente que originou o evento, por exemplo <i>Pesquisar Cliente - botão
+ * 'Listar Todos'</i>. Os eventos que abrem uma janela modal não são medidos, pois o
+ * tempo inclui o tempo em que a janela ficou aberta.<br><br>
+ *
+ * Uma thread daemon envia periodicamente um sinal para a EDT. Se o sinal não for
+ * tratado dentro do limite configurado, o monitor registra um {@link Travamento} com a
+ * ação em tratamento, a pilha de chamadas da EDT e a origem provável do bloqueio,
+ * indicando se há um acesso ao banco de dados ou a arquivos, ou a geração de gráficos
+ * e documentos sendo feita na EDT. Os travamentos são escritos na saída de erro.<br><br>
+ *
+ * O monitor é iniciado pela aplicação, a menos que a propriedade de sistema
+ * {@value #PROPRIEDADE_ATIVO} seja <code>false</code>. O limite pode ser alterado pela
+ * propriedade {@value #PROPRIEDADE_LIMITE}, em milissegundos.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class MonitorEDT {
+	/** Propriedade de sistema que desativa o monitor quando for <code>false</code>. */
+	public static final String PROPRIEDADE_ATIVO = "sports.monitor.edt";
+	/** Propriedade de sistema com o limite, em milissegundos, para considerar a EDT travada. */
+	public static final String PROPRIEDADE_LIMITE = "sports.monitor.edt.limite";
+	/** Limite padrão, em milissegundos, para considerar a EDT travada. */
+	public static final long LIMITE_PADRAO_MS = 250;
+
+	private static final int MAXIMO_TRAVAMENTOS = 50;
+	private static final int MAXIMO_ACOES = 300;
+	private static final String ACOES_EXCEDENTES = "(outras ações)";
+
+	private static final MonitorEDT INSTANCIA = new MonitorEDT();
+
+	private final Map<String, HistogramaLatencia> histogramas = new TreeMap<>();
+	private final Deque<Travamento> travamentos = new ArrayDeque<>();
+
+	private FilaEventosMonitorada fila;
+	private Thread sentinela;
+	private volatile long limiteMs = LIMITE_PADRAO_MS;
+
+	/* Estado da EDT, escrito pela própria EDT e lido pela sentinela. */
+	private volatile Thread threadEDT;
+	private volatile AWTEvent eventoAtual;
+	private volatile long envioSinal;
+	private volatile Travamento travamentoAtual;
+
+	/**
+	 * Obtém o monitor utilizado pela aplicação.
+	 *
+	 * @return Retorna o monitor compartilhado.
+	 */
+	public static MonitorEDT getInstancia() {
+		return INSTANCIA;
+	}
+
+	/**
+	 * Inicia o monitor, caso ele não tenha sido desativado pelas propriedades de sistema.
+	 * O limite é obtido da propriedade {@value #PROPRIEDADE_LIMITE}, se informado.
+	 *
+	 * @return Retorna <code>true</code> se o monitor foi iniciado.
+	 */
+	public static boolean iniciarConformePropriedades() {
+		if("false".equalsIgnoreCase(System.getProperty(PROPRIEDADE_ATIVO))) return false;
+
+		try { INSTANCIA.setLimiteMs(Long.parseLong(System.getProperty(PROPRIEDADE_LIMITE,
+																	   String.valueOf(LIMITE_PADRAO_MS))));
+		} catch (NumberFormatException e) {
+			System.err.println("Limite inválido para o monitor da EDT: "+System.getProperty(PROPRIEDADE_LIMITE));
+		}
+		INSTANCIA.iniciar();
+		return true;
+	}
+
+	/**
+	 * Insere a fila de eventos monitorada e inicia a sentinela que detecta os
+	 * travamentos. Não faz nada se o monitor já foi iniciado.
+	 */
+	public synchronized void iniciar() {
+		if(fila != null) return;
+
+		fila = new FilaEventosMonitorada();
+		Toolkit.getDefaultToolkit().getSystemEventQueue().push(fila);
+
+		sentinela = new Thread(this::vigiar, "monitor-edt");
+		sentinela.setDaemon(true);
+		sentinela.start();
+	}
+
+	/**
+	 * Remove a fila de eventos monitorada e interrompe a sentinela. Os dados
+	 * registrados são mantidos.
+	 */
+	public synchronized void parar() {
+		if(fila == null) return;
+
+		sentinela.interrupt();
+		fila.remover();
+		fila = null;
+		sentinela = null;
+	}
+
+	/**
+	 * Verifica se o monitor está em execução.
+	 *
+	 * @return Retorna <code>true</code> se o monitor foi iniciado e não foi parado.
+	 */
+	public synchronized boolean isIniciado() {
+		return fila != null;
+	}
+
+	/**
+	 * Laço da sentinela. Envia um sinal para a EDT e, enquanto o sinal não é
+	 * tratado, verifica se o limite foi ultrapassado.
+	 */
+	private void vigiar() {
+		try {
+			while(!Thread.currentThread().isInterrupted()) {
+				long intervalo = Math.max(10, limiteMs / 4);
+				Thread.sleep(intervalo);
+
+				long envio = envioSinal;
+				if(envio == 0) {
+					// Encerra o travamento caso o sinal tenha sido tratado durante o registro.
+					travamentoAtual = null;
+					envioSinal = System.nanoTime();
+					Toolkit.getDefaultToolkit().getSystemEventQueue().postEvent(new SinalSentinela());
+				} else if(travamentoAtual == null && (System.nanoTime() - envio) / 1_000_000 >= limiteMs) {
+					registrarTravamento(envio);
+				}
+			}
+		} catch (InterruptedException e) {
+			// O monitor foi parado.
+		}
+	}
+
+	/**
+	 * Trata o sinal da sentinela na EDT. Se um travamento foi registrado enquanto
+	 * o sinal aguardava, o travamento é encerrado com a sua duração total.
+	 */
+	private void receberSinal() {
+		long envio = envioSinal;
+		envioSinal = 0;
+
+		Travamento travamento = travamentoAtual;
+		if(travamento == null) return;
+		travamentoAtual = null;
+
+		travamento.duracaoMs = (System.nanoTime() - envio) / 1_000_000;
+		System.err.printf("[monitor-edt] A EDT foi liberada após %d ms (%s).%n", travamento.duracaoMs, travamento.acao);
+	}
+
+	private void registrarTravamento(long envio) {
+		Thread edt = threadEDT;
+		if(edt == null) return;
+
+		AWTEvent evento = eventoAtual;
+		Travamento travamento = new Travamento((evento == null)? "(nenhuma ação)" : descreverAcao(evento),
+											   edt.getStackTrace(), (System.nanoTime() - envio) / 1_000_000);
+		travamentoAtual = travamento;
+		synchronized (travamentos) {
+			travamentos.addLast(travamento);
+			if(travamentos.size() > MAXIMO_TRAVAMENTOS) travamentos.removeFirst();
+		}
+		System.err.println("[monitor-edt] "+travamento);
+	}
+
+	private void registrarLatencia(AWTEvent evento, long duracaoNanos) {
+		String acao = descreverAcao(evento);
+		synchronized (histogramas) {
+			HistogramaLatencia histograma = histogramas.get(acao);
+			if(histograma == null) {
+				if(histogramas.size() >= MAXIMO_ACOES) acao = ACOES_EXCEDENTES;
+				histograma = histogramas.get(acao);
+				if(histograma == null) histogramas.put(acao, histograma = new HistogramaLatencia());
+			}
+			histograma.registrar(duracaoNanos);
+		}
+	}
+
+	/**
+	 * Descreve a ação que originou o evento passado por parâmetro, com o título da
+	 * janela e o componente, ou com a classe da tarefa no caso de uma tarefa
+	 * enviada para a EDT através de {@link EventQueue#invokeLater(Runnable)}.
+	 *
+	 * @param evento O evento a ser descrito.
+	 *
+	 * @return Retorna a descrição da ação.
+	 */
+	public static String descreverAcao(AWTEvent evento) {
+		if(evento instanceof InvocationEvent) return "Tarefa "+obterClasseTarefa(evento.paramString());
+
+		String tipo = evento.paramString();
+		int fimTipo = tipo.indexOf(',');
+		if(fimTipo > 0) tipo = tipo.substring(0, fimTipo);
+		if(!(evento.getSource() instanceof Component)) return tipo;
+
+		Component componente = (Component) evento.getSource();
+		String janela = obterTituloJanela(componente);
+		// O clique em um botão é tratado ao soltar o mouse ou ao pressionar uma tecla.
+		boolean acionamento = evento.getID() == MouseEvent.MOUSE_RELEASED || evento instanceof KeyEvent;
+		if(componente instanceof AbstractButton && acionamento) {
+			String texto = ((AbstractButton) componente).getText();
+			if(texto != null && !texto.trim().isEmpty())
+				return String.format("%s - botão '%s'", janela, texto.trim());
+		}
+		return String.format("%s - %s em %s", janela, tipo, componente.getClass().getSimpleName());
+	}
+
+	/**
+	 * Obtém a classe da tarefa a partir da descrição do {@link InvocationEvent},
+	 * sem o identificador gerado para as expressões lambda.
+	 */
+	private static String obterClasseTarefa(String descricao) {
+		int inicio = descricao.indexOf("runnable=");
+		if(inicio < 0) return "desconhecida";
+		inicio += "runnable=".length();
+
+		int fim = descricao.indexOf(',', inicio);
+		String classe = descricao.substring(inicio, (fim < 0)? descricao.length() : fim);
+		int marcador = classe.indexOf("$$Lambda");
+		if(marcador < 0) marcador = classe.indexOf('@');
+		if(marcador >= 0) classe = classe.substring(0, marcador);
+		return classe.substring(classe.lastIndexOf('.') + 1);
+	}
+
+	private static String obterTituloJanela(Component componente) {
+		Window janela = (componente instanceof Window)? (Window) componente : SwingUtilities.getWindowAncestor(componente);
+		String titulo = null;
+		if(janela instanceof Frame) titulo = ((Frame) janela).getTitle();
+		else if(janela instanceof Dialog) titulo = ((Dialog) janela).getTitle();
+		if(titulo != null && !titulo.isEmpty()) return titulo;
+		return (janela == null)? componente.getClass().getSimpleName() : janela.getClass().getSimpleName();
+	}
+
+	/**
+	 * Obtém os travamentos registrados, do mais antigo para o mais recente.
+	 * São mantidos apenas os últimos travamentos.
+	 *
+	 * @return Retorna uma cópia da lista de travamentos.
+	 */
+	public List<Travamento> getTravamentos() {
+		synchronized (travamentos) { return new ArrayList<>(travamentos); }
+	}
+
+	/**
+	 * Obtém os histogramas de latência de cada ação, ordenados pela descrição da ação.
+	 *
+	 * @return Retorna uma cópia dos histogramas.
+	 */
+	public Map<String, HistogramaLatencia> getHistogramas() {
+		Map<String, HistogramaLatencia> copia = new LinkedHashMap<>();
+		synchronized (histogramas) {
+			for(Map.Entry<String, HistogramaLatencia> entrada : histogramas.entrySet())
+				copia.put(entrada.getKey(), entrada.getValue().copiar());
+		}
+		return copia;
+	}
+
+	/**
+	 * Descarta os travamentos e as latências registrados.
+	 */
+	public void limpar() {
+		synchronized (travamentos) { travamentos.clear(); }
+		synchronized (histogramas) { histogramas.clear(); }
+	}
+
+	/**
+	 * Obtém o limite para considerar a EDT travada.
+	 *
+	 * @return Retorna o limite em milissegundos.
+	 */
+	public long getLimiteMs() {
+		return limiteMs;
+	}
+
+	/**
+	 * Insere o limite para considerar a EDT travada.
+	 *
+	 * @param limiteMs O limite em milissegundos.
+	 */
+	public void setLimiteMs(long limiteMs) {
+		this.limiteMs = Math.max(1, limiteMs);
+	}
+
+	/**
+	 * Gera um relatório com os travamentos registrados e as latências das ações cuja
+	 * maior latência ultrapassou a duração passada por parâmetro, das mais lentas
+	 * para as mais rápidas.
+	 *
+	 * @param latenciaMinimaMs A maior latência mínima para que a ação seja listada.
+	 *
+	 * @return Retorna o relatório em texto.
+	 */
+	public String gerarRelatorio(long latenciaMinimaMs) {
+		StringBuilder relatorio = new StringBuilder("Monitor da EDT - limite de ").append(limiteMs).append(" ms\n");
+
+		List<Travamento> listaTravamentos = getTravamentos();
+		relatorio.append("Travamentos: ").append(listaTravamentos.size()).append('\n');
+		for(Travamento travamento : listaTravamentos) relatorio.append("  ").append(travamento.getResumo()).append('\n');
+
+		List<Map.Entry<String, HistogramaLatencia>> acoes = new ArrayList<>(getHistogramas().entrySet());
+		acoes.removeIf((Map.Entry<String, HistogramaLatencia> acao) -> acao.getValue().getMaximoMs() < latenciaMinimaMs);
+		acoes.sort((Map.Entry<String, HistogramaLatencia> acao1, Map.Entry<String, HistogramaLatencia> acao2)
+					-> Double.compare(acao2.getValue().getMaximoMs(), acao1.getValue().getMaximoMs()));
+
+		relatorio.append("Ações com latência acima de ").append(latenciaMinimaMs).append(" ms: ").append(acoes.size()).append('\n');
+		for(Map.Entry<String, HistogramaLatencia> acao : acoes)
+			relatorio.append("  ").append(acao.getKey()).append(": ").append(acao.getValue()).append('\n');
+		return relatorio.toString();
+	}
+
+	/**
+	 * Fila de eventos que registra o evento em tratamento e mede o tempo de
+	 * tratamento de cada evento. Quando um evento abre uma janela modal, os
+	 * eventos da janela são tratados dentro dele, por isso os eventos em
+	 * tratamento formam uma pilha.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private class FilaEventosMonitorada extends EventQueue {
+		private final Deque<boolean[]> aninhados = new ArrayDeque<>();
+
+		@Override
+		protected void dispatchEvent(AWTEvent evento) {
+			threadEDT = Thread.currentThread();
+			AWTEvent eventoAnterior = eventoAtual;
+			// Os eventos externos passam a conter um evento aninhado e não são medidos.
+			for(boolean[] aninhado : aninhados) aninhado[0] = true;
+
+			boolean[] aninhado = {false};
+			aninhados.push(aninhado);
+			eventoAtual = evento;
+			long inicio = System.nanoTime();
+			try {
+				super.dispatchEvent(evento);
+			} finally {
+				long duracao = System.nanoTime() - inicio;
+				eventoAtual = eventoAnterior;
+				aninhados.pop();
+				if(!aninhado[0] && !(evento instanceof SinalSentinela)) registrarLatencia(evento, duracao);
+			}
+		}
+
+		private void remover() {
+			pop();
+		}
+	}
+
+	/**
+	 * Sinal enviado pela sentinela para a EDT. Não é medido como uma ação.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	private class SinalSentinela extends InvocationEvent {
+		private static final long serialVersionUID = 1L;
+
+		private SinalSentinela() {
+			super(Toolkit.getDefaultToolkit(), MonitorEDT.this::receberSinal);
+		}
+	}
+
+	/**
+	 * Registra um período em que a EDT ficou bloqueada, com a ação que estava
+	 * em tratamento e a pilha de chamadas da EDT no momento da detecção.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static class Travamento {
+		private static final int FRAMES_EXIBIDOS = 12;
+
+		private final String acao;
+		private final StackTraceElement[] pilha;
+		private final long inicioMillis;
+		private volatile long duracaoMs;
+
+		private Travamento(String acao, StackTraceElement[] pilha, long duracaoMs) {
+			this.acao = acao;
+			this.pilha = pilha;
+			this.duracaoMs = duracaoMs;
+			this.inicioMillis = System.currentTimeMillis() - duracaoMs;
+		}
+
+		/**
+		 * Obtém a ação que estava em tratamento pela EDT.
+		 *
+		 * @return Retorna a descrição da ação.
+		 */
+		public String getAcao() {
+			return acao;
+		}
+
+		/**
+		 * Obtém a pilha de chamadas da EDT no momento em que o travamento foi detectado.
+		 *
+		 * @return Retorna a pilha de chamadas.
+		 */
+		public StackTraceElement[] getPilha() {
+			return pilha.clone();
+		}
+
+		/**
+		 * Obtém a duração do travamento. Enquanto a EDT não for liberada, é o tempo
+		 * até a detecção do travamento.
+		 *
+		 * @return Retorna a duração em milissegundos.
+		 */
+		public long getDuracaoMs() {
+			return duracaoMs;
+		}
+
+		/**
+		 * Obtém o momento em que o travamento começou.
+		 *
+		 * @return Retorna o momento em milissegundos desde a época, como em
+		 * {@link System#currentTimeMillis()}.
+		 */
+		public long getInicioMillis() {
+			return inicioMillis;
+		}
+
+		/**
+		 * Obtém a origem provável do travamento a partir da pilha de chamadas: o acesso
+		 * ao banco de dados ou a arquivos, a geração de gráficos ou de documentos PDF, ou
+		 * o método da aplicação mais recente na pilha.
+		 *
+		 * @return Retorna a descrição da origem ou <code>null</code> se nenhum método da
+		 * aplicação estava na pilha.
+		 */
+		public String getOrigem() {
+			String categoria = null;
+			for(StackTraceElement frame : pilha) {
+				String classe = frame.getClassName();
+				if(categoria == null) {
+					if(classe.startsWith("org.postgresql") || classe.startsWith("java.sql")) categoria = "Banco de dados";
+					else if(classe.startsWith("org.jfree")) categoria = "Gráfico";
+					else if(classe.startsWith("com.itextpdf")) categoria = "PDF";
+				}
+
+				if(classe.startsWith("gdrc.sports.io.bd")) return "Banco de dados: "+descreverFrame(frame);
+				if(classe.startsWith("gdrc.sports.io")) return "Arquivo: "+descreverFrame(frame);
+				if(classe.startsWith("gdrc.sports."))
+					return ((categoria == null)? "Aplicação" : categoria)+": "+descreverFrame(frame);
+			}
+			return categoria;
+		}
+
+		private static String descreverFrame(StackTraceElement frame) {
+			String classe = frame.getClassName();
+			return String.format("%s.%s:%d", classe.substring(classe.lastIndexOf('.') + 1),
+								 frame.getMethodName(), frame.getLineNumber());
+		}
+
+		/**
+		 * Obtém uma descrição do travamento em uma linha, sem a pilha de chamadas.
+		 *
+		 * @return Retorna o resumo do travamento.
+		 */
+		public String getResumo() {
+			String origem = getOrigem();
+			return String.format("%d ms em '%s'%s", duracaoMs, acao, (origem == null)? "" : " - "+origem);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder descricao = new StringBuilder("A EDT está bloqueada há ").append(getResumo()).append('\n');
+			for(int i = 0; i < Math.min(FRAMES_EXIBIDOS, pilha.length); i++)
+				descricao.append("\tat ").append(pilha[i]).append('\n');
+			if(pilha.length > FRAMES_EXIBIDOS)
+				descricao.append("\t... ").append(pilha.length - FRAMES_EXIBIDOS).append(" mais\n");
+			return descricao.toString();
+		}
+	}
+
+	/**
+	 * Histograma das latências de uma ação, com faixas de duração crescentes. Mantém
+	 * também a quantidade, a soma e a maior latência, e estima os percentis pelo
+	 * limite superior da faixa que os contém.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static class HistogramaLatencia {
+		/** Limites superiores, em milissegundos, das faixas do histograma. A última
+		 * faixa contém as latências acima do último limite. */
+		public static final long[] LIMITES_MS = {1, 2, 5, 10, 16, 33, 50, 100, 250, 500, 1000, 2000, 5000};
+
+		private final long[] faixas = new long[LIMITES_MS.length + 1];
+		private long quantidade, somaNanos, maximoNanos;
+
+		private void registrar(long duracaoNanos) {
+			int faixa = 0;
+			while(faixa < LIMITES_MS.length && duracaoNanos > LIMITES_MS[faixa] * 1_000_000) faixa++;
+			faixas[faixa]++;
+			quantidade++;
+			somaNanos += duracaoNanos;
+			maximoNanos = Math.max(maximoNanos, duracaoNanos);
+		}
+
+		private HistogramaLatencia copiar() {
+			HistogramaLatencia copia = new HistogramaLatencia();
+			System.arraycopy(faixas, 0, copia.faixas, 0, faixas.length);
+			copia.quantidade = quantidade;
+			copia.somaNanos = somaNanos;
+			copia.maximoNanos = maximoNanos;
+			return copia;
+		}
+
+		/**
+		 * Obtém a quantidade de latências de cada faixa, na ordem de {@link #LIMITES_MS}.
+		 *
+		 * @return Retorna uma cópia das faixas.
+		 */
+		public long[] getFaixas() {
+			return faixas.clone();
+		}
+
+		/**
+		 * Obtém a quantidade de latências registradas.
+		 *
+		 * @return Retorna a quantidade.
+		 */
+		public long getQuantidade() {
+			return quantidade;
+		}
+
+		/**
+		 * Obtém a latência média.
+		 *
+		 * @return Retorna a média em milissegundos.
+		 */
+		public double getMediaMs() {
+			return (quantidade == 0)? 0 : somaNanos / 1e6 / quantidade;
+		}
+
+		/**
+		 * Obtém a maior latência registrada.
+		 *
+		 * @return Retorna a maior latência em milissegundos.
+		 */
+		public double getMaximoMs() {
+			return maximoNanos / 1e6;
+		}
+
+		/**
+		 * Estima o percentil passado por parâmetro pelo limite superior da faixa que
+		 * o contém. Na última faixa, retorna a maior latência registrada.
+		 *
+		 * @param percentil O percentil, entre 0 e 100.
+		 *
+		 * @return Retorna o percentil estimado em milissegundos.
+		 */
+		public double getPercentilMs(double percentil) {
+			if(quantidade == 0) return 0;
+
+			long posicao = (long) Math.ceil(quantidade * percentil / 100);
+			long acumulado = 0;
+			for(int faixa = 0; faixa < LIMITES_MS.length; faixa++) {
+				acumulado += faixas[faixa];
+				if(acumulado >= posicao) return Math.min(LIMITES_MS[faixa], getMaximoMs());
+			}
+			return getMaximoMs();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d eventos - média %.1f ms - p50 <= %.0f ms - p95 <= %.0f ms - p99 <= %.0f ms - máximo %.1f ms",
+								 quantidade, getMediaMs(), getPercentilMs(50), getPercentilMs(95),
+								 getPercentilMs(99), getMaximoMs());
+		}
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Mantém as classes que acompanham o funcionamento da aplicação em execução, como
+ * o tempo que a thread de eventos do Swing leva para responder às ações do usuário.
+ */
+package gdrc.sports.util.monitor;
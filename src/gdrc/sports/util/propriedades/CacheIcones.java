@@ -0,0 +1,67 @@
+package gdrc.sports.util.propriedades;
+
+import java.awt.Image;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.swing.ImageIcon;
+
+/**
+ * Mantém os ícones da aplicação já carregados, para que cada imagem seja lida
+ * e decodificada apenas uma vez e compartilhada entre as janelas.<br><br>
+ *
+ * Os ícones são carregados na primeira vez em que são solicitados. Durante a
+ * inicialização da aplicação, {@link #carregarTodos()} é chamado em segundo plano
+ * para que as janelas encontrem os ícones prontos. Se uma janela solicitar um
+ * ícone que está sendo carregado, aguarda o carregamento em vez de ler a imagem
+ * novamente.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public final class CacheIcones {
+	/** Os ícones carregados, indexados pelo endereço da imagem. O endereço é
+	 * utilizado como texto pois comparar objetos {@link URL} pode consultar a rede. */
+	private static final Map<String, ImageIcon> ICONES = new ConcurrentHashMap<>();
+
+	/** Os ícones carregados por {@link #carregarTodos()}, começando pelos
+	 * utilizados na janela principal. */
+	private static final URL[] ICONES_APLICACAO = {
+			Propriedade.URL_ICONE_APLICACAO, Propriedade.URL_ICONE_IMPORTAR,
+			Propriedade.URL_ICONE_PESQUISA, Propriedade.URL_ICONE_GRAFICO,
+			Propriedade.URL_ICONE_RELATORIO, Propriedade.URL_ICONE_EXPORTAR,
+			Propriedade.URL_LOGO_APLICACAO, Propriedade.URL_ICONE_PESQUISA_MINI,
+			Propriedade.URL_ICONE_INFO};
+
+	private CacheIcones() {}
+
+	/**
+	 * Obtém o ícone da imagem no endereço passado por parâmetro, carregando
+	 * a imagem caso ainda não tenha sido carregada.
+	 *
+	 * @param url O endereço da imagem.
+	 *
+	 * @return Retorna o ícone compartilhado da imagem.
+	 */
+	public static ImageIcon obterIcone(URL url) {
+		return ICONES.computeIfAbsent(url.toExternalForm(), (String endereco) -> new ImageIcon(url));
+	}
+
+	/**
+	 * Obtém a imagem utilizada como ícone das janelas da aplicação.
+	 *
+	 * @return Retorna a imagem de {@link Propriedade#URL_ICONE_APLICACAO}.
+	 */
+	public static Image obterIconeAplicacao() {
+		return obterIcone(Propriedade.URL_ICONE_APLICACAO).getImage();
+	}
+
+	/**
+	 * Carrega todos os ícones utilizados pelas janelas da aplicação. Deve ser
+	 * chamado em segundo plano, pois lê e decodifica as imagens.
+	 */
+	public static void carregarTodos() {
+		for(URL url : ICONES_APLICACAO)
+			obterIcone(url);
+	}
+}
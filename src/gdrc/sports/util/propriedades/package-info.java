@@ -1,5 +1,5 @@
-/**
- * Mantm as classes que guardam as principais propriedades, configuraes, imagens 
- * e estilos da aplicao. 
- */
+/**
+ * Mantém as classes que guardam as principais propriedades, configurações, imagens 
+ * e estilos da aplicação. 
+ */
 package gdrc.sports.util.propriedades;
\ No newline at end of file
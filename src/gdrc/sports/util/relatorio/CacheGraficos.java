@@ -0,0 +1,256 @@
+package gdrc.sports.util.relatorio;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import gdrc.sports.tipo.grafico.GraficoCategory;
+import gdrc.sports.util.relatorio.RelatorioGrafico.Granularidade;
+import gdrc.sports.util.relatorio.RelatorioGrafico.TipoGrafico;
+
+/**
+ * Mantém os últimos gráficos gerados pelos relatórios gráficos dos clientes, para que
+ * um gráfico já gerado seja reutilizado ao ser solicitado novamente, sem consultar o
+ * banco de dados nem montar o gráfico outra vez.<br><br>
+ *
+ * Cada gráfico é identificado por uma {@link Chave} com o cliente, o período, a
+ * granularidade, o exercício filtrado, o tipo do gráfico e o dado exibido. As imagens
+ * geradas a partir de um gráfico ficam guardadas no próprio {@link GraficoCategory},
+ * uma para cada tamanho, e portanto também são reutilizadas enquanto o gráfico estiver
+ * no cache.<br><br>
+ *
+ * O cache possui um limite de gráficos. Ao atingir o limite, o gráfico utilizado há
+ * mais tempo é descartado. Os gráficos de um cliente são descartados sempre que um
+ * exercício do cliente é salvo ou excluído, através de {@link #invalidar(String)}. Cada
+ * invalidação incrementa a versão do cliente, e um gráfico cuja geração começou em uma
+ * versão anterior é retornado sem ser inserido no cache, pois pode conter os dados
+ * descartados.<br><br>
+ *
+ * Os gráficos do cache são compartilhados entre as threads e devem ser exibidos através
+ * de {@link GraficoCategory#obterPainelGrafico()}, que exibe uma cópia do gráfico.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class CacheGraficos {
+	/** Quantidade padrão de gráficos mantidos pelo cache. */
+	public static final int CAPACIDADE_PADRAO = 64;
+
+	private static final CacheGraficos INSTANCIA = new CacheGraficos(CAPACIDADE_PADRAO);
+
+	private final Map<Chave, GraficoCategory> graficos;
+	/** Versão dos gráficos de cada cliente, pelo email em letras minúsculas. */
+	private final Map<String, Long> versoes;
+	private int capacidade;
+	private long acertos, falhas;
+
+	/**
+	 * Construtor que instancia o cache vazio com a capacidade passada por parâmetro.
+	 *
+	 * @param capacidade	A quantidade máxima de gráficos mantidos.
+	 */
+	public CacheGraficos(int capacidade) {
+		this.capacidade = capacidade;
+		this.versoes = new HashMap<>();
+		// Mantém as entradas em ordem de acesso, para descartar a utilizada há mais tempo.
+		graficos = new LinkedHashMap<Chave, GraficoCategory>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Chave, GraficoCategory> maisAntigo) {
+				return size() > CacheGraficos.this.capacidade;
+			}
+		};
+	}
+
+	/**
+	 * Obtém o cache utilizado pelos relatórios gráficos da aplicação.
+	 *
+	 * @return Retorna o cache compartilhado.
+	 */
+	public static CacheGraficos getInstancia() {
+		return INSTANCIA;
+	}
+
+	/**
+	 * Obtém o gráfico da chave passada por parâmetro. Se o gráfico não estiver no cache,
+	 * ele é gerado pelo gerador e inserido no cache. O gráfico é gerado fora do bloqueio
+	 * do cache, portanto outras threads podem consultar o cache enquanto isso. Se os
+	 * gráficos do cliente forem invalidados durante a geração, o gráfico gerado é
+	 * retornado, mas não é inserido no cache.
+	 *
+	 * @param chave		A chave do gráfico.
+	 * @param gerador	O gerador utilizado caso o gráfico não esteja no cache.
+	 *
+	 * @return Retorna o gráfico da chave.
+	 */
+	public GraficoCategory obterGrafico(Chave chave, Supplier<GraficoCategory> gerador) {
+		long versao;
+		synchronized (graficos) {
+			GraficoCategory grafico = graficos.get(chave);
+			if(grafico != null) {
+				acertos++;
+				return grafico;
+			}
+			falhas++;
+			versao = obterVersao(chave.emailCliente);
+		}
+
+		GraficoCategory grafico = gerador.get();
+		if(grafico == null) return null;
+
+		synchronized (graficos) {
+			if(versao != obterVersao(chave.emailCliente)) return grafico;
+
+			GraficoCategory existente = graficos.get(chave);
+			if(existente != null) return existente;
+			graficos.put(chave, grafico);
+		}
+		return grafico;
+	}
+
+	/** Deve ser chamado com o bloqueio de {@link #graficos}. */
+	private long obterVersao(String emailCliente) {
+		return versoes.getOrDefault(emailCliente.toLowerCase(), 0L);
+	}
+
+	/**
+	 * Descarta todos os gráficos do cliente que possui o email passado por parâmetro.
+	 *
+	 * @param emailCliente	O email do cliente.
+	 */
+	public void invalidar(String emailCliente) {
+		if(emailCliente == null) return;
+
+		synchronized (graficos) {
+			versoes.merge(emailCliente.toLowerCase(), 1L, Long::sum);
+			Iterator<Chave> chaves = graficos.keySet().iterator();
+			while(chaves.hasNext())
+				if(chaves.next().emailCliente.equalsIgnoreCase(emailCliente)) chaves.remove();
+		}
+	}
+
+	/**
+	 * Descarta todos os gráficos do cache.
+	 */
+	public void limpar() {
+		synchronized (graficos) { graficos.clear(); }
+	}
+
+	/**
+	 * Obtém a quantidade de gráficos mantidos no cache.
+	 *
+	 * @return Retorna a quantidade de gráficos.
+	 */
+	public int getQuantidadeGraficos() {
+		synchronized (graficos) { return graficos.size(); }
+	}
+
+	/**
+	 * Obtém a quantidade de vezes que um gráfico solicitado estava no cache.
+	 *
+	 * @return Retorna a quantidade de acertos.
+	 */
+	public long getAcertos() {
+		synchronized (graficos) { return acertos; }
+	}
+
+	/**
+	 * Obtém a quantidade de vezes que um gráfico solicitado precisou ser gerado.
+	 *
+	 * @return Retorna a quantidade de falhas.
+	 */
+	public long getFalhas() {
+		synchronized (graficos) { return falhas; }
+	}
+
+	/**
+	 * Obtém a quantidade máxima de gráficos mantidos no cache.
+	 *
+	 * @return Retorna a capacidade do cache.
+	 */
+	public int getCapacidade() {
+		return capacidade;
+	}
+
+	/**
+	 * Insere a quantidade máxima de gráficos mantidos no cache. Se o cache possuir mais
+	 * gráficos do que a nova capacidade, eles serão descartados ao inserir o próximo gráfico.
+	 *
+	 * @param capacidade	A capacidade do cache.
+	 */
+	public void setCapacidade(int capacidade) {
+		this.capacidade = capacidade;
+	}
+
+	@Override
+	public String toString() {
+		synchronized (graficos) {
+			return String.format("Gráficos: %d/%d - Acertos: %d - Falhas: %d",
+								 graficos.size(), capacidade, acertos, falhas);
+		}
+	}
+
+	/**
+	 * Identifica um gráfico no cache pelos dados utilizados para gerá-lo.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static class Chave {
+		private final String emailCliente, exercicioFiltrado, dadoGrafico;
+		private final LocalDate dataInicial, dataFinal;
+		private final Granularidade granularidade;
+		private final TipoGrafico tipoGrafico;
+		private final boolean separarExercicios;
+
+		/**
+		 * Construtor que instancia a chave com os dados do gráfico passados por parâmetro.
+		 *
+		 * @param emailCliente		O email do cliente do gráfico.
+		 * @param dataInicial		A data inicial do período.
+		 * @param dataFinal			A data final do período.
+		 * @param granularidade		A granularidade do período.
+		 * @param exercicioFiltrado	O exercício filtrado ou <code>null</code> para todos os exercícios.
+		 * @param tipoGrafico		O tipo do gráfico.
+		 * @param separarExercicios	Se os exercícios são exibidos separados.
+		 * @param dadoGrafico		O dado exibido pelo gráfico.
+		 */
+		public Chave(String emailCliente, LocalDate dataInicial, LocalDate dataFinal,
+					 Granularidade granularidade, String exercicioFiltrado, TipoGrafico tipoGrafico,
+					 boolean separarExercicios, String dadoGrafico) {
+			this.emailCliente = emailCliente;
+			this.dataInicial = dataInicial;
+			this.dataFinal = dataFinal;
+			this.granularidade = granularidade;
+			this.exercicioFiltrado = exercicioFiltrado;
+			this.tipoGrafico = tipoGrafico;
+			this.separarExercicios = separarExercicios;
+			this.dadoGrafico = dadoGrafico;
+		}
+
+		@Override
+		public boolean equals(Object objeto) {
+			if(this == objeto) return true;
+			if(!(objeto instanceof Chave)) return false;
+
+			Chave chave = (Chave) objeto;
+			return separarExercicios == chave.separarExercicios
+				&& emailCliente.equalsIgnoreCase(chave.emailCliente)
+				&& Objects.equals(dataInicial, chave.dataInicial)
+				&& Objects.equals(dataFinal, chave.dataFinal)
+				&& granularidade == chave.granularidade
+				&& Objects.equals(exercicioFiltrado, chave.exercicioFiltrado)
+				&& tipoGrafico == chave.tipoGrafico
+				&& Objects.equals(dadoGrafico, chave.dadoGrafico);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(emailCliente.toLowerCase(), dataInicial, dataFinal, granularidade,
+								exercicioFiltrado, tipoGrafico, separarExercicios, dadoGrafico);
+		}
+	}
+}
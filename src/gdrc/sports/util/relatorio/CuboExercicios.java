@@ -0,0 +1,313 @@
+package gdrc.sports.util.relatorio;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioAgregado;
+import gdrc.sports.tipo.ExercicioAgregado.Agregacao;
+import gdrc.sports.tipo.ExercicioDetalhado;
+import gdrc.sports.tipo.time.Data;
+import gdrc.sports.util.relatorio.RelatorioGrafico.Granularidade;
+
+/**
+ * Mantém os dados dos exercícios agregados por período e por tipo de exercício
+ * para cada uma das métricas definidas em {@link Metrica}. Para cada célula
+ * (período, exercício, métrica) são guardados a soma, a quantidade, o menor e o
+ * maior valor. O tamanho de cada período, dia, semana, mês, trimestre ou ano,
+ * é definido pela {@link Granularidade} fornecida ao construir o cubo.<br><br>
+ *
+ * O cubo é construído uma única vez a partir dos exercícios, ou dos exercícios
+ * já agregados por dia pelo banco de dados, e depois pode ser
+ * consultado para gerar qualquer gráfico do {@link RelatorioGrafico}, sem
+ * a necessidade de percorrer novamente a lista de exercícios.<br><br>
+ *
+ * Os períodos e os exercícios são mantidos na ordem em que aparecem pela
+ * primeira vez na lista de exercícios fornecida.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class CuboExercicios {
+
+	/**
+	 * Indica as métricas dos exercícios que são agregadas no cubo.
+	 * A duração e o ritmo são mantidos em minutos.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public enum Metrica {DURACAO, DISTANCIA, CALORIAS, PASSOS, RITMO, VELOCIDADE};
+
+	private static final Metrica[] METRICAS = Metrica.values();
+
+	private Granularidade granularidade;
+	private List<Data> periodos;
+	private List<String> exercicios;
+	private Map<String, Integer> indiceExercicios;
+	private double[] soma, minimo, maximo;
+	private int[] quantidade;
+
+	/**
+	 * Constrói o cubo com um período por dia percorrendo os
+	 * exercícios passados por parâmetro.
+	 *
+	 * @param exerciciosAgregar 	Os exercícios a serem agregados no cubo.
+	 */
+	public CuboExercicios(List<Exercicio> exerciciosAgregar) {
+		this(exerciciosAgregar, Granularidade.DIA);
+	}
+
+	/**
+	 * Constrói o cubo percorrendo os exercícios passados por parâmetro e
+	 * agrupando-os em períodos do tamanho indicado pela granularidade.
+	 *
+	 * @param exerciciosAgregar 	Os exercícios a serem agregados no cubo.
+	 * @param granularidade			O tamanho dos períodos do cubo.
+	 */
+	public CuboExercicios(List<Exercicio> exerciciosAgregar, Granularidade granularidade) {
+		this(granularidade);
+		int[] celulas = indexar(exerciciosAgregar, Exercicio::getData, Exercicio::getExercicio);
+
+		int i = 0;
+		for(Exercicio exercicio : exerciciosAgregar) {
+			int celula = celulas[i++];
+			for(Metrica metrica : METRICAS) {
+				double valor = obterValorDaMetrica(exercicio, metrica);
+				if(!Double.isNaN(valor)) acumular(celula + metrica.ordinal(), valor, 1, valor, valor);
+			}
+		}
+	}
+
+	private CuboExercicios(Granularidade granularidade) {
+		this.granularidade = granularidade;
+		periodos = new ArrayList<>();
+		exercicios = new ArrayList<>();
+		indiceExercicios = new HashMap<>();
+	}
+
+	/**
+	 * Constrói o cubo a partir dos exercícios que já foram agregados por data
+	 * e exercício, por exemplo, pelo banco de dados. Os dados de cada data são
+	 * combinados no período ao qual a data pertence de acordo com a granularidade.
+	 *
+	 * @param agregados 		Os exercícios agregados por data e exercício.
+	 * @param granularidade		O tamanho dos períodos do cubo.
+	 *
+	 * @return Retorna o cubo construído.
+	 */
+	public static CuboExercicios criarComAgregados(List<ExercicioAgregado> agregados, Granularidade granularidade) {
+		CuboExercicios cubo = new CuboExercicios(granularidade);
+		int[] celulas = cubo.indexar(agregados, ExercicioAgregado::getData, ExercicioAgregado::getExercicio);
+
+		int i = 0;
+		for(ExercicioAgregado agregado : agregados) {
+			int celula = celulas[i++];
+			for(Metrica metrica : METRICAS) {
+				Agregacao agregacao = obterAgregacaoDaMetrica(agregado, metrica);
+				if(agregacao.getQuantidade() > 0)
+					cubo.acumular(celula + metrica.ordinal(), agregacao.getSoma(), 
+								  (int) agregacao.getQuantidade(), agregacao.getMinimo(), agregacao.getMaximo());
+			}
+		}
+		return cubo;
+	}
+
+	/**
+	 * Obtém os índices do período e do exercício de cada item e cria os vetores
+	 * do cubo com o tamanho exato.
+	 *
+	 * @return Retorna o índice da primeira métrica da célula de cada item.
+	 */
+	private <T> int[] indexar(List<T> itens, Function<T, Data> data, Function<T, String> nomeExercicio) {
+		Map<Long, Integer> indicePeriodos = new HashMap<>();
+		int[] periodoDoItem = new int[itens.size()];
+		int[] tipoDoItem = new int[itens.size()];
+		int i = 0;
+		for(T item : itens) {
+			LocalDate dia = data.apply(item).getData();
+			long chavePeriodo = granularidade.obterChavePeriodo(dia.toEpochDay());
+			Integer periodo = indicePeriodos.get(chavePeriodo);
+			if(periodo == null) {
+				periodo = periodos.size();
+				indicePeriodos.put(chavePeriodo, periodo);
+				periodos.add(new Data(granularidade.obterInicioPeriodo(dia)));
+			}
+			String nome = nomeExercicio.apply(item);
+			Integer tipo = indiceExercicios.get(nome);
+			if(tipo == null) {
+				tipo = exercicios.size();
+				indiceExercicios.put(nome, tipo);
+				exercicios.add(nome);
+			}
+			periodoDoItem[i] = periodo;
+			tipoDoItem[i++] = tipo;
+		}
+
+		int tamanho = periodos.size() * exercicios.size() * METRICAS.length;
+		soma = new double[tamanho];
+		quantidade = new int[tamanho];
+		minimo = new double[tamanho];
+		maximo = new double[tamanho];
+		Arrays.fill(minimo, Double.POSITIVE_INFINITY);
+		Arrays.fill(maximo, Double.NEGATIVE_INFINITY);
+
+		int[] celulas = new int[itens.size()];
+		for(i = 0; i < celulas.length; i++)
+			celulas[i] = obterIndiceCelula(periodoDoItem[i], tipoDoItem[i], 0);
+		return celulas;
+	}
+
+	private void acumular(int indice, double somaValores, int quantidadeValores, double menorValor, double maiorValor) {
+		soma[indice] += somaValores;
+		quantidade[indice] += quantidadeValores;
+		if(menorValor < minimo[indice]) minimo[indice] = menorValor;
+		if(maiorValor > maximo[indice]) maximo[indice] = maiorValor;
+	}
+
+	/**
+	 * Obtém a agregação do exercício agregado referente à métrica passada por parâmetro.
+	 */
+	private static Agregacao obterAgregacaoDaMetrica(ExercicioAgregado agregado, Metrica metrica) {
+		switch (metrica) {
+		case DURACAO: return agregado.getDuracao();
+		case DISTANCIA: return agregado.getDistancia();
+		case CALORIAS: return agregado.getCalorias();
+		case PASSOS: return agregado.getPassos();
+		case RITMO: return agregado.getRitmo();
+		default: return agregado.getVelocidade();
+		}
+	}
+
+	/**
+	 * Obtém o valor do exercício para a métrica passada por parâmetro.
+	 * A duração e o ritmo são convertidos para minutos inteiros, da mesma
+	 * forma que são exibidos nos gráficos.
+	 *
+	 * @param exercicio 	O exercício do qual será obtido o valor.
+	 * @param metrica		A métrica que se pretende obter.
+	 *
+	 * @return Retorna o valor da métrica. Se o exercício não possuir
+	 * a métrica retorna {@link Double#NaN}.
+	 */
+	public static double obterValorDaMetrica(Exercicio exercicio, Metrica metrica) {
+		switch (metrica) {
+		case DURACAO: return exercicio.getTempo().getDuracao().getHora().toSecondOfDay()/60;
+		case DISTANCIA: return exercicio.getDistancia();
+		case CALORIAS: return exercicio.getCaloriasPerdidas();
+		case PASSOS: return exercicio.getPassos();
+		case RITMO:
+			if(!(exercicio instanceof ExercicioDetalhado)) return Double.NaN;
+			return ((ExercicioDetalhado) exercicio).getRitmo().getRitmoMedio().getHora().toSecondOfDay()/60;
+		case VELOCIDADE:
+			if(!(exercicio instanceof ExercicioDetalhado)) return Double.NaN;
+			return ((ExercicioDetalhado) exercicio).getVelocidade().getVelocidadeMedia();
+		default: return Double.NaN;
+		}
+	}
+
+	private int obterIndiceCelula(int periodo, int exercicio, int metrica) {
+		return (periodo * exercicios.size() + exercicio) * METRICAS.length + metrica;
+	}
+
+	/**
+	 * Obtém a soma dos valores da métrica para o período e exercício informados.
+	 *
+	 * @param periodo 		O índice do período, de acordo com {@link #getPeriodos()}.
+	 * @param exercicio		O índice do exercício, de acordo com {@link #getExercicios()}.
+	 * @param metrica		A métrica a ser consultada.
+	 *
+	 * @return Retorna a soma dos valores.
+	 */
+	public double getSoma(int periodo, int exercicio, Metrica metrica) {
+		return soma[obterIndiceCelula(periodo, exercicio, metrica.ordinal())];
+	}
+
+	/**
+	 * Obtém a quantidade de exercícios que possuem a métrica para o período
+	 * e exercício informados.
+	 *
+	 * @param periodo 		O índice do período, de acordo com {@link #getPeriodos()}.
+	 * @param exercicio		O índice do exercício, de acordo com {@link #getExercicios()}.
+	 * @param metrica		A métrica a ser consultada.
+	 *
+	 * @return Retorna a quantidade de exercícios.
+	 */
+	public int getQuantidade(int periodo, int exercicio, Metrica metrica) {
+		return quantidade[obterIndiceCelula(periodo, exercicio, metrica.ordinal())];
+	}
+
+	/**
+	 * Obtém o menor valor da métrica para o período e exercício informados.
+	 *
+	 * @param periodo 		O índice do período, de acordo com {@link #getPeriodos()}.
+	 * @param exercicio		O índice do exercício, de acordo com {@link #getExercicios()}.
+	 * @param metrica		A métrica a ser consultada.
+	 *
+	 * @return Retorna o menor valor. Se não houver valor retorna {@link Double#NaN}.
+	 */
+	public double getMinimo(int periodo, int exercicio, Metrica metrica) {
+		int indice = obterIndiceCelula(periodo, exercicio, metrica.ordinal());
+		return (quantidade[indice] == 0)? Double.NaN : minimo[indice];
+	}
+
+	/**
+	 * Obtém o maior valor da métrica para o período e exercício informados.
+	 *
+	 * @param periodo 		O índice do período, de acordo com {@link #getPeriodos()}.
+	 * @param exercicio		O índice do exercício, de acordo com {@link #getExercicios()}.
+	 * @param metrica		A métrica a ser consultada.
+	 *
+	 * @return Retorna o maior valor. Se não houver valor retorna {@link Double#NaN}.
+	 */
+	public double getMaximo(int periodo, int exercicio, Metrica metrica) {
+		int indice = obterIndiceCelula(periodo, exercicio, metrica.ordinal());
+		return (quantidade[indice] == 0)? Double.NaN : maximo[indice];
+	}
+
+	/**
+	 * Obtém a data inicial de cada período presente no cubo, na ordem
+	 * em que foram encontrados nos exercícios.
+	 *
+	 * @return Retorna a lista não modificável das datas iniciais dos períodos.
+	 */
+	public List<Data> getPeriodos() {
+		return Collections.unmodifiableList(periodos);
+	}
+
+	/**
+	 * Obtém a descrição do período a ser exibida no gráfico, de
+	 * acordo com a granularidade do cubo.
+	 *
+	 * @param periodo	O índice do período, de acordo com {@link #getPeriodos()}.
+	 *
+	 * @return Retorna a descrição do período.
+	 */
+	public String getDescricaoPeriodo(int periodo) {
+		return granularidade.formatarPeriodo(periodos.get(periodo).getData());
+	}
+
+	/**
+	 * Obtém a granularidade utilizada para agrupar os exercícios no cubo.
+	 *
+	 * @return Retorna a granularidade do cubo.
+	 */
+	public Granularidade getGranularidade() {
+		return granularidade;
+	}
+
+	/**
+	 * Obtém os nomes dos exercícios presentes no cubo, na ordem
+	 * em que foram encontrados.
+	 *
+	 * @return Retorna a lista não modificável dos nomes dos exercícios.
+	 */
+	public List<String> getExercicios() {
+		return Collections.unmodifiableList(exercicios);
+	}
+
+}
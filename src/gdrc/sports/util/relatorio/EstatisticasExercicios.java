@@ -0,0 +1,338 @@
+package gdrc.sports.util.relatorio;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioDetalhado;
+import gdrc.sports.util.relatorio.RelatorioCliente.TipoDadoRelatorio;
+
+/**
+ * Calcula em uma única passagem sobre os exercícios de um cliente todas as
+ * estatísticas utilizadas pelos relatórios. Para cada {@link TipoDadoRelatorio}
+ * são obtidos o exercício de maior e de menor valor, a soma, a média e a
+ * quantidade de exercícios que possuem o dado. São obtidos também a quantidade
+ * de exercícios por tipo de exercício e as sequências de dias consecutivos
+ * com exercícios realizados.<br><br>
+ *
+ * Os valores de cada dado são obtidos da seguinte forma: a duração em segundos,
+ * a distância em Km, as calorias em Kcal, os passos e a velocidade máxima em Km/h.
+ * A velocidade só é considerada para objetos {@link ExercicioDetalhado}.<br><br>
+ *
+ * Para históricos muito grandes o cálculo pode ser feito em paralelo, pois os
+ * resultados parciais de cada parte da lista podem ser combinados através do
+ * método {@link #combinar(EstatisticasExercicios)}.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class EstatisticasExercicios {
+	/** Quantidade de exercícios a partir da qual o cálculo é feito em paralelo.*/
+	public static final int LIMITE_CALCULO_PARALELO = 10000;
+
+	private static final TipoDadoRelatorio[] DADOS = TipoDadoRelatorio.values();
+
+	private Exercicio[] exerciciosMaiorValor, exerciciosMenorValor;
+	private double[] maiorValor, menorValor, soma;
+	private long[] quantidade;
+	private long quantidadeExercicios;
+	private TreeMap<String, Integer> quantidadePorExercicio;
+	private TreeSet<Long> diasComExercicio;
+	private int maiorSequenciaDias, sequenciaDiasFinal;
+	private boolean sequenciasCalculadas;
+
+	/**
+	 * Construtor que instancia o objeto sem nenhum exercício acumulado.
+	 * Os exercícios devem ser acumulados através do método
+	 * {@link #acumular(Exercicio)}.
+	 */
+	public EstatisticasExercicios() {
+		exerciciosMaiorValor = new Exercicio[DADOS.length];
+		exerciciosMenorValor = new Exercicio[DADOS.length];
+		maiorValor = new double[DADOS.length];
+		menorValor = new double[DADOS.length];
+		soma = new double[DADOS.length];
+		quantidade = new long[DADOS.length];
+		quantidadePorExercicio = new TreeMap<>();
+		diasComExercicio = new TreeSet<>();
+	}
+
+	/**
+	 * Calcula as estatísticas dos exercícios passados por parâmetro. Se a
+	 * quantidade de exercícios for igual ou superior a {@link #LIMITE_CALCULO_PARALELO}
+	 * o cálculo será feito em paralelo.
+	 *
+	 * @param exercicios 	Os exercícios a serem considerados no cálculo.
+	 *
+	 * @return Retorna as estatísticas calculadas.
+	 */
+	public static EstatisticasExercicios calcular(List<Exercicio> exercicios) {
+		if(exercicios.size() >= LIMITE_CALCULO_PARALELO)
+			return calcularParalelo(exercicios);
+
+		EstatisticasExercicios estatisticas = new EstatisticasExercicios();
+		for(Exercicio exercicio : exercicios)
+			estatisticas.acumular(exercicio);
+		return estatisticas;
+	}
+
+	/**
+	 * Calcula as estatísticas dos exercícios passados por parâmetro dividindo
+	 * a lista entre as threads disponíveis e combinando os resultados parciais.
+	 * Em caso de empate é mantido o primeiro exercício da lista, assim como no
+	 * cálculo sequencial.
+	 *
+	 * @param exercicios 	Os exercícios a serem considerados no cálculo.
+	 *
+	 * @return Retorna as estatísticas calculadas.
+	 */
+	public static EstatisticasExercicios calcularParalelo(List<Exercicio> exercicios) {
+		return exercicios.parallelStream().collect(EstatisticasExercicios::new,
+												   EstatisticasExercicios::acumular,
+												   EstatisticasExercicios::combinar);
+	}
+
+	/**
+	 * Adiciona os dados do exercício passado por parâmetro às estatísticas.
+	 *
+	 * @param exercicio 	O exercício a ser acumulado.
+	 */
+	public void acumular(Exercicio exercicio) {
+		if(exercicio == null) return;
+
+		for(TipoDadoRelatorio dado : DADOS) {
+			double valor = obterValorDoDado(exercicio, dado);
+			if(Double.isNaN(valor)) continue;
+
+			int i = dado.ordinal();
+			if(quantidade[i] == 0 || valor > maiorValor[i]) {
+				maiorValor[i] = valor;
+				exerciciosMaiorValor[i] = exercicio;
+			}
+			if(quantidade[i] == 0 || valor < menorValor[i]) {
+				menorValor[i] = valor;
+				exerciciosMenorValor[i] = exercicio;
+			}
+			soma[i] += valor;
+			quantidade[i]++;
+		}
+
+		quantidadeExercicios++;
+		quantidadePorExercicio.merge(exercicio.getExercicio(), 1, Integer::sum);
+		diasComExercicio.add(exercicio.getData().getData().toEpochDay());
+		sequenciasCalculadas = false;
+	}
+
+	/**
+	 * Combina as estatísticas passadas por parâmetro com as deste objeto.
+	 * As estatísticas passadas devem se referir aos exercícios que estão
+	 * após os exercícios já acumulados neste objeto.
+	 *
+	 * @param outras 	As estatísticas a serem combinadas com este objeto.
+	 */
+	public void combinar(EstatisticasExercicios outras) {
+		for(int i = 0; i < DADOS.length; i++) {
+			if(outras.quantidade[i] == 0) continue;
+
+			if(quantidade[i] == 0 || outras.maiorValor[i] > maiorValor[i]) {
+				maiorValor[i] = outras.maiorValor[i];
+				exerciciosMaiorValor[i] = outras.exerciciosMaiorValor[i];
+			}
+			if(quantidade[i] == 0 || outras.menorValor[i] < menorValor[i]) {
+				menorValor[i] = outras.menorValor[i];
+				exerciciosMenorValor[i] = outras.exerciciosMenorValor[i];
+			}
+			soma[i] += outras.soma[i];
+			quantidade[i] += outras.quantidade[i];
+		}
+
+		quantidadeExercicios += outras.quantidadeExercicios;
+		for(Map.Entry<String, Integer> entrada : outras.quantidadePorExercicio.entrySet())
+			quantidadePorExercicio.merge(entrada.getKey(), entrada.getValue(), Integer::sum);
+		diasComExercicio.addAll(outras.diasComExercicio);
+		sequenciasCalculadas = false;
+	}
+
+	/**
+	 * Obtém o valor do exercício referente ao dado passado por parâmetro.
+	 *
+	 * @param exercicio 	O exercício do qual o valor será obtido.
+	 * @param dado 			O dado que se pretende obter do exercício.
+	 *
+	 * @return Retorna o valor do dado. Se o exercício não possui o dado
+	 * retorna {@link Double#NaN}.
+	 */
+	public static double obterValorDoDado(Exercicio exercicio, TipoDadoRelatorio dado) {
+		switch (dado) {
+		case CALORIAS: return exercicio.getCaloriasPerdidas();
+		case DISTANCIA: return exercicio.getDistancia();
+		case DURACAO: return exercicio.getTempo().getDuracao().getHora().toSecondOfDay();
+		case PASSOS: return exercicio.getPassos();
+		case VELOCIDADE:
+			if(exercicio instanceof ExercicioDetalhado)
+				return ((ExercicioDetalhado) exercicio).getVelocidade().getVelocidadeMaxima();
+			return Double.NaN;
+		default: return Double.NaN;
+		}
+	}
+
+	/**
+	 * Calcula a maior sequência de dias consecutivos com exercícios e a
+	 * sequência que termina no último dia com exercício, percorrendo os
+	 * dias já ordenados apenas uma vez.
+	 */
+	private void calcularSequencias() {
+		if(sequenciasCalculadas) return;
+
+		int sequencia = 0, maiorSequencia = 0;
+		long diaAnterior = Long.MIN_VALUE;
+		for(long dia : diasComExercicio) {
+			sequencia = (dia == diaAnterior + 1)? sequencia + 1 : 1;
+			if(sequencia > maiorSequencia) maiorSequencia = sequencia;
+			diaAnterior = dia;
+		}
+
+		maiorSequenciaDias = maiorSequencia;
+		sequenciaDiasFinal = sequencia;
+		sequenciasCalculadas = true;
+	}
+
+	/**
+	 * Obtém o exercício com o maior valor para o dado passado por parâmetro.
+	 *
+	 * @param dado 	O dado a ser considerado.
+	 *
+	 * @return Retorna o exercício encontrado. Se nenhum exercício possui
+	 * o dado, retorna <code>null</code>.
+	 */
+	public Exercicio getExercicioMaiorValor(TipoDadoRelatorio dado) {
+		return exerciciosMaiorValor[dado.ordinal()];
+	}
+
+	/**
+	 * Obtém o exercício com o menor valor para o dado passado por parâmetro.
+	 *
+	 * @param dado 	O dado a ser considerado.
+	 *
+	 * @return Retorna o exercício encontrado. Se nenhum exercício possui
+	 * o dado, retorna <code>null</code>.
+	 */
+	public Exercicio getExercicioMenorValor(TipoDadoRelatorio dado) {
+		return exerciciosMenorValor[dado.ordinal()];
+	}
+
+	/**
+	 * Obtém o maior valor encontrado para o dado passado por parâmetro.
+	 *
+	 * @param dado 	O dado a ser considerado.
+	 *
+	 * @return Retorna o maior valor. Se nenhum exercício possui o dado
+	 * retorna {@link Double#NaN}.
+	 */
+	public double getMaiorValor(TipoDadoRelatorio dado) {
+		int i = dado.ordinal();
+		return (quantidade[i] == 0)? Double.NaN : maiorValor[i];
+	}
+
+	/**
+	 * Obtém o menor valor encontrado para o dado passado por parâmetro.
+	 *
+	 * @param dado 	O dado a ser considerado.
+	 *
+	 * @return Retorna o menor valor. Se nenhum exercício possui o dado
+	 * retorna {@link Double#NaN}.
+	 */
+	public double getMenorValor(TipoDadoRelatorio dado) {
+		int i = dado.ordinal();
+		return (quantidade[i] == 0)? Double.NaN : menorValor[i];
+	}
+
+	/**
+	 * Obtém a soma dos valores do dado passado por parâmetro.
+	 *
+	 * @param dado 	O dado a ser considerado.
+	 *
+	 * @return Retorna a soma dos valores de todos os exercícios.
+	 */
+	public double getSoma(TipoDadoRelatorio dado) {
+		return soma[dado.ordinal()];
+	}
+
+	/**
+	 * Obtém a média dos valores do dado passado por parâmetro.
+	 *
+	 * @param dado 	O dado a ser considerado.
+	 *
+	 * @return Retorna a média dos valores dos exercícios que possuem o dado.
+	 * Se nenhum exercício possui o dado retorna {@link Double#NaN}.
+	 */
+	public double getMedia(TipoDadoRelatorio dado) {
+		int i = dado.ordinal();
+		return (quantidade[i] == 0)? Double.NaN : soma[i]/quantidade[i];
+	}
+
+	/**
+	 * Obtém a quantidade de exercícios que possuem o dado passado por parâmetro.
+	 *
+	 * @param dado 	O dado a ser considerado.
+	 *
+	 * @return Retorna a quantidade de exercícios.
+	 */
+	public long getQuantidade(TipoDadoRelatorio dado) {
+		return quantidade[dado.ordinal()];
+	}
+
+	/**
+	 * Obtém a quantidade total de exercícios acumulados.
+	 *
+	 * @return Retorna a quantidade de exercícios.
+	 */
+	public long getQuantidadeExercicios() {
+		return quantidadeExercicios;
+	}
+
+	/**
+	 * Obtém a quantidade de exercícios realizados para cada tipo de
+	 * exercício, por exemplo, quantas vezes o cliente fez "CAMINHADA".
+	 *
+	 * @return Retorna o {@link Map} não modificável que associa o nome
+	 * do exercício a sua quantidade, em ordem alfabética do nome.
+	 */
+	public Map<String, Integer> getQuantidadePorExercicio() {
+		return Collections.unmodifiableMap(quantidadePorExercicio);
+	}
+
+	/**
+	 * Obtém a quantidade de dias distintos em que houve exercício.
+	 *
+	 * @return Retorna a quantidade de dias.
+	 */
+	public int getQuantidadeDiasComExercicio() {
+		return diasComExercicio.size();
+	}
+
+	/**
+	 * Obtém a maior quantidade de dias consecutivos em que
+	 * o cliente realizou pelo menos um exercício.
+	 *
+	 * @return Retorna o número de dias da maior sequência.
+	 */
+	public int getMaiorSequenciaDias() {
+		calcularSequencias();
+		return maiorSequenciaDias;
+	}
+
+	/**
+	 * Obtém a quantidade de dias consecutivos com exercício que
+	 * termina no dia do último exercício realizado.
+	 *
+	 * @return Retorna o número de dias da última sequência.
+	 */
+	public int getSequenciaDiasFinal() {
+		calcularSequencias();
+		return sequenciaDiasFinal;
+	}
+
+}
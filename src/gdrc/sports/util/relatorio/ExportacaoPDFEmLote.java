@@ -0,0 +1,350 @@
+package gdrc.sports.util.relatorio;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.time.Data;
+import gdrc.sports.util.controle.ControleDeClientes;
+
+/**
+ * Exporta os relatórios em PDF de vários clientes de uma só vez, sem a necessidade
+ * de uma interface gráfica. Cada relatório contém as mesmas seções exportadas por
+ * padrão pela janela de exportação: cabeçalho, informações do cliente, relatório do
+ * cliente e os relatórios gráficos do período informado.<br><br>
+ *
+ * Os relatórios são escritos ao mesmo tempo por um número limitado de threads, cada
+ * uma escrevendo um documento PDF por vez. Os gráficos são obtidos dos dados já agregados
+ * pelo banco de dados e os ícones dos documentos são decodificados apenas uma vez para
+ * todos os relatórios.<br><br>
+ *
+ * Um erro ao exportar o relatório de um cliente não interrompe a exportação dos demais.
+ * O arquivo incompleto é excluído e o erro é mantido no {@link Resultado} da exportação.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class ExportacaoPDFEmLote {
+	private File diretorio;
+	private Data dataInicial, dataFinal;
+	private int numeroThreads;
+	private boolean incremental;
+	private ProgressoExportacao progresso;
+
+	/**
+	 * Construtor que instancia a exportação dos relatórios no diretório e com o período
+	 * dos relatórios gráficos passados por parâmetro. Por padrão utiliza uma thread para
+	 * cada processador disponível.
+	 *
+	 * @param diretorio		O diretório no qual os relatórios serão escritos.
+	 * @param dataInicial	A data inicial do período dos relatórios gráficos.
+	 * @param dataFinal		A data final do período dos relatórios gráficos.
+	 */
+	public ExportacaoPDFEmLote(File diretorio, Data dataInicial, Data dataFinal) {
+		this.diretorio = diretorio;
+		this.dataInicial = dataInicial;
+		this.dataFinal = dataFinal;
+		this.numeroThreads = Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Exporta os relatórios de todos os clientes da aplicação que são aceitos pelo
+	 * filtro passado por parâmetro.
+	 *
+	 * @param filtro	O filtro que seleciona os clientes a serem exportados. Se
+	 * <code>null</code> exporta todos os clientes.
+	 *
+	 * @return Retorna o resultado da exportação.
+	 *
+	 * @throws IOException Dispara a exceção caso não seja possível listar os clientes
+	 * ou criar o diretório dos relatórios.
+	 */
+	public Resultado exportarTodos(Predicate<Cliente> filtro) throws IOException {
+		List<Cliente> clientes = new ControleDeClientes().listarTodosClientes();
+		if(clientes == null) throw new IOException("Erro ao listar os clientes da aplicação.");
+
+		if(filtro != null) clientes.removeIf(filtro.negate());
+		return exportar(clientes);
+	}
+
+	/**
+	 * Exporta os relatórios dos clientes passados por parâmetro. Este método aguarda
+	 * até que todos os relatórios tenham sido exportados.
+	 *
+	 * @param clientes	Os clientes a serem exportados. Apenas o email de cada cliente
+	 * é utilizado, os demais dados são obtidos do banco de dados.
+	 *
+	 * @return Retorna o resultado da exportação.
+	 *
+	 * @throws IOException Dispara a exceção caso não seja possível criar o diretório
+	 * dos relatórios ou caso a exportação seja interrompida.
+	 */
+	public Resultado exportar(List<Cliente> clientes) throws IOException {
+		if(!diretorio.isDirectory() && !diretorio.mkdirs())
+			throw new IOException("O diretório '"+diretorio.getAbsolutePath()+"' não pôde ser criado.");
+
+		long inicio = System.nanoTime();
+		Resultado resultado = new Resultado(clientes.size());
+		String dataEHora = String.format("%1$td de %1$tB de %1$tY - %1$tHh %1$tMmin", Calendar.getInstance());
+		AtomicInteger concluidos = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, numeroThreads));
+		try {
+			List<Future<?>> tarefas = new ArrayList<>(clientes.size());
+			for(Cliente cliente : clientes)
+				tarefas.add(executor.submit(() -> {
+					File arquivo = null;
+					try {
+						arquivo = exportarCliente(cliente, dataEHora);
+						resultado.quantidadeExportados.incrementAndGet();
+					} catch (IOException | RuntimeException e) {
+						resultado.falhas.put(cliente.getEmail(), e.getMessage() == null? e.toString() : e.getMessage());
+						if(progresso != null) progresso.falhaAoExportar(cliente, e, concluidos.incrementAndGet(), clientes.size());
+						return;
+					}
+					if(progresso != null) progresso.relatorioExportado(cliente, arquivo, concluidos.incrementAndGet(), clientes.size());
+				}));
+
+			for(Future<?> tarefa : tarefas) tarefa.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("A exportação dos relatórios foi interrompida.", e);
+		} catch (ExecutionException e) {
+			throw new IOException("Erro ao exportar os relatórios.", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		resultado.tempoDecorrido = System.nanoTime() - inicio;
+		return resultado;
+	}
+
+	/**
+	 * Escreve o relatório do cliente em um novo documento PDF, ou atualiza o relatório
+	 * existente se a exportação for incremental. Caso ocorra um erro o documento
+	 * incompleto é excluído.
+	 */
+	private File exportarCliente(Cliente cliente, String dataEHora) throws IOException {
+		if(incremental) {
+			// Os exercícios só são carregados se o relatório ainda não existir.
+			Cliente dadosCliente = carregarCliente(cliente.getEmail(), false);
+
+			File arquivo = new File(diretorio, obterNomeArquivo(dadosCliente));
+			new RelatorioPDFIncremental(arquivo).atualizar(dadosCliente, dataInicial, dataFinal);
+			return arquivo;
+		}
+
+		Cliente clienteCompleto = carregarCliente(cliente.getEmail(), true);
+
+		File arquivo = new File(diretorio, obterNomeArquivo(clienteCompleto));
+		RelatorioPDF relatorioPDF = new RelatorioPDF(arquivo);
+		boolean exportado = false;
+		try {
+			relatorioPDF.escreverCabecalho(clienteCompleto, dataEHora);
+			relatorioPDF.escreverInformacaoCliente(clienteCompleto);
+			relatorioPDF.escreverRelatorioCliente(new RelatorioCliente(clienteCompleto.getExercicios()));
+
+			RelatorioGrafico relatorioGrafico = new RelatorioGrafico(clienteCompleto.getEmail(), dataInicial, dataFinal);
+			relatorioPDF.escreverRelatoriosGraficos(relatorioGrafico, true, true, true);
+			exportado = true;
+		} finally {
+			relatorioPDF.fechar();
+			if(!exportado) arquivo.delete();
+		}
+		return arquivo;
+	}
+
+	/**
+	 * Busca o cliente e, se solicitado, os seus exercícios no banco de dados. O cliente 
+	 * inexistente e o erro na consulta são informados em exceções diferentes, para que 
+	 * uma falha do banco de dados não seja relatada como clientes não encontrados.
+	 * 
+	 * @throws IOException Dispara a exceção caso o cliente não exista ou ocorra um erro 
+	 * no banco de dados, que é mantido como causa.
+	 */
+	static Cliente carregarCliente(String email, boolean incluirExercicios) throws IOException {
+		Cliente cliente;
+		try { cliente = new ControleDeClientes().carregarCliente(email, incluirExercicios);
+		} catch (SQLException e) {
+			throw new IOException("Erro no banco de dados ao carregar o cliente: "+email, e);
+		}
+		
+		if(cliente == null) throw new IOException("O cliente não foi encontrado: "+email);
+		return cliente;
+	}
+
+	/**
+	 * Obtém o nome do arquivo do relatório do cliente. O email é incluído no nome
+	 * para que clientes com o mesmo nome não tenham o relatório sobrescrito.
+	 */
+	private String obterNomeArquivo(Cliente cliente) {
+		String nome = String.format("Relatório_%s (%s).pdf", cliente.getNome(), cliente.getEmail());
+		return nome.replaceAll("[\\\\/:*?\"<>|]", "_");
+	}
+
+	/**
+	 * Obtém o número de threads que escrevem os relatórios ao mesmo tempo.
+	 *
+	 * @return Retorna o número de threads.
+	 */
+	public int getNumeroThreads() {
+		return numeroThreads;
+	}
+
+	/**
+	 * Insere o número de threads que escrevem os relatórios ao mesmo tempo.
+	 * Como todas as threads compartilham a conexão com o banco de dados,
+	 * valores muito maiores que o número de processadores não tornam a
+	 * exportação mais rápida.
+	 *
+	 * @param numeroThreads O número de threads.
+	 */
+	public void setNumeroThreads(int numeroThreads) {
+		this.numeroThreads = numeroThreads;
+	}
+
+	/**
+	 * Verifica se os relatórios são atualizados de forma incremental.
+	 *
+	 * @return Retorna <code>true</code> se os relatórios forem incrementais.
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Indica se os relatórios devem ser atualizados de forma incremental. Neste caso o
+	 * relatório existente de cada cliente recebe apenas os dias do período que ainda não
+	 * foram exportados, veja {@link RelatorioPDFIncremental}.
+	 *
+	 * @param incremental <code>true</code> para atualizar os relatórios existentes,
+	 * <code>false</code> para escrever os relatórios completos.
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Insere o objeto que será notificado a cada relatório exportado.
+	 *
+	 * @param progresso O objeto que acompanha o progresso da exportação.
+	 * Pode ser <code>null</code>.
+	 */
+	public void setProgresso(ProgressoExportacao progresso) {
+		this.progresso = progresso;
+	}
+
+	/**
+	 * Interface que permite acompanhar o progresso da exportação dos relatórios.
+	 * Os métodos são chamados pelas threads que escrevem os relatórios, portanto
+	 * devem ser thread-safe e não podem alterar diretamente componentes Swing.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static interface ProgressoExportacao {
+
+		/**
+		 * Chamado após o relatório de um cliente ser exportado.
+		 *
+		 * @param cliente		O cliente exportado.
+		 * @param arquivo		O arquivo no qual o relatório foi escrito.
+		 * @param concluidos	A quantidade de clientes já processados, incluindo
+		 * os que falharam.
+		 * @param total			A quantidade total de clientes a serem exportados.
+		 */
+		public void relatorioExportado(Cliente cliente, File arquivo, int concluidos, int total);
+
+		/**
+		 * Chamado quando ocorre um erro ao exportar o relatório de um cliente.
+		 *
+		 * @param cliente		O cliente que não foi exportado.
+		 * @param erro			O erro ocorrido.
+		 * @param concluidos	A quantidade de clientes já processados, incluindo
+		 * os que falharam.
+		 * @param total			A quantidade total de clientes a serem exportados.
+		 */
+		public void falhaAoExportar(Cliente cliente, Exception erro, int concluidos, int total);
+	}
+
+	/**
+	 * Mantém o resultado de uma exportação em lote: a quantidade de relatórios
+	 * exportados, o tempo decorrido e os clientes que não foram exportados.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static class Resultado {
+		private final int quantidadeClientes;
+		private final AtomicInteger quantidadeExportados = new AtomicInteger();
+		private final Map<String, String> falhas = new ConcurrentSkipListMap<>();
+		private long tempoDecorrido;
+
+		private Resultado(int quantidadeClientes) {
+			this.quantidadeClientes = quantidadeClientes;
+		}
+
+		/**
+		 * Obtém a quantidade de clientes que deveriam ser exportados.
+		 *
+		 * @return Retorna a quantidade de clientes.
+		 */
+		public int getQuantidadeClientes() {
+			return quantidadeClientes;
+		}
+
+		/**
+		 * Obtém a quantidade de relatórios exportados com sucesso.
+		 *
+		 * @return Retorna a quantidade de relatórios exportados.
+		 */
+		public int getQuantidadeExportados() {
+			return quantidadeExportados.get();
+		}
+
+		/**
+		 * Obtém os clientes que não foram exportados e a mensagem
+		 * do erro ocorrido, ordenados pelo email do cliente.
+		 *
+		 * @return Retorna o mapa com o email do cliente e a mensagem do erro.
+		 */
+		public Map<String, String> getFalhas() {
+			return Collections.unmodifiableMap(falhas);
+		}
+
+		/**
+		 * Obtém o tempo decorrido na exportação, em milissegundos.
+		 *
+		 * @return Retorna o tempo decorrido.
+		 */
+		public long getTempoDecorrido() {
+			return tempoDecorrido / 1_000_000;
+		}
+
+		/**
+		 * Obtém a quantidade de relatórios exportados por segundo.
+		 *
+		 * @return Retorna a vazão da exportação.
+		 */
+		public double getRelatoriosPorSegundo() {
+			return (tempoDecorrido == 0)? 0 : getQuantidadeExportados() / (tempoDecorrido / 1e9);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d de %d relatórios exportados em %.1f s (%.2f relatórios/s), %d falhas.",
+								 getQuantidadeExportados(), quantidadeClientes, tempoDecorrido / 1e9,
+								 getRelatoriosPorSegundo(), falhas.size());
+		}
+	}
+}
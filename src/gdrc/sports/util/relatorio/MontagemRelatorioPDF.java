@@ -0,0 +1,338 @@
+package gdrc.sports.util.relatorio;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfSmartCopy;
+
+/**
+ * Monta um relatório em PDF a partir de seções que são escritas ao mesmo tempo.<br><br>
+ *
+ * Cada seção é escrita por uma thread separada em um documento PDF próprio, gravado em
+ * um arquivo temporário para que seções longas, como o apêndice de exercícios, não sejam
+ * mantidas em memória. Ao final, as páginas dos documentos são copiadas para o arquivo do relatório
+ * na ordem em que as seções foram inseridas, através de um {@link PdfSmartCopy}, que grava
+ * apenas uma vez os recursos repetidos entre as seções, como fontes e ícones. Cada seção
+ * começa em uma nova página. Os fragmentos são lidos parcialmente e cada arquivo temporário
+ * é excluído assim que as suas páginas são copiadas.<br><br>
+ *
+ * Se ocorrer um erro ao escrever uma seção, apenas a seção é escrita novamente, até o
+ * número de tentativas configurado. O andamento da montagem pode ser acompanhado por um
+ * {@link ProgressoMontagem}, e a montagem pode ser cancelada de outra thread através de
+ * {@link #cancelar()}.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class MontagemRelatorioPDF {
+	/** Threads utilizadas para escrever as seções dos relatórios.
+	 * São threads daemon, portanto não impedem que a aplicação seja encerrada. */
+	private static final ExecutorService ESCRITOR_SECOES = Executors.newFixedThreadPool(
+			Runtime.getRuntime().availableProcessors(), (Runnable tarefa) -> {
+				Thread thread = new Thread(tarefa, "escritor-secoes-pdf");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	private List<SecaoRelatorio> secoes;
+	private int tentativas;
+	private ProgressoMontagem progresso;
+
+	private volatile boolean cancelada;
+	private volatile List<Future<File>> fragmentosEmEscrita;
+
+	/**
+	 * Construtor default que instancia a montagem sem nenhuma seção, escrevendo
+	 * cada seção até duas vezes em caso de erro.
+	 */
+	public MontagemRelatorioPDF() {
+		secoes = new ArrayList<>();
+		tentativas = 2;
+	}
+
+	/**
+	 * Insere uma seção ao final do relatório. A seção não pode depender de objetos
+	 * alterados pelas demais seções, pois todas são escritas ao mesmo tempo.
+	 *
+	 * @param secao		A seção a ser inserida.
+	 *
+	 * @return Retorna esta montagem, para que várias seções possam ser inseridas em sequência.
+	 */
+	public MontagemRelatorioPDF addSecao(SecaoRelatorio secao) {
+		secoes.add(secao);
+		return this;
+	}
+
+	/**
+	 * Escreve todas as seções e monta o relatório no arquivo passado por parâmetro.
+	 * Caso ocorra um erro ou a montagem seja cancelada o arquivo incompleto é excluído.
+	 *
+	 * @param arquivo	O arquivo no qual o relatório será gravado.
+	 *
+	 * @return Retorna <code>true</code> se o relatório foi montado corretamente, ou
+	 * <code>false</code> se a montagem foi cancelada.
+	 *
+	 * @throws IOException Dispara a exceção caso alguma seção não possa ser escrita
+	 * após todas as tentativas ou caso ocorra um erro ao gravar o arquivo.
+	 */
+	public boolean montar(File arquivo) throws IOException {
+		if(secoes.isEmpty()) throw new IOException("O relatório não possui nenhuma seção.");
+
+		if(cancelada) return false;
+
+		AtomicInteger secoesEscritas = new AtomicInteger();
+		Queue<File> temporarios = new ConcurrentLinkedQueue<>();
+		AtomicBoolean encerrada = new AtomicBoolean();
+		List<Future<File>> fragmentos = new ArrayList<>(secoes.size());
+		for(SecaoRelatorio secao : secoes) {
+			String nomeFragmento = String.format("%s (seção %d)", arquivo.getName(), fragmentos.size()+1);
+			fragmentos.add(ESCRITOR_SECOES.submit(() -> {
+				File fragmento = escreverSecao(secao, nomeFragmento, temporarios, encerrada);
+				if(fragmento != null && progresso != null) progresso.secaoEscrita(secoesEscritas.incrementAndGet(), secoes.size());
+				return fragmento;
+			}));
+		}
+		// Cancela os fragmentos caso a montagem tenha sido cancelada enquanto eram criados.
+		fragmentosEmEscrita = fragmentos;
+		if(cancelada) cancelar();
+
+		boolean montado = false;
+		try (OutputStream saida = new FileOutputStream(arquivo)) {
+			montado = unirFragmentos(fragmentos, saida);
+		} finally {
+			for(Future<File> fragmento : fragmentos) fragmento.cancel(false);
+			// Seções ainda em escrita excluem os seus arquivos ao terminar.
+			encerrada.set(true);
+			excluirTemporarios(temporarios);
+			if(!montado) arquivo.delete();
+		}
+		return montado;
+	}
+
+	/**
+	 * Cancela a montagem do relatório. As seções que ainda não começaram a ser
+	 * escritas são descartadas e {@link #montar(File)} retorna <code>false</code>
+	 * assim que possível, excluindo o arquivo incompleto.
+	 */
+	public void cancelar() {
+		cancelada = true;
+		List<Future<File>> fragmentos = fragmentosEmEscrita;
+		if(fragmentos != null)
+			for(Future<File> fragmento : fragmentos) fragmento.cancel(false);
+	}
+
+	/**
+	 * Verifica se a montagem do relatório foi cancelada.
+	 *
+	 * @return Retorna <code>true</code> se {@link #cancelar()} foi chamado.
+	 */
+	public boolean isCancelada() {
+		return cancelada;
+	}
+
+	/**
+	 * Escreve a seção em um documento gravado em um arquivo temporário, escrevendo
+	 * novamente caso ocorra um erro. Os arquivos criados são inseridos na fila de
+	 * temporários, para que sejam excluídos ao final da montagem.
+	 *
+	 * @return Retorna o arquivo do documento da seção ou <code>null</code> se a
+	 * montagem foi cancelada ou encerrada.
+	 */
+	private File escreverSecao(SecaoRelatorio secao, String nomeFragmento, Queue<File> temporarios,
+							   AtomicBoolean encerrada) throws IOException {
+		IOException erro = null;
+		for(int tentativa = 0; tentativa < Math.max(1, tentativas); tentativa++) {
+			if(cancelada) return null;
+
+			File fragmento = File.createTempFile("sports-secao", ".pdf");
+			fragmento.deleteOnExit();
+			temporarios.add(fragmento);
+			try (OutputStream saida = new BufferedOutputStream(new FileOutputStream(fragmento))) {
+				RelatorioPDF relatorio = new RelatorioPDF(saida, nomeFragmento);
+				try { secao.escrever(relatorio);
+				} catch (IOException | RuntimeException e) {
+					fecharSemErro(relatorio);
+					throw e;
+				}
+				relatorio.fechar();
+			} catch (IOException e) {
+				fragmento.delete();
+				erro = e;
+				continue;
+			}
+
+			if(cancelada || encerrada.get()) {
+				fragmento.delete();
+				return null;
+			}
+			return fragmento;
+		}
+		throw erro;
+	}
+
+	private static void excluirTemporarios(Queue<File> temporarios) {
+		File temporario;
+		while((temporario = temporarios.poll()) != null)
+			temporario.delete();
+	}
+
+	/**
+	 * Copia as páginas dos fragmentos para a saída na ordem das seções, à medida que
+	 * cada fragmento fica pronto.
+	 *
+	 * @return Retorna <code>false</code> se a montagem foi cancelada.
+	 */
+	private boolean unirFragmentos(List<Future<File>> fragmentos, OutputStream saida) throws IOException {
+		Document documento = new Document();
+		boolean unido = false;
+		try {
+			PdfSmartCopy copia = new PdfSmartCopy(documento, saida);
+			documento.open();
+
+			for(Future<File> fragmento : fragmentos) {
+				File arquivoFragmento = obterFragmento(fragmento);
+				if(arquivoFragmento == null || cancelada) return false;
+
+				// A leitura parcial carrega apenas os objetos de cada página copiada.
+				PdfReader reader = new PdfReader(arquivoFragmento.getAbsolutePath(), null, true);
+				try {
+					for(int pagina = 1; pagina <= reader.getNumberOfPages(); pagina++)
+						copia.addPage(copia.getImportedPage(reader, pagina));
+					copia.freeReader(reader);
+				} finally {
+					reader.close();
+					arquivoFragmento.delete();
+				}
+			}
+			unido = true;
+			return true;
+		} catch (DocumentException e) {
+			throw new IOException("Erro ao unir as seções do relatório.", e);
+		} finally {
+			if(unido) documento.close();
+			else if(documento.isOpen()) fecharSemErro(documento::close);
+		}
+	}
+
+	/**
+	 * Fecha um documento incompleto após um erro, ignorando os erros ao fechar
+	 * para que o erro original seja o disparado.
+	 */
+	private static void fecharSemErro(RelatorioPDF relatorio) {
+		fecharSemErro(() -> {
+			try { relatorio.fechar();
+			} catch (IOException e) { }
+		});
+	}
+
+	private static void fecharSemErro(Runnable fechamento) {
+		try { fechamento.run();
+		} catch (RuntimeException e) { }
+	}
+
+	/**
+	 * Aguarda o fragmento ficar pronto.
+	 *
+	 * @return Retorna o arquivo do fragmento ou <code>null</code> se a montagem foi cancelada.
+	 */
+	private File obterFragmento(Future<File> fragmento) throws IOException {
+		try { return fragmento.get();
+		} catch (CancellationException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("A montagem do relatório foi interrompida.", e);
+		} catch (ExecutionException e) {
+			if(e.getCause() instanceof IOException) throw (IOException) e.getCause();
+			throw new IOException("Erro ao escrever uma seção do relatório.", e.getCause());
+		}
+	}
+
+	/**
+	 * Obtém a quantidade de seções inseridas na montagem.
+	 *
+	 * @return Retorna a quantidade de seções.
+	 */
+	public int getQuantidadeSecoes() {
+		return secoes.size();
+	}
+
+	/**
+	 * Obtém o número de vezes que uma seção é escrita antes de a montagem falhar.
+	 *
+	 * @return Retorna o número de tentativas.
+	 */
+	public int getTentativas() {
+		return tentativas;
+	}
+
+	/**
+	 * Insere o número de vezes que uma seção é escrita antes de a montagem falhar.
+	 *
+	 * @param tentativas O número de tentativas.
+	 */
+	public void setTentativas(int tentativas) {
+		this.tentativas = tentativas;
+	}
+
+	/**
+	 * Insere o objeto que é notificado a cada seção escrita.
+	 *
+	 * @param progresso O objeto que acompanha a montagem ou <code>null</code>.
+	 */
+	public void setProgresso(ProgressoMontagem progresso) {
+		this.progresso = progresso;
+	}
+
+	/**
+	 * Interface que representa uma seção do relatório, escrita em seu próprio documento.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	@FunctionalInterface
+	public static interface SecaoRelatorio {
+
+		/**
+		 * Escreve a seção no relatório passado por parâmetro.
+		 *
+		 * @param relatorio		O relatório no qual a seção deve ser escrita.
+		 *
+		 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever a seção.
+		 */
+		public void escrever(RelatorioPDF relatorio) throws IOException;
+	}
+
+	/**
+	 * Interface que representa o acompanhamento da montagem de um relatório.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	@FunctionalInterface
+	public static interface ProgressoMontagem {
+
+		/**
+		 * Informa que uma seção foi escrita. É chamado pela thread que escreveu
+		 * a seção, e as seções podem ser concluídas fora de ordem.
+		 *
+		 * @param secoesEscritas	A quantidade de seções escritas até o momento.
+		 * @param totalSecoes		A quantidade de seções do relatório.
+		 */
+		public void secaoEscrita(int secoesEscritas, int totalSecoes);
+	}
+}
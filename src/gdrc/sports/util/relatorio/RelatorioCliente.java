@@ -1,163 +1,195 @@
-package gdrc.sports.util.relatorio;
-
-import java.util.Collections;
-import java.util.List;
-
-import gdrc.sports.tipo.Exercicio;
-import gdrc.sports.tipo.Exercicio.ComparatorCaloriasExercicio;
-import gdrc.sports.tipo.Exercicio.ComparatorDistanciaExercicio;
-import gdrc.sports.tipo.Exercicio.ComparatorDuracaoExercicio;
-import gdrc.sports.tipo.Exercicio.ComparatorPassosExercicio;
-import gdrc.sports.tipo.ExercicioDetalhado;
-import gdrc.sports.tipo.ExercicioDetalhado.ComparatorVelocidadeExercicio;
-
-/**
- * Permite obter um relatrio para o cliente selecionando 
- * um {@link Exercicio}, dentre vrios do cliente, que possui 
- * o maior valor.<br>
- * 
- * @author Guilherme Domith Ribeiro Coelho
- */
-public class RelatorioCliente {
-	private List<Exercicio> exercicios;
-	private Exercicio exercicioMaiorNumPassos;
-	private Exercicio exercicioMaiorDuracao;
-	private Exercicio exercicioMaiorDistancia;
-	private Exercicio exercicioMaiorPerdaCalorias;
-	private ExercicioDetalhado exercicioMaiorVelocidade;
-
-	/**
-	 * Construtor que instancia o relatrio com os exerccios
-	 * a serem usados para selecionar os que possuem maior 
-	 * valores.
-	 * 
-	 * @param exercicios 	Os exercicios a serem comparados.
-	 */
-	public RelatorioCliente(List<Exercicio> exercicios) {
-		this.exercicios = exercicios;
-	}
-
-	/**
-	 * Obtm o exerccios dentre os fornecidos que 
-	 * possui o maior nmero de passos.
-	 *  
-	 * @return Retorna o objeto {@link Exercicio} encontrado. 
-	 * Se a lista de exerccios  vazia, retorna <code>null</code>.
-	 */
-	public Exercicio getExercicioMaiorNumPassos() {
-		if(exercicioMaiorNumPassos == null && exercicios.size() > 0)
-			exercicioMaiorNumPassos = Collections.max(exercicios, 
-									  new ComparatorPassosExercicio());
-		return exercicioMaiorNumPassos;
-	}
-
-	/**
-	 * Obtm o exerccios dentre os fornecidos que 
-	 * possui a maior durao.
-	 *  
-	 * @return Retorna o objeto {@link Exercicio} encontrado. 
-	 * Se a lista de exerccios  vazia, retorna <code>null</code>.
-	 */
-	public Exercicio getExercicioMaiorDuracao() {
-		if(exercicioMaiorDuracao == null && exercicios.size() > 0)
-			exercicioMaiorDuracao = Collections.max(exercicios, 
-									new ComparatorDuracaoExercicio());
-		return exercicioMaiorDuracao;
-	}
-
-	/**
-	 * Obtm o exerccios dentre os fornecidos que 
-	 * possui a maior distncia percorrida.
-	 *  
-	 * @return Retorna o objeto {@link Exercicio} encontrado. 
-	 *Se a lista de exerccios  vazia, retorna <code>null</code>.
-	 */
-	public Exercicio getExercicioMaiorDistancia() {
-		if(exercicioMaiorDistancia == null && exercicios.size() > 0)
-			exercicioMaiorDistancia = Collections.max(exercicios, 
-									  new ComparatorDistanciaExercicio());
-		return exercicioMaiorDistancia;
-	}
-
-	/**
-	 * Obtm o exerccios dentre os fornecidos que 
-	 * possui a maior perda de calorias.
-	 *  
-	 * @return Retorna o objeto {@link Exercicio} encontrado. 
-	 * Se a lista de exerccios  vazia, retorna <code>null</code>.
-	 */
-	public Exercicio getExercicioMaiorPerdaCalorias() {
-		if(exercicioMaiorPerdaCalorias == null && exercicios.size() > 0)
-			exercicioMaiorPerdaCalorias = Collections.max(exercicios, 
-										  new ComparatorCaloriasExercicio());
-		return exercicioMaiorPerdaCalorias;
-	}
-
-	/**
-	 * Obtm o exerccios dentre os fornecidos que 
-	 * possui a maior velocidade atingida.
-	 *  
-	 * @return Retorna o objeto {@link ExercicioDetalhado} encontrado. 
-	 * Se a lista de exerccios  vazia ou no h exerccio com o a 
-	 * velocidade, retorna <code>null</code>.
-	 */
-	public ExercicioDetalhado getExercicioMaiorVelocidade() {
-		if(exercicioMaiorVelocidade == null && exercicios.size() > 0) {
-			Exercicio exercicio = Collections.max(exercicios, 
-								  new ComparatorVelocidadeExercicio());
-			if(exercicio instanceof ExercicioDetalhado)
-				exercicioMaiorVelocidade = (ExercicioDetalhado) exercicio;
-		}
-		return exercicioMaiorVelocidade;
-	}
-	
-	/**
-	 * Obtm o texto a ser exibido com os dados do exerccio de acordo com a 
-	 * constante {@link TipoDadoRelatorio} passada por parmetro. A <code>String</code>
-	 *  formatada com os seguintes dados do exerccio: <br>
-	 * 
-	 * <br><center> [nome do exerccio] - [data] - [descrio do dado]: [valor] [unidade, se houver]</center><br>
-	 * 
-	 * @param exercicio 		O exerccio com os dados a ser formatado na <code>String</code>. 
-	 * @param dadoRelatorio		O tipo de dado que se pretente obter do exerccio.
-	 * 
-	 * @return Retorna string formatada com os dados as serem exibidos.
-	 */
-	public static String formatarDadosRelatorio(Exercicio exercicio, TipoDadoRelatorio dadoRelatorio) {
-		if(exercicio == null) return "No h";
-		String texto = "%s - %s - %s: %s %s";
-		String descricao = "", unidade = "";
-		Object dado = null;
-		
-		switch (dadoRelatorio) {
-		case CALORIAS: 
-			descricao = "Calorias perdidas"; unidade = "Kcal";
-			dado = exercicio.getCaloriasPerdidas(); break;
-		case DISTANCIA: 
-			descricao = "Distncia"; unidade = "Km";
-			dado = exercicio.getDistancia(); break;
-		case DURACAO: 
-			descricao = "Durao";
-			dado = exercicio.getTempo().getDuracao(); break;
-		case PASSOS: 
-			descricao = "Passos";
-			dado = exercicio.getPassos(); break;
-		case VELOCIDADE:  
-			if(exercicio instanceof ExercicioDetalhado) { 
-				descricao = "Velocidade"; unidade = "Km/h";
-				ExercicioDetalhado ex = (ExercicioDetalhado) exercicio;
-				dado = ex.getVelocidade().getVelocidadeMaxima(); break;
-			} else return "No h";
-		}
-		
-		return String.format(texto, exercicio.getExercicio(), 
-							 exercicio.getData(), descricao, dado, unidade);
-	}
-	
-	/**
-	 * Indica qual o tipo de dado do relatrio est sendo gerado uma {@link String}. 
-	 * @author Guilherme Domith Ribeiro Coelho
-	 */
-	public enum TipoDadoRelatorio {VELOCIDADE, PASSOS, CALORIAS, DISTANCIA, DURACAO};
-	
-}
+package gdrc.sports.util.relatorio;
+
+import java.util.List;
+
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioDetalhado;
+
+/**
+ * Permite obter um relatório para o cliente selecionando 
+ * um {@link Exercicio}, dentre vários do cliente, que possui 
+ * o maior valor.<br>
+ * 
+ * Todos os dados do relatório são obtidos de um único objeto 
+ * {@link EstatisticasExercicios}, calculado na primeira vez que 
+ * algum dado é solicitado, percorrendo a lista de exercícios 
+ * apenas uma vez.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class RelatorioCliente {
+	private List<Exercicio> exercicios;
+	private EstatisticasExercicios estatisticas;
+
+	/**
+	 * Construtor que instancia o relatório com os exercícios
+	 * a serem usados para selecionar os que possuem maior 
+	 * valores.
+	 * 
+	 * @param exercicios 	Os exercicios a serem comparados.
+	 */
+	public RelatorioCliente(List<Exercicio> exercicios) {
+		this.exercicios = exercicios;
+	}
+
+	/**
+	 * Obtém as estatísticas dos exercícios do relatório. As estatísticas 
+	 * são calculadas apenas na primeira chamada deste método.
+	 * 
+	 * @return Retorna o objeto {@link EstatisticasExercicios} com os dados 
+	 * de todos os exercícios do relatório.
+	 */
+	public EstatisticasExercicios getEstatisticas() {
+		if(estatisticas == null)
+			estatisticas = EstatisticasExercicios.calcular(exercicios);
+		return estatisticas;
+	}
+
+	/**
+	 * Obtém o exercícios dentre os fornecidos que 
+	 * possui o maior número de passos.
+	 *  
+	 * @return Retorna o objeto {@link Exercicio} encontrado. 
+	 * Se a lista de exercícios é vazia, retorna <code>null</code>.
+	 */
+	public Exercicio getExercicioMaiorNumPassos() {
+		return getEstatisticas().getExercicioMaiorValor(TipoDadoRelatorio.PASSOS);
+	}
+
+	/**
+	 * Obtém o exercícios dentre os fornecidos que 
+	 * possui a maior duração.
+	 *  
+	 * @return Retorna o objeto {@link Exercicio} encontrado. 
+	 * Se a lista de exercícios é vazia, retorna <code>null</code>.
+	 */
+	public Exercicio getExercicioMaiorDuracao() {
+		return getEstatisticas().getExercicioMaiorValor(TipoDadoRelatorio.DURACAO);
+	}
+
+	/**
+	 * Obtém o exercícios dentre os fornecidos que 
+	 * possui a maior distância percorrida.
+	 *  
+	 * @return Retorna o objeto {@link Exercicio} encontrado. 
+	 *Se a lista de exercícios é vazia, retorna <code>null</code>.
+	 */
+	public Exercicio getExercicioMaiorDistancia() {
+		return getEstatisticas().getExercicioMaiorValor(TipoDadoRelatorio.DISTANCIA);
+	}
+
+	/**
+	 * Obtém o exercícios dentre os fornecidos que 
+	 * possui a maior perda de calorias.
+	 *  
+	 * @return Retorna o objeto {@link Exercicio} encontrado. 
+	 * Se a lista de exercícios é vazia, retorna <code>null</code>.
+	 */
+	public Exercicio getExercicioMaiorPerdaCalorias() {
+		return getEstatisticas().getExercicioMaiorValor(TipoDadoRelatorio.CALORIAS);
+	}
+
+	/**
+	 * Obtém o exercícios dentre os fornecidos que 
+	 * possui a maior velocidade atingida.
+	 *  
+	 * @return Retorna o objeto {@link ExercicioDetalhado} encontrado. 
+	 * Se a lista de exercícios é vazia ou não há exercício com o a 
+	 * velocidade, retorna <code>null</code>.
+	 */
+	public ExercicioDetalhado getExercicioMaiorVelocidade() {
+		return (ExercicioDetalhado) getEstatisticas().getExercicioMaiorValor(TipoDadoRelatorio.VELOCIDADE);
+	}
+	
+	/**
+	 * Obtém o texto com o total e a média do dado passado por parâmetro 
+	 * considerando todos os exercícios do relatório. A <code>String</code> 
+	 * é formatada da seguinte maneira: <br>
+	 * 
+	 * <br><center> Total: [soma] [unidade] - Média: [média] [unidade]</center><br>
+	 * 
+	 * Para a velocidade é exibida apenas a média das velocidades máximas.
+	 * 
+	 * @param dadoRelatorio		O tipo de dado que se pretente obter.
+	 * 
+	 * @return Retorna string formatada com os dados as serem exibidos.
+	 */
+	public String formatarResumoRelatorio(TipoDadoRelatorio dadoRelatorio) {
+		EstatisticasExercicios est = getEstatisticas();
+		if(est.getQuantidade(dadoRelatorio) == 0) return "Não há";
+		double soma = est.getSoma(dadoRelatorio), media = est.getMedia(dadoRelatorio);
+		
+		switch (dadoRelatorio) {
+		case CALORIAS: 
+			return String.format("Total: %.2f Kcal - Média: %.2f Kcal", soma, media);
+		case DISTANCIA: 
+			return String.format("Total: %.2f Km - Média: %.2f Km", soma, media);
+		case DURACAO: 
+			return String.format("Total: %s - Média: %s", formatarSegundos(soma), formatarSegundos(media));
+		case PASSOS: 
+			return String.format("Total: %.0f - Média: %.0f", soma, media);
+		case VELOCIDADE: 
+			return String.format("Média das máximas: %.2f Km/h", media);
+		default: return "Não há";
+		}
+	}
+	
+	/**
+	 * Formata a quantidade de segundos passada por parâmetro em horas,
+	 * minutos e segundos, sem limite de 24 horas.
+	 */
+	private static String formatarSegundos(double segundos) {
+		long total = Math.round(segundos);
+		return String.format("%d:%02d:%02d", total/3600, (total%3600)/60, total%60);
+	}
+	
+	/**
+	 * Obtém o texto a ser exibido com os dados do exercício de acordo com a 
+	 * constante {@link TipoDadoRelatorio} passada por parâmetro. A <code>String</code>
+	 * é formatada com os seguintes dados do exercício: <br>
+	 * 
+	 * <br><center> [nome do exercício] - [data] - [descrição do dado]: [valor] [unidade, se houver]</center><br>
+	 * 
+	 * @param exercicio 		O exercício com os dados a ser formatado na <code>String</code>. 
+	 * @param dadoRelatorio		O tipo de dado que se pretente obter do exercício.
+	 * 
+	 * @return Retorna string formatada com os dados as serem exibidos.
+	 */
+	public static String formatarDadosRelatorio(Exercicio exercicio, TipoDadoRelatorio dadoRelatorio) {
+		if(exercicio == null) return "Não há";
+		String texto = "%s - %s - %s: %s %s";
+		String descricao = "", unidade = "";
+		Object dado = null;
+		
+		switch (dadoRelatorio) {
+		case CALORIAS: 
+			descricao = "Calorias perdidas"; unidade = "Kcal";
+			dado = exercicio.getCaloriasPerdidas(); break;
+		case DISTANCIA: 
+			descricao = "Distância"; unidade = "Km";
+			dado = exercicio.getDistancia(); break;
+		case DURACAO: 
+			descricao = "Duração";
+			dado = exercicio.getTempo().getDuracao(); break;
+		case PASSOS: 
+			descricao = "Passos";
+			dado = exercicio.getPassos(); break;
+		case VELOCIDADE:  
+			if(exercicio instanceof ExercicioDetalhado) { 
+				descricao = "Velocidade"; unidade = "Km/h";
+				ExercicioDetalhado ex = (ExercicioDetalhado) exercicio;
+				dado = ex.getVelocidade().getVelocidadeMaxima(); break;
+			} else return "Não há";
+		}
+		
+		return String.format(texto, exercicio.getExercicio(), 
+							 exercicio.getData(), descricao, dado, unidade);
+	}
+	
+	/**
+	 * Indica qual o tipo de dado do relatório está sendo gerado uma {@link String}. 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public enum TipoDadoRelatorio {VELOCIDADE, PASSOS, CALORIAS, DISTANCIA, DURACAO};
+	
+}
@@ -1,701 +1,912 @@
-package gdrc.sports.util.relatorio;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-
-import gdrc.sports.tipo.Exercicio;
-import gdrc.sports.tipo.ExercicioDetalhado;
-import gdrc.sports.tipo.grafico.GraficoCategory;
-import gdrc.sports.tipo.grafico.GraficoCategory.ConteudoDataSet;
-import gdrc.sports.tipo.grafico.GraficoColuna;
-import gdrc.sports.tipo.grafico.GraficoLinha;
-import gdrc.sports.tipo.time.Data;
-import gdrc.sports.tipo.time.Hora;
-
-/**
- * Classe que permite gerar grficos a partir dos exerccios e no perodo 
- * que so fornecidos no contrutor da classe. <br>
- * 
- * Os grficos gerados utilizam diferentes dados dos exerccios e  possvel 
- * gerar diferentes grficos modificando as consfiguraes atravs dos 
- * mtodos de acesso da classe. 
- * 
- * @author Guilherme Domith Ribeiro Coelho
- */
-public class RelatorioGrafico {
-	/**Indica qual o tipo de grfico pode ser utilizado. 
-	 * @author Guilherme Domith Ribeiro Coelho */
-	public enum TipoGrafico {COLUNA, LINHA};
-	
-	private List<Exercicio> exercicios, exerciciosDoPeriodo;
-	private TipoGrafico tipoGrafico;
-	private boolean separarExercicios; /* Indica se os exercicios com a mesma data 
-											 sero adicionados separadamente no grfico.*/
-	private String filtrarExercicio; /* Indica se os grficos a serem gerados sero apenas 
-										para o exerccio filtrado (exerccio contido nesta varivel). */
-	private Data dataInicial, dataFinal;
-
-	/**
-	 * Construtor que cria um novo relatrio com os exerccios 
-	 * necessrios para a gerao dos grfico no perodo fornecido.<br>
-	 * 
-	 * O perodo deve ser fornecido por meio da data inicial e data final,
-	 * que indica que os exerccios a considerar, ao gerar os grficos,
-	 * sero aqueles que tm a data entre este intervalo. 
-	 *  
-	 * @param exercicios 	Os exerccio que sero utilizados para popular os grficos.
-	 * @param dataInicial	A data inicial que determina o limite inferior dos exerccios 
-	 * que sero considerados na gerao dos grficos.
-	 * @param dataFinal		A data final que determina o limite superior dos exerccios 
-	 * que sero considerados na gerao dos grficos.
-	 */
-	public RelatorioGrafico(List<Exercicio> exercicios, Data dataInicial, Data dataFinal) {
-		this.exercicios = new ArrayList<>(exercicios);
-		this.dataInicial = dataInicial;
-		this.dataFinal = dataFinal;
-		
-		this.exerciciosDoPeriodo = obterExerciciosDoPeriodo();
-		
-		this.tipoGrafico = TipoGrafico.COLUNA;
-		this.separarExercicios = false;
-		this.filtrarExercicio = null;
-	}
-	
-	
-	/**
-	 * Obtm os dados data e exerccio, coluna e linha respectivamente, que so dados 
-	 * em comum de todos os exerccios que sero adicionados no grfico.
-	 * Caso o exerccio no for o mesmo exerccio que est na variavel 
-	 * exercicioFiltrar retorna <code>null</code>. 
-	 * 
-	 * @param exercicio 	O exerccio a ser adicionado no grfico.
-	 * @param string		A string que representa a linha que est sendo adicionada. 
-	 * Se o relatrio estiver configurado para separar os exerccio ela no ser 
-	 * utilizada, a linha ser o prprio nome do exerccio.
-	 * 
-	 * @return Retorna o conteudo a ser adicionado no grfic com a linha e coluna, mas ainda
-	 * faltando o valor. Caso o exerccio seja um exerccio configurado para no adicionar 
-	 * retorna <code>null</code>.
-	 */
-	private ConteudoDataSet obterColunaELinhaDoExercicio(Exercicio exercicio, String descricaoLinha) {
-		/* Verifica se o exercicio passado por parmetro  para adicionar no grfico,
-		 * Se for null significa que pode adicionar qualquer exerccio. */
-		if(filtrarExercicio != null)
-			if(!exercicio.getExercicio().equalsIgnoreCase(filtrarExercicio))
-				return null;
-		
-		ConteudoDataSet conteudo = new ConteudoDataSet();
-		
-		conteudo.setChaveLinha((separarExercicios)? exercicio.getExercicio() : descricaoLinha);
-		conteudo.setChaveColuna(exercicio.getData().toString());
-		return conteudo;
-	}
-	
-
-	private String obterTituloGrafico(String descricaoDoDadoUtilizado) {
-		return String.format("%s (%s)\nDe %s a %s", descricaoDoDadoUtilizado, 
-				(filtrarExercicio == null)? "Todos os Exerccios": filtrarExercicio , 
-			    dataInicial, dataFinal);
-	}
-	
-	
-	/**
-	 * Obtm o grfico com os dados referentes a durao dos exerccios 
-	 * que foram feitos no mesmo dia. O clculo da durao ser feito com 
-	 * os exerccios dentro do perodo fornecido e ir depender tambm das 
-	 * configuraes fornecidas nos mtodos de acesso da classe.<br>
-	 * 
-	 * Portanto, certifique-se de inserir os dados pelos mtodos de acesso para 
-	 * obter o tipo grfico de acordo com o esperado.
-	 * 
-	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> ir obter a 
-	 * soma da durao de todos os exerccios. Se no, apenas do exerccio especificado. 
-	 * Por exemplo, a durao apenas dos exerccios "caminhada".
-	 * 
-	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> ir obter 
-	 * a soma da durao dos exercicios de mesmo tipo e feitos no mesmo dia. 
-	 * Permite ter mais de um exerccio associado a uma data. 
-	 *  
-	 * O tipo de grfico ir depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
-	 * 
-	 * @return Retorna o grfico exibindo a a durao dos exerccios 
-	 * por data, dentro do perodo fornecido para o relatrio.
-	 */
-	public GraficoCategory graficoDuracaoPorDia(){
-		GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
-							
-		grafico.setTituloGrafico(obterTituloGrafico("Durao"));
-		grafico.setTituloEixoX("Dia");
-		grafico.setTituloEixoY("Durao (Min)");
-		
-		grafico.adicionarAoDataSetSoma(exerciciosDoPeriodo,  (Exercicio exercicio) -> {
-			
-			ConteudoDataSet conteudo = obterColunaELinhaDoExercicio(exercicio, "Durao");
-			if(conteudo == null) return null;
-			
-			Hora duracao = exercicio.getTempo().getDuracao();
-			conteudo.setValor(duracao.getHora().toSecondOfDay()/60); 
-			return conteudo;
-		});
-		
-		return grafico.gerarGrafico();
-	}
-	
-	/**
-	 * Obtm o grfico com os dados referentes a distancia percorrida nos exerccios 
-	 * que foram feitos no mesmo dia. O clculo da distancia percorrida ser feito com 
-	 * os exerccios dentro do perodo fornecido e ir depender tambm das 
-	 * configuraes fornecidas nos mtodos de acesso da classe.<br>
-	 * 
-	 * Portanto, certifique-se de inserir os dados pelos mtodos de acesso para 
-	 * obter o tipo grfico de acordo com o esperado.
-	 * 
-	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> ir obter a 
-	 * soma da distancia percorrida em todos os exerccios. Se no, apenas do exerccio 
-	 * especificado. Por exemplo, a distancia percorrida apenas dos exerccios "caminhada".
-	 * 
-	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> ir obter 
-	 * a soma da distancia percorrida nos exercicios de mesmo tipo e feitos no mesmo 
-	 * dia. Permite ter mais de um exerccio associado a uma data. 
-	 *  
-	 * O tipo de grfico ir depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
-	 * 
-	 * @return Retorna o grfico exibindo a distncia percorrida nos 
-	 * exerccios por data, dentro do perodo fornecido para o relatrio.
-	 */
-	public GraficoCategory graficoDistanciaPorDia(){
-		GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
-		
-		grafico.setTituloGrafico(obterTituloGrafico("Distncia Percorrida"));
-		grafico.setTituloEixoX("Dia");
-		grafico.setTituloEixoY("Distncia (Km)");
-		
-		grafico.adicionarAoDataSetSoma(exerciciosDoPeriodo,  (Exercicio exercicio) -> {
-			
-			ConteudoDataSet conteudo = obterColunaELinhaDoExercicio(exercicio, "Distncia");
-			if(conteudo == null) return null;
-			
-			conteudo.setValor(exercicio.getDistancia()); 
-			return conteudo;
-		});
-		
-		return grafico.gerarGrafico();
-	}
-	
-	/**
-	 * Obtm o grfico com os dados referentes s calorias perdidas nos exerccios 
-	 * que foram feitos no mesmo dia. O clculo das calorias perdidas ser feito com 
-	 * os exerccios dentro do perodo fornecido e ir depender tambm das 
-	 * configuraes fornecidas nos mtodos de acesso da classe.<br>
-	 * 
-	 * Portanto, certifique-se de inserir os dados pelos mtodos de acesso para 
-	 * obter o tipo grfico de acordo com o esperado.
-	 * 
-	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> ir obter a 
-	 * soma das calorias perdidas em todos os exerccios. Se no, apenas do exerccio 
-	 * especificado. Por exemplo, as calorias perdidas apenas dos exerccios "caminhada".
-	 * 
-	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> ir obter 
-	 * a soma das calorias perdidas dos exercicios de mesmo tipo e feitos no mesmo 
-	 * dia. Permite ter mais de um exerccio associado a uma data. 
-	 *  
-	 * O tipo de grfico ir depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
-	 * 
-	 * @return Retorna o grfico exibindo a caloria perdida nos exerccios 
-	 * por data, dentro do perodo fornecido para o relatrio.
-	 */
-	public GraficoCategory graficoCaloriaPorDia() {
-		GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
-
-		grafico.setTituloGrafico(obterTituloGrafico("Calorias Perdidas"));
-		grafico.setTituloEixoX("Dia");
-		grafico.setTituloEixoY("Calorias Perdidas (Kcal)");
-
-		grafico.adicionarAoDataSetSoma(exerciciosDoPeriodo,  (Exercicio exercicio) -> {
-			
-			ConteudoDataSet conteudo = obterColunaELinhaDoExercicio(exercicio, "Calorias");
-			if(conteudo == null) return null;
-			
-			conteudo.setValor(exercicio.getCaloriasPerdidas()); 
-			return conteudo;
-		});
-
-		return grafico.gerarGrafico();
-	}
-	
-	/**
-	 * Obtm o grfico com os dados referentes mdia da distancia percorrida nos exerccios 
-	 * que foram feitos no mesmo dia. O clculo da mdia da distancia percorrida 
-	 * ser feito com os exerccios dentro do perodo fornecido e ir depender tambm das 
-	 * configuraes fornecidas nos mtodos de acesso da classe.<br>
-	 * 
-	 * Portanto, certifique-se de inserir os dados pelos mtodos de acesso para 
-	 * obter o tipo grfico de acordo com o esperado.
-	 * 
-	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> ir obter a 
-	 * a mdia da distancia percorrida de todos os exerccios. Se no, apenas do 
-	 * exerccio especificado. Por exemplo, a mdia da distancia percorrida apenas 
-	 * dos exerccios "caminhada".
-	 * 
-	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> ir obter 
-	 * a mdia da distancia percorrida dos exercicios de mesmo tipo e feitos no 
-	 * mesmo dia. Permite ter mais de um exerccio associado a uma data. 
-	 *  
-	 * O tipo de grfico ir depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
-	 * 
-	 * @return Retorna o grfico exibindo a mdia da distncia percorrida 
-	 * nos exerccios por data, dentro do perodo fornecido para o relatrio.
-	 */
-	public GraficoCategory graficoMediaDistanciaPorDia() {
-		GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
-		
-		grafico.setTituloGrafico(obterTituloGrafico("Mdia da Distncia Percorrida"));
-		grafico.setTituloEixoX("Dia");
-		grafico.setTituloEixoY("Distncia Mdia (Km)");
-		
-		grafico.adicionarAoDataSetMedia(exerciciosDoPeriodo,  (Exercicio exercicio) -> {
-			
-			ConteudoDataSet conteudo = obterColunaELinhaDoExercicio(exercicio, "Distncia");
-			if(conteudo == null) return null;
-			
-			conteudo.setValor(exercicio.getDistancia()); 
-			return conteudo;
-		});
-		
-		return grafico.gerarGrafico();
-	}
-
-	/**
-	 * Obtm o grfico com os dados referentes mdia de calorias perdidas nos exerccios 
-	 * que foram feitos no mesmo dia. O clculo da mdia de calorias perdidas 
-	 * ser feito com os exerccios dentro do perodo fornecido e ir 
-	 * depender tambm das configuraes fornecidas nos mtodos de acesso da classe.<br>
-	 * 
-	 * Portanto, certifique-se de inserir os dados pelos mtodos de acesso para 
-	 * obter o tipo grfico de acordo com o esperado.
-	 * 
-	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> ir obter a 
-	 * mdia de calorias perdidas em todos os exerccios. 
-	 * Se no, apenas do exerccio especificado. Por exemplo, as calorias perdidas 
-	 * apenas dos exerccios "caminhada".
-	 * 
-	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> ir obter 
-	 * a mdia de calorias perdidas de todos dos exercicios de mesmo tipo e feitos no 
-	 * mesmo dia. Permite ter mais de um exerccio associado a uma data. 
-	 *  
-	 * O tipo de grfico ir depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
-	 * 
-	 * @return Retorna o grfico exibindo a mdia de calorias perdidas nos exerccios 
-	 * por data, dentro do perodo fornecido para o relatrio.
-	 */
-	public GraficoCategory graficoMediaCaloriaPorDia() {
-		GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
-
-		grafico.setTituloGrafico(obterTituloGrafico("Mdia de Calorias Perdidas"));
-		grafico.setTituloEixoX("Dia");
-		grafico.setTituloEixoY("Mdia de Calorias Perdida (Kcal)");
-
-		grafico.adicionarAoDataSetMedia(exerciciosDoPeriodo,  (Exercicio exercicio) -> {
-			
-			ConteudoDataSet conteudo = obterColunaELinhaDoExercicio(exercicio, "Calorias");
-			if(conteudo == null) return null;
-			
-			conteudo.setValor(exercicio.getCaloriasPerdidas()); 
-			return conteudo;
-		});
-
-		return grafico.gerarGrafico();
-	}
-
-	/**
-	 * Obtm o grfico com os dados referentes ao nmero de passos dados nos exerccios 
-	 * que foram feitos no mesmo dia. O clculo passos dados ser feito com 
-	 * os exerccios dentro do perodo fornecido e ir depender tambm das 
-	 * configuraes fornecidas nos mtodos de acesso da classe.<br>
-	 * 
-	 * Portanto, certifique-se de inserir os dados pelos mtodos de acesso para 
-	 * obter o tipo grfico de acordo com o esperado.
-	 * 
-	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> ir obter a 
-	 * soma dos passos em todos os exerccios. Se no, apenas do exerccio especificado. 
-	 * Por exemplo, os passos apenas dos exerccios "caminhada".
-	 * 
-	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> ir obter 
-	 * a soma apenas dos exercicios de mesmo tipo e feitos no mesmo dia. 
-	 * Permite ter mais de um exerccio associado a uma data. 
-	 *  
-	 * O tipo de grfico ir depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
-	 * 
-	 * @return Retorna o grfico exibindo os passos dados nos exerccios 
-	 * por data, dentro do perodo fornecido para o relatrio.
-	 */
-	public GraficoCategory graficoPassosPorDia() {
-		GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
-
-		grafico.setTituloGrafico(obterTituloGrafico("Passos Dados"));
-		grafico.setTituloEixoX("Dia");
-		grafico.setTituloEixoY("Passos");
-
-		grafico.adicionarAoDataSetSoma(exerciciosDoPeriodo,  (Exercicio exercicio) -> {
-			
-			ConteudoDataSet conteudo = obterColunaELinhaDoExercicio(exercicio, "Passos");
-			if(conteudo == null) return null;
-			
-			conteudo.setValor(exercicio.getPassos()); 
-			return conteudo;
-		});
-
-		return grafico.gerarGrafico();
-	}
-
-	/**
-	 * Obtm o grfico com os dados referentes ao Ritmo Mdio dos exerccios 
-	 * que foram feitos no mesmo dia. O clculo do ritmo mdio ser feito com 
-	 * os exerccios dentro do perodo fornecido e ir depender tambm das 
-	 * configuraes fornecidas nos mtodos de acesso da classe.<br>
-	 * 
-	 * Portanto, certifique-se de inserir os dados pelos mtodos de acesso para 
-	 * obter o tipo grfico de acordo com o esperado.
-	 * 
-	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> ir obter a 
-	 * mdia de todos os exerccios. Se no, apenas do exerccio especificado. 
-	 * Por exemplo, o ritmo mdio apenas dos exerccios "caminhada".
-	 * 
-	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> ir obter 
-	 * a mdia dos exercicios de mesmo tipo e feitos no mesmo dia. Permite ter mais de um 
-	 * exerccio associado a uma data. 
-	 *  
-	 * O tipo de grfico ir depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
-	 * 
-	 * @return Retorna o grfico exibindo o ritmo mdio nos exerccios 
-	 * por data, dentro do perodo fornecido para o relatrio.
-	 */
-	public GraficoCategory graficoRitmoMedioPorDia() {
-		GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
-
-		grafico.setTituloGrafico(obterTituloGrafico("Rtmo Mdio dos "));
-		grafico.setTituloEixoX("Dia");
-		grafico.setTituloEixoY("Rtmo Mdio (Min/Km)");
-
-		grafico.adicionarAoDataSetMedia(exerciciosDoPeriodo,  (Exercicio exercicio) -> {
-			// Se no for ExercicioDetalhado no ter Ritmo.
-			if(!(exercicio instanceof ExercicioDetalhado)) return null;
-			
-			ConteudoDataSet conteudo = obterColunaELinhaDoExercicio(exercicio, "Ritmo");
-			if(conteudo == null) return null;
-			
-			ExercicioDetalhado exercicioDet = (ExercicioDetalhado) exercicio;
-			conteudo.setValor(exercicioDet.getRitmo().getRitmoMedio().getHora().toSecondOfDay()/60); 
-			return conteudo;
-		});
-		
-		return grafico.gerarGrafico();
-	}
-
-	/**
-	 * Obtm o grfico com os dados referentes a Velocidade Mdia dos exerccios 
-	 * que foram feitos no mesmo dia. O clculo da velocidade mdia ser feito com 
-	 * os exerccios dentro do perodo fornecido e ir depender tambm das 
-	 * configuraes fornecidas nos mtodos de acesso da classe.<br>
-	 * 
-	 * Portanto, certifique-se de inserir os dados pelos mtodos de acesso para 
-	 * obter o tipo grfico de acordo com o esperado.
-	 * 
-	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> ir obter a 
-	 * mdia de todos os exerccios. Se no, apenas do exerccio especificado. 
-	 * Por exemplo, a velocidade mdia apenas dos exerccios "caminhada".
-	 * 
-	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> ir obter 
-	 * a mdia dos exercicios de mesmo tipo e feitos no mesmo dia. Permite ter mais de um 
-	 * exerccio associado a uma data.
-	 *  
-	 * O tipo de grfico ir depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
-	 * 
-	 * @return Retorna o grfico exibindo a velocidade mdia dos exerccios 
-	 * por data, dentro do perodo fornecido para o relatrio.
-	 */
-	public GraficoCategory graficoVelocidadeMediaPorDia() {
-		GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
-
-		grafico.setTituloGrafico(obterTituloGrafico("Velocidade Mdia"));
-		grafico.setTituloEixoX("Dia");
-		grafico.setTituloEixoY("Velocidade Mdia (Km/h)");
-			
-
-		grafico.adicionarAoDataSetMedia(exerciciosDoPeriodo,  (Exercicio exercicio) -> {
-			// Se no for ExercicioDetalhado no ter velocidade.
-			if(!(exercicio instanceof ExercicioDetalhado)) return null;
-			
-			ConteudoDataSet conteudo = obterColunaELinhaDoExercicio(exercicio, "Velocidade");
-			if(conteudo == null) return null;
-			
-			ExercicioDetalhado exercicioDet = (ExercicioDetalhado) exercicio;
-			conteudo.setValor(exercicioDet.getVelocidade().getVelocidadeMedia()); 
-			return conteudo;
-		});
-		
-		return grafico.gerarGrafico();
-	}
-	
-	/**
-	 * Obtm uma nova instncia de uma subclasse de {@link GraficoCategory}
-	 * de acordo com o parmetro que for passado.
-	 * 
-	 * @param tipoGrafico Tipo de grfico do qual se deseja ter uma nova instncia.
-	 * @return Retorna a nova instncia do grfico.
-	 */
-	public GraficoCategory obterInstanciaGrafico(TipoGrafico tipoGrafico) {
-		switch (tipoGrafico) {
-		case COLUNA: return new GraficoColuna();
-		case LINHA : return new GraficoLinha();
-		default: return null;
-		}
-	}
-	
-	/**
-	 * Obtm uma sublista dos exerccios que esto no intervalo das 
-	 * datas fornecidas ao instanciar a classe.
-	 * 
-	 * @return Retorna a sublista com os exercicios no periodo.
-	 */
-	private List<Exercicio> obterExerciciosDoPeriodo() {
-		inverterDatasSeTrocadas();
-		Collections.sort(exercicios);
-		
-		int indiceInicio = procurarIndiceDataInicial();
-		int indiceFinal = procurarIndiceDataFinal();
-
-		//Obtm o valor negativo oposto ao tamanho da lista, e soma uma unidade 
-		int indiceMaxNegativo = (exercicios.size()+1)*-1;
-		
-		/* Se os dois indices forem igual a -1 ou igual ao tamanho da lista -1 
-		 * indica que o perodo fornecido est fora do intervalo dos exerccios 
-		 * contidos na lista. Ou seja, no h exerccios neste perodo.*/
-		if((indiceInicio == indiceMaxNegativo && indiceFinal == indiceMaxNegativo) 
-			 || (indiceInicio == -1 && indiceFinal == -1)) return new ArrayList<>();
-		
-		/* Se o ndice for menor que 0 tambm indica que  a posio que a data ficaria 
-		 * se existisse na lista, de acordo com a documentao do binarySearch que foi 
-		 * utilizado para encontrar os ndices. Ento o ndice possivel se a data 
-		 * existisse na lista seria o positivo desse ndice encontrado menos um: 
-		 * indice vlido = ((indiceNegativo * -1) -1). */
-		if(indiceInicio < 0) indiceInicio = obterIndiceValidoDaLista(indiceInicio);
-		if(indiceFinal < 0) indiceFinal = obterIndiceValidoDaLista(indiceFinal);
-		
-		return exercicios.subList(indiceInicio, indiceFinal+1);
-	}
-	
-	/**
-	 * Obtm um ndice vlido para a lista de exercicios. O indice obtido  
-	 * o oposto do indice que foi fornecido menos 1.
-	 * 
-	 * Portanto se for fornecido -5 o resultado ser 4. Se o nmero obtido 
-	 * for do tamanho da lista de exercicios ento subtrain mais uma unidade
-	 * para indexar o ltimo elemento da lista. 
-	 * 
-	 * @param indiceFinal O indice a ser convertido para o seu oposto.
-	 * 
-	 * @return Retorna o indice fornecido com o sinal trocado e 
-	 * subtrado em uma unidade. 
-	 */
-	private int obterIndiceValidoDaLista(int indiceFinal) {
-		int indice = (indiceFinal * -1) -1;
-		return (indice == exercicios.size())? indice -1: indice;
-	}
-	
-	/**
-	 * Procura o ndice que indexa o primeiro exerccio da lista 
-	 * que tem data igual ou superior a dataInicial da classe.
-	 *   
-	 * Caso no possua o exerccio com a data retorna o indice que 
-	 * ele ficaria se existisse na lista, mas neste caso retorna o 
-	 * nmero como negativo e soma em uma unidade. 
-	 * Por exemplo: O exercicio com a data X ficaria na posio 10 se 
-	 * exestisse ento seria retornado: (10*-1)-1 = -11.  
-	 * 
-	 * @return Retorna o indice do primeiro exercicio da lista com data igual ou 
-	 * superior a dataInicial ou o indice negativo que indica qual posio ele ficaria. 
-	 */
-	private int  procurarIndiceDataInicial() {
-		Exercicio ex = new Exercicio();
-		ex.setData(dataInicial);
-		int indiceInicio = Collections.binarySearch(exercicios, ex, new ComparatorDataExercicio());
-		
-		if(indiceInicio < 0) return indiceInicio;
-			
-		/* Como o indice encontrado  positivo, indicando que a data existe na lista, 
-		 * e uma busca binria encontra apenas a primeira data a medida que vai 
-		 * repartindo ao meio,  preciso encontrar a PRIMEIRA ocorrencia da data
-		 * na lista. Ento percorre do indice encontrado para BAIXO at encontra-lo.
-		 */
-		for(int indice = indiceInicio-1 ; indice >= 0; indice--) {
-			if(exercicios.get(indice).getData().compareTo(dataInicial) == 0)
-				indiceInicio = indice;
-			else break;
-		}
-		
-		return indiceInicio;
-	}
-	
-	/**
-	 * Procura o ndice que indexa o ltimo exerccio da lista 
-	 * que tem data igual ou inferior a dataFinal da classe.
-	 *   
-	 * Caso no possua o exerccio com a data retorna o indice que 
-	 * ele ficaria se existisse na lista, mas neste caso retorna o 
-	 * nmero como negativo e soma em uma unidade. 
-	 * Por exemplo: O exercicio com a data X ficaria na posio 10 se 
-	 * exestisse ento seria retornado: (10*-1)-1 = -11.  
-	 * 
-	 * @return  Retorna o indice do ltimo exercicio da lista com data igual ou 
-	 * inferior a dataFinal ou o indice negativo que indica qual posio ele ficaria.
-	 */
-	private int  procurarIndiceDataFinal() {
-		Exercicio ex = new Exercicio();
-		ex.setData(dataFinal);
-		int indiceFinal = Collections.binarySearch(exercicios, ex, new ComparatorDataExercicio());
-		
-		if(indiceFinal < 0) return indiceFinal;
-		
-		/* Como o indice encontrado  positivo, indicando que a data existe na lista, 
-		 * e uma busca binria encontra apenas a primeira data a medida que vai 
-		 * repartindo ao meio,  preciso encontrar a LTIMA ocorrencia da data final
-		 * na lista. Ento percorre do indice encontrado para CIMA at encontra-lo.
-		 */
-		for(int indice = indiceFinal + 1; indice < exercicios.size(); indice++) {
-			if(exercicios.get(indice).getData().compareTo(dataFinal) == 0)
-				indiceFinal = indice;
-			else break;
-		}
-		
-		return indiceFinal;
-	}
-	
-	/**
-	 * Inverte as datas do perdo do relatorio fornecido para o 
-	 * caso de a data inicial for superior a data final.
-	 */
-	private void inverterDatasSeTrocadas() {
-		if(dataInicial.compareTo(dataFinal) > 0) {
-			Data dataInicialAux = new Data(dataInicial.getData());
-			this.dataInicial.setData(dataFinal.getData());
-			this.dataFinal.setData(dataInicialAux.getData());
-		}
-	}
-
-	/**
-	 * Obtm a sublista de exerccios que foi obtida a partir da lista 
-	 * de exerccio inserida na classe e no perodo fornecido.
-	 * 
-	 * @return Retorna a lista de exerccios que possui 
-	 * a data dentro do perodo fornecido na criao da classe.
-	 */
-	public List<Exercicio> getExerciciosPeriodo() {
-		return exerciciosDoPeriodo;
-	}
-
-	/**
-	 * Obtm a data inicial que foi fornecida para gerar o relatrio.
-	 * 
-	 * @return Retorna a data inicial do relatrio.
-	 */
-	public Data getDataInicial() {
-		return dataInicial;
-	}
-
-	/**
-	 * Obtm a data final que foi fornecida para gerar o relatrio.
-	 * 
-	 * @return Retorna a data final do relatrio.
-	 */
-	public Data getDataFinal() {
-		return dataFinal;
-	}
-
-	/**
-	 * Obtm o tipo de grfico atual configurado no relatrio.
-	 * @return Retorna o tipo de grfico.
-	 */
-	public TipoGrafico getTipoGrafico() {
-		return tipoGrafico;
-	}
-
-	/**
-	 * Insere o tipo de grfico a ser gerado pelo relatrio ao chamar 
-	 * os mtodos para gera-lo.
-	 *  
-	 * @param tipoGrafico	O tipo de grfico a ser gerado pelo relatrio.
-	 */
-	public void setTipoGrafico(TipoGrafico tipoGrafico) {
-		this.tipoGrafico = tipoGrafico;
-	}
-
-	/**
-	 * Verifica se o relattio est ou no configurado 
-	 * para separar os exerccios por nome ao gerar um grfico.
-	 * 
-	 * @return Retorna <code>true</code> se est configurado para 
-	 * separar os exerccios por nome. Se no, retorna <code>false</code>.
-	 */
-	public boolean isSepararExercicios() {
-		return separarExercicios;
-	}
-
-	/**
-	 * Indica se o grfico ir separar os exerccios por nome 
-	 * ao gerar um grfico.
-	 * 
-	 * @param separarExercicios <code>true</code> se for preciso 
-	 * separar os exerccios por nome. Se no, deve ser <code>false</code>.
-	 */
-	public void setSepararExercicios(boolean separarExercicios) {
-		this.separarExercicios = separarExercicios;
-	}
-
-	/**
-	 * Obtm o nome do exerccio nico que o relatrio est considerando 
-	 * ao gerar um grfico.
-	 * 
-	 * @return Retorna o nome do exerccio configurado para gerar o relatrio, 
-	 * se no houver restrio de exerccio retorna <code>true</code>; 
-	 */
-	public String getExercicioFiltrado() {
-		return filtrarExercicio;
-	}
-	
-	
-	/** 
-	 * Insere o nome do exerccio que o relatrio deve considerar 
-	 * ao gerar os grficos. Portando, se fornecido, o grfico ser 
-	 * exibido com os dados apenas dos exerccios que possuem o nome 
-	 * igual ao que foi fornecido.
-	 * 
-	 * @param exercicioFiltrar	O nome do exerccio a ser considerado
-	 * ao gerar os grficos. Caso no seja preciso esta restrio de 
-	 * exerccio deve ser <code>null</code>.
-	 */
-	public void setFiltrarExercicio(String exercicioFiltrar) {
-		this.filtrarExercicio = exercicioFiltrar;
-	}
-	
-	/**
-	 * Critrio de comparao utilizado para comparar apenas as datas
-	 * dos exerccios que so passados por parmetro. Caso seja 
-	 * utilizado como critrio de ordenao ir ordenar os exerccios 
-	 * por data de forma ascendente.
-	 * 
-	 * @author Guilherme Domith Ribeiro Coelho
-	 *
-	 */
-	public static class ComparatorDataExercicio implements Comparator<Exercicio>{
-
-		@Override
-		public int compare(Exercicio ex1, Exercicio ex2) {
-			return ex1.getData().compareTo(ex2.getData());
-		}
-		
-	}
-
-}
+package gdrc.sports.util.relatorio;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioAgregado;
+import gdrc.sports.tipo.grafico.GraficoCategory;
+import gdrc.sports.tipo.grafico.GraficoCategory.ConteudoDataSet;
+import gdrc.sports.tipo.grafico.GraficoColuna;
+import gdrc.sports.tipo.grafico.GraficoLinha;
+import gdrc.sports.tipo.time.Data;
+import gdrc.sports.util.controle.ControleDeExercicios;
+import gdrc.sports.util.relatorio.CuboExercicios.Metrica;
+
+/**
+ * Classe que permite gerar gráficos a partir dos exercícios e no período 
+ * que são fornecidos no contrutor da classe. <br>
+ * 
+ * Os gráficos gerados utilizam diferentes dados dos exercícios e é possível 
+ * gerar diferentes gráficos modificando as consfigurações através dos 
+ * métodos de acesso da classe. <br>
+ * 
+ * Os exercícios do período são agregados uma única vez em um 
+ * {@link CuboExercicios} e todos os gráficos são obtidos a partir dele. 
+ * Cada coluna dos gráficos representa um dia, uma semana, um mês, um 
+ * trimestre ou um ano, de acordo com o tamanho do período fornecido.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class RelatorioGrafico {
+	/**Indica qual o tipo de gráfico pode ser utilizado. 
+	 * @author Guilherme Domith Ribeiro Coelho */
+	public enum TipoGrafico {COLUNA, LINHA};
+	
+	/**
+	 * Indica o tamanho do período utilizado para agrupar os exercícios em 
+	 * uma mesma coluna do gráfico. A granularidade é escolhida de acordo 
+	 * com o tamanho do período do relatório para que o gráfico tenha no 
+	 * máximo {@link #MAXIMO_COLUNAS} colunas.
+	 * 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public enum Granularidade {
+		DIA("Dia", 1), SEMANA("Semana", 7), MES("Mês", 31), TRIMESTRE("Trimestre", 92), ANO("Ano", 366);
+		
+		/** Quantidade máxima de colunas desejada em um gráfico.*/
+		public static final int MAXIMO_COLUNAS = 60;
+		
+		private final String descricao;
+		private final int diasPorPeriodo;
+		
+		private Granularidade(String descricao, int diasPorPeriodo) {
+			this.descricao = descricao;
+			this.diasPorPeriodo = diasPorPeriodo;
+		}
+		
+		/**
+		 * Obtém a menor granularidade que mantém o período passado por 
+		 * parâmetro com no máximo {@link #MAXIMO_COLUNAS} colunas.
+		 * 
+		 * @param dataInicial	A data inicial do período.
+		 * @param dataFinal		A data final do período.
+		 * 
+		 * @return Retorna a granularidade adequada ao período.
+		 */
+		public static Granularidade obterGranularidade(Data dataInicial, Data dataFinal) {
+			long dias = Math.abs(dataFinal.getData().toEpochDay() - dataInicial.getData().toEpochDay()) + 1;
+			for(Granularidade granularidade : values())
+				if(dias <= (long) granularidade.diasPorPeriodo * MAXIMO_COLUNAS)
+					return granularidade;
+			return ANO;
+		}
+		
+		/**
+		 * Obtém a chave que identifica o período ao qual o dia pertence. 
+		 * Dias do mesmo período possuem a mesma chave.
+		 * 
+		 * @param diaEpoca 	O dia contado a partir de 01/01/1970.
+		 * 
+		 * @return Retorna a chave do período.
+		 */
+		public long obterChavePeriodo(long diaEpoca) {
+			switch (this) {
+			case DIA: return diaEpoca;
+			// 01/01/1970 foi uma quinta-feira, as semanas começam na segunda-feira.
+			case SEMANA: return Math.floorDiv(diaEpoca + 3, 7);
+			default: break;
+			}
+			LocalDate data = LocalDate.ofEpochDay(diaEpoca);
+			switch (this) {
+			case MES: return data.getYear() * 12L + data.getMonthValue() - 1;
+			case TRIMESTRE: return data.getYear() * 4L + (data.getMonthValue() - 1) / 3;
+			default: return data.getYear();
+			}
+		}
+		
+		/**
+		 * Obtém o primeiro dia do período ao qual a data pertence.
+		 * 
+		 * @param data 	A data que pertence ao período.
+		 * 
+		 * @return Retorna a data inicial do período.
+		 */
+		public LocalDate obterInicioPeriodo(LocalDate data) {
+			switch (this) {
+			case SEMANA: return data.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+			case MES: return data.withDayOfMonth(1);
+			case TRIMESTRE: return LocalDate.of(data.getYear(), ((data.getMonthValue() - 1) / 3) * 3 + 1, 1);
+			case ANO: return data.withDayOfYear(1);
+			default: return data;
+			}
+		}
+		
+		/**
+		 * Obtém a descrição do período que inicia na data passada por 
+		 * parâmetro, para ser exibida como coluna do gráfico.
+		 * 
+		 * @param inicioPeriodo 	A data inicial do período.
+		 * 
+		 * @return Retorna a descrição do período.
+		 */
+		public String formatarPeriodo(LocalDate inicioPeriodo) {
+			switch (this) {
+			case SEMANA: return "Sem. " + Data.converterParaString(inicioPeriodo);
+			case MES: return String.format("%02d/%d", inicioPeriodo.getMonthValue(), inicioPeriodo.getYear());
+			case TRIMESTRE: return String.format("%dº Tri/%d", (inicioPeriodo.getMonthValue() - 1) / 3 + 1, inicioPeriodo.getYear());
+			case ANO: return String.valueOf(inicioPeriodo.getYear());
+			default: return Data.converterParaString(inicioPeriodo);
+			}
+		}
+		
+		/**
+		 * Obtém a descrição da granularidade, utilizada no título do eixo X.
+		 * 
+		 * @return Retorna a descrição.
+		 */
+		public String getDescricao() {
+			return descricao;
+		}
+	};
+	
+	private List<Exercicio> exercicios, exerciciosDoPeriodo;
+	private TipoGrafico tipoGrafico;
+	private boolean separarExercicios; /* Indica se os exercicios com a mesma data 
+											 serão adicionados separadamente no gráfico.*/
+	private String filtrarExercicio; /* Indica se os gráficos a serem gerados serão apenas 
+										para o exercício filtrado (exercício contido nesta variável). */
+	private Data dataInicial, dataFinal;
+	private Granularidade granularidade;
+	private String emailCliente; /* Se fornecido, os exercícios são agregados 
+									pelo banco de dados.*/
+	private CuboExercicios cuboExercicios; /* Dados do período agregados, construído 
+											  apenas quando o primeiro gráfico é gerado.*/
+
+	/**
+	 * Construtor que cria um novo relatório com os exercícios 
+	 * necessários para a geração dos gráfico no período fornecido.<br>
+	 * 
+	 * O período deve ser fornecido por meio da data inicial e data final,
+	 * que indica que os exercícios a considerar, ao gerar os gráficos,
+	 * serão aqueles que têm a data entre este intervalo. 
+	 *  
+	 * @param exercicios 	Os exercício que serão utilizados para popular os gráficos.
+	 * @param dataInicial	A data inicial que determina o limite inferior dos exercícios 
+	 * que serão considerados na geração dos gráficos.
+	 * @param dataFinal		A data final que determina o limite superior dos exercícios 
+	 * que serão considerados na geração dos gráficos.
+	 */
+	public RelatorioGrafico(List<Exercicio> exercicios, Data dataInicial, Data dataFinal) {
+		this.exercicios = new ArrayList<>(exercicios);
+		this.dataInicial = dataInicial;
+		this.dataFinal = dataFinal;
+		
+		this.exerciciosDoPeriodo = obterExerciciosDoPeriodo();
+		this.granularidade = Granularidade.obterGranularidade(this.dataInicial, this.dataFinal);
+		
+		this.tipoGrafico = TipoGrafico.COLUNA;
+		this.separarExercicios = false;
+		this.filtrarExercicio = null;
+	}
+	
+	
+	/**
+	 * Construtor que cria um novo relatório para os exercícios do cliente 
+	 * salvos no banco de dados, no período fornecido.<br>
+	 * 
+	 * Os exercícios não são carregados na aplicação. Ao gerar o primeiro gráfico 
+	 * os exercícios do período são agregados por data e exercício pelo próprio 
+	 * banco de dados, portanto o tempo para gerar os gráficos depende apenas do 
+	 * tamanho do período e não de todo o histórico do cliente. Neste caso 
+	 * {@link #getExerciciosPeriodo()} retorna uma lista vazia.
+	 *  
+	 * @param emailCliente 	O email do cliente que realizou os exercícios.
+	 * @param dataInicial	A data inicial que determina o limite inferior dos exercícios 
+	 * que serão considerados na geração dos gráficos.
+	 * @param dataFinal		A data final que determina o limite superior dos exercícios 
+	 * que serão considerados na geração dos gráficos.
+	 */
+	public RelatorioGrafico(String emailCliente, Data dataInicial, Data dataFinal) {
+		this(new ArrayList<>(), dataInicial, dataFinal);
+		this.emailCliente = emailCliente;
+	}
+	
+	/**
+	 * Cria uma cópia do relatório com o mesmo período, exercícios e configurações. 
+	 * Os dados agregados do período são calculados, se ainda não tiverem sido, e 
+	 * compartilhados com a cópia, que pode ter as configurações alteradas e gerar 
+	 * gráficos em outra thread sem interferir neste relatório.
+	 * 
+	 * @return Retorna a cópia do relatório.
+	 */
+	public RelatorioGrafico copiar() {
+		return new RelatorioGrafico(this);
+	}
+	
+	private RelatorioGrafico(RelatorioGrafico original) {
+		this.exercicios = original.exercicios;
+		this.exerciciosDoPeriodo = original.exerciciosDoPeriodo;
+		this.dataInicial = original.dataInicial;
+		this.dataFinal = original.dataFinal;
+		this.granularidade = original.granularidade;
+		this.emailCliente = original.emailCliente;
+		this.cuboExercicios = original.getCuboExercicios();
+		
+		this.tipoGrafico = original.tipoGrafico;
+		this.separarExercicios = original.separarExercicios;
+		this.filtrarExercicio = original.filtrarExercicio;
+	}
+	
+	/**
+	 * Adiciona ao gráfico os valores da métrica obtidos do cubo de exercícios 
+	 * do período, respeitando as configurações de filtro e separação dos 
+	 * exercícios. A linha do gráfico será o nome do exercício se o relatório 
+	 * estiver configurado para separar os exercícios, se não, será a descrição 
+	 * passada por parâmetro. A coluna será o período, de acordo com a 
+	 * granularidade do relatório.
+	 * 
+	 * @param grafico			O gráfico que receberá os valores.
+	 * @param metrica			A métrica dos exercícios a ser adicionada.
+	 * @param calcularMedia		<code>true</code> para adicionar a média dos valores 
+	 * de cada período, <code>false</code> para adicionar a soma.
+	 * @param descricaoLinha	A descrição da linha caso os exercícios não sejam separados.
+	 */
+	private void projetarCuboNoGrafico(GraficoCategory grafico, Metrica metrica, 
+									   boolean calcularMedia, String descricaoLinha) {
+		CuboExercicios cubo = getCuboExercicios();
+		int quantidadePeriodos = cubo.getPeriodos().size();
+		List<String> nomesExercicios = cubo.getExercicios();
+		
+		for(int periodo = 0; periodo < quantidadePeriodos; periodo++) {
+			String coluna = cubo.getDescricaoPeriodo(periodo);
+			double somaDoDia = 0;
+			int quantidadeDoDia = 0;
+			
+			for(int exercicio = 0; exercicio < nomesExercicios.size(); exercicio++) {
+				String nomeExercicio = nomesExercicios.get(exercicio);
+				/* Se for null significa que pode adicionar qualquer exercício. */
+				if(filtrarExercicio != null && !nomeExercicio.equalsIgnoreCase(filtrarExercicio))
+					continue;
+				
+				int quantidade = cubo.getQuantidade(periodo, exercicio, metrica);
+				if(quantidade == 0) continue;
+				double soma = cubo.getSoma(periodo, exercicio, metrica);
+				
+				if(separarExercicios) {
+					double valor = (calcularMedia)? soma/quantidade : soma;
+					grafico.somarValorAoDataSet(new ConteudoDataSet(valor, nomeExercicio, coluna));
+				} else {
+					somaDoDia += soma;
+					quantidadeDoDia += quantidade;
+				}
+			}
+			
+			if(!separarExercicios && quantidadeDoDia > 0) {
+				double valor = (calcularMedia)? somaDoDia/quantidadeDoDia : somaDoDia;
+				grafico.somarValorAoDataSet(new ConteudoDataSet(valor, descricaoLinha, coluna));
+			}
+		}
+	}
+	
+	/**
+	 * Obtém o cubo com os dados dos exercícios do período agregados de 
+	 * acordo com a granularidade e por exercício. O cubo é construído apenas 
+	 * na primeira chamada e reutilizado por todos os gráficos gerados pelo 
+	 * relatório, até que a granularidade seja alterada. Se o relatório foi 
+	 * criado com o email do cliente, o cubo é construído com os exercícios 
+	 * agregados pelo banco de dados.
+	 * 
+	 * @return Retorna o cubo dos exercícios do período.
+	 */
+	public CuboExercicios getCuboExercicios() {
+		if(cuboExercicios != null) return cuboExercicios;
+		
+		if(emailCliente != null) {
+			List<ExercicioAgregado> agregados = new ControleDeExercicios()
+					.agregarExerciciosPorDia(emailCliente, dataInicial, dataFinal);
+			if(agregados == null) agregados = new ArrayList<>();
+			cuboExercicios = CuboExercicios.criarComAgregados(agregados, granularidade);
+		} else 
+			cuboExercicios = new CuboExercicios(exerciciosDoPeriodo, granularidade);
+		return cuboExercicios;
+	}
+	
+
+	/**
+	 * Obtém o gráfico do dado passado por parâmetro no {@link CacheGraficos}, gerando-o
+	 * apenas se ele ainda não estiver no cache. Os gráficos só são mantidos no cache se o
+	 * relatório foi criado com o email do cliente, pois é o email que permite descartar os 
+	 * gráficos quando os exercícios do cliente são alterados.
+	 * 
+	 * @param dadoGrafico	O dado exibido pelo gráfico.
+	 * @param gerador		O gerador do gráfico, caso não esteja no cache.
+	 * 
+	 * @return Retorna o gráfico gerado ou obtido do cache.
+	 */
+	private GraficoCategory obterGrafico(String dadoGrafico, Supplier<GraficoCategory> gerador) {
+		if(emailCliente == null) return gerador.get();
+		
+		CacheGraficos.Chave chave = new CacheGraficos.Chave(emailCliente, dataInicial.getData(), 
+				dataFinal.getData(), granularidade, filtrarExercicio, tipoGrafico, separarExercicios, dadoGrafico);
+		return CacheGraficos.getInstancia().obterGrafico(chave, gerador);
+	}
+	
+	private String obterTituloGrafico(String descricaoDoDadoUtilizado) {
+		return String.format("%s (%s)\nDe %s a %s", descricaoDoDadoUtilizado, 
+				(filtrarExercicio == null)? "Todos os Exercícios": filtrarExercicio , 
+			    dataInicial, dataFinal);
+	}
+	
+	
+	/**
+	 * Obtém o gráfico com os dados referentes a duração dos exercícios 
+	 * que foram feitos no mesmo dia. O cálculo da duração será feito com 
+	 * os exercícios dentro do período fornecido e irá depender também das 
+	 * configurações fornecidas nos métodos de acesso da classe.<br>
+	 * 
+	 * Portanto, certifique-se de inserir os dados pelos métodos de acesso para 
+	 * obter o tipo gráfico de acordo com o esperado.
+	 * 
+	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> irá obter a 
+	 * soma da duração de todos os exercícios. Se não, apenas do exercício especificado. 
+	 * Por exemplo, a duração apenas dos exercícios "caminhada".
+	 * 
+	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> irá obter 
+	 * a soma da duração dos exercicios de mesmo tipo e feitos no mesmo dia. 
+	 * Permite ter mais de um exercício associado a uma data. 
+	 *  
+	 * O tipo de gráfico irá depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
+	 * 
+	 * @return Retorna o gráfico exibindo a a duração dos exercícios 
+	 * por data, dentro do período fornecido para o relatório.
+	 */
+	public GraficoCategory graficoDuracaoPorDia(){
+		return obterGrafico("DURACAO", () -> {
+			GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
+							
+			grafico.setTituloGrafico(obterTituloGrafico("Duração"));
+			grafico.setTituloEixoX(granularidade.getDescricao());
+			grafico.setTituloEixoY("Duração (Min)");
+		
+			projetarCuboNoGrafico(grafico, Metrica.DURACAO, false, "Duração");
+		
+			return grafico.gerarGrafico();
+		});
+	}
+	
+	/**
+	 * Obtém o gráfico com os dados referentes a distancia percorrida nos exercícios 
+	 * que foram feitos no mesmo dia. O cálculo da distancia percorrida será feito com 
+	 * os exercícios dentro do período fornecido e irá depender também das 
+	 * configurações fornecidas nos métodos de acesso da classe.<br>
+	 * 
+	 * Portanto, certifique-se de inserir os dados pelos métodos de acesso para 
+	 * obter o tipo gráfico de acordo com o esperado.
+	 * 
+	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> irá obter a 
+	 * soma da distancia percorrida em todos os exercícios. Se não, apenas do exercício 
+	 * especificado. Por exemplo, a distancia percorrida apenas dos exercícios "caminhada".
+	 * 
+	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> irá obter 
+	 * a soma da distancia percorrida nos exercicios de mesmo tipo e feitos no mesmo 
+	 * dia. Permite ter mais de um exercício associado a uma data. 
+	 *  
+	 * O tipo de gráfico irá depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
+	 * 
+	 * @return Retorna o gráfico exibindo a distância percorrida nos 
+	 * exercícios por data, dentro do período fornecido para o relatório.
+	 */
+	public GraficoCategory graficoDistanciaPorDia(){
+		return obterGrafico("DISTANCIA", () -> {
+			GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
+		
+			grafico.setTituloGrafico(obterTituloGrafico("Distância Percorrida"));
+			grafico.setTituloEixoX(granularidade.getDescricao());
+			grafico.setTituloEixoY("Distância (Km)");
+		
+			projetarCuboNoGrafico(grafico, Metrica.DISTANCIA, false, "Distância");
+		
+			return grafico.gerarGrafico();
+		});
+	}
+	
+	/**
+	 * Obtém o gráfico com os dados referentes às calorias perdidas nos exercícios 
+	 * que foram feitos no mesmo dia. O cálculo das calorias perdidas será feito com 
+	 * os exercícios dentro do período fornecido e irá depender também das 
+	 * configurações fornecidas nos métodos de acesso da classe.<br>
+	 * 
+	 * Portanto, certifique-se de inserir os dados pelos métodos de acesso para 
+	 * obter o tipo gráfico de acordo com o esperado.
+	 * 
+	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> irá obter a 
+	 * soma das calorias perdidas em todos os exercícios. Se não, apenas do exercício 
+	 * especificado. Por exemplo, as calorias perdidas apenas dos exercícios "caminhada".
+	 * 
+	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> irá obter 
+	 * a soma das calorias perdidas dos exercicios de mesmo tipo e feitos no mesmo 
+	 * dia. Permite ter mais de um exercício associado a uma data. 
+	 *  
+	 * O tipo de gráfico irá depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
+	 * 
+	 * @return Retorna o gráfico exibindo a caloria perdida nos exercícios 
+	 * por data, dentro do período fornecido para o relatório.
+	 */
+	public GraficoCategory graficoCaloriaPorDia() {
+		return obterGrafico("CALORIAS", () -> {
+			GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
+
+			grafico.setTituloGrafico(obterTituloGrafico("Calorias Perdidas"));
+			grafico.setTituloEixoX(granularidade.getDescricao());
+			grafico.setTituloEixoY("Calorias Perdidas (Kcal)");
+
+			projetarCuboNoGrafico(grafico, Metrica.CALORIAS, false, "Calorias");
+
+			return grafico.gerarGrafico();
+		});
+	}
+	
+	/**
+	 * Obtém o gráfico com os dados referentes média da distancia percorrida nos exercícios 
+	 * que foram feitos no mesmo dia. O cálculo da média da distancia percorrida 
+	 * será feito com os exercícios dentro do período fornecido e irá depender também das 
+	 * configurações fornecidas nos métodos de acesso da classe.<br>
+	 * 
+	 * Portanto, certifique-se de inserir os dados pelos métodos de acesso para 
+	 * obter o tipo gráfico de acordo com o esperado.
+	 * 
+	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> irá obter a 
+	 * a média da distancia percorrida de todos os exercícios. Se não, apenas do 
+	 * exercício especificado. Por exemplo, a média da distancia percorrida apenas 
+	 * dos exercícios "caminhada".
+	 * 
+	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> irá obter 
+	 * a média da distancia percorrida dos exercicios de mesmo tipo e feitos no 
+	 * mesmo dia. Permite ter mais de um exercício associado a uma data. 
+	 *  
+	 * O tipo de gráfico irá depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
+	 * 
+	 * @return Retorna o gráfico exibindo a média da distância percorrida 
+	 * nos exercícios por data, dentro do período fornecido para o relatório.
+	 */
+	public GraficoCategory graficoMediaDistanciaPorDia() {
+		return obterGrafico("MEDIA_DISTANCIA", () -> {
+			GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
+		
+			grafico.setTituloGrafico(obterTituloGrafico("Média da Distância Percorrida"));
+			grafico.setTituloEixoX(granularidade.getDescricao());
+			grafico.setTituloEixoY("Distância Média (Km)");
+		
+			projetarCuboNoGrafico(grafico, Metrica.DISTANCIA, true, "Distância");
+		
+			return grafico.gerarGrafico();
+		});
+	}
+
+	/**
+	 * Obtém o gráfico com os dados referentes média de calorias perdidas nos exercícios 
+	 * que foram feitos no mesmo dia. O cálculo da média de calorias perdidas 
+	 * será feito com os exercícios dentro do período fornecido e irá 
+	 * depender também das configurações fornecidas nos métodos de acesso da classe.<br>
+	 * 
+	 * Portanto, certifique-se de inserir os dados pelos métodos de acesso para 
+	 * obter o tipo gráfico de acordo com o esperado.
+	 * 
+	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> irá obter a 
+	 * média de calorias perdidas em todos os exercícios. 
+	 * Se não, apenas do exercício especificado. Por exemplo, as calorias perdidas 
+	 * apenas dos exercícios "caminhada".
+	 * 
+	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> irá obter 
+	 * a média de calorias perdidas de todos dos exercicios de mesmo tipo e feitos no 
+	 * mesmo dia. Permite ter mais de um exercício associado a uma data. 
+	 *  
+	 * O tipo de gráfico irá depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
+	 * 
+	 * @return Retorna o gráfico exibindo a média de calorias perdidas nos exercícios 
+	 * por data, dentro do período fornecido para o relatório.
+	 */
+	public GraficoCategory graficoMediaCaloriaPorDia() {
+		return obterGrafico("MEDIA_CALORIAS", () -> {
+			GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
+
+			grafico.setTituloGrafico(obterTituloGrafico("Média de Calorias Perdidas"));
+			grafico.setTituloEixoX(granularidade.getDescricao());
+			grafico.setTituloEixoY("Média de Calorias Perdida (Kcal)");
+
+			projetarCuboNoGrafico(grafico, Metrica.CALORIAS, true, "Calorias");
+
+			return grafico.gerarGrafico();
+		});
+	}
+
+	/**
+	 * Obtém o gráfico com os dados referentes ao número de passos dados nos exercícios 
+	 * que foram feitos no mesmo dia. O cálculo passos dados será feito com 
+	 * os exercícios dentro do período fornecido e irá depender também das 
+	 * configurações fornecidas nos métodos de acesso da classe.<br>
+	 * 
+	 * Portanto, certifique-se de inserir os dados pelos métodos de acesso para 
+	 * obter o tipo gráfico de acordo com o esperado.
+	 * 
+	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> irá obter a 
+	 * soma dos passos em todos os exercícios. Se não, apenas do exercício especificado. 
+	 * Por exemplo, os passos apenas dos exercícios "caminhada".
+	 * 
+	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> irá obter 
+	 * a soma apenas dos exercicios de mesmo tipo e feitos no mesmo dia. 
+	 * Permite ter mais de um exercício associado a uma data. 
+	 *  
+	 * O tipo de gráfico irá depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
+	 * 
+	 * @return Retorna o gráfico exibindo os passos dados nos exercícios 
+	 * por data, dentro do período fornecido para o relatório.
+	 */
+	public GraficoCategory graficoPassosPorDia() {
+		return obterGrafico("PASSOS", () -> {
+			GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
+
+			grafico.setTituloGrafico(obterTituloGrafico("Passos Dados"));
+			grafico.setTituloEixoX(granularidade.getDescricao());
+			grafico.setTituloEixoY("Passos");
+
+			projetarCuboNoGrafico(grafico, Metrica.PASSOS, false, "Passos");
+
+			return grafico.gerarGrafico();
+		});
+	}
+
+	/**
+	 * Obtém o gráfico com os dados referentes ao Ritmo Médio dos exercícios 
+	 * que foram feitos no mesmo dia. O cálculo do ritmo médio será feito com 
+	 * os exercícios dentro do período fornecido e irá depender também das 
+	 * configurações fornecidas nos métodos de acesso da classe.<br>
+	 * 
+	 * Portanto, certifique-se de inserir os dados pelos métodos de acesso para 
+	 * obter o tipo gráfico de acordo com o esperado.
+	 * 
+	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> irá obter a 
+	 * média de todos os exercícios. Se não, apenas do exercício especificado. 
+	 * Por exemplo, o ritmo médio apenas dos exercícios "caminhada".
+	 * 
+	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> irá obter 
+	 * a média dos exercicios de mesmo tipo e feitos no mesmo dia. Permite ter mais de um 
+	 * exercício associado a uma data. 
+	 *  
+	 * O tipo de gráfico irá depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
+	 * 
+	 * @return Retorna o gráfico exibindo o ritmo médio nos exercícios 
+	 * por data, dentro do período fornecido para o relatório.
+	 */
+	public GraficoCategory graficoRitmoMedioPorDia() {
+		return obterGrafico("RITMO", () -> {
+			GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
+
+			grafico.setTituloGrafico(obterTituloGrafico("Rítmo Médio dos "));
+			grafico.setTituloEixoX(granularidade.getDescricao());
+			grafico.setTituloEixoY("Rítmo Médio (Min/Km)");
+
+			projetarCuboNoGrafico(grafico, Metrica.RITMO, true, "Ritmo");
+		
+			return grafico.gerarGrafico();
+		});
+	}
+
+	/**
+	 * Obtém o gráfico com os dados referentes a Velocidade Média dos exercícios 
+	 * que foram feitos no mesmo dia. O cálculo da velocidade média será feito com 
+	 * os exercícios dentro do período fornecido e irá depender também das 
+	 * configurações fornecidas nos métodos de acesso da classe.<br>
+	 * 
+	 * Portanto, certifique-se de inserir os dados pelos métodos de acesso para 
+	 * obter o tipo gráfico de acordo com o esperado.
+	 * 
+	 * Se {@link #setFiltrarExercicio(String)} for <code>null</code> irá obter a 
+	 * média de todos os exercícios. Se não, apenas do exercício especificado. 
+	 * Por exemplo, a velocidade média apenas dos exercícios "caminhada".
+	 * 
+	 * Se {@link #setSepararExercicios(boolean)} for <code>true</code> irá obter 
+	 * a média dos exercicios de mesmo tipo e feitos no mesmo dia. Permite ter mais de um 
+	 * exercício associado a uma data.
+	 *  
+	 * O tipo de gráfico irá depender do valor fornecido em {@link #setTipoGrafico(TipoGrafico)}
+	 * 
+	 * @return Retorna o gráfico exibindo a velocidade média dos exercícios 
+	 * por data, dentro do período fornecido para o relatório.
+	 */
+	public GraficoCategory graficoVelocidadeMediaPorDia() {
+		return obterGrafico("VELOCIDADE", () -> {
+			GraficoCategory grafico = obterInstanciaGrafico(tipoGrafico);
+
+			grafico.setTituloGrafico(obterTituloGrafico("Velocidade Média"));
+			grafico.setTituloEixoX(granularidade.getDescricao());
+			grafico.setTituloEixoY("Velocidade Média (Km/h)");
+			
+
+			projetarCuboNoGrafico(grafico, Metrica.VELOCIDADE, true, "Velocidade");
+		
+			return grafico.gerarGrafico();
+		});
+	}
+	
+	/**
+	 * Obtém uma nova instância de uma subclasse de {@link GraficoCategory}
+	 * de acordo com o parâmetro que for passado.
+	 * 
+	 * @param tipoGrafico Tipo de gráfico do qual se deseja ter uma nova instância.
+	 * @return Retorna a nova instância do gráfico.
+	 */
+	public GraficoCategory obterInstanciaGrafico(TipoGrafico tipoGrafico) {
+		switch (tipoGrafico) {
+		case COLUNA: return new GraficoColuna();
+		case LINHA : return new GraficoLinha();
+		default: return null;
+		}
+	}
+	
+	/**
+	 * Obtém uma sublista dos exercícios que estão no intervalo das 
+	 * datas fornecidas ao instanciar a classe.
+	 * 
+	 * @return Retorna a sublista com os exercicios no periodo.
+	 */
+	private List<Exercicio> obterExerciciosDoPeriodo() {
+		inverterDatasSeTrocadas();
+		Collections.sort(exercicios);
+		
+		int indiceInicio = procurarIndiceDataInicial();
+		int indiceFinal = procurarIndiceDataFinal();
+
+		//Obtém o valor negativo oposto ao tamanho da lista, e soma uma unidade 
+		int indiceMaxNegativo = (exercicios.size()+1)*-1;
+		
+		/* Se os dois indices forem igual a -1 ou igual ao tamanho da lista -1 
+		 * indica que o período fornecido está fora do intervalo dos exercícios 
+		 * contidos na lista. Ou seja, não há exercícios neste período.*/
+		if((indiceInicio == indiceMaxNegativo && indiceFinal == indiceMaxNegativo) 
+			 || (indiceInicio == -1 && indiceFinal == -1)) return new ArrayList<>();
+		
+		/* Se o índice for menor que 0 também indica que é a posição que a data ficaria 
+		 * se existisse na lista, de acordo com a documentação do binarySearch que foi 
+		 * utilizado para encontrar os índices. Então o índice possivel se a data 
+		 * existisse na lista seria o positivo desse índice encontrado menos um: 
+		 * indice válido = ((indiceNegativo * -1) -1). */
+		if(indiceInicio < 0) indiceInicio = obterIndiceValidoDaLista(indiceInicio);
+		if(indiceFinal < 0) indiceFinal = obterIndiceValidoDaLista(indiceFinal);
+		
+		return exercicios.subList(indiceInicio, indiceFinal+1);
+	}
+	
+	/**
+	 * Obtém um índice válido para a lista de exercicios. O indice obtido é 
+	 * o oposto do indice que foi fornecido menos 1.
+	 * 
+	 * Portanto se for fornecido -5 o resultado será 4. Se o número obtido 
+	 * for do tamanho da lista de exercicios então subtrain mais uma unidade
+	 * para indexar o último elemento da lista. 
+	 * 
+	 * @param indiceFinal O indice a ser convertido para o seu oposto.
+	 * 
+	 * @return Retorna o indice fornecido com o sinal trocado e 
+	 * subtraído em uma unidade. 
+	 */
+	private int obterIndiceValidoDaLista(int indiceFinal) {
+		int indice = (indiceFinal * -1) -1;
+		return (indice == exercicios.size())? indice -1: indice;
+	}
+	
+	/**
+	 * Procura o índice que indexa o primeiro exercício da lista 
+	 * que tem data igual ou superior a dataInicial da classe.
+	 *   
+	 * Caso não possua o exercício com a data retorna o indice que 
+	 * ele ficaria se existisse na lista, mas neste caso retorna o 
+	 * número como negativo e soma em uma unidade. 
+	 * Por exemplo: O exercicio com a data X ficaria na posição 10 se 
+	 * exestisse então seria retornado: (10*-1)-1 = -11.  
+	 * 
+	 * @return Retorna o indice do primeiro exercicio da lista com data igual ou 
+	 * superior a dataInicial ou o indice negativo que indica qual posição ele ficaria. 
+	 */
+	private int  procurarIndiceDataInicial() {
+		Exercicio ex = new Exercicio();
+		ex.setData(dataInicial);
+		int indiceInicio = Collections.binarySearch(exercicios, ex, new ComparatorDataExercicio());
+		
+		if(indiceInicio < 0) return indiceInicio;
+			
+		/* Como o indice encontrado é positivo, indicando que a data existe na lista, 
+		 * e uma busca binária encontra apenas a primeira data a medida que vai 
+		 * repartindo ao meio, é preciso encontrar a PRIMEIRA ocorrencia da data
+		 * na lista. Então percorre do indice encontrado para BAIXO até encontra-lo.
+		 */
+		for(int indice = indiceInicio-1 ; indice >= 0; indice--) {
+			if(exercicios.get(indice).getData().compareTo(dataInicial) == 0)
+				indiceInicio = indice;
+			else break;
+		}
+		
+		return indiceInicio;
+	}
+	
+	/**
+	 * Procura o índice que indexa o último exercício da lista 
+	 * que tem data igual ou inferior a dataFinal da classe.
+	 *   
+	 * Caso não possua o exercício com a data retorna o indice que 
+	 * ele ficaria se existisse na lista, mas neste caso retorna o 
+	 * número como negativo e soma em uma unidade. 
+	 * Por exemplo: O exercicio com a data X ficaria na posição 10 se 
+	 * exestisse então seria retornado: (10*-1)-1 = -11.  
+	 * 
+	 * @return  Retorna o indice do último exercicio da lista com data igual ou 
+	 * inferior a dataFinal ou o indice negativo que indica qual posição ele ficaria.
+	 */
+	private int  procurarIndiceDataFinal() {
+		Exercicio ex = new Exercicio();
+		ex.setData(dataFinal);
+		int indiceFinal = Collections.binarySearch(exercicios, ex, new ComparatorDataExercicio());
+		
+		if(indiceFinal < 0) return indiceFinal;
+		
+		/* Como o indice encontrado é positivo, indicando que a data existe na lista, 
+		 * e uma busca binária encontra apenas a primeira data a medida que vai 
+		 * repartindo ao meio, é preciso encontrar a ÚLTIMA ocorrencia da data final
+		 * na lista. Então percorre do indice encontrado para CIMA até encontra-lo.
+		 */
+		for(int indice = indiceFinal + 1; indice < exercicios.size(); indice++) {
+			if(exercicios.get(indice).getData().compareTo(dataFinal) == 0)
+				indiceFinal = indice;
+			else break;
+		}
+		
+		return indiceFinal;
+	}
+	
+	/**
+	 * Inverte as datas do perído do relatorio fornecido para o 
+	 * caso de a data inicial for superior a data final.
+	 */
+	private void inverterDatasSeTrocadas() {
+		if(dataInicial.compareTo(dataFinal) > 0) {
+			Data dataInicialAux = new Data(dataInicial.getData());
+			this.dataInicial.setData(dataFinal.getData());
+			this.dataFinal.setData(dataInicialAux.getData());
+		}
+	}
+
+	/**
+	 * Obtém a sublista de exercícios que foi obtida a partir da lista 
+	 * de exercício inserida na classe e no período fornecido.
+	 * 
+	 * @return Retorna a lista de exercícios que possui 
+	 * a data dentro do período fornecido na criação da classe. Se o relatório 
+	 * foi criado com o email do cliente retorna uma lista vazia.
+	 */
+	public List<Exercicio> getExerciciosPeriodo() {
+		return exerciciosDoPeriodo;
+	}
+
+	/**
+	 * Obtém a data inicial que foi fornecida para gerar o relatório.
+	 * 
+	 * @return Retorna a data inicial do relatório.
+	 */
+	public Data getDataInicial() {
+		return dataInicial;
+	}
+
+	/**
+	 * Obtém a data final que foi fornecida para gerar o relatório.
+	 * 
+	 * @return Retorna a data final do relatório.
+	 */
+	public Data getDataFinal() {
+		return dataFinal;
+	}
+
+	/**
+	 * Obtém a granularidade utilizada para agrupar os exercícios nas 
+	 * colunas dos gráficos. Por padrão é obtida a partir do período 
+	 * do relatório.
+	 * 
+	 * @return Retorna a granularidade do relatório.
+	 */
+	public Granularidade getGranularidade() {
+		return granularidade;
+	}
+
+	/**
+	 * Insere a granularidade a ser utilizada para agrupar os exercícios 
+	 * nas colunas dos gráficos, substituindo a que foi obtida a partir do 
+	 * período do relatório.
+	 * 
+	 * @param granularidade 	A granularidade a ser utilizada.
+	 */
+	public void setGranularidade(Granularidade granularidade) {
+		if(this.granularidade != granularidade) cuboExercicios = null;
+		this.granularidade = granularidade;
+	}
+
+	/**
+	 * Obtém o tipo de gráfico atual configurado no relatório.
+	 * @return Retorna o tipo de gráfico.
+	 */
+	public TipoGrafico getTipoGrafico() {
+		return tipoGrafico;
+	}
+
+	/**
+	 * Insere o tipo de gráfico a ser gerado pelo relatório ao chamar 
+	 * os métodos para gera-lo.
+	 *  
+	 * @param tipoGrafico	O tipo de gráfico a ser gerado pelo relatório.
+	 */
+	public void setTipoGrafico(TipoGrafico tipoGrafico) {
+		this.tipoGrafico = tipoGrafico;
+	}
+
+	/**
+	 * Verifica se o relatótio está ou não configurado 
+	 * para separar os exercícios por nome ao gerar um gráfico.
+	 * 
+	 * @return Retorna <code>true</code> se está configurado para 
+	 * separar os exercícios por nome. Se não, retorna <code>false</code>.
+	 */
+	public boolean isSepararExercicios() {
+		return separarExercicios;
+	}
+
+	/**
+	 * Indica se o gráfico irá separar os exercícios por nome 
+	 * ao gerar um gráfico.
+	 * 
+	 * @param separarExercicios <code>true</code> se for preciso 
+	 * separar os exercícios por nome. Se não, deve ser <code>false</code>.
+	 */
+	public void setSepararExercicios(boolean separarExercicios) {
+		this.separarExercicios = separarExercicios;
+	}
+
+	/**
+	 * Obtém o nome do exercício único que o relatório está considerando 
+	 * ao gerar um gráfico.
+	 * 
+	 * @return Retorna o nome do exercício configurado para gerar o relatório, 
+	 * se não houver restrição de exercício retorna <code>true</code>; 
+	 */
+	public String getExercicioFiltrado() {
+		return filtrarExercicio;
+	}
+	
+	
+	/** 
+	 * Insere o nome do exercício que o relatório deve considerar 
+	 * ao gerar os gráficos. Portando, se fornecido, o gráfico será 
+	 * exibido com os dados apenas dos exercícios que possuem o nome 
+	 * igual ao que foi fornecido.
+	 * 
+	 * @param exercicioFiltrar	O nome do exercício a ser considerado
+	 * ao gerar os gráficos. Caso não seja preciso esta restrição de 
+	 * exercício deve ser <code>null</code>.
+	 */
+	public void setFiltrarExercicio(String exercicioFiltrar) {
+		this.filtrarExercicio = exercicioFiltrar;
+	}
+	
+	/**
+	 * Critério de comparação utilizado para comparar apenas as datas
+	 * dos exercícios que são passados por parâmetro. Caso seja 
+	 * utilizado como critério de ordenação irá ordenar os exercícios 
+	 * por data de forma ascendente.
+	 * 
+	 * @author Guilherme Domith Ribeiro Coelho
+	 *
+	 */
+	public static class ComparatorDataExercicio implements Comparator<Exercicio>{
+
+		@Override
+		public int compare(Exercicio ex1, Exercicio ex2) {
+			return ex1.getData().compareTo(ex2.getData());
+		}
+		
+	}
+
+}
@@ -1,328 +1,639 @@
-package gdrc.sports.util.relatorio;
-
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.Element;
-import com.itextpdf.text.Image;
-
-import gdrc.sports.io.pdf.PDF;
-import gdrc.sports.tipo.Cliente;
-import gdrc.sports.tipo.Exercicio;
-import gdrc.sports.tipo.grafico.GraficoCategory;
-import gdrc.sports.util.propriedades.Propriedade;
-import gdrc.sports.util.relatorio.RelatorioCliente.TipoDadoRelatorio;
-import gdrc.sports.util.relatorio.RelatorioGrafico.TipoGrafico;
-
-/**
- * Classe utilizada para exportar os dados, relatrio, 
- * e relatrio grfco do cliente para um documento PDF.
- * 
- * @author Guilherme Domith Ribeiro Coelho
- */
-public class RelatorioPDF {
-	private File file;
-	private PDF documento;
-	
-	/**
-	 * Construtor default que permite instanciar o objeto  
-	 * indicando o path name, caminho que indica onde o relatrio 
-	 * ser exportado.
-	 * 
-	 * @param pathName 		Caminho que indica onde o relatrio 
-	 * ser exportado.
-	 * 
-	 * @throws IOException Dispara a execeo caso no seja
-	 * possvel localizar o caminho passado por parmetro ou 
-	 * o arquivo no pode ser aberto. 
-	 */
-	public RelatorioPDF(String pathName) throws IOException{
-		this(new File(pathName));
-	}
-	
-	/**
-	 * Construtor default que permite instanciar o objeto com 
-	 * a arquivo no qual ser exportado o relatrio.
-	 * 
-	 * @param file 		Arquivo que mantm o pathname do arquivo no qual 
-	 * o relario ser exportado.  
-	 * 
-	 *  @throws IOException Dispara a execeo caso no seja
-	 * possvel localizar o caminho passado por parmetro ou 
-	 * o arquivo no pode ser aberto. 
-	 */
-	public RelatorioPDF(File file) throws IOException {
-		try {
-			 this.file = file;
-			 this.documento = new PDF(file);
-			 this.documento.abrir();
-			 
-		}catch (DocumentException e) {
-			throw new IOException(String.format("O arquivo '%s'no pde ser aberto.", 
-					file.getAbsolutePath()));
-		}catch (FileNotFoundException e) {
-			throw new IOException(String.format("O arquivo '%s'no foi encontrado.", 
-												file.getAbsolutePath()));
-		}
-	}
-	
-	/**
-	 * Escreve o cabealho do documento PDF com os dados da aplicao e os dados do cliente 
-	 * passado por parmetro.
-	 * 
-	 * @param cliente		O cliente referente ao relatrio que est sendo exportado.
-	 * @param dataEHora		<code>String</code> contendo a data e hora que ser escrita no 
-	 * 						cabealho.
-	 * 
-	 * @return Retorna <code>true</code> se o cabealho for escrito corretamente.
-	 * 
-	 * @throws IOException Dispara a exceo caso ocorra um erro ao escrever 
-	 * no documento PDF. 
-	 */
-	public boolean escreverCabecalho(Cliente cliente, String dataEHora) throws IOException {
-		try {
-			Image icone = PDF.criarImagemPNG(Propriedade.URL_LOGO_APLICACAO, 70, 70);
-			documento.addTitulo(Propriedade.NOME_PROGRAMA, 45, Element.ALIGN_CENTER, icone);
-			documento.addParagrafo("");
-
-			documento.addTitulo(cliente.getNome(), 15, Element.ALIGN_RIGHT, null);
-			documento.addTitulo(cliente.getEmail(), 13, Element.ALIGN_RIGHT, null);
-			documento.addTitulo("Criado em: " + dataEHora, 13, Element.ALIGN_RIGHT, null);
-			documento.addNovasLinhas(1);
-		} catch (DocumentException | IOException e) {
-			throw new IOException("Erro ao escrever cabealho do relatrio no PDF: "+file.getName());
-		}
-		return true;
-	}
-	
-	/**
-	 * Escreve as informaes do cliente passado por parmetro no documento PDF. 
-	 * 
-	 * @param cliente		O cliente referente ao relatrio que est sendo exportado.
-	 * 
-	 * @return Retorna <code>true</code> se as informaes do cliente forem escritas
-	 * corretamente.
-	 * @throws IOException Dispara a exceo caso ocorra um erro ao escrever 
-	 * no documento PDF. 
-	 */
-	public boolean escreverInformacaoCliente(Cliente cliente) throws IOException {
-		try {
-			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_INFO, 25, 25);
-			documento.addTitulo("Informaes do Cliente", 15, Element.ALIGN_LEFT, icone);
-			documento.addNovasLinhas(1);
-
-			documento.addParagrafo(String.format("Nome: %s", cliente.getNome()));
-			documento.addLink("Email: ",cliente.getEmail(), "mailto:"+cliente.getEmail());
-			documento.addParagrafo(String.format("Data de Nascimento: %s", cliente.getDataNascimento()));
-			documento.addParagrafo(String.format("Sexo: %s", cliente.getSexo()));
-			documento.addParagrafo(String.format("Altura: %.2f m", cliente.getAltura()));
-			documento.addParagrafo(String.format("Sexo: %.2f Kg", cliente.getPeso()));
-
-			documento.addNovasLinhas(2);
-		} catch (DocumentException | IOException e) {
-			throw new IOException("Erro ao escrever informaes do cliente no PDF: "+file.getName());
-		}
-		return true;
-	}
-	
-	/**
-	 * Escreve o relatrio do cliente, que exibe os exerccios com maior destaque, 
-	 * no documento PDF.
-	 * 
-	 * @param relatorio		O relatrio do cliente a ser exportado.
-	 * 
-	 * @return Retorna <code>true</code> se o relatrio for escrito corretamente.
-	 * @throws IOException Dispara a exceo caso ocorra um erro ao escrever 
-	 * no documento PDF. 
-	 */
-	public boolean escreverRelatorioCliente(RelatorioCliente relatorio) throws IOException{
-		try {
-			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_RELATORIO, 25, 25);
-			documento.addTitulo("Relatrio do Cliente", 15, Element.ALIGN_LEFT, icone);
-			documento.addNovasLinhas(1);
-			
-			Exercicio exc;
-			documento.addParagrafo("Exerccio com maior durao:");
-			exc = relatorio.getExercicioMaiorDuracao();
-			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.DURACAO));
-
-			documento.addNovasLinhas(1);
-			documento.addParagrafo("Exerccio com maior distncia percorrida:");
-			exc = relatorio.getExercicioMaiorDistancia();
-			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.DISTANCIA));
-
-			documento.addNovasLinhas(1);
-			documento.addParagrafo("Exerccio com maior perda de calorias:");
-			exc = relatorio.getExercicioMaiorPerdaCalorias();
-			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.CALORIAS));
-
-			documento.addNovasLinhas(1);
-			documento.addParagrafo("Exerccio com maior nmero de passos:");
-			exc = relatorio.getExercicioMaiorNumPassos();
-			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.PASSOS));
-
-			documento.addNovasLinhas(1);
-			documento.addParagrafo("Exerccio com maior velocidade atingida:");
-			exc = relatorio.getExercicioMaiorVelocidade();
-			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.VELOCIDADE));
-
-			documento.addNovasLinhas(2);
-		} catch (DocumentException | IOException e) {
-			throw new IOException("Erro ao escrever relatrio do cliente no PDF: "+file.getName());
-		}
-		return true;
-	}
-	
-	/**
-	 * Escreve o relatrio grfico de colunas no documento PDF. Escreve os grficos para 
-	 * os dados: Durao, Distncia percorrida, Calorias perdidas, Passos dados, Ritmo mdio e 
-	 * Velocidade mdia. 
-	 * 
-	 * @param relatorio		O relatrio grfico que ser utilizado para obter os grficos 
-	 * necessrios.
-	 * 
-	 * @return Retorna <code>true</code> se o relatrio for escrito corretamente.
-	 * @throws IOException Dispara a exceo caso ocorra um erro ao escrever 
-	 * no documento PDF. 
-	 */
-	public boolean escreverRelatorioGraficoColuna(RelatorioGrafico relatorio) throws IOException{
-		try {
-			relatorio.setTipoGrafico(TipoGrafico.COLUNA);
-			relatorio.setSepararExercicios(true);
-
-			documento.criarNovaPagina();
-			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_GRAFICO, 25, 25);
-			documento.addTitulo("Relatrio Grfico de Coluna", 15, Element.ALIGN_LEFT, icone);
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoDuracaoPorDia());		
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoDistanciaPorDia());
-			documento.addNovasLinhas(1);
-
-			documento.criarNovaPagina();
-			escreverGrafico(relatorio.graficoCaloriaPorDia());		
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoPassosPorDia());		
-			documento.addNovasLinhas(1);
-
-			documento.criarNovaPagina();
-			escreverGrafico(relatorio.graficoRitmoMedioPorDia());		
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoVelocidadeMediaPorDia());		
-			documento.addNovasLinhas(2);
-		} catch (DocumentException | IOException e) {
-			throw new IOException("Erro ao escrever relatrio grfico de colunas no PDF: "+file.getName());
-		}
-		return true;
-	}
-	
-	/**
-	 * Escreve o relatrio grfico de linhas no documento PDF. Escreve os grficos para 
-	 * os dados: Distncia percorrida, Calorias perdidas, Passos dados.
-	 * 
-	 * @param relatorio		O relatrio grfico que ser utilizado para obter os grficos 
-	 * necessrios.
-	 * 
-	 * @return Retorna <code>true</code> se o relatrio for escrito corretamente.
-	 * @throws IOException Dispara a exceo caso ocorra um erro ao escrever 
-	 * no documento PDF. 
-	 */
-	public boolean escreverRelatorioGraficoLinha(RelatorioGrafico relatorio) throws IOException {
-		try {
-			relatorio.setTipoGrafico(TipoGrafico.LINHA);
-			relatorio.setSepararExercicios(true);
-
-			documento.criarNovaPagina();
-			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_GRAFICO, 25, 25);
-			documento.addTitulo("Relatrio Grfico de Linha", 15, Element.ALIGN_LEFT, icone);
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoDistanciaPorDia());
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoCaloriaPorDia());		
-			documento.addNovasLinhas(1);
-
-			documento.criarNovaPagina();
-			escreverGrafico(relatorio.graficoPassosPorDia());		
-			documento.addNovasLinhas(1);
-
-		} catch (DocumentException | IOException e) {
-			throw new IOException("Erro ao escrever relatrio grfico de linhas no PDF: "+file.getName());
-		}
-		
-		return true;
-	}
-
-	/**
-	 * Escreve o relatrio grfico de colunas geral no documento PDF. Escreve os grficos para 
-	 * os dados: Passos dados, Mdia da distncia percorrida, Distncia percorrida, 
-	 * Mdia das calorias perdidas, Calorias perdidas, Ritmo mdio e Velocidade mdia. 
-	 * 
-	 * @param relatorio		O relatrio grfico que ser utilizado para obter os grficos 
-	 * necessrios.
-	 * 
-	 * @return Retorna <code>true</code> se o relatrio for escrito corretamente.
-	 * @throws IOException Dispara a exceo caso ocorra um erro ao escrever 
-	 * no documento PDF. 
-	 */
-	public boolean escreverRelatorioGraficoColunaGeral(RelatorioGrafico relatorio) throws IOException {
-		try {
-			relatorio.setTipoGrafico(TipoGrafico.COLUNA);
-			relatorio.setSepararExercicios(false);
-			relatorio.setFiltrarExercicio(null);
-
-			documento.criarNovaPagina();
-			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_GRAFICO, 25, 25);
-			documento.addTitulo("Relatrio Grfico de Coluna Geral", 15, Element.ALIGN_LEFT, icone);
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoPassosPorDia());		
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoMediaDistanciaPorDia());
-			documento.addNovasLinhas(1);
-
-			documento.criarNovaPagina();
-			escreverGrafico(relatorio.graficoDistanciaPorDia());		
-			documento.addNovasLinhas(1);
-
-			escreverGrafico(relatorio.graficoMediaCaloriaPorDia());		
-			documento.addNovasLinhas(1);
-
-			documento.criarNovaPagina();
-			escreverGrafico(relatorio.graficoCaloriaPorDia());		
-			documento.addNovasLinhas(1);
-		} catch (DocumentException | IOException e) {
-			throw new IOException("Erro ao escrever relatrio grfico de colunas geral no PDF: "+file.getName());
-		}
-		return true;
-	}
-	
-	private void escreverGrafico(GraficoCategory grafico) throws IOException, DocumentException {
-		byte[] imagemGrafico = grafico.obterImagemGraficoJPEG(500, 320);
-		if(imagemGrafico != null) documento.addImagemJpeg(imagemGrafico, 500, 320);
-	}
-
-	/**
-	 * Fecha o documento PDF utilizado para gravar o relatrio.
-	 * 
-	 * @return Retorna <code>true</code> se o documento foi fechado 
-	 * com sucesso.
-	 * @throws IOException Dispara a exceo caso ocorra erro ao fechar 
-	 * o documento PDF. 
-	 */
-	public boolean fechar() throws IOException {
-		try { if(documento != null) documento.fechar();
-		} catch (IOException e) {
-			throw new IOException("Erro ao fechar documento PDF: "+file.getName());
-		}
-		return true;
-	}
-}
+package gdrc.sports.util.relatorio;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Image;
+
+import gdrc.sports.io.pdf.PDF;
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.Exercicio;
+import gdrc.sports.tipo.ExercicioDetalhado;
+import gdrc.sports.tipo.Ritmo.RitmoDetalhado;
+import gdrc.sports.tipo.grafico.GraficoCategory;
+import gdrc.sports.util.relatorio.CuboExercicios.Metrica;
+import gdrc.sports.util.controle.ControleDeExercicios;
+import gdrc.sports.util.propriedades.Propriedade;
+import gdrc.sports.util.relatorio.RelatorioCliente.TipoDadoRelatorio;
+import gdrc.sports.util.relatorio.RelatorioGrafico.TipoGrafico;
+
+/**
+ * Classe utilizada para exportar os dados, relatório, 
+ * e relatório gráfco do cliente para um documento PDF.
+ * 
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class RelatorioPDF {
+	private static final int LARGURA_GRAFICO = 500, ALTURA_GRAFICO = 320;
+	
+	/** Threads utilizadas para criar as imagens dos gráficos ao mesmo tempo.
+	 * São threads daemon, portanto não impedem que a aplicação seja encerrada. */
+	private static final ExecutorService RENDERIZADOR_GRAFICOS = Executors.newFixedThreadPool(
+			Runtime.getRuntime().availableProcessors(), (Runnable tarefa) -> {
+				Thread thread = new Thread(tarefa, "renderizador-graficos");
+				thread.setDaemon(true);
+				return thread;
+			});
+	
+	private String nomeDocumento;
+	private PDF documento;
+	private boolean graficosVetoriais = true;
+	
+	/**
+	 * Construtor default que permite instanciar o objeto  
+	 * indicando o path name, caminho que indica onde o relatório 
+	 * será exportado.
+	 * 
+	 * @param pathName 		Caminho que indica onde o relatório 
+	 * será exportado.
+	 * 
+	 * @throws IOException Dispara a execeção caso não seja
+	 * possível localizar o caminho passado por parâmetro ou 
+	 * o arquivo não pode ser aberto. 
+	 */
+	public RelatorioPDF(String pathName) throws IOException{
+		this(new File(pathName));
+	}
+	
+	/**
+	 * Construtor default que permite instanciar o objeto com 
+	 * a arquivo no qual será exportado o relatório.
+	 * 
+	 * @param file 		Arquivo que mantém o pathname do arquivo no qual 
+	 * o relaório será exportado.  
+	 * 
+	 *  @throws IOException Dispara a execeção caso não seja
+	 * possível localizar o caminho passado por parâmetro ou 
+	 * o arquivo não pode ser aberto. 
+	 */
+	public RelatorioPDF(File file) throws IOException {
+		try {
+			 this.nomeDocumento = file.getName();
+			 this.documento = new PDF(file);
+			 this.documento.abrir();
+			 
+		}catch (DocumentException e) {
+			throw new IOException(String.format("O arquivo '%s'não pôde ser aberto.", 
+					file.getAbsolutePath()));
+		}catch (FileNotFoundException e) {
+			throw new IOException(String.format("O arquivo '%s'não foi encontrado.", 
+												file.getAbsolutePath()));
+		}
+	}
+	
+	/**
+	 * Construtor que permite instanciar o objeto com o {@link OutputStream} no qual 
+	 * o relatório será exportado, por exemplo para criar o relatório em memória.
+	 * 
+	 * @param saida				O stream no qual o relatório será exportado.
+	 * @param nomeDocumento		O nome do documento, utilizado nas mensagens de erro.
+	 * 
+	 * @throws IOException Dispara a execeção caso o documento não possa ser aberto. 
+	 */
+	public RelatorioPDF(OutputStream saida, String nomeDocumento) throws IOException {
+		try {
+			 this.nomeDocumento = nomeDocumento;
+			 this.documento = new PDF(saida);
+			 this.documento.abrir();
+		}catch (DocumentException | FileNotFoundException e) {
+			throw new IOException(String.format("O documento '%s' não pôde ser aberto.", nomeDocumento));
+		}
+	}
+	
+	/**
+	 * Escreve o cabeçalho do documento PDF com os dados da aplicação e os dados do cliente 
+	 * passado por parâmetro.
+	 * 
+	 * @param cliente		O cliente referente ao relatório que está sendo exportado.
+	 * @param dataEHora		<code>String</code> contendo a data e hora que será escrita no 
+	 * 						cabeçalho.
+	 * 
+	 * @return Retorna <code>true</code> se o cabeçalho for escrito corretamente.
+	 * 
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever 
+	 * no documento PDF. 
+	 */
+	public boolean escreverCabecalho(Cliente cliente, String dataEHora) throws IOException {
+		try {
+			Image icone = PDF.criarImagemPNG(Propriedade.URL_LOGO_APLICACAO, 70, 70);
+			documento.addTitulo(Propriedade.NOME_PROGRAMA, 45, Element.ALIGN_CENTER, icone);
+			documento.addParagrafo("");
+
+			documento.addTitulo(cliente.getNome(), 15, Element.ALIGN_RIGHT, null);
+			documento.addTitulo(cliente.getEmail(), 13, Element.ALIGN_RIGHT, null);
+			documento.addTitulo("Criado em: " + dataEHora, 13, Element.ALIGN_RIGHT, null);
+			documento.addNovasLinhas(1);
+		} catch (DocumentException | IOException e) {
+			throw new IOException("Erro ao escrever cabeçalho do relatório no PDF: "+nomeDocumento);
+		}
+		return true;
+	}
+	
+	/**
+	 * Escreve as informações do cliente passado por parâmetro no documento PDF. 
+	 * 
+	 * @param cliente		O cliente referente ao relatório que está sendo exportado.
+	 * 
+	 * @return Retorna <code>true</code> se as informações do cliente forem escritas
+	 * corretamente.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever 
+	 * no documento PDF. 
+	 */
+	public boolean escreverInformacaoCliente(Cliente cliente) throws IOException {
+		try {
+			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_INFO, 25, 25);
+			documento.addTitulo("Informações do Cliente", 15, Element.ALIGN_LEFT, icone);
+			documento.addNovasLinhas(1);
+
+			documento.addParagrafo(String.format("Nome: %s", cliente.getNome()));
+			documento.addLink("Email: ",cliente.getEmail(), "mailto:"+cliente.getEmail());
+			documento.addParagrafo(String.format("Data de Nascimento: %s", cliente.getDataNascimento()));
+			documento.addParagrafo(String.format("Sexo: %s", cliente.getSexo()));
+			documento.addParagrafo(String.format("Altura: %.2f m", cliente.getAltura()));
+			documento.addParagrafo(String.format("Sexo: %.2f Kg", cliente.getPeso()));
+
+			documento.addNovasLinhas(2);
+		} catch (DocumentException | IOException e) {
+			throw new IOException("Erro ao escrever informações do cliente no PDF: "+nomeDocumento);
+		}
+		return true;
+	}
+	
+	/**
+	 * Escreve o relatório do cliente, que exibe os exercícios com maior destaque, 
+	 * no documento PDF.
+	 * 
+	 * @param relatorio		O relatório do cliente a ser exportado.
+	 * 
+	 * @return Retorna <code>true</code> se o relatório for escrito corretamente.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever 
+	 * no documento PDF. 
+	 */
+	public boolean escreverRelatorioCliente(RelatorioCliente relatorio) throws IOException{
+		try {
+			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_RELATORIO, 25, 25);
+			documento.addTitulo("Relatório do Cliente", 15, Element.ALIGN_LEFT, icone);
+			documento.addNovasLinhas(1);
+			
+			Exercicio exc;
+			documento.addParagrafo("Exercício com maior duração:");
+			exc = relatorio.getExercicioMaiorDuracao();
+			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.DURACAO));
+
+			documento.addNovasLinhas(1);
+			documento.addParagrafo("Exercício com maior distância percorrida:");
+			exc = relatorio.getExercicioMaiorDistancia();
+			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.DISTANCIA));
+
+			documento.addNovasLinhas(1);
+			documento.addParagrafo("Exercício com maior perda de calorias:");
+			exc = relatorio.getExercicioMaiorPerdaCalorias();
+			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.CALORIAS));
+
+			documento.addNovasLinhas(1);
+			documento.addParagrafo("Exercício com maior número de passos:");
+			exc = relatorio.getExercicioMaiorNumPassos();
+			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.PASSOS));
+
+			documento.addNovasLinhas(1);
+			documento.addParagrafo("Exercício com maior velocidade atingida:");
+			exc = relatorio.getExercicioMaiorVelocidade();
+			documento.addParagrafo(RelatorioCliente.formatarDadosRelatorio(exc, TipoDadoRelatorio.VELOCIDADE));
+
+			EstatisticasExercicios estatisticas = relatorio.getEstatisticas();
+			documento.addNovasLinhas(1);
+			documento.addParagrafo("Resumo dos exercícios:");
+			documento.addParagrafo("Quantidade de exercícios: " + estatisticas.getQuantidadeExercicios());
+			for(Map.Entry<String, Integer> entrada : estatisticas.getQuantidadePorExercicio().entrySet())
+				documento.addParagrafo("    " + entrada.getKey() + ": " + entrada.getValue());
+			documento.addParagrafo("Duração - " + relatorio.formatarResumoRelatorio(TipoDadoRelatorio.DURACAO));
+			documento.addParagrafo("Distância - " + relatorio.formatarResumoRelatorio(TipoDadoRelatorio.DISTANCIA));
+			documento.addParagrafo("Calorias - " + relatorio.formatarResumoRelatorio(TipoDadoRelatorio.CALORIAS));
+			documento.addParagrafo("Passos - " + relatorio.formatarResumoRelatorio(TipoDadoRelatorio.PASSOS));
+			documento.addParagrafo("Maior sequência de dias com exercícios: " + estatisticas.getMaiorSequenciaDias());
+
+			documento.addNovasLinhas(2);
+		} catch (DocumentException | IOException e) {
+			throw new IOException("Erro ao escrever relatório do cliente no PDF: "+nomeDocumento);
+		}
+		return true;
+	}
+	
+	/**
+	 * Escreve em uma nova página o título e o resumo do período do relatório gráfico 
+	 * passado por parâmetro: a quantidade de exercícios e os totais de duração, distância, 
+	 * calorias e passos de cada exercício realizado no período. Utilizado para separar os 
+	 * relatórios gráficos de períodos diferentes em um mesmo documento.
+	 * 
+	 * @param relatorio		O relatório gráfico do período.
+	 * 
+	 * @return Retorna <code>true</code> se o resumo for escrito corretamente.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever 
+	 * no documento PDF. 
+	 */
+	public boolean escreverResumoPeriodo(RelatorioGrafico relatorio) throws IOException {
+		try {
+			documento.criarNovaPagina();
+			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_RELATORIO, 25, 25);
+			documento.addTitulo(String.format("Período de %s a %s", relatorio.getDataInicial(), 
+											  relatorio.getDataFinal()), 15, Element.ALIGN_LEFT, icone);
+			documento.addNovasLinhas(1);
+			
+			CuboExercicios cubo = relatorio.getCuboExercicios();
+			List<String> exercicios = cubo.getExercicios();
+			if(exercicios.isEmpty()) documento.addParagrafo("Nenhum exercício realizado no período.");
+			
+			for(int exercicio = 0; exercicio < exercicios.size(); exercicio++) {
+				int quantidade = 0;
+				double duracao = 0, distancia = 0, calorias = 0, passos = 0;
+				for(int periodo = 0; periodo < cubo.getPeriodos().size(); periodo++) {
+					quantidade += cubo.getQuantidade(periodo, exercicio, Metrica.DURACAO);
+					duracao += cubo.getSoma(periodo, exercicio, Metrica.DURACAO);
+					distancia += cubo.getSoma(periodo, exercicio, Metrica.DISTANCIA);
+					calorias += cubo.getSoma(periodo, exercicio, Metrica.CALORIAS);
+					passos += cubo.getSoma(periodo, exercicio, Metrica.PASSOS);
+				}
+				
+				documento.addParagrafo(String.format("%s: %d exercícios - Duração: %.0f min - Distância: %.2f Km"
+								+ " - Calorias: %.2f Kcal - Passos: %.0f", exercicios.get(exercicio), 
+								quantidade, duracao, distancia, calorias, passos));
+			}
+			documento.addNovasLinhas(1);
+		} catch (DocumentException | IOException e) {
+			throw new IOException("Erro ao escrever resumo do período no PDF: "+nomeDocumento);
+		}
+		return true;
+	}
+	
+	/**
+	 * Escreve o apêndice com todos os exercícios realizados pelo cliente em uma tabela, 
+	 * em ordem de data e hora de início. Para os exercícios detalhados também são escritos 
+	 * o ritmo médio, a velocidade média e as divisões do ritmo por quilômetro.<br><br>
+	 * 
+	 * Os exercícios são lidos do banco de dados um por vez e a tabela é escrita em blocos, 
+	 * portanto a memória utilizada não depende da quantidade de exercícios do cliente.
+	 * 
+	 * @param email		O email do cliente.
+	 * 
+	 * @return Retorna <code>true</code> se o apêndice for escrito corretamente.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao ler os exercícios 
+	 * ou ao escrever no documento PDF. 
+	 */
+	public boolean escreverApendiceExercicios(String email) throws IOException {
+		try {
+			documento.criarNovaPagina();
+			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_RELATORIO, 25, 25);
+			documento.addTitulo("Apêndice - Exercícios Realizados", 15, Element.ALIGN_LEFT, icone);
+			documento.addNovasLinhas(1);
+			
+			documento.iniciarTabela(new String[] {"Data", "Exercício", "Início", "Duração", "Distância (Km)", 
+												  "Calorias (Kcal)", "Passos", "Ritmo médio", "Velocidade média (Km/h)"}, 
+									new float[] {10, 13, 9, 9, 10, 10, 9, 9, 11});
+			
+			boolean lidos = new ControleDeExercicios().percorrerExercicios(email, exercicio -> {
+				try { escreverExercicioNoApendice(exercicio);
+				} catch (DocumentException e) { throw new UncheckedIOException(new IOException(e)); }
+			});
+			if(!lidos) throw new IOException("Erro ao ler os exercícios do cliente: "+email);
+			
+			documento.finalizarTabela();
+			documento.addNovasLinhas(1);
+		} catch (DocumentException | IOException | UncheckedIOException e) {
+			throw new IOException("Erro ao escrever apêndice de exercícios no PDF: "+nomeDocumento);
+		}
+		return true;
+	}
+	
+	private void escreverExercicioNoApendice(Exercicio exercicio) throws DocumentException {
+		String ritmo = "-", velocidade = "-";
+		ExercicioDetalhado exercicioDet = null;
+		if(exercicio instanceof ExercicioDetalhado) {
+			exercicioDet = (ExercicioDetalhado) exercicio;
+			ritmo = exercicioDet.getRitmo().getRitmoMedio().toString();
+			velocidade = String.format("%.2f", exercicioDet.getVelocidade().getVelocidadeMedia());
+		}
+		
+		documento.addLinhaTabela(exercicio.getData().toString(), exercicio.getExercicio(), 
+								 exercicio.getTempo().getHoraInicio().toString(), 
+								 exercicio.getTempo().getDuracao().toString(), 
+								 String.format("%.2f", exercicio.getDistancia()), 
+								 String.format("%.2f", exercicio.getCaloriasPerdidas()),
+								 String.valueOf(exercicio.getPassos()), ritmo, velocidade);
+		
+		if(exercicioDet != null && !exercicioDet.getRitmo().getDivisoes().isEmpty()) {
+			StringBuilder divisoes = new StringBuilder("Divisões:");
+			for(RitmoDetalhado divisao : exercicioDet.getRitmo().getDivisoes())
+				divisoes.append(String.format("  %.2f Km - %s;", divisao.getQuilometro(), divisao.getRitmo()));
+			documento.addLinhaMescladaTabela(divisoes.toString());
+		}
+	}
+	
+	/**
+	 * Escreve o relatório gráfico de colunas no documento PDF. Escreve os gráficos para 
+	 * os dados: Duração, Distância percorrida, Calorias perdidas, Passos dados, Ritmo médio e 
+	 * Velocidade média. 
+	 * 
+	 * @param relatorio		O relatório gráfico que será utilizado para obter os gráficos 
+	 * necessários.
+	 * 
+	 * @return Retorna <code>true</code> se o relatório for escrito corretamente.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever 
+	 * no documento PDF. 
+	 */
+	public boolean escreverRelatorioGraficoColuna(RelatorioGrafico relatorio) throws IOException{
+		return escreverRelatoriosGraficos(relatorio, true, false, false);
+	}
+	
+	/**
+	 * Escreve o relatório gráfico de linhas no documento PDF. Escreve os gráficos para 
+	 * os dados: Distância percorrida, Calorias perdidas, Passos dados.
+	 * 
+	 * @param relatorio		O relatório gráfico que será utilizado para obter os gráficos 
+	 * necessários.
+	 * 
+	 * @return Retorna <code>true</code> se o relatório for escrito corretamente.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever 
+	 * no documento PDF. 
+	 */
+	public boolean escreverRelatorioGraficoLinha(RelatorioGrafico relatorio) throws IOException {
+		return escreverRelatoriosGraficos(relatorio, false, true, false);
+	}
+
+	/**
+	 * Escreve o relatório gráfico de colunas geral no documento PDF. Escreve os gráficos para 
+	 * os dados: Passos dados, Média da distância percorrida, Distância percorrida, 
+	 * Média das calorias perdidas, Calorias perdidas, Ritmo médio e Velocidade média. 
+	 * 
+	 * @param relatorio		O relatório gráfico que será utilizado para obter os gráficos 
+	 * necessários.
+	 * 
+	 * @return Retorna <code>true</code> se o relatório for escrito corretamente.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever 
+	 * no documento PDF. 
+	 */
+	public boolean escreverRelatorioGraficoColunaGeral(RelatorioGrafico relatorio) throws IOException {
+		return escreverRelatoriosGraficos(relatorio, false, false, true);
+	}
+	
+	/**
+	 * Escreve no documento PDF os relatórios gráficos indicados pelos parâmetros, 
+	 * na mesma ordem e com o mesmo conteúdo de {@link #escreverRelatorioGraficoColuna(RelatorioGrafico)},
+	 * {@link #escreverRelatorioGraficoLinha(RelatorioGrafico)} e 
+	 * {@link #escreverRelatorioGraficoColunaGeral(RelatorioGrafico)}.<br><br>
+	 * 
+	 * Por padrão os gráficos são desenhados diretamente no documento como desenhos 
+	 * vetoriais, veja {@link #setGraficosVetoriais(boolean)}. Quando escritos como 
+	 * imagens JPEG, todos os gráficos dos relatórios indicados são gerados primeiro e 
+	 * suas imagens são criadas ao mesmo tempo por threads separadas. As imagens são 
+	 * inseridas no documento na ordem original à medida que ficam prontas, portanto o 
+	 * tempo para escrever os relatórios se aproxima do tempo do gráfico mais demorado 
+	 * e não da soma do tempo de todos eles.
+	 * 
+	 * @param relatorio		O relatório gráfico que será utilizado para obter os gráficos.
+	 * @param coluna		<code>true</code> para escrever o relatório gráfico de colunas.
+	 * @param linha			<code>true</code> para escrever o relatório gráfico de linhas.
+	 * @param colunaGeral	<code>true</code> para escrever o relatório gráfico de colunas geral.
+	 * 
+	 * @return Retorna <code>true</code> se os relatórios forem escritos corretamente.
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao gerar os gráficos 
+	 * ou ao escrever no documento PDF. 
+	 */
+	public boolean escreverRelatoriosGraficos(RelatorioGrafico relatorio, boolean coluna, 
+											  boolean linha, boolean colunaGeral) throws IOException {
+		/* Os gráficos são obtidos na mesma ordem em que eram escritos, pois cada 
+		 * relatório altera as configurações do relatório gráfico. */
+		List<GraficoPDF> imagensColuna = null, imagensLinha = null, imagensColunaGeral = null;
+		if(coluna) {
+			relatorio.setTipoGrafico(TipoGrafico.COLUNA);
+			relatorio.setSepararExercicios(true);
+			imagensColuna = renderizarGraficos(relatorio.graficoDuracaoPorDia(), 
+											   relatorio.graficoDistanciaPorDia(),
+											   relatorio.graficoCaloriaPorDia(), 
+											   relatorio.graficoPassosPorDia(),
+											   relatorio.graficoRitmoMedioPorDia(), 
+											   relatorio.graficoVelocidadeMediaPorDia());
+		}
+		if(linha) {
+			relatorio.setTipoGrafico(TipoGrafico.LINHA);
+			relatorio.setSepararExercicios(true);
+			imagensLinha = renderizarGraficos(relatorio.graficoDistanciaPorDia(), 
+											  relatorio.graficoCaloriaPorDia(), 
+											  relatorio.graficoPassosPorDia());
+		}
+		if(colunaGeral) {
+			relatorio.setTipoGrafico(TipoGrafico.COLUNA);
+			relatorio.setSepararExercicios(false);
+			relatorio.setFiltrarExercicio(null);
+			imagensColunaGeral = renderizarGraficos(relatorio.graficoPassosPorDia(), 
+													relatorio.graficoMediaDistanciaPorDia(), 
+													relatorio.graficoDistanciaPorDia(), 
+													relatorio.graficoMediaCaloriaPorDia(), 
+													relatorio.graficoCaloriaPorDia());
+		}
+		
+		try {
+			if(coluna) escreverSecaoGraficoColuna(imagensColuna);
+			if(linha) escreverSecaoGraficoLinha(imagensLinha);
+			if(colunaGeral) escreverSecaoGraficoColunaGeral(imagensColunaGeral);
+		} finally {
+			// Se ocorrer um erro as imagens que ainda não foram criadas são canceladas.
+			cancelarImagens(imagensColuna);
+			cancelarImagens(imagensLinha);
+			cancelarImagens(imagensColunaGeral);
+		}
+		return true;
+	}
+	
+	private void escreverSecaoGraficoColuna(List<GraficoPDF> imagens) throws IOException {
+		try {
+			documento.criarNovaPagina();
+			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_GRAFICO, 25, 25);
+			documento.addTitulo("Relatório Gráfico de Coluna", 15, Element.ALIGN_LEFT, icone);
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(0));		
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(1));
+			documento.addNovasLinhas(1);
+
+			documento.criarNovaPagina();
+			escreverGrafico(imagens.get(2));		
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(3));		
+			documento.addNovasLinhas(1);
+
+			documento.criarNovaPagina();
+			escreverGrafico(imagens.get(4));		
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(5));		
+			documento.addNovasLinhas(2);
+		} catch (DocumentException | IOException e) {
+			throw new IOException("Erro ao escrever relatório gráfico de colunas no PDF: "+nomeDocumento);
+		}
+	}
+	
+	private void escreverSecaoGraficoLinha(List<GraficoPDF> imagens) throws IOException {
+		try {
+			documento.criarNovaPagina();
+			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_GRAFICO, 25, 25);
+			documento.addTitulo("Relatório Gráfico de Linha", 15, Element.ALIGN_LEFT, icone);
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(0));
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(1));		
+			documento.addNovasLinhas(1);
+
+			documento.criarNovaPagina();
+			escreverGrafico(imagens.get(2));		
+			documento.addNovasLinhas(1);
+
+		} catch (DocumentException | IOException e) {
+			throw new IOException("Erro ao escrever relatório gráfico de linhas no PDF: "+nomeDocumento);
+		}
+	}
+	
+	private void escreverSecaoGraficoColunaGeral(List<GraficoPDF> imagens) throws IOException {
+		try {
+			documento.criarNovaPagina();
+			Image icone = PDF.criarImagemPNG(Propriedade.URL_ICONE_GRAFICO, 25, 25);
+			documento.addTitulo("Relatório Gráfico de Coluna Geral", 15, Element.ALIGN_LEFT, icone);
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(0));		
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(1));
+			documento.addNovasLinhas(1);
+
+			documento.criarNovaPagina();
+			escreverGrafico(imagens.get(2));		
+			documento.addNovasLinhas(1);
+
+			escreverGrafico(imagens.get(3));		
+			documento.addNovasLinhas(1);
+
+			documento.criarNovaPagina();
+			escreverGrafico(imagens.get(4));		
+			documento.addNovasLinhas(1);
+		} catch (DocumentException | IOException e) {
+			throw new IOException("Erro ao escrever relatório gráfico de colunas geral no PDF: "+nomeDocumento);
+		}
+	}
+	
+	/**
+	 * Prepara os gráficos passados por parâmetro para serem escritos no documento. 
+	 * Se os gráficos forem escritos como imagens JPEG, inicia a criação das imagens 
+	 * nas threads utilizadas para renderizar os gráficos.
+	 * 
+	 * @return Retorna os gráficos preparados, na mesma ordem em que foram passados.
+	 */
+	private List<GraficoPDF> renderizarGraficos(GraficoCategory... graficos) {
+		List<GraficoPDF> imagens = new ArrayList<>(graficos.length);
+		for(GraficoCategory grafico : graficos) {
+			Future<byte[]> imagemJpeg = null;
+			if(!graficosVetoriais)
+				imagemJpeg = RENDERIZADOR_GRAFICOS.submit(
+						() -> grafico.obterImagemGraficoJPEG(LARGURA_GRAFICO, ALTURA_GRAFICO));
+			imagens.add(new GraficoPDF(grafico, imagemJpeg));
+		}
+		return imagens;
+	}
+	
+	private void cancelarImagens(List<GraficoPDF> imagens) {
+		if(imagens == null) return;
+		for(GraficoPDF imagem : imagens)
+			if(imagem.imagemJpeg != null) imagem.imagemJpeg.cancel(false);
+	}
+	
+	/**
+	 * Escreve o gráfico no documento. Se o gráfico não for vetorial, aguarda a 
+	 * criação da sua imagem JPEG.
+	 */
+	private void escreverGrafico(GraficoPDF imagem) throws IOException, DocumentException {
+		if(imagem.imagemJpeg == null) {
+			documento.addImagemVetorial(g2 -> imagem.grafico.desenharGrafico(g2, LARGURA_GRAFICO, ALTURA_GRAFICO), 
+										LARGURA_GRAFICO, ALTURA_GRAFICO);
+			return;
+		}
+		
+		byte[] imagemGrafico;
+		try { imagemGrafico = imagem.imagemJpeg.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("A criação da imagem do gráfico foi interrompida.", e);
+		} catch (ExecutionException e) {
+			throw new IOException("Erro ao criar a imagem do gráfico.", e.getCause());
+		}
+		
+		if(imagemGrafico != null) documento.addImagemJpeg(imagemGrafico, LARGURA_GRAFICO, ALTURA_GRAFICO);
+	}
+	
+	/**
+	 * Verifica se os gráficos são escritos no documento como desenhos vetoriais.
+	 * 
+	 * @return Retorna <code>true</code> se os gráficos forem vetoriais, <code>false</code> 
+	 * se forem escritos como imagens JPEG.
+	 */
+	public boolean isGraficosVetoriais() {
+		return graficosVetoriais;
+	}
+
+	/**
+	 * Indica se os gráficos devem ser escritos no documento como desenhos vetoriais, 
+	 * o padrão, ou como imagens JPEG. Os gráficos vetoriais não perdem a qualidade 
+	 * ao serem ampliados e geram documentos menores.
+	 * 
+	 * @param graficosVetoriais <code>true</code> para escrever os gráficos vetoriais, 
+	 * <code>false</code> para escrevê-los como imagens JPEG.
+	 */
+	public void setGraficosVetoriais(boolean graficosVetoriais) {
+		this.graficosVetoriais = graficosVetoriais;
+	}
+
+	/**
+	 * Fecha o documento PDF utilizado para gravar o relatório.
+	 * 
+	 * @return Retorna <code>true</code> se o documento foi fechado 
+	 * com sucesso.
+	 * @throws IOException Dispara a exceção caso ocorra erro ao fechar 
+	 * o documento PDF. 
+	 */
+	public boolean fechar() throws IOException {
+		try { if(documento != null) documento.fechar();
+		} catch (IOException e) {
+			throw new IOException("Erro ao fechar documento PDF: "+nomeDocumento);
+		}
+		return true;
+	}
+
+	/**
+	 * Mantém um gráfico que será escrito no documento e, caso ele seja escrito 
+	 * como imagem JPEG, a imagem que está sendo criada.
+	 */
+	private static class GraficoPDF {
+		private final GraficoCategory grafico;
+		private final Future<byte[]> imagemJpeg;
+		
+		private GraficoPDF(GraficoCategory grafico, Future<byte[]> imagemJpeg) {
+			this.grafico = grafico;
+			this.imagemJpeg = imagemJpeg;
+		}
+	}
+}
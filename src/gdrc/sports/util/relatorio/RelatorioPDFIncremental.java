@@ -0,0 +1,296 @@
+package gdrc.sports.util.relatorio;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfStamper;
+
+import gdrc.sports.tipo.Cliente;
+import gdrc.sports.tipo.time.Data;
+
+/**
+ * Mantém um relatório em PDF de um cliente que é atualizado a cada exportação apenas
+ * com os períodos que ainda não foram exportados, sem escrever novamente o documento
+ * inteiro.<br><br>
+ *
+ * Os períodos que o documento já contém são mantidos nas propriedades do próprio PDF,
+ * junto com o email do cliente. Na primeira exportação o documento é criado com o
+ * cabeçalho, as informações e o relatório do cliente, seguidos do resumo e dos relatórios
+ * gráficos do período. Nas exportações seguintes apenas o resumo e os relatórios gráficos
+ * do período novo, que começa no dia seguinte ao último período exportado, são escritos
+ * e as suas páginas são anexadas ao final do documento como uma atualização incremental,
+ * mantendo o conteúdo existente intacto.
+ *
+ * @author Guilherme Domith Ribeiro Coelho
+ */
+public class RelatorioPDFIncremental {
+	/** Propriedade do PDF que mantém os períodos já exportados. */
+	public static final String PROPRIEDADE_PERIODOS = "SportsViewerPeriodos";
+	/** Propriedade do PDF que mantém o email do cliente do relatório. */
+	public static final String PROPRIEDADE_CLIENTE = "SportsViewerCliente";
+
+	private static final String SEPARADOR_PERIODOS = ";", SEPARADOR_DATAS = " a ";
+
+	private File arquivo;
+
+	/**
+	 * Construtor que instancia o relatório incremental mantido no arquivo
+	 * passado por parâmetro. O arquivo não precisa existir.
+	 *
+	 * @param arquivo 	O arquivo do relatório.
+	 */
+	public RelatorioPDFIncremental(File arquivo) {
+		this.arquivo = arquivo;
+	}
+
+	/**
+	 * Obtém os períodos que já foram exportados para o documento, em ordem cronológica.
+	 *
+	 * @return Retorna os períodos exportados. Caso o arquivo não exista retorna uma lista vazia.
+	 *
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao ler o documento ou caso
+	 * o documento não tenha sido criado como um relatório incremental.
+	 */
+	public List<Periodo> obterPeriodos() throws IOException {
+		List<Periodo> periodos = new ArrayList<>();
+		if(!arquivo.exists()) return periodos;
+
+		PdfReader reader = new PdfReader(arquivo.getAbsolutePath());
+		try {
+			String manifesto = reader.getInfo().get(PROPRIEDADE_PERIODOS);
+			if(manifesto == null)
+				throw new IOException("O arquivo não é um relatório incremental: "+arquivo.getName());
+
+			for(String periodo : manifesto.split(SEPARADOR_PERIODOS))
+				if(!periodo.trim().isEmpty()) periodos.add(Periodo.converterParaPeriodo(periodo.trim()));
+		} finally {
+			reader.close();
+		}
+		return periodos;
+	}
+
+	/**
+	 * Atualiza o documento com o período passado por parâmetro. Apenas os dias posteriores
+	 * ao último período exportado são escritos. Se o documento não existir ele é criado com
+	 * todo o período.
+	 *
+	 * @param cliente		O cliente do relatório. Se o cliente não possuir exercícios, eles
+	 * são obtidos do banco de dados apenas se o documento precisar ser criado.
+	 * @param dataInicial	A data inicial do período.
+	 * @param dataFinal		A data final do período.
+	 *
+	 * @return Retorna <code>true</code> se o documento foi atualizado, <code>false</code>
+	 * se o período informado já foi exportado.
+	 *
+	 * @throws IOException Dispara a exceção caso ocorra um erro ao escrever o documento
+	 * ou caso o documento pertença a outro cliente.
+	 */
+	public boolean atualizar(Cliente cliente, Data dataInicial, Data dataFinal) throws IOException {
+		if(dataInicial.compareTo(dataFinal) > 0) {
+			Data data = dataInicial;
+			dataInicial = dataFinal;
+			dataFinal = data;
+		}
+
+		List<Periodo> periodos = obterPeriodos();
+		if(!periodos.isEmpty()) {
+			verificarCliente(cliente);
+			LocalDate proximoDia = periodos.get(periodos.size()-1).getDataFinal().getData().plusDays(1);
+			if(proximoDia.isAfter(dataInicial.getData())) dataInicial = new Data(proximoDia);
+			if(dataInicial.compareTo(dataFinal) > 0) return false;
+		}
+
+		Periodo periodo = new Periodo(dataInicial, dataFinal);
+		periodos.add(periodo);
+
+		File diretorio = arquivo.getAbsoluteFile().getParentFile();
+		File fragmento = File.createTempFile("relatorio", ".pdf", diretorio);
+		File atualizado = File.createTempFile("relatorio", ".pdf", diretorio);
+		try {
+			boolean documentoNovo = periodos.size() == 1;
+			escreverPeriodo(fragmento, cliente, periodo, documentoNovo);
+
+			if(documentoNovo) gravarManifesto(fragmento, atualizado, cliente, periodos);
+			else anexarPeriodo(fragmento, atualizado, periodos);
+
+			Files.move(atualizado.toPath(), arquivo.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			fragmento.delete();
+			atualizado.delete();
+		}
+		return true;
+	}
+
+	private void verificarCliente(Cliente cliente) throws IOException {
+		PdfReader reader = new PdfReader(arquivo.getAbsolutePath());
+		String email = reader.getInfo().get(PROPRIEDADE_CLIENTE);
+		reader.close();
+
+		if(email != null && !email.equalsIgnoreCase(cliente.getEmail()))
+			throw new IOException(String.format("O relatório '%s' pertence a outro cliente: %s",
+												arquivo.getName(), email));
+	}
+
+	/**
+	 * Escreve as seções do período em um novo documento. Se for o primeiro período
+	 * do relatório, o documento também recebe o cabeçalho e os dados do cliente.
+	 */
+	private void escreverPeriodo(File destino, Cliente cliente, Periodo periodo, boolean documentoNovo)
+								 throws IOException {
+		RelatorioPDF relatorioPDF = new RelatorioPDF(destino);
+		try {
+			if(documentoNovo) {
+				if(cliente.getExercicios() == null || cliente.getExercicios().isEmpty()) {
+					cliente = ExportacaoPDFEmLote.carregarCliente(cliente.getEmail(), true);
+				}
+
+				String dataEHora = String.format("%1$td de %1$tB de %1$tY - %1$tHh %1$tMmin", Calendar.getInstance());
+				relatorioPDF.escreverCabecalho(cliente, dataEHora);
+				relatorioPDF.escreverInformacaoCliente(cliente);
+				relatorioPDF.escreverRelatorioCliente(new RelatorioCliente(cliente.getExercicios()));
+			}
+
+			RelatorioGrafico relatorioGrafico = new RelatorioGrafico(cliente.getEmail(), periodo.getDataInicial(),
+																	 periodo.getDataFinal());
+			relatorioPDF.escreverResumoPeriodo(relatorioGrafico);
+			relatorioPDF.escreverRelatoriosGraficos(relatorioGrafico, true, true, true);
+		} finally {
+			relatorioPDF.fechar();
+		}
+	}
+
+	/**
+	 * Copia o primeiro documento do relatório para o destino inserindo o manifesto
+	 * com o cliente e os períodos exportados.
+	 */
+	private void gravarManifesto(File documento, File destino, Cliente cliente, List<Periodo> periodos)
+								 throws IOException {
+		PdfReader reader = new PdfReader(documento.getAbsolutePath());
+		try (OutputStream saida = new FileOutputStream(destino)) {
+			PdfStamper stamper = new PdfStamper(reader, saida);
+			Map<String, String> info = reader.getInfo();
+			info.put(PROPRIEDADE_CLIENTE, cliente.getEmail());
+			info.put(PROPRIEDADE_PERIODOS, converterManifesto(periodos));
+			stamper.setMoreInfo(new HashMap<>(info));
+			stamper.close();
+		} catch (DocumentException e) {
+			throw new IOException("Erro ao criar o relatório: "+arquivo.getName(), e);
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Anexa as páginas do fragmento ao final do documento existente, gravando no destino
+	 * o documento original seguido da atualização incremental com as novas páginas e o
+	 * manifesto atualizado.
+	 */
+	private void anexarPeriodo(File fragmento, File destino, List<Periodo> periodos) throws IOException {
+		PdfReader reader = new PdfReader(arquivo.getAbsolutePath());
+		PdfReader readerFragmento = new PdfReader(fragmento.getAbsolutePath());
+		try (OutputStream saida = new FileOutputStream(destino)) {
+			// O último parâmetro anexa as alterações ao final do documento original, sem reescrevê-lo.
+			PdfStamper stamper = new PdfStamper(reader, saida, '\0', true);
+
+			for(int pagina = 1; pagina <= readerFragmento.getNumberOfPages(); pagina++) {
+				int novaPagina = reader.getNumberOfPages() + 1;
+				stamper.insertPage(novaPagina, readerFragmento.getPageSizeWithRotation(pagina));
+				stamper.getUnderContent(novaPagina).addTemplate(stamper.getImportedPage(readerFragmento, pagina), 0, 0);
+			}
+
+			Map<String, String> info = reader.getInfo();
+			info.put(PROPRIEDADE_PERIODOS, converterManifesto(periodos));
+			stamper.setMoreInfo(new HashMap<>(info));
+			stamper.close();
+		} catch (DocumentException e) {
+			throw new IOException("Erro ao anexar o período ao relatório: "+arquivo.getName(), e);
+		} finally {
+			readerFragmento.close();
+			reader.close();
+		}
+	}
+
+	private String converterManifesto(List<Periodo> periodos) {
+		StringBuilder manifesto = new StringBuilder();
+		for(Periodo periodo : periodos) {
+			if(manifesto.length() > 0) manifesto.append(SEPARADOR_PERIODOS);
+			manifesto.append(periodo);
+		}
+		return manifesto.toString();
+	}
+
+	/**
+	 * Mantém um período, com a data inicial e final, que foi exportado para o relatório.
+	 *
+	 * @author Guilherme Domith Ribeiro Coelho
+	 */
+	public static class Periodo {
+		private final Data dataInicial, dataFinal;
+
+		/**
+		 * Construtor que instancia o período com as datas passadas por parâmetro.
+		 *
+		 * @param dataInicial	A data inicial do período.
+		 * @param dataFinal		A data final do período.
+		 */
+		public Periodo(Data dataInicial, Data dataFinal) {
+			this.dataInicial = dataInicial;
+			this.dataFinal = dataFinal;
+		}
+
+		/**
+		 * Converte o período no formato <b>DD/MM/AAAA a DD/MM/AAAA</b> para um objeto {@link Periodo}.
+		 *
+		 * @param periodo	O período a ser convertido.
+		 *
+		 * @return Retorna o período convertido.
+		 *
+		 * @throws IOException Dispara a exceção caso o período esteja em um formato inválido.
+		 */
+		public static Periodo converterParaPeriodo(String periodo) throws IOException {
+			String[] datas = periodo.split(SEPARADOR_DATAS);
+			try {
+				if(datas.length == 2)
+					return new Periodo(Data.converterParaData(datas[0].trim()), Data.converterParaData(datas[1].trim()));
+			} catch (DateTimeParseException e) { }
+			throw new IOException("Período inválido no relatório: "+periodo);
+		}
+
+		/**
+		 * Obtém a data inicial do período.
+		 *
+		 * @return Retorna a data inicial.
+		 */
+		public Data getDataInicial() {
+			return dataInicial;
+		}
+
+		/**
+		 * Obtém a data final do período.
+		 *
+		 * @return Retorna a data final.
+		 */
+		public Data getDataFinal() {
+			return dataFinal;
+		}
+
+		@Override
+		public String toString() {
+			return Data.converterParaString(dataInicial.getData()) + SEPARADOR_DATAS
+				 + Data.converterParaString(dataFinal.getData());
+		}
+	}
+}
@@ -1,5 +1,5 @@
-/**
- * Mantm as classes utilizadas pela aplicao para gerar relatrios em texto, 
- * relatrios grficos e exportao desses relatrios para um PDF. 
- */
+/**
+ * Mantém as classes utilizadas pela aplicação para gerar relatórios em texto, 
+ * relatórios gráficos e exportação desses relatórios para um PDF. 
+ */
 package gdrc.sports.util.relatorio;
\ No newline at end of file